@@ -0,0 +1,15 @@
+package com.musicstore.apigateway.customers.businesslayer;
+
+import com.musicstore.apigateway.customers.presentationlayer.CustomerRequestModel;
+import com.musicstore.apigateway.customers.presentationlayer.CustomerResponseModel;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import reactor.core.publisher.Mono;
+
+public interface CustomersReactiveService {
+    Mono<PagedList<CustomerResponseModel>> getAllCustomers(PageParams pageParams);
+    Mono<CustomerResponseModel> getCustomerByCustomerId(String customerId);
+    Mono<CustomerResponseModel> addCustomer(CustomerRequestModel customerRequestModel);
+    Mono<CustomerResponseModel> updateCustomer(CustomerRequestModel updatedCustomer, String customerId);
+    Mono<Void> removeCustomer(String customerId);
+}
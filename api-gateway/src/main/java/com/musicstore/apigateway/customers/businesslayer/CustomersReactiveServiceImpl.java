@@ -0,0 +1,65 @@
+package com.musicstore.apigateway.customers.businesslayer;
+
+import com.musicstore.apigateway.customers.domainclientlayer.CustomersReactiveServiceClient;
+import com.musicstore.apigateway.customers.presentationlayer.CustomerRequestModel;
+import com.musicstore.apigateway.customers.presentationlayer.CustomerResponseModel;
+import com.musicstore.apigateway.utils.LinkTemplates;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import org.springframework.context.annotation.Profile;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+public class CustomersReactiveServiceImpl implements CustomersReactiveService {
+
+    private final CustomersReactiveServiceClient customersReactiveServiceClient;
+
+    public CustomersReactiveServiceImpl(CustomersReactiveServiceClient customersReactiveServiceClient) {
+        this.customersReactiveServiceClient = customersReactiveServiceClient;
+    }
+
+    @Override
+    public Mono<PagedList<CustomerResponseModel>> getAllCustomers(PageParams pageParams) {
+        return customersReactiveServiceClient.getAllCustomers(pageParams)
+                .flatMap(customers -> LinkTemplates.reactiveBaseUri()
+                        .map(baseUri -> customers.withContent(customers.getContent().stream()
+                                .map(customer -> addLinks(customer, baseUri))
+                                .toList()))
+                        .defaultIfEmpty(customers));
+    }
+
+    @Override
+    public Mono<CustomerResponseModel> getCustomerByCustomerId(String customerId) {
+        return customersReactiveServiceClient.getCustomerByCustomerId(customerId).flatMap(this::addLinks);
+    }
+
+    @Override
+    public Mono<CustomerResponseModel> addCustomer(CustomerRequestModel customerRequestModel) {
+        return customersReactiveServiceClient.addCustomer(customerRequestModel).flatMap(this::addLinks);
+    }
+
+    @Override
+    public Mono<CustomerResponseModel> updateCustomer(CustomerRequestModel updatedCustomer, String customerId) {
+        return customersReactiveServiceClient.updateCustomer(updatedCustomer, customerId).flatMap(this::addLinks);
+    }
+
+    @Override
+    public Mono<Void> removeCustomer(String customerId) {
+        return customersReactiveServiceClient.removeCustomer(customerId);
+    }
+
+    private Mono<CustomerResponseModel> addLinks(CustomerResponseModel customer) {
+        return LinkTemplates.reactiveBaseUri()
+                .map(baseUri -> addLinks(customer, baseUri))
+                .defaultIfEmpty(customer);
+    }
+
+    private CustomerResponseModel addLinks(CustomerResponseModel customer, String baseUri) {
+        customer.add(LinkTemplates.CUSTOMER.toLink(baseUri, IanaLinkRelations.SELF_VALUE, customer.getCustomerId()));
+        customer.add(LinkTemplates.CUSTOMERS.toLink(baseUri, "customers"));
+        return customer;
+    }
+}
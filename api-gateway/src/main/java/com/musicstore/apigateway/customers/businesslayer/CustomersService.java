@@ -2,11 +2,11 @@ package com.musicstore.apigateway.customers.businesslayer;
 
 import com.musicstore.apigateway.customers.presentationlayer.CustomerRequestModel;
 import com.musicstore.apigateway.customers.presentationlayer.CustomerResponseModel;
-
-import java.util.List;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
 
 public interface CustomersService {
-    List<CustomerResponseModel> getAllCustomers();
+    PagedList<CustomerResponseModel> getAllCustomers(PageParams pageParams);
     CustomerResponseModel getCustomerByCustomerId(String customerId);
     CustomerResponseModel addCustomer(CustomerRequestModel customerRequestModel);
     CustomerResponseModel updateCustomer(CustomerRequestModel updatedCustomer, String customerId);
@@ -3,15 +3,12 @@ package com.musicstore.apigateway.customers.businesslayer;
 import com.musicstore.apigateway.customers.domainclientlayer.CustomersServiceClient;
 import com.musicstore.apigateway.customers.presentationlayer.CustomerRequestModel;
 import com.musicstore.apigateway.customers.presentationlayer.CustomerResponseModel;
-import com.musicstore.apigateway.customers.presentationlayer.CustomersController;
-import org.springframework.hateoas.Link;
+import com.musicstore.apigateway.utils.LinkTemplates;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Service
 public class CustomersServiceImpl implements CustomersService {
 
@@ -22,10 +19,10 @@ public class CustomersServiceImpl implements CustomersService {
     }
 
     @Override
-    public List<CustomerResponseModel> getAllCustomers() {
-        List<CustomerResponseModel> customers = customersServiceClient.getAllCustomers();
-        if (customers != null) {
-            for (CustomerResponseModel customer : customers) {
+    public PagedList<CustomerResponseModel> getAllCustomers(PageParams pageParams) {
+        PagedList<CustomerResponseModel> customers = customersServiceClient.getAllCustomers(pageParams);
+        if (customers.getContent() != null) {
+            for (CustomerResponseModel customer : customers.getContent()) {
                 addLinks(customer);
             }
         }
@@ -65,13 +62,12 @@ public class CustomersServiceImpl implements CustomersService {
     }
 
     private CustomerResponseModel addLinks(CustomerResponseModel customer) {
-        Link selfLink = linkTo(methodOn(CustomersController.class)
-                .getCustomerByCustomerId(customer.getCustomerId())).withSelfRel();
-        Link allCustomersLink = linkTo(methodOn(CustomersController.class)
-                .getAllCustomers()).withRel("customers");
-
-        customer.add(selfLink);
-        customer.add(allCustomersLink);
+        if (!LinkTemplates.enabled()) {
+            return customer;
+        }
+        String baseUri = LinkTemplates.baseUri();
+        customer.add(LinkTemplates.CUSTOMER.toLink(baseUri, IanaLinkRelations.SELF_VALUE, customer.getCustomerId()));
+        customer.add(LinkTemplates.CUSTOMERS.toLink(baseUri, "customers"));
 
         return customer;
     }
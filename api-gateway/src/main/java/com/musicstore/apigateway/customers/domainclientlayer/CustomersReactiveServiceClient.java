@@ -0,0 +1,81 @@
+package com.musicstore.apigateway.customers.domainclientlayer;
+
+import com.musicstore.apigateway.customers.presentationlayer.CustomerRequestModel;
+import com.musicstore.apigateway.customers.presentationlayer.CustomerResponseModel;
+import com.musicstore.apigateway.utils.DownstreamGuard;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import com.musicstore.apigateway.utils.WebClientErrors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@Profile("reactive")
+public class CustomersReactiveServiceClient {
+    private final WebClient webClient;
+
+    public CustomersReactiveServiceClient(WebClient.Builder webClientBuilder,
+                                          @Value("${app.customers-service.host}") String customersServiceHost,
+                                          @Value("${app.customers-service.port}") String customersServicePort,
+                                          @Qualifier("customersServiceGuard") DownstreamGuard guard) {
+        webClient = webClientBuilder
+                .filter(guard.exchangeFilter())
+                .baseUrl("http://" + customersServiceHost + ":" + customersServicePort + "/api/v1/customers")
+                .build();
+    }
+
+    public Mono<PagedList<CustomerResponseModel>> getAllCustomers(PageParams pageParams) {
+        log.debug("Customers-Service GET all customers");
+        return webClient.get()
+                .uri(uriBuilder -> pageParams.applyTo(uriBuilder).build())
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .toEntityList(CustomerResponseModel.class)
+                .map(PagedList::of);
+    }
+
+    public Mono<CustomerResponseModel> getCustomerByCustomerId(String customerId) {
+        log.debug("Customers-Service GET by customerId: {}", customerId);
+        return webClient.get()
+                .uri("/{customerId}", customerId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(CustomerResponseModel.class);
+    }
+
+    public Mono<CustomerResponseModel> addCustomer(CustomerRequestModel customerRequestModel) {
+        log.debug("Customers-Service POST");
+        return webClient.post()
+                .bodyValue(customerRequestModel)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(CustomerResponseModel.class);
+    }
+
+    public Mono<CustomerResponseModel> updateCustomer(CustomerRequestModel customerRequestModel, String customerId) {
+        log.debug("Customers-Service PUT customerId: {}", customerId);
+        return webClient.put()
+                .uri("/{customerId}", customerId)
+                .bodyValue(customerRequestModel)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(CustomerResponseModel.class);
+    }
+
+    public Mono<Void> removeCustomer(String customerId) {
+        log.debug("Customers-Service DELETE customerId: {}", customerId);
+        return webClient.delete()
+                .uri("/{customerId}", customerId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(Void.class);
+    }
+}
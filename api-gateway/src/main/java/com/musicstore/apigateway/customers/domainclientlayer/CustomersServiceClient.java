@@ -3,10 +3,14 @@ package com.musicstore.apigateway.customers.domainclientlayer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.musicstore.apigateway.customers.presentationlayer.CustomerRequestModel;
 import com.musicstore.apigateway.customers.presentationlayer.CustomerResponseModel;
+import com.musicstore.apigateway.utils.DownstreamGuard;
 import com.musicstore.apigateway.utils.HttpErrorInfo;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
 import com.musicstore.apigateway.utils.exceptions.InvalidInputException;
 import com.musicstore.apigateway.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
@@ -15,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
 import java.util.List;
@@ -27,26 +32,29 @@ import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 public class CustomersServiceClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
+    private final DownstreamGuard guard;
     private final String CUSTOMERS_SERVICE_BASE_URL;
 
     public CustomersServiceClient(RestTemplate restTemplate,
                                   ObjectMapper mapper,
                                   @Value("${app.customers-service.host}") String customersServiceHost,
-                                  @Value("${app.customers-service.port}") String customersServicePort) {
+                                  @Value("${app.customers-service.port}") String customersServicePort,
+                                  @Qualifier("customersServiceGuard") DownstreamGuard guard) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
+        this.guard = guard;
         CUSTOMERS_SERVICE_BASE_URL = "http://" + customersServiceHost + ":" + customersServicePort + "/api/v1/customers";
     }
 
-    public List<CustomerResponseModel> getAllCustomers() {
+    public PagedList<CustomerResponseModel> getAllCustomers(PageParams pageParams) {
         try {
-            String url = CUSTOMERS_SERVICE_BASE_URL;
+            String url = pageParams.applyTo(UriComponentsBuilder.fromUriString(CUSTOMERS_SERVICE_BASE_URL))
+                    .toUriString();
             log.debug("Customers-Service GET all customers URL: " + url);
             ResponseEntity<List<CustomerResponseModel>> response =
-                    restTemplate.exchange(url, HttpMethod.GET, null,
-                            new ParameterizedTypeReference<List<CustomerResponseModel>>() {});
-            List<CustomerResponseModel> customerResponseModels = response.getBody();
-            return customerResponseModels;
+                    guard.call(() -> restTemplate.exchange(url, HttpMethod.GET, null,
+                            new ParameterizedTypeReference<List<CustomerResponseModel>>() {}));
+            return PagedList.of(response);
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -56,7 +64,7 @@ public class CustomersServiceClient {
         try {
             String url = CUSTOMERS_SERVICE_BASE_URL + "/" + customerId;
             log.debug("Customers-Service GET by customerId URL: " + url);
-            CustomerResponseModel customerResponseModel = restTemplate.getForObject(url, CustomerResponseModel.class);
+            CustomerResponseModel customerResponseModel = guard.call(() -> restTemplate.getForObject(url, CustomerResponseModel.class));
             return customerResponseModel;
         }
         catch(HttpClientErrorException ex) {
@@ -69,7 +77,7 @@ public class CustomersServiceClient {
             String url = CUSTOMERS_SERVICE_BASE_URL;
             log.debug("Customers-Service POST URL: " + url);
             CustomerResponseModel customerResponseModel =
-                    restTemplate.postForObject(url, customerRequestModel, CustomerResponseModel.class);
+                    guard.call(() -> restTemplate.postForObject(url, customerRequestModel, CustomerResponseModel.class));
             return customerResponseModel;
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
@@ -82,7 +90,7 @@ public class CustomersServiceClient {
             log.debug("Customers-Service PUT URL: " + url);
             HttpEntity<CustomerRequestModel> requestEntity = new HttpEntity<>(customerRequestModel);
             ResponseEntity<CustomerResponseModel> response =
-                    restTemplate.exchange(url, HttpMethod.PUT, requestEntity, CustomerResponseModel.class);
+                    guard.call(() -> restTemplate.exchange(url, HttpMethod.PUT, requestEntity, CustomerResponseModel.class));
             CustomerResponseModel customerResponseModel = response.getBody();
             return customerResponseModel;
         } catch (HttpClientErrorException ex) {
@@ -94,7 +102,7 @@ public class CustomersServiceClient {
         try {
             String url = CUSTOMERS_SERVICE_BASE_URL + "/" + customerId;
             log.debug("Customers-Service DELETE URL: " + url);
-            restTemplate.delete(url);
+            guard.run(() -> restTemplate.delete(url));
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -1,7 +1,9 @@
 package com.musicstore.apigateway.customers.presentationlayer;
 
 import com.musicstore.apigateway.customers.businesslayer.CustomersService;
+import com.musicstore.apigateway.utils.PageParams;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -9,6 +11,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @Slf4j
 @RequestMapping("api/v1/customers")
 public class CustomersController {
@@ -19,10 +22,9 @@ public class CustomersController {
     }
 
     @GetMapping(produces = "application/json")
-    public ResponseEntity<List<CustomerResponseModel>> getAllCustomers() {
+    public ResponseEntity<List<CustomerResponseModel>> getAllCustomers(PageParams pageParams) {
         log.debug("Request received in CustomersController: getCustomers");
-        List<CustomerResponseModel> customers = customersService.getAllCustomers();
-        return ResponseEntity.ok().body(customers);
+        return customersService.getAllCustomers(pageParams).toResponseEntity();
     }
 
     @GetMapping(value = "/{customerId}", produces = "application/json")
@@ -0,0 +1,58 @@
+package com.musicstore.apigateway.customers.presentationlayer;
+
+import com.musicstore.apigateway.customers.businesslayer.CustomersReactiveService;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@Profile("reactive")
+@Slf4j
+@RequestMapping("api/v1/customers")
+public class CustomersReactiveController {
+    private final CustomersReactiveService customersReactiveService;
+
+    public CustomersReactiveController(CustomersReactiveService customersReactiveService) {
+        this.customersReactiveService = customersReactiveService;
+    }
+
+    @GetMapping(produces = "application/json")
+    public Mono<ResponseEntity<List<CustomerResponseModel>>> getAllCustomers(PageParams pageParams) {
+        log.debug("Request received in CustomersReactiveController: getCustomers");
+        return customersReactiveService.getAllCustomers(pageParams).map(PagedList::toResponseEntity);
+    }
+
+    @GetMapping(value = "/{customerId}", produces = "application/json")
+    public Mono<CustomerResponseModel> getCustomerByCustomerId(@PathVariable("customerId") String customerId) {
+        log.debug("Request received in CustomersReactiveController: getCustomerByCustomerId");
+        return customersReactiveService.getCustomerByCustomerId(customerId);
+    }
+
+    @PostMapping(consumes = "application/json", produces = "application/json")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<CustomerResponseModel> addCustomer(@RequestBody CustomerRequestModel customerRequestModel) {
+        log.debug("Request received in CustomersReactiveController: addCustomer");
+        return customersReactiveService.addCustomer(customerRequestModel);
+    }
+
+    @PutMapping(value = "/{customerId}", consumes = "application/json", produces = "application/json")
+    public Mono<CustomerResponseModel> updateCustomer(@RequestBody CustomerRequestModel customerRequestModel,
+                                                      @PathVariable("customerId") String customerId) {
+        log.debug("Request received in CustomersReactiveController: updateCustomer");
+        return customersReactiveService.updateCustomer(customerRequestModel, customerId);
+    }
+
+    @DeleteMapping("/{customerId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> removeCustomer(@PathVariable("customerId") String customerId) {
+        log.debug("Request received in CustomersReactiveController: removeCustomer");
+        return customersReactiveService.removeCustomer(customerId);
+    }
+}
@@ -0,0 +1,15 @@
+package com.musicstore.apigateway.musiccatalog.businesslayer.album;
+
+import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumRequestModel;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumResponseModel;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import reactor.core.publisher.Mono;
+
+public interface AlbumsReactiveService {
+    Mono<PagedList<AlbumResponseModel>> getAllAlbums(String artistId, String albumGenre, PageParams pageParams);
+    Mono<AlbumResponseModel> getAlbumByAlbumId(String artistId, String albumId);
+    Mono<AlbumResponseModel> addAlbum(AlbumRequestModel albumRequestModel, String artistId);
+    Mono<AlbumResponseModel> updateAlbum(AlbumRequestModel albumRequestModel, String artistId, String albumId);
+    Mono<Void> deleteAlbum(String artistId, String albumId);
+}
@@ -0,0 +1,68 @@
+package com.musicstore.apigateway.musiccatalog.businesslayer.album;
+
+import com.musicstore.apigateway.musiccatalog.domainclientlayer.MusicCatalogReactiveServiceClient;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumRequestModel;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumResponseModel;
+import com.musicstore.apigateway.utils.LinkTemplates;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import org.springframework.context.annotation.Profile;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+public class AlbumsReactiveServiceImpl implements AlbumsReactiveService {
+
+    private final MusicCatalogReactiveServiceClient musicCatalogReactiveServiceClient;
+
+    public AlbumsReactiveServiceImpl(MusicCatalogReactiveServiceClient musicCatalogReactiveServiceClient) {
+        this.musicCatalogReactiveServiceClient = musicCatalogReactiveServiceClient;
+    }
+
+    @Override
+    public Mono<PagedList<AlbumResponseModel>> getAllAlbums(String artistId, String albumGenre, PageParams pageParams) {
+        return musicCatalogReactiveServiceClient.getAllAlbums(artistId, albumGenre, pageParams)
+                .flatMap(albums -> LinkTemplates.reactiveBaseUri()
+                        .map(baseUri -> albums.withContent(albums.getContent().stream()
+                                .map(album -> addLinks(album, artistId, baseUri))
+                                .toList()))
+                        .defaultIfEmpty(albums));
+    }
+
+    @Override
+    public Mono<AlbumResponseModel> getAlbumByAlbumId(String artistId, String albumId) {
+        return musicCatalogReactiveServiceClient.getAlbumByAlbumId(artistId, albumId)
+                .flatMap(album -> addLinks(album, artistId));
+    }
+
+    @Override
+    public Mono<AlbumResponseModel> addAlbum(AlbumRequestModel albumRequestModel, String artistId) {
+        return musicCatalogReactiveServiceClient.addAlbum(albumRequestModel, artistId)
+                .flatMap(album -> addLinks(album, artistId));
+    }
+
+    @Override
+    public Mono<AlbumResponseModel> updateAlbum(AlbumRequestModel albumRequestModel, String artistId, String albumId) {
+        return musicCatalogReactiveServiceClient.updateAlbum(albumRequestModel, artistId, albumId)
+                .flatMap(album -> addLinks(album, artistId));
+    }
+
+    @Override
+    public Mono<Void> deleteAlbum(String artistId, String albumId) {
+        return musicCatalogReactiveServiceClient.deleteAlbum(artistId, albumId);
+    }
+
+    private Mono<AlbumResponseModel> addLinks(AlbumResponseModel album, String artistId) {
+        return LinkTemplates.reactiveBaseUri()
+                .map(baseUri -> addLinks(album, artistId, baseUri))
+                .defaultIfEmpty(album);
+    }
+
+    private AlbumResponseModel addLinks(AlbumResponseModel album, String artistId, String baseUri) {
+        album.add(LinkTemplates.ALBUM.toLink(baseUri, IanaLinkRelations.SELF_VALUE, artistId, album.getAlbumId()));
+        album.add(LinkTemplates.ALBUMS.toLink(baseUri, "albums", artistId));
+        return album;
+    }
+}
@@ -2,11 +2,14 @@ package com.musicstore.apigateway.musiccatalog.businesslayer.album;
 
 import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumRequestModel;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumResponseModel;
-
-import java.util.List;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumSearchResponseModel;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
 
 public interface AlbumsService {
-    List<AlbumResponseModel> getAllAlbums(String artistId);
+    PagedList<AlbumResponseModel> getAllAlbums(String artistId, String albumGenre, PageParams pageParams);
+    AlbumSearchResponseModel searchAlbums(String q, String albumGenre, String status, String releasedFrom,
+                                          String releasedTo, PageParams pageParams);
     AlbumResponseModel getAlbumByAlbumId(String artistId, String albumId);
     AlbumResponseModel addAlbum(AlbumRequestModel albumRequestModel, String artistId);
     AlbumResponseModel updateAlbum(AlbumRequestModel albumRequestModel, String artistId, String albumId);
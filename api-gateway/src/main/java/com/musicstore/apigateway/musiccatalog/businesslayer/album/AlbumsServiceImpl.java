@@ -3,15 +3,13 @@ package com.musicstore.apigateway.musiccatalog.businesslayer.album;
 import com.musicstore.apigateway.musiccatalog.domainclientlayer.MusicCatalogServiceClient;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumRequestModel;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumResponseModel;
-import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumsController;
-import org.springframework.hateoas.Link;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumSearchResponseModel;
+import com.musicstore.apigateway.utils.LinkTemplates;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Service
 public class AlbumsServiceImpl implements AlbumsService {
 
@@ -21,18 +19,30 @@ public class AlbumsServiceImpl implements AlbumsService {
         this.musicCatalogServiceClient = musicCatalogServiceClient;
     }
 
-
     @Override
-    public List<AlbumResponseModel> getAllAlbums(String artistId) {
-        List<AlbumResponseModel> albums = musicCatalogServiceClient.getAllAlbums(artistId);
-        if (albums != null) {
-            for (AlbumResponseModel album : albums) {
+    public PagedList<AlbumResponseModel> getAllAlbums(String artistId, String albumGenre, PageParams pageParams) {
+        PagedList<AlbumResponseModel> albums = musicCatalogServiceClient.getAllAlbums(artistId, albumGenre, pageParams);
+        if (albums.getContent() != null) {
+            for (AlbumResponseModel album : albums.getContent()) {
                 addLinks(album, artistId);
             }
         }
         return albums;
     }
 
+    @Override
+    public AlbumSearchResponseModel searchAlbums(String q, String albumGenre, String status, String releasedFrom,
+                                                 String releasedTo, PageParams pageParams) {
+        AlbumSearchResponseModel result = musicCatalogServiceClient.searchAlbums(q, albumGenre, status, releasedFrom,
+                releasedTo, pageParams);
+        if (result != null && result.getAlbums() != null) {
+            for (AlbumResponseModel album : result.getAlbums()) {
+                addLinks(album, album.getArtistId());
+            }
+        }
+        return result;
+    }
+
     @Override
     public AlbumResponseModel getAlbumByAlbumId(String artistId, String albumId) {
         AlbumResponseModel album = musicCatalogServiceClient.getAlbumByAlbumId(artistId, albumId);
@@ -66,13 +76,12 @@ public class AlbumsServiceImpl implements AlbumsService {
     }
 
     private AlbumResponseModel addLinks(AlbumResponseModel album, String artistId) {
-        Link selfLink = linkTo(methodOn(AlbumsController.class)
-                .getAlbumByAlbumId(artistId, album.getAlbumId())).withSelfRel();
-        Link allAlbumsLink = linkTo(methodOn(AlbumsController.class)
-                .getAllAlbums(artistId)).withRel("albums");
-
-        album.add(selfLink);
-        album.add(allAlbumsLink);
+        if (!LinkTemplates.enabled()) {
+            return album;
+        }
+        String baseUri = LinkTemplates.baseUri();
+        album.add(LinkTemplates.ALBUM.toLink(baseUri, IanaLinkRelations.SELF_VALUE, artistId, album.getAlbumId()));
+        album.add(LinkTemplates.ALBUMS.toLink(baseUri, "albums", artistId));
 
         return album;
     }
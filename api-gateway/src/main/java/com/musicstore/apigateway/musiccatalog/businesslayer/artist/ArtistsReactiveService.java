@@ -0,0 +1,15 @@
+package com.musicstore.apigateway.musiccatalog.businesslayer.artist;
+
+import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistRequestModel;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistResponseModel;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import reactor.core.publisher.Mono;
+
+public interface ArtistsReactiveService {
+    Mono<PagedList<ArtistResponseModel>> getAllArtists(PageParams pageParams);
+    Mono<ArtistResponseModel> getArtistByArtistId(String artistId);
+    Mono<ArtistResponseModel> addArtist(ArtistRequestModel artistRequestModel);
+    Mono<ArtistResponseModel> updateArtist(ArtistRequestModel artistRequestModel, String artistId);
+    Mono<Void> deleteArtist(String artistId);
+}
@@ -0,0 +1,65 @@
+package com.musicstore.apigateway.musiccatalog.businesslayer.artist;
+
+import com.musicstore.apigateway.musiccatalog.domainclientlayer.MusicCatalogReactiveServiceClient;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistRequestModel;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistResponseModel;
+import com.musicstore.apigateway.utils.LinkTemplates;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import org.springframework.context.annotation.Profile;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+public class ArtistsReactiveServiceImpl implements ArtistsReactiveService {
+
+    private final MusicCatalogReactiveServiceClient musicCatalogReactiveServiceClient;
+
+    public ArtistsReactiveServiceImpl(MusicCatalogReactiveServiceClient musicCatalogReactiveServiceClient) {
+        this.musicCatalogReactiveServiceClient = musicCatalogReactiveServiceClient;
+    }
+
+    @Override
+    public Mono<PagedList<ArtistResponseModel>> getAllArtists(PageParams pageParams) {
+        return musicCatalogReactiveServiceClient.getAllArtists(pageParams)
+                .flatMap(artists -> LinkTemplates.reactiveBaseUri()
+                        .map(baseUri -> artists.withContent(artists.getContent().stream()
+                                .map(artist -> addLinks(artist, baseUri))
+                                .toList()))
+                        .defaultIfEmpty(artists));
+    }
+
+    @Override
+    public Mono<ArtistResponseModel> getArtistByArtistId(String artistId) {
+        return musicCatalogReactiveServiceClient.getArtistByArtistId(artistId).flatMap(this::addLinks);
+    }
+
+    @Override
+    public Mono<ArtistResponseModel> addArtist(ArtistRequestModel artistRequestModel) {
+        return musicCatalogReactiveServiceClient.addArtist(artistRequestModel).flatMap(this::addLinks);
+    }
+
+    @Override
+    public Mono<ArtistResponseModel> updateArtist(ArtistRequestModel artistRequestModel, String artistId) {
+        return musicCatalogReactiveServiceClient.updateArtist(artistRequestModel, artistId).flatMap(this::addLinks);
+    }
+
+    @Override
+    public Mono<Void> deleteArtist(String artistId) {
+        return musicCatalogReactiveServiceClient.deleteArtist(artistId);
+    }
+
+    private Mono<ArtistResponseModel> addLinks(ArtistResponseModel artist) {
+        return LinkTemplates.reactiveBaseUri()
+                .map(baseUri -> addLinks(artist, baseUri))
+                .defaultIfEmpty(artist);
+    }
+
+    private ArtistResponseModel addLinks(ArtistResponseModel artist, String baseUri) {
+        artist.add(LinkTemplates.ARTIST.toLink(baseUri, IanaLinkRelations.SELF_VALUE, artist.getArtistId()));
+        artist.add(LinkTemplates.ARTISTS.toLink(baseUri, "artists"));
+        return artist;
+    }
+}
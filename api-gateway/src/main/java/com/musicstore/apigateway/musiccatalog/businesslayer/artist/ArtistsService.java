@@ -2,11 +2,11 @@ package com.musicstore.apigateway.musiccatalog.businesslayer.artist;
 
 import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistRequestModel;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistResponseModel;
-
-import java.util.List;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
 
 public interface ArtistsService {
-    List<ArtistResponseModel> getAllArtists();
+    PagedList<ArtistResponseModel> getAllArtists(PageParams pageParams);
     ArtistResponseModel getArtistByArtistId(String artistId);
     ArtistResponseModel addArtist(ArtistRequestModel artistRequestModel);
     ArtistResponseModel updateArtist(ArtistRequestModel artistRequestModel, String artistId);
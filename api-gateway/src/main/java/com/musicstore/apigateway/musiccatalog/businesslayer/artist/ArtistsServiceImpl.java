@@ -3,15 +3,12 @@ package com.musicstore.apigateway.musiccatalog.businesslayer.artist;
 import com.musicstore.apigateway.musiccatalog.domainclientlayer.MusicCatalogServiceClient;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistRequestModel;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistResponseModel;
-import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistsController;
-import org.springframework.hateoas.Link;
+import com.musicstore.apigateway.utils.LinkTemplates;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Service
 public class ArtistsServiceImpl implements ArtistsService {
 
@@ -22,10 +19,10 @@ public class ArtistsServiceImpl implements ArtistsService {
     }
 
     @Override
-    public List<ArtistResponseModel> getAllArtists() {
-        List<ArtistResponseModel> artists = musicCatalogServiceClient.getAllArtists();
-        if (artists != null) {
-            for (ArtistResponseModel artist : artists) {
+    public PagedList<ArtistResponseModel> getAllArtists(PageParams pageParams) {
+        PagedList<ArtistResponseModel> artists = musicCatalogServiceClient.getAllArtists(pageParams);
+        if (artists.getContent() != null) {
+            for (ArtistResponseModel artist : artists.getContent()) {
                 addLinks(artist);
             }
         }
@@ -65,13 +62,12 @@ public class ArtistsServiceImpl implements ArtistsService {
     }
 
     private ArtistResponseModel addLinks(ArtistResponseModel artist) {
-        Link selfLink = linkTo(methodOn(ArtistsController.class)
-                .getArtistById(artist.getArtistId())).withSelfRel();
-        Link allArtistsLink = linkTo(methodOn(ArtistsController.class)
-                .getAllArtists()).withRel("artists");
-
-        artist.add(selfLink);
-        artist.add(allArtistsLink);
+        if (!LinkTemplates.enabled()) {
+            return artist;
+        }
+        String baseUri = LinkTemplates.baseUri();
+        artist.add(LinkTemplates.ARTIST.toLink(baseUri, IanaLinkRelations.SELF_VALUE, artist.getArtistId()));
+        artist.add(LinkTemplates.ARTISTS.toLink(baseUri, "artists"));
 
         return artist;
     }
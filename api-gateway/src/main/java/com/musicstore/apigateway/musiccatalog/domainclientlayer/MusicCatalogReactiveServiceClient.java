@@ -0,0 +1,141 @@
+package com.musicstore.apigateway.musiccatalog.domainclientlayer;
+
+import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumRequestModel;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumResponseModel;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistRequestModel;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistResponseModel;
+import com.musicstore.apigateway.utils.DownstreamGuard;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import com.musicstore.apigateway.utils.WebClientErrors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+@Slf4j
+@Component
+@Profile("reactive")
+public class MusicCatalogReactiveServiceClient {
+
+    private final WebClient webClient;
+
+    public MusicCatalogReactiveServiceClient(WebClient.Builder webClientBuilder,
+                                             @Value("${app.musiccatalog-service.host}") String musicCatalogHost,
+                                             @Value("${app.musiccatalog-service.port}") String musicCatalogPort,
+                                             @Qualifier("musicCatalogServiceGuard") DownstreamGuard guard) {
+        webClient = webClientBuilder
+                .filter(guard.exchangeFilter())
+                .baseUrl("http://" + musicCatalogHost + ":" + musicCatalogPort + "/api/v1")
+                .build();
+    }
+
+    // ==== ARTIST METHODS ====
+
+    public Mono<PagedList<ArtistResponseModel>> getAllArtists(PageParams pageParams) {
+        log.debug("MusicCatalogService GET all artists");
+        return webClient.get()
+                .uri(uriBuilder -> pageParams.applyTo(uriBuilder.path("/artists")).build())
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .toEntityList(ArtistResponseModel.class)
+                .map(PagedList::of);
+    }
+
+    public Mono<ArtistResponseModel> getArtistByArtistId(String artistId) {
+        log.debug("MusicCatalogService GET artist by ID: {}", artistId);
+        return webClient.get()
+                .uri("/artists/{artistId}", artistId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(ArtistResponseModel.class);
+    }
+
+    public Mono<ArtistResponseModel> addArtist(ArtistRequestModel request) {
+        log.debug("MusicCatalogService POST artist");
+        return webClient.post()
+                .uri("/artists")
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(ArtistResponseModel.class);
+    }
+
+    public Mono<ArtistResponseModel> updateArtist(ArtistRequestModel request, String artistId) {
+        log.debug("MusicCatalogService PUT artist: {}", artistId);
+        return webClient.put()
+                .uri("/artists/{artistId}", artistId)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(ArtistResponseModel.class);
+    }
+
+    public Mono<Void> deleteArtist(String artistId) {
+        log.debug("MusicCatalogService DELETE artist: {}", artistId);
+        return webClient.delete()
+                .uri("/artists/{artistId}", artistId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(Void.class);
+    }
+
+    // ==== ALBUM METHODS ====
+
+    public Mono<PagedList<AlbumResponseModel>> getAllAlbums(String artistId, String albumGenre, PageParams pageParams) {
+        log.debug("MusicCatalogService GET all albums for artistId={}", artistId);
+        return webClient.get()
+                .uri(uriBuilder -> pageParams.applyTo(uriBuilder.path("/artists/{artistId}/albums")
+                                .queryParamIfPresent("albumGenre", Optional.ofNullable(albumGenre)))
+                        .build(artistId))
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .toEntityList(AlbumResponseModel.class)
+                .map(PagedList::of);
+    }
+
+    public Mono<AlbumResponseModel> getAlbumByAlbumId(String artistId, String albumId) {
+        log.debug("MusicCatalogService GET album by albumId: {}", albumId);
+        return webClient.get()
+                .uri("/artists/{artistId}/albums/{albumId}", artistId, albumId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(AlbumResponseModel.class);
+    }
+
+    public Mono<AlbumResponseModel> addAlbum(AlbumRequestModel request, String artistId) {
+        log.debug("MusicCatalogService POST album for artistId={}", artistId);
+        return webClient.post()
+                .uri("/artists/{artistId}/albums", artistId)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(AlbumResponseModel.class);
+    }
+
+    public Mono<AlbumResponseModel> updateAlbum(AlbumRequestModel request, String artistId, String albumId) {
+        log.debug("MusicCatalogService PUT album: {}", albumId);
+        return webClient.put()
+                .uri("/artists/{artistId}/albums/{albumId}", artistId, albumId)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(AlbumResponseModel.class);
+    }
+
+    public Mono<Void> deleteAlbum(String artistId, String albumId) {
+        log.debug("MusicCatalogService DELETE album: {}", albumId);
+        return webClient.delete()
+                .uri("/artists/{artistId}/albums/{albumId}", artistId, albumId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(Void.class);
+    }
+}
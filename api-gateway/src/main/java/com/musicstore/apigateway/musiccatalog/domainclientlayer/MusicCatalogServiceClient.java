@@ -3,12 +3,17 @@ package com.musicstore.apigateway.musiccatalog.domainclientlayer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumRequestModel;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumResponseModel;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumSearchResponseModel;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistRequestModel;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistResponseModel;
+import com.musicstore.apigateway.utils.DownstreamGuard;
 import com.musicstore.apigateway.utils.HttpErrorInfo;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
 import com.musicstore.apigateway.utils.exceptions.InvalidInputException;
 import com.musicstore.apigateway.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
@@ -18,8 +23,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 import java.io.IOException;
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -27,27 +35,31 @@ public class MusicCatalogServiceClient {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
+    private final DownstreamGuard guard;
     private final String MUSIC_CATALOG_BASE_URL;
 
     public MusicCatalogServiceClient(RestTemplate restTemplate,
                                      ObjectMapper mapper,
                                      @Value("${app.musiccatalog-service.host}") String musicCatalogHost,
-                                     @Value("${app.musiccatalog-service.port}") String musicCatalogPort) {
+                                     @Value("${app.musiccatalog-service.port}") String musicCatalogPort,
+                                     @Qualifier("musicCatalogServiceGuard") DownstreamGuard guard) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
+        this.guard = guard;
         this.MUSIC_CATALOG_BASE_URL = "http://" + musicCatalogHost + ":" + musicCatalogPort + "/api/v1";
     }
 
     // ==== ARTIST METHODS ====
 
-    public List<ArtistResponseModel> getAllArtists() {
-        String url = MUSIC_CATALOG_BASE_URL + "/artists";
+    public PagedList<ArtistResponseModel> getAllArtists(PageParams pageParams) {
+        String url = pageParams.applyTo(UriComponentsBuilder.fromUriString(MUSIC_CATALOG_BASE_URL + "/artists"))
+                .toUriString();
         log.debug("MusicCatalogService GET all artists URL: " + url);
         try {
             ResponseEntity<List<ArtistResponseModel>> response =
-                    restTemplate.exchange(url, HttpMethod.GET, null,
-                            new ParameterizedTypeReference<>() {});
-            return response.getBody();
+                    guard.call(() -> restTemplate.exchange(url, HttpMethod.GET, null,
+                            new ParameterizedTypeReference<>() {}));
+            return PagedList.of(response);
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -57,7 +69,7 @@ public class MusicCatalogServiceClient {
         String url = MUSIC_CATALOG_BASE_URL + "/artists/" + artistId;
         log.debug("MusicCatalogService GET artist by ID URL: " + url);
         try {
-            return restTemplate.getForObject(url, ArtistResponseModel.class);
+            return guard.call(() -> restTemplate.getForObject(url, ArtistResponseModel.class));
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -67,7 +79,7 @@ public class MusicCatalogServiceClient {
         String url = MUSIC_CATALOG_BASE_URL + "/artists";
         log.debug("MusicCatalogService POST artist URL: " + url);
         try {
-            return restTemplate.postForObject(url, request, ArtistResponseModel.class);
+            return guard.call(() -> restTemplate.postForObject(url, request, ArtistResponseModel.class));
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -79,7 +91,7 @@ public class MusicCatalogServiceClient {
         try {
             HttpEntity<ArtistRequestModel> entity = new HttpEntity<>(request);
             ResponseEntity<ArtistResponseModel> response =
-                    restTemplate.exchange(url, HttpMethod.PUT, entity, ArtistResponseModel.class);
+                    guard.call(() -> restTemplate.exchange(url, HttpMethod.PUT, entity, ArtistResponseModel.class));
             return response.getBody();
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
@@ -90,7 +102,7 @@ public class MusicCatalogServiceClient {
         String url = MUSIC_CATALOG_BASE_URL + "/artists/" + artistId;
         log.debug("MusicCatalogService DELETE artist URL: " + url);
         try {
-            restTemplate.delete(url);
+            guard.run(() -> restTemplate.delete(url));
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -98,14 +110,34 @@ public class MusicCatalogServiceClient {
 
     // ==== ALBUM METHODS ====
 
-    public List<AlbumResponseModel> getAllAlbums(String artistId) {
-        String url = MUSIC_CATALOG_BASE_URL + "/artists/" + artistId + "/albums";
+    public PagedList<AlbumResponseModel> getAllAlbums(String artistId, String albumGenre, PageParams pageParams) {
+        String url = pageParams.applyTo(UriComponentsBuilder.fromUriString(MUSIC_CATALOG_BASE_URL + "/artists/" + artistId + "/albums")
+                        .queryParamIfPresent("albumGenre", Optional.ofNullable(albumGenre)))
+                .toUriString();
         log.debug("MusicCatalogService GET all albums for artistId={} URL: {}", artistId, url);
         try {
             ResponseEntity<List<AlbumResponseModel>> response =
-                    restTemplate.exchange(url, HttpMethod.GET, null,
-                            new ParameterizedTypeReference<>() {});
-            return response.getBody();
+                    guard.call(() -> restTemplate.exchange(url, HttpMethod.GET, null,
+                            new ParameterizedTypeReference<>() {}));
+            return PagedList.of(response);
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
+    public AlbumSearchResponseModel searchAlbums(String q, String albumGenre, String status, String releasedFrom,
+                                                 String releasedTo, PageParams pageParams) {
+        String url = pageParams.applyTo(UriComponentsBuilder.fromUriString(MUSIC_CATALOG_BASE_URL + "/albums/search")
+                        .queryParamIfPresent("q", Optional.ofNullable(q))
+                        .queryParamIfPresent("albumGenre", Optional.ofNullable(albumGenre))
+                        .queryParamIfPresent("status", Optional.ofNullable(status))
+                        .queryParamIfPresent("releasedFrom", Optional.ofNullable(releasedFrom))
+                        .queryParamIfPresent("releasedTo", Optional.ofNullable(releasedTo)))
+                .encode()
+                .toUriString();
+        log.debug("MusicCatalogService GET album search URL: {}", url);
+        try {
+            return guard.call(() -> restTemplate.getForObject(URI.create(url), AlbumSearchResponseModel.class));
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -115,7 +147,7 @@ public class MusicCatalogServiceClient {
         String url = MUSIC_CATALOG_BASE_URL + "/artists/" + artistId + "/albums/" + albumId;
         log.debug("MusicCatalogService GET album by albumId URL: " + url);
         try {
-            return restTemplate.getForObject(url, AlbumResponseModel.class);
+            return guard.call(() -> restTemplate.getForObject(url, AlbumResponseModel.class));
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -125,7 +157,7 @@ public class MusicCatalogServiceClient {
         String url = MUSIC_CATALOG_BASE_URL + "/artists/" + artistId + "/albums";
         log.debug("MusicCatalogService POST album for artistId={} URL: {}", artistId, url);
         try {
-            return restTemplate.postForObject(url, request, AlbumResponseModel.class);
+            return guard.call(() -> restTemplate.postForObject(url, request, AlbumResponseModel.class));
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -137,7 +169,7 @@ public class MusicCatalogServiceClient {
         try {
             HttpEntity<AlbumRequestModel> entity = new HttpEntity<>(request);
             ResponseEntity<AlbumResponseModel> response =
-                    restTemplate.exchange(url, HttpMethod.PUT, entity, AlbumResponseModel.class);
+                    guard.call(() -> restTemplate.exchange(url, HttpMethod.PUT, entity, AlbumResponseModel.class));
             return response.getBody();
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
@@ -148,7 +180,7 @@ public class MusicCatalogServiceClient {
         String url = MUSIC_CATALOG_BASE_URL + "/artists/" + artistId + "/albums/" + albumId;
         log.debug("MusicCatalogService DELETE album URL: " + url);
         try {
-            restTemplate.delete(url);
+            guard.run(() -> restTemplate.delete(url));
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -15,6 +15,8 @@ import org.springframework.hateoas.RepresentationModel;
 public class AlbumResponseModel extends RepresentationModel<AlbumResponseModel> {
     String albumId;
     String artistId; //from artist identifier
+    String artistName;
+    String country;
     String albumTitle;
     Integer releaseDate;
     String albumLength;
@@ -1,7 +1,9 @@
 package com.musicstore.apigateway.musiccatalog.presentationlayer;
 
 import com.musicstore.apigateway.musiccatalog.businesslayer.album.AlbumsService;
+import com.musicstore.apigateway.utils.PageParams;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -9,8 +11,9 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @Slf4j
-@RequestMapping("/api/v1/artists/{artistId}/albums")
+@RequestMapping("/api/v1")
 public class AlbumsController {
     private final AlbumsService albumsService;
 
@@ -18,14 +21,26 @@ public class AlbumsController {
         this.albumsService = albumsService;
     }
 
-    @GetMapping(produces = "application/json")
-    public ResponseEntity<List<AlbumResponseModel>> getAllAlbums(@PathVariable String artistId) {
+    @GetMapping(value = "/artists/{artistId}/albums", produces = "application/json")
+    public ResponseEntity<List<AlbumResponseModel>> getAllAlbums(@PathVariable String artistId,
+                                                                 @RequestParam(required = false) String albumGenre,
+                                                                 PageParams pageParams) {
         log.debug("Request received in AlbumsController: getAllAlbums for artistId={}", artistId);
-        List<AlbumResponseModel> albums = albumsService.getAllAlbums(artistId);
-        return ResponseEntity.ok().body(albums);
+        return albumsService.getAllAlbums(artistId, albumGenre, pageParams).toResponseEntity();
     }
 
-    @GetMapping(value = "/{albumId}", produces = "application/json")
+    @GetMapping(value = "/albums/search", produces = "application/json")
+    public ResponseEntity<AlbumSearchResponseModel> searchAlbums(@RequestParam(required = false) String q,
+                                                                 @RequestParam(required = false) String albumGenre,
+                                                                 @RequestParam(required = false) String status,
+                                                                 @RequestParam(required = false) String releasedFrom,
+                                                                 @RequestParam(required = false) String releasedTo,
+                                                                 PageParams pageParams) {
+        log.debug("Request received in AlbumsController: searchAlbums q={}", q);
+        return ResponseEntity.ok(albumsService.searchAlbums(q, albumGenre, status, releasedFrom, releasedTo, pageParams));
+    }
+
+    @GetMapping(value = "/artists/{artistId}/albums/{albumId}", produces = "application/json")
     public ResponseEntity<AlbumResponseModel> getAlbumByAlbumId(@PathVariable String artistId,
                                                            @PathVariable String albumId) {
         log.debug("Request received in AlbumsController: getAlbumById");
@@ -33,7 +48,7 @@ public class AlbumsController {
         return ResponseEntity.ok().body(album);
     }
 
-    @PostMapping(consumes = "application/json", produces = "application/json")
+    @PostMapping(value = "/artists/{artistId}/albums", consumes = "application/json", produces = "application/json")
     public ResponseEntity<AlbumResponseModel> addAlbum(@RequestBody AlbumRequestModel request,
                                                        @PathVariable String artistId) {
         log.debug("Request received in AlbumsController: addAlbum");
@@ -41,7 +56,7 @@ public class AlbumsController {
         return ResponseEntity.status(HttpStatus.CREATED).body(album);
     }
 
-    @PutMapping(value = "/{albumId}", consumes = "application/json", produces = "application/json")
+    @PutMapping(value = "/artists/{artistId}/albums/{albumId}", consumes = "application/json", produces = "application/json")
     public ResponseEntity<AlbumResponseModel> updateAlbum(@RequestBody AlbumRequestModel request,
                                                           @PathVariable String artistId,
                                                           @PathVariable String albumId) {
@@ -50,7 +65,7 @@ public class AlbumsController {
         return ResponseEntity.ok().body(album);
     }
 
-    @DeleteMapping("/{albumId}")
+    @DeleteMapping("/artists/{artistId}/albums/{albumId}")
     public ResponseEntity<Void> deleteAlbum(@PathVariable String artistId,
                                             @PathVariable String albumId) {
         log.debug("Request received in AlbumsController: deleteAlbum");
@@ -58,7 +73,7 @@ public class AlbumsController {
         return ResponseEntity.noContent().build();
     }
 
-    @GetMapping("/ping")
+    @GetMapping("/artists/{artistId}/albums/ping")
     public ResponseEntity<String> ping(@PathVariable String artistId) {
         return ResponseEntity.ok("AlbumsController is active for artistId=" + artistId);
     }
@@ -0,0 +1,64 @@
+package com.musicstore.apigateway.musiccatalog.presentationlayer;
+
+import com.musicstore.apigateway.musiccatalog.businesslayer.album.AlbumsReactiveService;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@Profile("reactive")
+@Slf4j
+@RequestMapping("/api/v1/artists/{artistId}/albums")
+public class AlbumsReactiveController {
+    private final AlbumsReactiveService albumsReactiveService;
+
+    public AlbumsReactiveController(AlbumsReactiveService albumsReactiveService) {
+        this.albumsReactiveService = albumsReactiveService;
+    }
+
+    @GetMapping(produces = "application/json")
+    public Mono<ResponseEntity<List<AlbumResponseModel>>> getAllAlbums(@PathVariable String artistId,
+                                                                       @RequestParam(required = false) String albumGenre,
+                                                                       PageParams pageParams) {
+        log.debug("Request received in AlbumsReactiveController: getAllAlbums for artistId={}", artistId);
+        return albumsReactiveService.getAllAlbums(artistId, albumGenre, pageParams).map(PagedList::toResponseEntity);
+    }
+
+    @GetMapping(value = "/{albumId}", produces = "application/json")
+    public Mono<AlbumResponseModel> getAlbumByAlbumId(@PathVariable String artistId,
+                                                      @PathVariable String albumId) {
+        log.debug("Request received in AlbumsReactiveController: getAlbumById");
+        return albumsReactiveService.getAlbumByAlbumId(artistId, albumId);
+    }
+
+    @PostMapping(consumes = "application/json", produces = "application/json")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<AlbumResponseModel> addAlbum(@RequestBody AlbumRequestModel request,
+                                             @PathVariable String artistId) {
+        log.debug("Request received in AlbumsReactiveController: addAlbum");
+        return albumsReactiveService.addAlbum(request, artistId);
+    }
+
+    @PutMapping(value = "/{albumId}", consumes = "application/json", produces = "application/json")
+    public Mono<AlbumResponseModel> updateAlbum(@RequestBody AlbumRequestModel request,
+                                                @PathVariable String artistId,
+                                                @PathVariable String albumId) {
+        log.debug("Request received in AlbumsReactiveController: updateAlbum");
+        return albumsReactiveService.updateAlbum(request, artistId, albumId);
+    }
+
+    @DeleteMapping("/{albumId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteAlbum(@PathVariable String artistId,
+                                  @PathVariable String albumId) {
+        log.debug("Request received in AlbumsReactiveController: deleteAlbum");
+        return albumsReactiveService.deleteAlbum(artistId, albumId);
+    }
+}
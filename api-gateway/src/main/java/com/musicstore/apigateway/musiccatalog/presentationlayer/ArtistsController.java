@@ -2,7 +2,9 @@ package com.musicstore.apigateway.musiccatalog.presentationlayer;
 
 
 import com.musicstore.apigateway.musiccatalog.businesslayer.artist.ArtistsService;
+import com.musicstore.apigateway.utils.PageParams;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -10,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @Slf4j
 @RequestMapping("api/v1/artists")
 public class ArtistsController {
@@ -20,10 +23,9 @@ public class ArtistsController {
     }
 
     @GetMapping(produces = "application/json")
-    public ResponseEntity<List<ArtistResponseModel>> getAllArtists() {
+    public ResponseEntity<List<ArtistResponseModel>> getAllArtists(PageParams pageParams) {
         log.debug("Request received in ArtistsController: getAllArtists");
-        List<ArtistResponseModel> artists = artistsService.getAllArtists();
-        return ResponseEntity.ok().body(artists);
+        return artistsService.getAllArtists(pageParams).toResponseEntity();
     }
 
     @GetMapping(value = "/{artistId}", produces = "application/json")
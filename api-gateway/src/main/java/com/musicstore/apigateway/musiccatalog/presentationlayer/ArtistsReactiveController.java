@@ -0,0 +1,58 @@
+package com.musicstore.apigateway.musiccatalog.presentationlayer;
+
+import com.musicstore.apigateway.musiccatalog.businesslayer.artist.ArtistsReactiveService;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@Profile("reactive")
+@Slf4j
+@RequestMapping("api/v1/artists")
+public class ArtistsReactiveController {
+    private final ArtistsReactiveService artistsReactiveService;
+
+    public ArtistsReactiveController(ArtistsReactiveService artistsReactiveService) {
+        this.artistsReactiveService = artistsReactiveService;
+    }
+
+    @GetMapping(produces = "application/json")
+    public Mono<ResponseEntity<List<ArtistResponseModel>>> getAllArtists(PageParams pageParams) {
+        log.debug("Request received in ArtistsReactiveController: getAllArtists");
+        return artistsReactiveService.getAllArtists(pageParams).map(PagedList::toResponseEntity);
+    }
+
+    @GetMapping(value = "/{artistId}", produces = "application/json")
+    public Mono<ArtistResponseModel> getArtistById(@PathVariable("artistId") String artistId) {
+        log.debug("Request received in ArtistsReactiveController: getArtistById");
+        return artistsReactiveService.getArtistByArtistId(artistId);
+    }
+
+    @PostMapping(consumes = "application/json", produces = "application/json")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<ArtistResponseModel> addArtist(@RequestBody ArtistRequestModel request) {
+        log.debug("Request received in ArtistsReactiveController: addArtist");
+        return artistsReactiveService.addArtist(request);
+    }
+
+    @PutMapping(value = "/{artistId}", consumes = "application/json", produces = "application/json")
+    public Mono<ArtistResponseModel> updateArtist(@RequestBody ArtistRequestModel request,
+                                                  @PathVariable("artistId") String artistId) {
+        log.debug("Request received in ArtistsReactiveController: updateArtist");
+        return artistsReactiveService.updateArtist(request, artistId);
+    }
+
+    @DeleteMapping("/{artistId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteArtist(@PathVariable("artistId") String artistId) {
+        log.debug("Request received in ArtistsReactiveController: deleteArtist");
+        return artistsReactiveService.deleteArtist(artistId);
+    }
+}
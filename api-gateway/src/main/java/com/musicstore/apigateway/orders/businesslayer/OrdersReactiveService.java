@@ -0,0 +1,14 @@
+package com.musicstore.apigateway.orders.businesslayer;
+
+import com.musicstore.apigateway.orders.presentationlayer.OrdersPage;
+import com.musicstore.apigateway.orders.presentationlayer.OrdersRequestModel;
+import com.musicstore.apigateway.orders.presentationlayer.OrdersResponseModel;
+import reactor.core.publisher.Mono;
+
+public interface OrdersReactiveService {
+    Mono<OrdersPage> getAllOrdersByCustomerId(String customerId, String cursor, Integer limit, String sort);
+    Mono<OrdersResponseModel> findOrderBydOrderId(String customerId, String orderId);
+    Mono<OrdersResponseModel> createOrder(OrdersRequestModel orderRequestModel, String customerId);
+    Mono<OrdersResponseModel> updateOrder(OrdersRequestModel orderRequestModel, String customerId, String orderId);
+    Mono<Void> deleteOrder(String customerId, String orderId);
+}
@@ -0,0 +1,66 @@
+package com.musicstore.apigateway.orders.businesslayer;
+
+import com.musicstore.apigateway.orders.domainclientlayer.OrdersReactiveServiceClient;
+import com.musicstore.apigateway.orders.presentationlayer.OrdersPage;
+import com.musicstore.apigateway.orders.presentationlayer.OrdersRequestModel;
+import com.musicstore.apigateway.orders.presentationlayer.OrdersResponseModel;
+import com.musicstore.apigateway.utils.LinkTemplates;
+import org.springframework.context.annotation.Profile;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+public class OrdersReactiveServiceImpl implements OrdersReactiveService {
+    private final OrdersReactiveServiceClient ordersReactiveServiceClient;
+
+    public OrdersReactiveServiceImpl(OrdersReactiveServiceClient ordersReactiveServiceClient) {
+        this.ordersReactiveServiceClient = ordersReactiveServiceClient;
+    }
+
+    @Override
+    public Mono<OrdersPage> getAllOrdersByCustomerId(String customerId, String cursor, Integer limit, String sort) {
+        return ordersReactiveServiceClient.getOrdersByCustomerId(customerId, cursor, limit, sort)
+                .flatMap(page -> LinkTemplates.reactiveBaseUri()
+                        .map(baseUri -> new OrdersPage(page.getOrders().stream()
+                                .map(order -> addLinks(customerId, order, baseUri))
+                                .toList(), page.getNextCursor()))
+                        .defaultIfEmpty(page));
+    }
+
+    @Override
+    public Mono<OrdersResponseModel> findOrderBydOrderId(String customerId, String orderId) {
+        return ordersReactiveServiceClient.getOrderByOrderId(customerId, orderId)
+                .flatMap(order -> addLinks(customerId, order));
+    }
+
+    @Override
+    public Mono<OrdersResponseModel> createOrder(OrdersRequestModel orderRequestModel, String customerId) {
+        return ordersReactiveServiceClient.addOrder(orderRequestModel, customerId)
+                .flatMap(order -> addLinks(customerId, order));
+    }
+
+    @Override
+    public Mono<OrdersResponseModel> updateOrder(OrdersRequestModel orderRequestModel, String customerId, String orderId) {
+        return ordersReactiveServiceClient.updateOrder(orderRequestModel, customerId, orderId)
+                .flatMap(order -> addLinks(customerId, order));
+    }
+
+    @Override
+    public Mono<Void> deleteOrder(String customerId, String orderId) {
+        return ordersReactiveServiceClient.removeOrder(customerId, orderId);
+    }
+
+    private Mono<OrdersResponseModel> addLinks(String customerId, OrdersResponseModel order) {
+        return LinkTemplates.reactiveBaseUri()
+                .map(baseUri -> addLinks(customerId, order, baseUri))
+                .defaultIfEmpty(order);
+    }
+
+    private OrdersResponseModel addLinks(String customerId, OrdersResponseModel order, String baseUri) {
+        order.add(LinkTemplates.ORDER.toLink(baseUri, IanaLinkRelations.SELF_VALUE, customerId, order.getOrderId()));
+        order.add(LinkTemplates.CUSTOMER_ORDERS.toLink(baseUri, "customerOrders", customerId));
+        return order;
+    }
+}
@@ -1,12 +1,11 @@
 package com.musicstore.apigateway.orders.businesslayer;
 
+import com.musicstore.apigateway.orders.presentationlayer.OrdersPage;
 import com.musicstore.apigateway.orders.presentationlayer.OrdersRequestModel;
 import com.musicstore.apigateway.orders.presentationlayer.OrdersResponseModel;
 
-import java.util.List;
-
 public interface OrdersService {
-    List<OrdersResponseModel> getAllOrdersByCustomerId(String customerId);
+    OrdersPage getAllOrdersByCustomerId(String customerId, String cursor, Integer limit, String sort);
     OrdersResponseModel findOrderBydOrderId(String customerId, String orderId);
     OrdersResponseModel createOrder(OrdersRequestModel orderRequestModel, String customerId);
     OrdersResponseModel updateOrder(OrdersRequestModel orderRequestModel, String customerId,String orderId);
@@ -1,17 +1,13 @@
 package com.musicstore.apigateway.orders.businesslayer;
 
 import com.musicstore.apigateway.orders.domainclientlayer.OrdersServiceClient;
-import com.musicstore.apigateway.orders.presentationlayer.OrdersController;
+import com.musicstore.apigateway.orders.presentationlayer.OrdersPage;
 import com.musicstore.apigateway.orders.presentationlayer.OrdersRequestModel;
 import com.musicstore.apigateway.orders.presentationlayer.OrdersResponseModel;
-import org.springframework.hateoas.Link;
+import com.musicstore.apigateway.utils.LinkTemplates;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Service
 public class OrdersServiceImpl implements OrdersService{
     private final OrdersServiceClient ordersServiceClient;
@@ -21,12 +17,12 @@ public class OrdersServiceImpl implements OrdersService{
     }
 
     @Override
-    public List<OrdersResponseModel> getAllOrdersByCustomerId(String customerId) {
-        List<OrdersResponseModel> orders = ordersServiceClient.getOrdersByCustomerId(customerId);
-        if (orders != null) {
-            orders.forEach(o -> addLinks(customerId, o));
+    public OrdersPage getAllOrdersByCustomerId(String customerId, String cursor, Integer limit, String sort) {
+        OrdersPage page = ordersServiceClient.getOrdersByCustomerId(customerId, cursor, limit, sort);
+        if (page.getOrders() != null) {
+            page.getOrders().forEach(o -> addLinks(customerId, o));
         }
-        return orders;
+        return page;
     }
 
     @Override
@@ -61,16 +57,11 @@ public class OrdersServiceImpl implements OrdersService{
         ordersServiceClient.removeOrder(customerId, orderId);
     }
     private void addLinks(String customerId, OrdersResponseModel order) {
-
-        Link self = linkTo(methodOn(OrdersController.class)
-                .findOrderBydOrderId(customerId, order.getOrderId()))
-                .withSelfRel();
-
-        Link customerOrders = linkTo(methodOn(OrdersController.class)
-                .getAllOrdersByCustomerId(customerId))
-                .withRel("customerOrders");
-
-        order.add(self);
-        order.add(customerOrders);
+        if (!LinkTemplates.enabled()) {
+            return;
+        }
+        String baseUri = LinkTemplates.baseUri();
+        order.add(LinkTemplates.ORDER.toLink(baseUri, IanaLinkRelations.SELF_VALUE, customerId, order.getOrderId()));
+        order.add(LinkTemplates.CUSTOMER_ORDERS.toLink(baseUri, "customerOrders", customerId));
     }
 }
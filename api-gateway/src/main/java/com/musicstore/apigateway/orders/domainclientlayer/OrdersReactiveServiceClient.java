@@ -0,0 +1,87 @@
+package com.musicstore.apigateway.orders.domainclientlayer;
+
+import com.musicstore.apigateway.orders.presentationlayer.OrdersPage;
+import com.musicstore.apigateway.orders.presentationlayer.OrdersRequestModel;
+import com.musicstore.apigateway.orders.presentationlayer.OrdersResponseModel;
+import com.musicstore.apigateway.utils.DownstreamGuard;
+import com.musicstore.apigateway.utils.WebClientErrors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+@Slf4j
+@Component
+@Profile("reactive")
+public class OrdersReactiveServiceClient {
+    private final WebClient webClient;
+
+    public OrdersReactiveServiceClient(WebClient.Builder webClientBuilder,
+                                       @Value("${app.orders-service.host}") String ordersServiceHost,
+                                       @Value("${app.orders-service.port}") String ordersServicePort,
+                                       @Qualifier("ordersServiceGuard") DownstreamGuard guard) {
+        webClient = webClientBuilder
+                .filter(guard.exchangeFilter())
+                .baseUrl("http://" + ordersServiceHost + ":" + ordersServicePort + "/api/v1/customers")
+                .build();
+    }
+
+    public Mono<OrdersPage> getOrdersByCustomerId(String customerId, String cursor, Integer limit, String sort) {
+        log.debug("Orders-Service GET list for customerId: {}", customerId);
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/{customerId}/orders")
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .queryParamIfPresent("limit", Optional.ofNullable(limit))
+                        .queryParamIfPresent("sort", Optional.ofNullable(sort))
+                        .build(customerId))
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .toEntityList(OrdersResponseModel.class)
+                .map(response -> new OrdersPage(response.getBody(),
+                        response.getHeaders().getFirst(OrdersServiceClient.NEXT_CURSOR_HEADER)));
+    }
+
+    public Mono<OrdersResponseModel> getOrderByOrderId(String customerId, String orderId) {
+        log.debug("Orders-Service GET by orderId: {}", orderId);
+        return webClient.get()
+                .uri("/{customerId}/orders/{orderId}", customerId, orderId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(OrdersResponseModel.class);
+    }
+
+    public Mono<OrdersResponseModel> addOrder(OrdersRequestModel orderRequestModel, String customerId) {
+        log.debug("Orders-Service POST for customerId: {}", customerId);
+        return webClient.post()
+                .uri("/{customerId}/orders", customerId)
+                .bodyValue(orderRequestModel)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(OrdersResponseModel.class);
+    }
+
+    public Mono<OrdersResponseModel> updateOrder(OrdersRequestModel orderRequestModel, String customerId, String orderId) {
+        log.debug("Orders-Service PUT orderId: {}", orderId);
+        return webClient.put()
+                .uri("/{customerId}/orders/{orderId}", customerId, orderId)
+                .bodyValue(orderRequestModel)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(OrdersResponseModel.class);
+    }
+
+    public Mono<Void> removeOrder(String customerId, String orderId) {
+        log.debug("Orders-Service DELETE orderId: {}", orderId);
+        return webClient.delete()
+                .uri("/{customerId}/orders/{orderId}", customerId, orderId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(Void.class);
+    }
+}
@@ -1,12 +1,15 @@
 package com.musicstore.apigateway.orders.domainclientlayer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicstore.apigateway.orders.presentationlayer.OrdersPage;
 import com.musicstore.apigateway.orders.presentationlayer.OrdersRequestModel;
 import com.musicstore.apigateway.orders.presentationlayer.OrdersResponseModel;
+import com.musicstore.apigateway.utils.DownstreamGuard;
 import com.musicstore.apigateway.utils.HttpErrorInfo;
 import com.musicstore.apigateway.utils.exceptions.InvalidInputException;
 import com.musicstore.apigateway.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
@@ -15,38 +18,48 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 @Slf4j
 @Component
 public class OrdersServiceClient {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
+    private final DownstreamGuard guard;
     private final String ORDERS_SERVICE_BASE_URL;
 
     public OrdersServiceClient(RestTemplate restTemplate, ObjectMapper mapper,
                                @Value("${app.orders-service.host}") String ordersServiceHost,
-                               @Value("${app.orders-service.port}") String ordersServicePort) {
+                               @Value("${app.orders-service.port}") String ordersServicePort,
+                               @Qualifier("ordersServiceGuard") DownstreamGuard guard) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
+        this.guard = guard;
         ORDERS_SERVICE_BASE_URL = "http://" + ordersServiceHost + ":" + ordersServicePort + "/api/v1/customers";
     }
 
     // ===== ORDERS METHODS =====
-    //get all orders
-    public List<OrdersResponseModel> getOrdersByCustomerId(String customerId) {
-        String url = ORDERS_SERVICE_BASE_URL + "/" + customerId + "/orders";
+    //get a page of orders
+    public OrdersPage getOrdersByCustomerId(String customerId, String cursor, Integer limit, String sort) {
+        String url = UriComponentsBuilder.fromUriString(ORDERS_SERVICE_BASE_URL + "/" + customerId + "/orders")
+                .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                .queryParamIfPresent("limit", Optional.ofNullable(limit))
+                .queryParamIfPresent("sort", Optional.ofNullable(sort))
+                .encode()
+                .toUriString();
         log.debug("Orders-Service GET list URL: {}", url);
         try {
             ResponseEntity<List<OrdersResponseModel>> response =
-                    restTemplate.exchange(url, HttpMethod.GET, null,
-                            new ParameterizedTypeReference<List<OrdersResponseModel>>() {});
-            List<OrdersResponseModel> ordersResponseModels = response.getBody();
-            return ordersResponseModels;
+                    guard.call(() -> restTemplate.exchange(url, HttpMethod.GET, null,
+                            new ParameterizedTypeReference<List<OrdersResponseModel>>() {}));
+            return new OrdersPage(response.getBody(), response.getHeaders().getFirst(NEXT_CURSOR_HEADER));
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -58,7 +71,7 @@ public class OrdersServiceClient {
             String url = ORDERS_SERVICE_BASE_URL + "/" + customerId + "/orders/" + orderId;
             log.debug("Orders-Service GET by ID URL: {}", url);
             OrdersResponseModel ordersResponseModel =
-                    restTemplate.getForObject(url, OrdersResponseModel.class);
+                    guard.call(() -> restTemplate.getForObject(url, OrdersResponseModel.class));
             return ordersResponseModel;
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
@@ -72,7 +85,7 @@ public class OrdersServiceClient {
             log.debug("Orders-Service POST URL: {}", url);
 
             OrdersResponseModel ordersResponseModel =
-                    restTemplate.postForObject(url, orderRequestModel, OrdersResponseModel.class);
+                    guard.call(() -> restTemplate.postForObject(url, orderRequestModel, OrdersResponseModel.class));
             return ordersResponseModel;
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
@@ -86,7 +99,7 @@ public class OrdersServiceClient {
             log.debug("Orders-Service PUT URL: {}", url);
             HttpEntity<OrdersRequestModel> entity = new HttpEntity<>(orderRequestModel);
             ResponseEntity<OrdersResponseModel> response =
-                    restTemplate.exchange(url, HttpMethod.PUT, entity, OrdersResponseModel.class);
+                    guard.call(() -> restTemplate.exchange(url, HttpMethod.PUT, entity, OrdersResponseModel.class));
             OrdersResponseModel ordersResponseModel = response.getBody();
             return ordersResponseModel;
         } catch (HttpClientErrorException ex) {
@@ -99,7 +112,7 @@ public class OrdersServiceClient {
         try {
             String url = ORDERS_SERVICE_BASE_URL + "/" + customerId + "/orders/" + orderId;
             log.debug("Orders-Service DELETE URL: {}", url);
-            restTemplate.delete(url);
+            guard.run(() -> restTemplate.delete(url));
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
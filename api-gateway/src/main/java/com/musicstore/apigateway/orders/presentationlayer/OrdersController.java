@@ -2,8 +2,10 @@ package com.musicstore.apigateway.orders.presentationlayer;
 
 
 import com.musicstore.apigateway.orders.businesslayer.OrdersService;
+import com.musicstore.apigateway.orders.domainclientlayer.OrdersServiceClient;
 import com.musicstore.apigateway.utils.exceptions.InvalidInputException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -12,6 +14,7 @@ import java.util.List;
 
 @Slf4j
 @RestController
+@Profile("!reactive")
 @RequestMapping("api/v1/customers/{customerId}/orders")
 public class OrdersController {
     private final OrdersService ordersService;
@@ -22,11 +25,18 @@ public class OrdersController {
 
     @GetMapping(produces = "application/json")
     public ResponseEntity<List<OrdersResponseModel>> getAllOrdersByCustomerId(
-            @PathVariable String customerId) {
+            @PathVariable String customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String sort) {
 
         log.debug("Request received in OrdersController: getAllOrdersByCustomerId");
-        List<OrdersResponseModel> orders = ordersService.getAllOrdersByCustomerId(customerId);
-        return ResponseEntity.ok().body(orders);
+        OrdersPage page = ordersService.getAllOrdersByCustomerId(customerId, cursor, limit, sort);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(OrdersServiceClient.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getOrders());
     }
 
     @GetMapping(value = "/{orderId}", produces = "application/json")
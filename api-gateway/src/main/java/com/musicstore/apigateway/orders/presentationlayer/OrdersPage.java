@@ -0,0 +1,11 @@
+package com.musicstore.apigateway.orders.presentationlayer;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class OrdersPage {
+    List<OrdersResponseModel> orders;
+    String nextCursor; // null on the last page
+}
@@ -0,0 +1,70 @@
+package com.musicstore.apigateway.orders.presentationlayer;
+
+import com.musicstore.apigateway.orders.businesslayer.OrdersReactiveService;
+import com.musicstore.apigateway.orders.domainclientlayer.OrdersServiceClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@Profile("reactive")
+@RequestMapping("api/v1/customers/{customerId}/orders")
+public class OrdersReactiveController {
+    private final OrdersReactiveService ordersReactiveService;
+
+    public OrdersReactiveController(OrdersReactiveService ordersReactiveService) {
+        this.ordersReactiveService = ordersReactiveService;
+    }
+
+    @GetMapping(produces = "application/json")
+    public Mono<ResponseEntity<List<OrdersResponseModel>>> getAllOrdersByCustomerId(@PathVariable String customerId,
+                                                                                    @RequestParam(required = false) String cursor,
+                                                                                    @RequestParam(required = false) Integer limit,
+                                                                                    @RequestParam(required = false) String sort) {
+        log.debug("Request received in OrdersReactiveController: getAllOrdersByCustomerId");
+        return ordersReactiveService.getAllOrdersByCustomerId(customerId, cursor, limit, sort)
+                .map(page -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                    if (page.getNextCursor() != null) {
+                        response.header(OrdersServiceClient.NEXT_CURSOR_HEADER, page.getNextCursor());
+                    }
+                    return response.body(page.getOrders());
+                });
+    }
+
+    @GetMapping(value = "/{orderId}", produces = "application/json")
+    public Mono<OrdersResponseModel> findOrderBydOrderId(@PathVariable String customerId,
+                                                         @PathVariable String orderId) {
+        log.debug("Request received in OrdersReactiveController: findOrderBydOrderId");
+        return ordersReactiveService.findOrderBydOrderId(customerId, orderId);
+    }
+
+    @PostMapping(consumes = "application/json", produces = "application/json")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<OrdersResponseModel> createOrder(@RequestBody OrdersRequestModel orderRequestModel,
+                                                 @PathVariable String customerId) {
+        log.debug("Request received in OrdersReactiveController: createOrder");
+        return ordersReactiveService.createOrder(orderRequestModel, customerId);
+    }
+
+    @PutMapping(value = "/{orderId}", consumes = "application/json", produces = "application/json")
+    public Mono<OrdersResponseModel> updateOrder(@RequestBody OrdersRequestModel orderRequestModel,
+                                                 @PathVariable String customerId,
+                                                 @PathVariable String orderId) {
+        log.debug("Request received in OrdersReactiveController: updateOrder");
+        return ordersReactiveService.updateOrder(orderRequestModel, customerId, orderId);
+    }
+
+    @DeleteMapping("/{orderId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteOrder(@PathVariable String customerId, @PathVariable String orderId) {
+        log.debug("Request received in OrdersReactiveController: deleteOrder");
+        return ordersReactiveService.deleteOrder(customerId, orderId);
+    }
+}
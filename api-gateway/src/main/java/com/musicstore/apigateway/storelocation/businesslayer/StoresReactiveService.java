@@ -0,0 +1,15 @@
+package com.musicstore.apigateway.storelocation.businesslayer;
+
+import com.musicstore.apigateway.storelocation.presentationlayer.StoreRequestModel;
+import com.musicstore.apigateway.storelocation.presentationlayer.StoreResponseModel;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import reactor.core.publisher.Mono;
+
+public interface StoresReactiveService {
+    Mono<PagedList<StoreResponseModel>> getAllStores(PageParams pageParams);
+    Mono<StoreResponseModel> getStoreByStoreId(String storeId);
+    Mono<StoreResponseModel> addStore(StoreRequestModel storeRequestModel);
+    Mono<StoreResponseModel> updateStore(StoreRequestModel storeRequestModel, String storeId);
+    Mono<Void> deleteStore(String storeId);
+}
@@ -0,0 +1,65 @@
+package com.musicstore.apigateway.storelocation.businesslayer;
+
+import com.musicstore.apigateway.storelocation.domainclientlayer.StoresReactiveServiceClient;
+import com.musicstore.apigateway.storelocation.presentationlayer.StoreRequestModel;
+import com.musicstore.apigateway.storelocation.presentationlayer.StoreResponseModel;
+import com.musicstore.apigateway.utils.LinkTemplates;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import org.springframework.context.annotation.Profile;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+public class StoresReactiveServiceImpl implements StoresReactiveService {
+
+    private final StoresReactiveServiceClient storesReactiveServiceClient;
+
+    public StoresReactiveServiceImpl(StoresReactiveServiceClient storesReactiveServiceClient) {
+        this.storesReactiveServiceClient = storesReactiveServiceClient;
+    }
+
+    @Override
+    public Mono<PagedList<StoreResponseModel>> getAllStores(PageParams pageParams) {
+        return storesReactiveServiceClient.getAllStores(pageParams)
+                .flatMap(stores -> LinkTemplates.reactiveBaseUri()
+                        .map(baseUri -> stores.withContent(stores.getContent().stream()
+                                .map(store -> addLinks(store, baseUri))
+                                .toList()))
+                        .defaultIfEmpty(stores));
+    }
+
+    @Override
+    public Mono<StoreResponseModel> getStoreByStoreId(String storeId) {
+        return storesReactiveServiceClient.getStoreByStoreId(storeId).flatMap(this::addLinks);
+    }
+
+    @Override
+    public Mono<StoreResponseModel> addStore(StoreRequestModel storeRequestModel) {
+        return storesReactiveServiceClient.addStore(storeRequestModel).flatMap(this::addLinks);
+    }
+
+    @Override
+    public Mono<StoreResponseModel> updateStore(StoreRequestModel storeRequestModel, String storeId) {
+        return storesReactiveServiceClient.updateStore(storeRequestModel, storeId).flatMap(this::addLinks);
+    }
+
+    @Override
+    public Mono<Void> deleteStore(String storeId) {
+        return storesReactiveServiceClient.deleteStore(storeId);
+    }
+
+    private Mono<StoreResponseModel> addLinks(StoreResponseModel store) {
+        return LinkTemplates.reactiveBaseUri()
+                .map(baseUri -> addLinks(store, baseUri))
+                .defaultIfEmpty(store);
+    }
+
+    private StoreResponseModel addLinks(StoreResponseModel store, String baseUri) {
+        store.add(LinkTemplates.STORE.toLink(baseUri, IanaLinkRelations.SELF_VALUE, store.getStoreId()));
+        store.add(LinkTemplates.STORES.toLink(baseUri, "stores"));
+        return store;
+    }
+}
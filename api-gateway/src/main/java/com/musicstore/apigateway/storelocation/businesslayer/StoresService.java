@@ -3,11 +3,11 @@ package com.musicstore.apigateway.storelocation.businesslayer;
 
 import com.musicstore.apigateway.storelocation.presentationlayer.StoreRequestModel;
 import com.musicstore.apigateway.storelocation.presentationlayer.StoreResponseModel;
-
-import java.util.List;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
 
 public interface StoresService {
-    List<StoreResponseModel> getAllStores();
+    PagedList<StoreResponseModel> getAllStores(PageParams pageParams);
     StoreResponseModel getStoreByStoreId(String storeId);
     StoreResponseModel addStore(StoreRequestModel storeRequestModel);
     StoreResponseModel updateStore(StoreRequestModel storeRequestModel, String storeId);
@@ -3,15 +3,12 @@ package com.musicstore.apigateway.storelocation.businesslayer;
 import com.musicstore.apigateway.storelocation.domainclientlayer.StoresServiceClient;
 import com.musicstore.apigateway.storelocation.presentationlayer.StoreRequestModel;
 import com.musicstore.apigateway.storelocation.presentationlayer.StoreResponseModel;
-import com.musicstore.apigateway.storelocation.presentationlayer.StoresController;
-import org.springframework.hateoas.Link;
+import com.musicstore.apigateway.utils.LinkTemplates;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Service
 public class StoresServiceImpl implements StoresService {
 
@@ -22,10 +19,10 @@ public class StoresServiceImpl implements StoresService {
     }
 
     @Override
-    public List<StoreResponseModel> getAllStores() {
-        List<StoreResponseModel> stores = storesServiceClient.getAllStores();
-        if (stores != null) {
-            for (StoreResponseModel store : stores) {
+    public PagedList<StoreResponseModel> getAllStores(PageParams pageParams) {
+        PagedList<StoreResponseModel> stores = storesServiceClient.getAllStores(pageParams);
+        if (stores.getContent() != null) {
+            for (StoreResponseModel store : stores.getContent()) {
                 addLinks(store);
             }
         }
@@ -65,11 +62,12 @@ public class StoresServiceImpl implements StoresService {
     }
 
     private StoreResponseModel addLinks(StoreResponseModel store) {
-        Link selfLink = linkTo(methodOn(StoresController.class).getStoreByStoreId(store.getStoreId())).withSelfRel();
-        Link allStoresLink = linkTo(methodOn(StoresController.class).getAllStores()).withRel("stores");
-
-        store.add(selfLink);
-        store.add(allStoresLink);
+        if (!LinkTemplates.enabled()) {
+            return store;
+        }
+        String baseUri = LinkTemplates.baseUri();
+        store.add(LinkTemplates.STORE.toLink(baseUri, IanaLinkRelations.SELF_VALUE, store.getStoreId()));
+        store.add(LinkTemplates.STORES.toLink(baseUri, "stores"));
 
         return store;
     }
@@ -0,0 +1,81 @@
+package com.musicstore.apigateway.storelocation.domainclientlayer;
+
+import com.musicstore.apigateway.storelocation.presentationlayer.StoreRequestModel;
+import com.musicstore.apigateway.storelocation.presentationlayer.StoreResponseModel;
+import com.musicstore.apigateway.utils.DownstreamGuard;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import com.musicstore.apigateway.utils.WebClientErrors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@Profile("reactive")
+public class StoresReactiveServiceClient {
+    private final WebClient webClient;
+
+    public StoresReactiveServiceClient(WebClient.Builder webClientBuilder,
+                                       @Value("${app.storelocation-service.host}") String storesServiceHost,
+                                       @Value("${app.storelocation-service.port}") String storesServicePort,
+                                       @Qualifier("storesServiceGuard") DownstreamGuard guard) {
+        webClient = webClientBuilder
+                .filter(guard.exchangeFilter())
+                .baseUrl("http://" + storesServiceHost + ":" + storesServicePort + "/api/v1/stores")
+                .build();
+    }
+
+    public Mono<PagedList<StoreResponseModel>> getAllStores(PageParams pageParams) {
+        log.debug("Stores-Service GET all stores");
+        return webClient.get()
+                .uri(uriBuilder -> pageParams.applyTo(uriBuilder).build())
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .toEntityList(StoreResponseModel.class)
+                .map(PagedList::of);
+    }
+
+    public Mono<StoreResponseModel> getStoreByStoreId(String storeId) {
+        log.debug("Stores-Service GET by storeId: {}", storeId);
+        return webClient.get()
+                .uri("/{storeId}", storeId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(StoreResponseModel.class);
+    }
+
+    public Mono<StoreResponseModel> addStore(StoreRequestModel storeRequestModel) {
+        log.debug("Stores-Service POST");
+        return webClient.post()
+                .bodyValue(storeRequestModel)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(StoreResponseModel.class);
+    }
+
+    public Mono<StoreResponseModel> updateStore(StoreRequestModel storeRequestModel, String storeId) {
+        log.debug("Stores-Service PUT storeId: {}", storeId);
+        return webClient.put()
+                .uri("/{storeId}", storeId)
+                .bodyValue(storeRequestModel)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(StoreResponseModel.class);
+    }
+
+    public Mono<Void> deleteStore(String storeId) {
+        log.debug("Stores-Service DELETE storeId: {}", storeId);
+        return webClient.delete()
+                .uri("/{storeId}", storeId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, WebClientErrors::toException)
+                .bodyToMono(Void.class);
+    }
+}
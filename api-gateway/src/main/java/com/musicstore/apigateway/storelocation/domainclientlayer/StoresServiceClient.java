@@ -3,10 +3,14 @@ package com.musicstore.apigateway.storelocation.domainclientlayer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.musicstore.apigateway.storelocation.presentationlayer.StoreRequestModel;
 import com.musicstore.apigateway.storelocation.presentationlayer.StoreResponseModel;
+import com.musicstore.apigateway.utils.DownstreamGuard;
 import com.musicstore.apigateway.utils.HttpErrorInfo;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
 import com.musicstore.apigateway.utils.exceptions.InvalidInputException;
 import com.musicstore.apigateway.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
@@ -15,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
 import java.util.List;
@@ -27,26 +32,29 @@ import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 public class StoresServiceClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
+    private final DownstreamGuard guard;
     private final String STORES_SERVICE_BASE_URL;
 
     public StoresServiceClient(RestTemplate restTemplate,
                                ObjectMapper mapper,
                                @Value("${app.storelocation-service.host}") String storesServiceHost,
-                               @Value("${app.storelocation-service.port}") String storesServicePort) {
+                               @Value("${app.storelocation-service.port}") String storesServicePort,
+                               @Qualifier("storesServiceGuard") DownstreamGuard guard) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
+        this.guard = guard;
         STORES_SERVICE_BASE_URL = "http://" + storesServiceHost + ":" + storesServicePort + "/api/v1/stores";
     }
 
-    public List<StoreResponseModel> getAllStores() {
+    public PagedList<StoreResponseModel> getAllStores(PageParams pageParams) {
         try {
-            String url = STORES_SERVICE_BASE_URL;
+            String url = pageParams.applyTo(UriComponentsBuilder.fromUriString(STORES_SERVICE_BASE_URL))
+                    .toUriString();
             log.debug("Stores-Service GET all stores URL: " + url);
             ResponseEntity<List<StoreResponseModel>> response =
-                    restTemplate.exchange(url, HttpMethod.GET, null,
-                            new ParameterizedTypeReference<List<StoreResponseModel>>() {});
-            List<StoreResponseModel> storeResponseModels = response.getBody();
-            return storeResponseModels;
+                    guard.call(() -> restTemplate.exchange(url, HttpMethod.GET, null,
+                            new ParameterizedTypeReference<List<StoreResponseModel>>() {}));
+            return PagedList.of(response);
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -56,7 +64,7 @@ public class StoresServiceClient {
         try {
             String url = STORES_SERVICE_BASE_URL + "/" + storeId;
             log.debug("Stores-Service GET by storeId URL: " + url);
-            StoreResponseModel storeResponseModel = restTemplate.getForObject(url, StoreResponseModel.class);
+            StoreResponseModel storeResponseModel = guard.call(() -> restTemplate.getForObject(url, StoreResponseModel.class));
             return storeResponseModel;
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
@@ -68,7 +76,7 @@ public class StoresServiceClient {
             String url = STORES_SERVICE_BASE_URL;
             log.debug("Stores-Service POST URL: " + url);
             StoreResponseModel storeResponseModel =
-                    restTemplate.postForObject(url, storeRequestModel, StoreResponseModel.class);
+                    guard.call(() -> restTemplate.postForObject(url, storeRequestModel, StoreResponseModel.class));
             return storeResponseModel;
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
@@ -81,7 +89,7 @@ public class StoresServiceClient {
             log.debug("Stores-Service PUT URL: " + url);
             HttpEntity<StoreRequestModel> requestEntity = new HttpEntity<>(storeRequestModel);
             ResponseEntity<StoreResponseModel> response =
-                    restTemplate.exchange(url, HttpMethod.PUT, requestEntity, StoreResponseModel.class);
+                    guard.call(() -> restTemplate.exchange(url, HttpMethod.PUT, requestEntity, StoreResponseModel.class));
             StoreResponseModel storeResponseModel = response.getBody();
             return storeResponseModel;
         } catch (HttpClientErrorException ex) {
@@ -93,7 +101,7 @@ public class StoresServiceClient {
         try {
             String url = STORES_SERVICE_BASE_URL + "/" + storeId;
             log.debug("Stores-Service DELETE URL: " + url);
-            restTemplate.delete(url);
+            guard.run(() -> restTemplate.delete(url));
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -1,7 +1,9 @@
 package com.musicstore.apigateway.storelocation.presentationlayer;
 
 import com.musicstore.apigateway.storelocation.businesslayer.StoresService;
+import com.musicstore.apigateway.utils.PageParams;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -9,6 +11,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @Slf4j
 @RequestMapping("api/v1/stores")
 public class StoresController {
@@ -19,10 +22,9 @@ public class StoresController {
     }
 
     @GetMapping(produces = "application/json")
-    public ResponseEntity<List<StoreResponseModel>> getAllStores() {
+    public ResponseEntity<List<StoreResponseModel>> getAllStores(PageParams pageParams) {
         log.debug("Request received in StoresController: getAllStores");
-        List<StoreResponseModel> stores = storesService.getAllStores();
-        return ResponseEntity.ok().body(stores);
+        return storesService.getAllStores(pageParams).toResponseEntity();
     }
 
     @GetMapping(value = "/{storeId}", produces = "application/json")
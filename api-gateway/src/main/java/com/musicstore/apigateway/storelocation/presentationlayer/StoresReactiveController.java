@@ -0,0 +1,58 @@
+package com.musicstore.apigateway.storelocation.presentationlayer;
+
+import com.musicstore.apigateway.storelocation.businesslayer.StoresReactiveService;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@Profile("reactive")
+@Slf4j
+@RequestMapping("api/v1/stores")
+public class StoresReactiveController {
+    private final StoresReactiveService storesReactiveService;
+
+    public StoresReactiveController(StoresReactiveService storesReactiveService) {
+        this.storesReactiveService = storesReactiveService;
+    }
+
+    @GetMapping(produces = "application/json")
+    public Mono<ResponseEntity<List<StoreResponseModel>>> getAllStores(PageParams pageParams) {
+        log.debug("Request received in StoresReactiveController: getStores");
+        return storesReactiveService.getAllStores(pageParams).map(PagedList::toResponseEntity);
+    }
+
+    @GetMapping(value = "/{storeId}", produces = "application/json")
+    public Mono<StoreResponseModel> getStoreByStoreId(@PathVariable("storeId") String storeId) {
+        log.debug("Request received in StoresReactiveController: getStoreByStoreId");
+        return storesReactiveService.getStoreByStoreId(storeId);
+    }
+
+    @PostMapping(consumes = "application/json", produces = "application/json")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<StoreResponseModel> addStore(@RequestBody StoreRequestModel storeRequestModel) {
+        log.debug("Request received in StoresReactiveController: addStore");
+        return storesReactiveService.addStore(storeRequestModel);
+    }
+
+    @PutMapping(value = "/{storeId}", consumes = "application/json", produces = "application/json")
+    public Mono<StoreResponseModel> updateStore(@RequestBody StoreRequestModel storeRequestModel,
+                                                @PathVariable("storeId") String storeId) {
+        log.debug("Request received in StoresReactiveController: updateStore");
+        return storesReactiveService.updateStore(storeRequestModel, storeId);
+    }
+
+    @DeleteMapping("/{storeId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteStore(@PathVariable("storeId") String storeId) {
+        log.debug("Request received in StoresReactiveController: deleteStore");
+        return storesReactiveService.deleteStore(storeId);
+    }
+}
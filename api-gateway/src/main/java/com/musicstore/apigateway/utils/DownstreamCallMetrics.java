@@ -0,0 +1,150 @@
+package com.musicstore.apigateway.utils;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.http.client.observation.ClientRequestObservationConvention;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Names the {@code RestTemplate} client observations {@code downstream.calls} and counts
+ * the failed ones as {@code downstream.errors}. Both are tagged with the target
+ * {@code service}, the {@code operation} (method and path, with ids replaced by
+ * {@code {id}}) and the response {@code status}, or {@code IO_ERROR} when no response
+ * arrived. The reactive mode's {@code WebClient} calls are recorded the same way through
+ * {@link #exchangeFilter()}.
+ */
+@Component
+public class DownstreamCallMetrics implements ClientRequestObservationConvention,
+        ObservationHandler<ClientRequestObservationContext> {
+
+    public static final String CALLS = "downstream.calls";
+    public static final String ERRORS = "downstream.errors";
+
+    private static final List<String> DOWNSTREAM_SERVICES =
+            List.of("customers-service", "musiccatalog-service", "storelocation-service", "orders-service");
+    private static final Pattern ID_SEGMENT =
+            Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|\\d+");
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, String> servicesByAuthority = new HashMap<>();
+
+    public DownstreamCallMetrics(MeterRegistry meterRegistry, Environment environment) {
+        this.meterRegistry = meterRegistry;
+        for (String service : DOWNSTREAM_SERVICES) {
+            String host = environment.getProperty("app." + service + ".host");
+            String port = environment.getProperty("app." + service + ".port");
+            if (host != null && port != null) {
+                servicesByAuthority.put(host + ":" + port, service);
+            }
+        }
+    }
+
+    public ExchangeFilterFunction exchangeFilter() {
+        return (request, next) -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return next.exchange(request)
+                    .doOnNext(response -> record(sample, request.url(), request.method().name(),
+                            String.valueOf(response.statusCode().value()), "none"))
+                    .doOnError(ex -> record(sample, request.url(), request.method().name(),
+                            "IO_ERROR", ex.getClass().getSimpleName()));
+        };
+    }
+
+    @Override
+    public String getName() {
+        return CALLS;
+    }
+
+    // span name, e.g. "musiccatalog-service GET /api/v1/artists/{id}/albums/{id}"
+    @Override
+    public String getContextualName(ClientRequestObservationContext context) {
+        ClientHttpRequest request = context.getCarrier();
+        if (request == null) {
+            return CALLS;
+        }
+        URI uri = request.getURI();
+        return servicesByAuthority.getOrDefault(uri.getHost() + ":" + uri.getPort(), uri.getHost())
+                + " " + request.getMethod().name() + " " + operation(uri.getPath());
+    }
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ClientRequestObservationContext context) {
+        ClientHttpRequest request = context.getCarrier();
+        if (request == null) {
+            return KeyValues.of("service", "none", "operation", "none", "status", status(context));
+        }
+        return keyValues(request.getURI(), request.getMethod().name(), status(context));
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof ClientRequestObservationContext;
+    }
+
+    @Override
+    public void onStop(ClientRequestObservationContext context) {
+        countError(status(context), getLowCardinalityKeyValues(context));
+    }
+
+    // same tag keys as the observation timers, which also carry the exception as "error"
+    private void record(Timer.Sample sample, URI uri, String method, String status, String error) {
+        KeyValues keyValues = keyValues(uri, method, status);
+        sample.stop(meterRegistry.timer(CALLS, tags(keyValues.and("error", error))));
+        countError(status, keyValues);
+    }
+
+    private void countError(String status, KeyValues keyValues) {
+        if (status.equals("IO_ERROR") || status.charAt(0) >= '4') {
+            meterRegistry.counter(ERRORS, tags(keyValues)).increment();
+        }
+    }
+
+    private KeyValues keyValues(URI uri, String method, String status) {
+        return KeyValues.of(
+                "service", servicesByAuthority.getOrDefault(uri.getHost() + ":" + uri.getPort(), uri.getHost()),
+                "operation", method + " " + operation(uri.getPath()),
+                "status", status);
+    }
+
+    private static List<Tag> tags(KeyValues keyValues) {
+        return keyValues.stream().map(keyValue -> Tag.of(keyValue.getKey(), keyValue.getValue())).toList();
+    }
+
+    private static String status(ClientRequestObservationContext context) {
+        ClientHttpResponse response = context.getResponse();
+        if (response == null) {
+            return "IO_ERROR";
+        }
+        try {
+            return String.valueOf(response.getStatusCode().value());
+        } catch (IOException ex) {
+            return "IO_ERROR";
+        }
+    }
+
+    private static String operation(String path) {
+        StringBuilder operation = new StringBuilder();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                operation.append('/').append(ID_SEGMENT.matcher(segment).matches() ? "{id}" : segment);
+            }
+        }
+        return operation.toString();
+    }
+}
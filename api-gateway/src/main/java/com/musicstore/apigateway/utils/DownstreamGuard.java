@@ -0,0 +1,105 @@
+package com.musicstore.apigateway.utils;
+
+import com.musicstore.apigateway.utils.exceptions.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker and bulkhead in front of one downstream service. A call is refused with
+ * {@link ServiceUnavailableException} while the breaker is open, while the service already
+ * has its limit of calls in flight, or once the request's deadline has passed, so one slow
+ * service cannot hold every gateway thread or connection. Blocking clients wrap their
+ * {@code RestTemplate} calls in {@link #call}; reactive clients add {@link #exchangeFilter()}.
+ * Connection failures, timeouts and 5xx answers count against the breaker; 4xx answers do not.
+ */
+public class DownstreamGuard {
+
+    private final String service;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public DownstreamGuard(String service, CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        this.service = service;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+    }
+
+    public <T> T call(Supplier<T> call) {
+        if (RequestDeadline.expired()) {
+            throw deadlinePassed();
+        }
+        try {
+            return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, call));
+        } catch (CallNotPermittedException | BulkheadFullException ex) {
+            throw rejected(ex);
+        }
+    }
+
+    public void run(Runnable call) {
+        call(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public ExchangeFilterFunction exchangeFilter() {
+        return (request, next) -> Mono.deferContextual(context -> {
+            if (RequestDeadline.expired(context)) {
+                return Mono.error(deadlinePassed());
+            }
+            Optional<Duration> remaining = RequestDeadline.remaining(context);
+            ClientRequest withDeadline = remaining
+                    .map(left -> ClientRequest.from(request)
+                            .header(RequestDeadline.HEADER, String.valueOf(left.toMillis()))
+                            .build())
+                    .orElse(request);
+            Mono<ClientResponse> response = next.exchange(withDeadline);
+            return remaining.map(response::timeout).orElse(response)
+                    .transformDeferred(BulkheadOperator.of(bulkhead))
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                    .onErrorMap(ex -> ex instanceof CallNotPermittedException || ex instanceof BulkheadFullException,
+                            this::rejected)
+                    .onErrorMap(TimeoutException.class, ex -> new ServiceUnavailableException(
+                            service + " did not answer before the request deadline", ex));
+        });
+    }
+
+    static boolean countsAsFailure(Throwable ex) {
+        return ex instanceof ResourceAccessException
+                || ex instanceof HttpServerErrorException
+                || ex instanceof WebClientRequestException
+                || ex instanceof TimeoutException
+                || ex instanceof BulkheadFullException;
+    }
+
+    static boolean countsAsFailedResult(Object result) {
+        return result instanceof ClientResponse response && response.statusCode().is5xxServerError();
+    }
+
+    private ServiceUnavailableException deadlinePassed() {
+        return new ServiceUnavailableException("Request deadline passed before calling " + service);
+    }
+
+    private ServiceUnavailableException rejected(Throwable ex) {
+        String reason = ex instanceof CallNotPermittedException
+                ? "its circuit breaker is open"
+                : "it is at its limit of concurrent calls";
+        return new ServiceUnavailableException(service + " is unavailable, " + reason, ex);
+    }
+}
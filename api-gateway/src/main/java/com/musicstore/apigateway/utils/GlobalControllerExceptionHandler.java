@@ -4,7 +4,9 @@ package com.musicstore.apigateway.utils;
 
 import com.musicstore.apigateway.utils.exceptions.InvalidInputException;
 import com.musicstore.apigateway.utils.exceptions.NotFoundException;
+import com.musicstore.apigateway.utils.exceptions.ServiceUnavailableException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -12,9 +14,11 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
 @RestControllerAdvice
+@Profile("!reactive")
 @Slf4j
 public class GlobalControllerExceptionHandler {
 
@@ -30,6 +34,12 @@ public class GlobalControllerExceptionHandler {
         return createHttpErrorInfo(UNPROCESSABLE_ENTITY, request, ex);
     }
 
+    @ResponseStatus(SERVICE_UNAVAILABLE)
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public HttpErrorInfo handleServiceUnavailableException(WebRequest request, Exception ex) {
+        return createHttpErrorInfo(SERVICE_UNAVAILABLE, request, ex);
+    }
+
 
     private HttpErrorInfo createHttpErrorInfo(HttpStatus httpStatus, WebRequest request, Exception ex) {
         final String path = request.getDescription(false);
@@ -0,0 +1,114 @@
+package com.musicstore.apigateway.utils;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outbound HTTP layer shared by every domain client. Connections to each downstream
+ * service are pooled and kept alive between calls; a service may override the default
+ * per-route limit with {@code app.<service>.max-connections}. Calls carry the request's
+ * {@link RequestDeadline} downstream and wait no longer than the time the request has left.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    private static final List<String> DOWNSTREAM_SERVICES =
+            List.of("customers-service", "musiccatalog-service", "storelocation-service", "orders-service");
+
+    @Bean
+    PoolingHttpClientConnectionManager connectionManager(
+            Environment environment,
+            @Value("${app.http-client.max-total:200}") int maxTotal,
+            @Value("${app.http-client.max-per-route:50}") int maxPerRoute,
+            @Value("${app.http-client.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${app.http-client.read-timeout:10s}") Duration readTimeout,
+            @Value("${app.http-client.time-to-live:5m}") Duration timeToLive) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(timeToLive))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        for (String service : DOWNSTREAM_SERVICES) {
+            String host = environment.getProperty("app." + service + ".host");
+            Integer port = environment.getProperty("app." + service + ".port", Integer.class);
+            if (host == null || port == null) {
+                continue;
+            }
+            int maxConnections = environment.getProperty("app." + service + ".max-connections", Integer.class, maxPerRoute);
+            connectionManager.setMaxPerRoute(new HttpRoute(new HttpHost("http", host, port)), maxConnections);
+        }
+        return connectionManager;
+    }
+
+    @Bean
+    RestTemplate restTemplate(PoolingHttpClientConnectionManager connectionManager,
+                              ObservationRegistry observationRegistry,
+                              DownstreamCallMetrics downstreamCallMetrics,
+                              @Value("${app.http-client.connection-request-timeout:2s}") Duration connectionRequestTimeout,
+                              @Value("${app.http-client.read-timeout:10s}") Duration readTimeout,
+                              @Value("${app.http-client.idle-timeout:30s}") Duration idleTimeout) {
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                .build();
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setHttpContextFactory((method, uri) -> deadlineContext(readTimeout, connectionRequestTimeout));
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setClientHttpRequestInitializers(List.of(RequestDeadline::propagate));
+        restTemplate.setObservationRegistry(observationRegistry);
+        restTemplate.setObservationConvention(downstreamCallMetrics);
+        return restTemplate;
+    }
+
+    // null keeps the configured timeouts; a request close to its deadline gets shorter ones
+    private static HttpClientContext deadlineContext(Duration readTimeout, Duration connectionRequestTimeout) {
+        return RequestDeadline.remaining()
+                .filter(remaining -> remaining.compareTo(readTimeout) < 0)
+                .map(remaining -> {
+                    HttpClientContext context = HttpClientContext.create();
+                    context.setRequestConfig(RequestConfig.custom()
+                            .setConnectionRequestTimeout(Timeout.of(
+                                    remaining.compareTo(connectionRequestTimeout) < 0 ? remaining : connectionRequestTimeout))
+                            .setResponseTimeout(Timeout.of(remaining))
+                            .build());
+                    return context;
+                })
+                .orElse(null);
+    }
+
+    @Bean
+    MeterBinder connectionPoolMetrics(PoolingHttpClientConnectionManager connectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "downstream");
+    }
+}
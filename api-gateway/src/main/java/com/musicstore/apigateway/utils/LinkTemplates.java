@@ -0,0 +1,85 @@
+package com.musicstore.apigateway.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+/**
+ * The link templates of the gateway routes, compiled once at startup and shared by the
+ * servlet and reactive services. The base URI they expand against is resolved once per
+ * request, and {@code ?links=false} lets a client skip the hypermedia links altogether.
+ */
+public final class LinkTemplates {
+
+    public static final String LINKS_PARAM = "links";
+
+    private static final String BASE_URI_ATTRIBUTE = LinkTemplates.class.getName() + ".baseUri";
+
+    public static final LinkTemplate CUSTOMER = LinkTemplate.of("/api/v1/customers/{customerId}");
+    public static final LinkTemplate CUSTOMERS = LinkTemplate.of("/api/v1/customers");
+    public static final LinkTemplate ARTIST = LinkTemplate.of("/api/v1/artists/{artistId}");
+    public static final LinkTemplate ARTISTS = LinkTemplate.of("/api/v1/artists");
+    public static final LinkTemplate ALBUM = LinkTemplate.of("/api/v1/artists/{artistId}/albums/{albumId}");
+    public static final LinkTemplate ALBUMS = LinkTemplate.of("/api/v1/artists/{artistId}/albums");
+    public static final LinkTemplate STORE = LinkTemplate.of("/api/v1/stores/{storeId}");
+    public static final LinkTemplate STORES = LinkTemplate.of("/api/v1/stores");
+    public static final LinkTemplate ORDER = LinkTemplate.of("/api/v1/customers/{customerId}/orders/{orderId}");
+    public static final LinkTemplate CUSTOMER_ORDERS = LinkTemplate.of("/api/v1/customers/{customerId}/orders");
+
+    private LinkTemplates() {
+    }
+
+    public static boolean enabled() {
+        HttpServletRequest request = currentRequest();
+        return request == null || !"false".equalsIgnoreCase(request.getParameter(LINKS_PARAM));
+    }
+
+    // empty outside a request, which renders relative links like linkTo does
+    public static String baseUri() {
+        HttpServletRequest request = currentRequest();
+        if (request == null) {
+            return "";
+        }
+        String baseUri = (String) request.getAttribute(BASE_URI_ATTRIBUTE);
+        if (baseUri == null) {
+            baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+            request.setAttribute(BASE_URI_ATTRIBUTE, baseUri);
+        }
+        return baseUri;
+    }
+
+    /**
+     * The reactive counterpart of {@link #baseUri()}, read from the exchange that the
+     * hypermedia web filter puts in the subscriber context. Completes empty when the
+     * client asked for {@code ?links=false}.
+     */
+    public static Mono<String> reactiveBaseUri() {
+        return Mono.deferContextual(context -> {
+            ServerWebExchange exchange = context.getOrDefault(ServerWebExchangeContextFilter.EXCHANGE_CONTEXT_ATTRIBUTE, null);
+            if (exchange == null) {
+                return Mono.just("");
+            }
+            ServerHttpRequest request = exchange.getRequest();
+            if ("false".equalsIgnoreCase(request.getQueryParams().getFirst(LINKS_PARAM))) {
+                return Mono.empty();
+            }
+            return Mono.just(exchange.getAttributes().computeIfAbsent(BASE_URI_ATTRIBUTE,
+                    key -> UriComponentsBuilder.fromUri(request.getURI())
+                            .replacePath(request.getPath().contextPath().value())
+                            .replaceQuery(null)
+                            .toUriString()).toString());
+        });
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.musicstore.apigateway.utils;
+
+import lombok.Value;
+import org.springframework.web.util.UriBuilder;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The page, size and sort query parameters of a list endpoint, forwarded as-is to
+ * the downstream service. Parameters the caller did not send are left out so the
+ * downstream defaults apply.
+ */
+@Value
+public class PageParams {
+    public static final PageParams NONE = new PageParams(null, null, null);
+
+    Integer page;
+    Integer size;
+    List<String> sort;
+
+    public <B extends UriBuilder> B applyTo(B uriBuilder) {
+        uriBuilder.queryParamIfPresent("page", Optional.ofNullable(page))
+                .queryParamIfPresent("size", Optional.ofNullable(size));
+        if (sort != null && !sort.isEmpty()) {
+            uriBuilder.queryParam("sort", sort.toArray());
+        }
+        return uriBuilder;
+    }
+}
@@ -0,0 +1,90 @@
+package com.musicstore.apigateway.utils;
+
+import com.musicstore.apigateway.utils.exceptions.InvalidInputException;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.SyncHandlerMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Resolves {@link PageParams} controller arguments from the raw query string. Data
+ * binding is not used because it splits a single {@code sort=lastName,desc} value on
+ * the comma, which the downstream services would read as two sort properties.
+ */
+public class PageParamsConfig {
+
+    static PageParams fromQueryParams(MultiValueMap<String, String> queryParams) {
+        List<String> sort = queryParams.get("sort");
+        return new PageParams(parseInt(queryParams, "page"), parseInt(queryParams, "size"),
+                sort == null || sort.isEmpty() ? null : List.copyOf(sort));
+    }
+
+    private static Integer parseInt(MultiValueMap<String, String> queryParams, String name) {
+        String value = queryParams.getFirst(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new InvalidInputException("Invalid " + name + " parameter: " + value);
+        }
+    }
+
+    @Configuration
+    @Profile("!reactive")
+    static class Mvc implements WebMvcConfigurer, HandlerMethodArgumentResolver {
+
+        @Override
+        public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+            resolvers.add(this);
+        }
+
+        @Override
+        public boolean supportsParameter(MethodParameter parameter) {
+            return PageParams.class.equals(parameter.getParameterType());
+        }
+
+        @Override
+        public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                      NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+            MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<>();
+            webRequest.getParameterMap().forEach((name, values) -> queryParams.put(name, List.of(values)));
+            return fromQueryParams(queryParams);
+        }
+    }
+
+    @Configuration
+    @Profile("reactive")
+    static class Reactive implements WebFluxConfigurer, SyncHandlerMethodArgumentResolver {
+
+        @Override
+        public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+            configurer.addCustomResolver(this);
+        }
+
+        @Override
+        public boolean supportsParameter(MethodParameter parameter) {
+            return PageParams.class.equals(parameter.getParameterType());
+        }
+
+        @Override
+        public Object resolveArgumentValue(MethodParameter parameter, BindingContext bindingContext,
+                                           ServerWebExchange exchange) {
+            return fromQueryParams(exchange.getRequest().getQueryParams());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.musicstore.apigateway.utils;
+
+import lombok.Value;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@Value
+public class PagedList<T> {
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    List<T> content;
+    String totalCount; // null when the downstream service did not report one
+
+    public static <T> PagedList<T> of(ResponseEntity<List<T>> response) {
+        return new PagedList<>(response.getBody(), response.getHeaders().getFirst(TOTAL_COUNT_HEADER));
+    }
+
+    public <R> PagedList<R> withContent(List<R> content) {
+        return new PagedList<>(content, totalCount);
+    }
+
+    public ResponseEntity<List<T>> toResponseEntity() {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (totalCount != null) {
+            response.header(TOTAL_COUNT_HEADER, totalCount);
+        }
+        return response.body(content);
+    }
+}
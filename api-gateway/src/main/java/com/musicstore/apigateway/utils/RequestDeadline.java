@@ -0,0 +1,86 @@
+package com.musicstore.apigateway.utils;
+
+import org.springframework.http.HttpRequest;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Time budget of the request being handled. The gateway starts it from
+ * {@code app.request-deadline} and passes what is left to the services it calls in the
+ * {@value #HEADER} header, as milliseconds, so they stop working on a request at the
+ * moment the gateway gives up on it. Blocking handlers keep the deadline on the request
+ * thread; in the reactive mode it travels in the Reactor context under {@link #CONTEXT_KEY}.
+ */
+public final class RequestDeadline {
+
+    public static final String HEADER = "X-Request-Timeout-Ms";
+
+    public static final String CONTEXT_KEY = RequestDeadline.class.getName();
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    /**
+     * Deadline, in {@link System#nanoTime()} terms, for a request that arrived with the given
+     * header value. A caller may shorten {@code defaultBudget} but never extend it.
+     */
+    public static long deadlineFor(String header, Duration defaultBudget) {
+        long budgetMillis = defaultBudget.toMillis();
+        if (header != null) {
+            try {
+                budgetMillis = Math.min(budgetMillis, Math.max(0, Long.parseLong(header.trim())));
+            } catch (NumberFormatException ignored) {
+                // a malformed header leaves the default budget
+            }
+        }
+        return System.nanoTime() + Duration.ofMillis(budgetMillis).toNanos();
+    }
+
+    public static void set(long deadlineNanos) {
+        DEADLINE.set(deadlineNanos);
+    }
+
+    public static void clear() {
+        DEADLINE.remove();
+    }
+
+    /**
+     * Time left before the current request's deadline, at least one millisecond, or empty
+     * when the thread is not serving a request with a deadline.
+     */
+    public static Optional<Duration> remaining() {
+        return remaining(DEADLINE.get());
+    }
+
+    public static Optional<Duration> remaining(ContextView context) {
+        return remaining(context.<Long>getOrEmpty(CONTEXT_KEY).orElse(null));
+    }
+
+    public static boolean expired() {
+        return expired(DEADLINE.get());
+    }
+
+    public static boolean expired(ContextView context) {
+        return expired(context.<Long>getOrEmpty(CONTEXT_KEY).orElse(null));
+    }
+
+    /** Adds the remaining budget to an outbound request; usable as a {@code ClientHttpRequestInitializer}. */
+    public static void propagate(HttpRequest request) {
+        remaining().ifPresent(left -> request.getHeaders().set(HEADER, String.valueOf(left.toMillis())));
+    }
+
+    private static Optional<Duration> remaining(Long deadline) {
+        if (deadline == null) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.ofNanos(Math.max(deadline - System.nanoTime(), 1_000_000)));
+    }
+
+    private static boolean expired(Long deadline) {
+        return deadline != null && deadline - System.nanoTime() <= 0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.musicstore.apigateway.utils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Starts the {@link RequestDeadline} of every incoming request from the client's
+ * {@value RequestDeadline#HEADER} header, capped at {@code app.request-deadline}.
+ */
+@Component
+@Profile("!reactive")
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private final Duration defaultBudget;
+
+    public RequestDeadlineFilter(@Value("${app.request-deadline:10s}") Duration defaultBudget) {
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestDeadline.set(RequestDeadline.deadlineFor(request.getHeader(RequestDeadline.HEADER), defaultBudget));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.musicstore.apigateway.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Reactive counterpart of {@link RequestDeadlineFilter}; the deadline is written to the
+ * Reactor context, where {@link DownstreamGuard#exchangeFilter()} picks it up.
+ */
+@Component
+@Profile("reactive")
+public class RequestDeadlineWebFilter implements WebFilter {
+
+    private final Duration defaultBudget;
+
+    public RequestDeadlineWebFilter(@Value("${app.request-deadline:10s}") Duration defaultBudget) {
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return Mono.defer(() -> {
+            long deadline = RequestDeadline.deadlineFor(
+                    exchange.getRequest().getHeaders().getFirst(RequestDeadline.HEADER), defaultBudget);
+            return chain.filter(exchange).contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY, deadline));
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package com.musicstore.apigateway.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Local tracing: spans are written to {@code app.tracing.file} when it is set. Trace
+ * context reaches the downstream services through the observed {@code RestTemplate}
+ * and {@code WebClient}.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty("app.tracing.file")
+    SpanExporter fileSpanExporter(@Value("${app.tracing.file}") Path file, ObjectMapper mapper) {
+        return new FileSpanExporter(file, mapper);
+    }
+}
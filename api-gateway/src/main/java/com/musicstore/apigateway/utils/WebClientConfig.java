@@ -0,0 +1,61 @@
+package com.musicstore.apigateway.utils;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking counterpart of {@link HttpClientConfig} for the reactive gateway mode.
+ * The Reactor Netty connection pool is sized from the same {@code app.http-client.*}
+ * settings and, together with the {@link DownstreamCallMetrics} filter, is picked up by
+ * every {@code WebClient.Builder} Spring Boot hands out.
+ */
+@Configuration
+@Profile("reactive")
+public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    ConnectionProvider downstreamConnectionProvider(
+            @Value("${app.http-client.max-total:200}") int maxTotal,
+            @Value("${app.http-client.connection-request-timeout:2s}") Duration connectionRequestTimeout,
+            @Value("${app.http-client.idle-timeout:30s}") Duration idleTimeout,
+            @Value("${app.http-client.time-to-live:5m}") Duration timeToLive) {
+        return ConnectionProvider.builder("downstream")
+                .maxConnections(maxTotal)
+                .pendingAcquireTimeout(connectionRequestTimeout)
+                .maxIdleTime(idleTimeout)
+                .maxLifeTime(timeToLive)
+                .evictInBackground(idleTimeout)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    ClientHttpConnector clientHttpConnector(
+            ConnectionProvider downstreamConnectionProvider,
+            @Value("${app.http-client.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${app.http-client.read-timeout:10s}") Duration readTimeout) {
+        HttpClient httpClient = HttpClient.create(downstreamConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout)
+                .doOnConnected(connection -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS)));
+        return new ReactorClientHttpConnector(httpClient);
+    }
+
+    @Bean
+    WebClientCustomizer downstreamCallMetricsCustomizer(DownstreamCallMetrics downstreamCallMetrics) {
+        return builder -> builder.filter(downstreamCallMetrics.exchangeFilter());
+    }
+}
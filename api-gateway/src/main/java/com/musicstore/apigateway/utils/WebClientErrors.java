@@ -0,0 +1,46 @@
+package com.musicstore.apigateway.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicstore.apigateway.utils.exceptions.InvalidInputException;
+import com.musicstore.apigateway.utils.exceptions.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
+
+/**
+ * Translates downstream 4xx responses received through {@code WebClient} into the same
+ * exceptions the blocking clients raise, so both gateway modes answer with the same errors.
+ */
+@Slf4j
+public final class WebClientErrors {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private WebClientErrors() {
+    }
+
+    public static Mono<? extends Throwable> toException(ClientResponse response) {
+        if (response.statusCode().isSameCodeAs(NOT_FOUND)) {
+            return response.bodyToMono(String.class).defaultIfEmpty("")
+                    .map(body -> new NotFoundException(getErrorMessage(body)));
+        }
+        if (response.statusCode().isSameCodeAs(UNPROCESSABLE_ENTITY)) {
+            return response.bodyToMono(String.class).defaultIfEmpty("")
+                    .map(body -> new InvalidInputException(getErrorMessage(body)));
+        }
+        log.warn("Unexpected HTTP error: {}", response.statusCode());
+        return response.createException();
+    }
+
+    private static String getErrorMessage(String body) {
+        try {
+            return MAPPER.readTree(body).path("message").asText(body);
+        } catch (JsonProcessingException ex) {
+            return ex.getMessage();
+        }
+    }
+}
@@ -1,13 +1,41 @@
 package com.musicstore.apigateway;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
 
-@SpringBootTest
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest(properties = "app.orders-service.max-connections=7")
 class ApiGatewayApplicationTests {
 
+	@Autowired
+	RestTemplate restTemplate;
+
+	@Autowired
+	PoolingHttpClientConnectionManager connectionManager;
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void restTemplateUsesPooledHttpClient() {
+		assertInstanceOf(HttpComponentsClientHttpRequestFactory.class, restTemplate.getRequestFactory());
+		assertEquals(50, connectionManager.getMaxPerRoute(new HttpRoute(new HttpHost("http", "localhost", 7001))));
+		assertEquals(7, connectionManager.getMaxPerRoute(new HttpRoute(new HttpHost("http", "localhost", 7004))));
+		assertNotNull(meterRegistry.find("httpcomponents.httpclient.pool.total.max").gauge());
+	}
+
 }
@@ -6,8 +6,12 @@ import com.musicstore.apigateway.customers.presentationlayer.CustomerResponseMod
 import com.musicstore.apigateway.customers.domainclientlayer.ContactMethodPreference;
 import com.musicstore.apigateway.customers.domainclientlayer.PhoneNumber;
 import com.musicstore.apigateway.customers.domainclientlayer.PhoneType;
+import com.musicstore.apigateway.utils.DownstreamCallMetrics;
+import com.musicstore.apigateway.utils.PagedList;
+import com.musicstore.apigateway.utils.RequestDeadline;
 import com.musicstore.apigateway.utils.exceptions.InvalidInputException;
 import com.musicstore.apigateway.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +31,9 @@ import org.springframework.web.client.RestTemplate;
 import java.util.List;
 import java.util.ArrayList;
 
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -42,6 +49,9 @@ public class CustomersControllerIntegrationTest {
     @Autowired
     private RestTemplate restTemplate;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private MockRestServiceServer mockServer;
     private ObjectMapper mapper = new ObjectMapper();
 
@@ -77,6 +87,27 @@ public class CustomersControllerIntegrationTest {
                 .value(list -> assertEquals("John", list.get(0).getFirstName()));
     }
 
+    @Test
+    void whenGetAllCustomersWithPageParams_thenForwardThemAndTotalCount() throws Exception {
+        CustomerResponseModel c1 = CustomerResponseModel.builder()
+                .customerId("id1").firstName("John").lastName("Doe").build();
+
+        mockServer.expect(ExpectedCount.once(),
+                        requestTo(DOWNSTREAM_BASE + "?page=1&size=1&sort=lastName,desc&sort=firstName"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(mapper.writeValueAsString(List.of(c1)), MediaType.APPLICATION_JSON)
+                        .header(PagedList.TOTAL_COUNT_HEADER, "2"));
+
+        webClient.get().uri(GATEWAY_BASE + "?page=1&size=1&sort=lastName,desc&sort=firstName")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(PagedList.TOTAL_COUNT_HEADER, "2")
+                .expectBodyList(CustomerResponseModel.class)
+                .hasSize(1);
+        mockServer.verify();
+    }
+
     @Test
     void whenGetCustomerByValidId_thenReturnCustomer() throws Exception {
         CustomerResponseModel cust = CustomerResponseModel.builder()
@@ -94,6 +125,43 @@ public class CustomersControllerIntegrationTest {
                 .value(response -> assertEquals("Alice", response.getFirstName()));
     }
 
+    @Test
+    void whenGetCustomerByValidId_thenLinksPointAtTheGateway() throws Exception {
+        CustomerResponseModel cust = CustomerResponseModel.builder()
+                .customerId(VALID_ID).firstName("Alice").lastName("Smith").build();
+
+        mockServer.expect(requestTo(DOWNSTREAM_BASE + "/" + VALID_ID))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(mapper.writeValueAsString(cust), MediaType.APPLICATION_JSON));
+
+        webClient.get().uri(GATEWAY_BASE + "/" + VALID_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$._links.self.href")
+                .value(allOf(startsWith("http://localhost:"), endsWith(GATEWAY_BASE + "/" + VALID_ID)))
+                .jsonPath("$._links.customers.href").value(endsWith(GATEWAY_BASE));
+    }
+
+    @Test
+    void whenGetAllCustomersWithLinksFalse_thenOmitLinks() throws Exception {
+        CustomerResponseModel c1 = CustomerResponseModel.builder()
+                .customerId("id1").firstName("John").lastName("Doe").build();
+
+        mockServer.expect(ExpectedCount.once(), requestTo(DOWNSTREAM_BASE))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(mapper.writeValueAsString(List.of(c1)), MediaType.APPLICATION_JSON));
+
+        webClient.get().uri(GATEWAY_BASE + "?links=false")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CustomerResponseModel.class)
+                .value(list -> assertTrue(list.get(0).getLinks().isEmpty()));
+        mockServer.verify();
+    }
+
     @Test
     void whenGetCustomerInvalidId_thenReturn422() throws Exception {
         // stub the downstream service to return 422
@@ -125,6 +193,52 @@ public class CustomersControllerIntegrationTest {
                 .expectStatus().isNotFound();
     }
 
+    @Test
+    void whenGetCustomerNotFound_thenRecordDownstreamCallAndError() {
+        mockServer.expect(requestTo(DOWNSTREAM_BASE + "/" + NOT_FOUND_ID))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        webClient.get().uri(GATEWAY_BASE + "/" + NOT_FOUND_ID)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        String[] tags = {"service", "customers-service", "operation", "GET /api/v1/customers/{id}", "status", "404"};
+        assertEquals(1, meterRegistry.get(DownstreamCallMetrics.CALLS).tags(tags).timer().count());
+        assertEquals(1, meterRegistry.get(DownstreamCallMetrics.ERRORS).tags(tags).counter().count());
+    }
+
+    @Test
+    void whenGetCustomerWithDeadline_thenForwardRemainingBudget() throws Exception {
+        CustomerResponseModel cust = CustomerResponseModel.builder()
+                .customerId(VALID_ID).firstName("Alice").lastName("Smith").build();
+
+        mockServer.expect(requestTo(DOWNSTREAM_BASE + "/" + VALID_ID))
+                .andExpect(request -> {
+                    long remaining = Long.parseLong(request.getHeaders().getFirst(RequestDeadline.HEADER));
+                    assertTrue(remaining > 0 && remaining <= 3000, "remaining budget " + remaining);
+                })
+                .andRespond(withSuccess(mapper.writeValueAsString(cust), MediaType.APPLICATION_JSON));
+
+        webClient.get().uri(GATEWAY_BASE + "/" + VALID_ID)
+                .header(RequestDeadline.HEADER, "3000")
+                .exchange()
+                .expectStatus().isOk();
+        mockServer.verify();
+    }
+
+    @Test
+    void whenRequestDeadlineAlreadyPassed_thenReturn503WithoutCallingDownstream() {
+        mockServer.expect(ExpectedCount.never(), requestTo(DOWNSTREAM_BASE + "/" + VALID_ID));
+
+        webClient.get().uri(GATEWAY_BASE + "/" + VALID_ID)
+                .header(RequestDeadline.HEADER, "0")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Request deadline passed before calling customers-service");
+        mockServer.verify();
+    }
+
     @Test
     void whenCreateCustomerValid_thenReturn201() throws Exception {
         CustomerRequestModel req = CustomerRequestModel.builder()
@@ -9,6 +9,8 @@ import com.musicstore.apigateway.customers.domainclientlayer.PhoneType;
 import com.musicstore.apigateway.customers.presentationlayer.CustomersController;
 import com.musicstore.apigateway.utils.exceptions.InvalidInputException;
 import com.musicstore.apigateway.utils.exceptions.NotFoundException;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -43,14 +45,16 @@ public class CustomersControllerUnitTest {
                 .customerId("id1").firstName("John").lastName("Doe").build();
         CustomerResponseModel c2 = CustomerResponseModel.builder()
                 .customerId("id2").firstName("Jane").lastName("Roe").build();
-        when(customersService.getAllCustomers()).thenReturn(List.of(c1, c2));
+        PageParams pageParams = new PageParams(0, 2, List.of("lastName,desc"));
+        when(customersService.getAllCustomers(pageParams)).thenReturn(new PagedList<>(List.of(c1, c2), "7"));
 
-        ResponseEntity<List<CustomerResponseModel>> resp = customersController.getAllCustomers();
+        ResponseEntity<List<CustomerResponseModel>> resp = customersController.getAllCustomers(pageParams);
 
         assertEquals(HttpStatus.OK, resp.getStatusCode());
         assertNotNull(resp.getBody());
         assertEquals(2, resp.getBody().size());
-        verify(customersService, times(1)).getAllCustomers();
+        assertEquals("7", resp.getHeaders().getFirst(PagedList.TOTAL_COUNT_HEADER));
+        verify(customersService, times(1)).getAllCustomers(pageParams);
     }
 
     @Test
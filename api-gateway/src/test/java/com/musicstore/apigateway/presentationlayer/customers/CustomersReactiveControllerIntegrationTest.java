@@ -0,0 +1,164 @@
+package com.musicstore.apigateway.presentationlayer.customers;
+
+import com.musicstore.apigateway.customers.presentationlayer.CustomersController;
+import com.musicstore.apigateway.customers.presentationlayer.CustomersReactiveController;
+import com.musicstore.apigateway.utils.PagedList;
+import com.musicstore.apigateway.utils.RequestDeadline;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class CustomersReactiveControllerIntegrationTest {
+
+    private static final String VALID_ID = "c3540a89-cb47-4c96-888e-ff96708db4d8";
+    private static final String NOT_FOUND_ID = "c3540a89-cb47-4c96-888e-ff96708db4d7";
+
+    private static final AtomicReference<String> lastListQuery = new AtomicReference<>();
+    private static final AtomicReference<String> lastDeadlineHeader = new AtomicReference<>();
+    private static final HttpServer customersService = startCustomersService();
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @DynamicPropertySource
+    static void customersServiceProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.customers-service.port", () -> customersService.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopCustomersService() {
+        customersService.stop(0);
+    }
+
+    @Test
+    void whenReactiveProfile_thenOnlyReactiveControllersAreRegistered() {
+        assertEquals(1, context.getBeanNamesForType(CustomersReactiveController.class).length);
+        assertEquals(0, context.getBeanNamesForType(CustomersController.class).length);
+    }
+
+    @Test
+    void whenGetAllCustomers_thenReturnDownstreamList() {
+        webClient.get().uri("/api/v1/customers")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].firstName").isEqualTo("John")
+                .jsonPath("$[1].lastName").isEqualTo("Roe");
+    }
+
+    @Test
+    void whenGetAllCustomersWithPageParams_thenForwardThemAndTotalCount() {
+        webClient.get().uri("/api/v1/customers?page=0&size=2&sort=lastName,desc")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(PagedList.TOTAL_COUNT_HEADER, "5")
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2);
+        assertEquals("page=0&size=2&sort=lastName,desc", lastListQuery.get());
+    }
+
+    @Test
+    void whenGetCustomerByCustomerId_thenReturnCustomerWithLinks() {
+        webClient.get().uri("/api/v1/customers/" + VALID_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(body -> {
+                    assertTrue(body.contains("\"customerId\":\"" + VALID_ID + "\""));
+                    assertTrue(body.contains("/api/v1/customers/" + VALID_ID));
+                });
+    }
+
+    @Test
+    void whenGetCustomerWithDeadline_thenForwardRemainingBudget() {
+        webClient.get().uri("/api/v1/customers/" + VALID_ID)
+                .header(RequestDeadline.HEADER, "3000")
+                .exchange()
+                .expectStatus().isOk();
+
+        long remaining = Long.parseLong(lastDeadlineHeader.get());
+        assertTrue(remaining > 0 && remaining <= 3000, "remaining budget " + remaining);
+    }
+
+    @Test
+    void whenGetAllCustomersWithLinksFalse_thenOmitLinks() {
+        webClient.get().uri("/api/v1/customers?links=false")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].links").isEmpty()
+                .jsonPath("$[1].links").isEmpty();
+    }
+
+    @Test
+    void whenCustomerNotFound_thenReturn404WithDownstreamMessage() {
+        webClient.get().uri("/api/v1/customers/" + NOT_FOUND_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Unknown customerId: " + NOT_FOUND_ID);
+    }
+
+    private static HttpServer startCustomersService() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/v1/customers", exchange -> {
+                String path = exchange.getRequestURI().getPath();
+                if (path.endsWith("/" + VALID_ID)) {
+                    lastDeadlineHeader.set(exchange.getRequestHeaders().getFirst(RequestDeadline.HEADER));
+                    respond(exchange, 200, "{\"customerId\":\"" + VALID_ID + "\",\"firstName\":\"John\",\"lastName\":\"Doe\"}");
+                } else if (path.endsWith("/" + NOT_FOUND_ID)) {
+                    respond(exchange, 404, "{\"message\":\"Unknown customerId: " + NOT_FOUND_ID + "\"}");
+                } else {
+                    lastListQuery.set(exchange.getRequestURI().getRawQuery());
+                    exchange.getResponseHeaders().add(PagedList.TOTAL_COUNT_HEADER, "5");
+                    respond(exchange, 200, "[{\"customerId\":\"id1\",\"firstName\":\"John\",\"lastName\":\"Doe\"},"
+                            + "{\"customerId\":\"id2\",\"firstName\":\"Jane\",\"lastName\":\"Roe\"}]");
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -4,8 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.musicstore.apigateway.musiccatalog.domainclientlayer.MusicCatalogServiceClient;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumRequestModel;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumResponseModel;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumSearchResponseModel;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistRequestModel;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistResponseModel;
+import com.musicstore.apigateway.utils.PagedList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -144,6 +146,71 @@ public class MusicCatalogControllerIntegrationTest {
         mockServer.verify();
     }
 
+    @Test
+    void whenGetAllAlbumsWithFilterAndPageParams_thenForwardThemAndTotalCount() throws Exception {
+        var album = new AlbumResponseModel("al1", VALID_ARTIST, null, null, "T", 2020, "00:10", null, null);
+
+        mockServer.expect(ExpectedCount.once(),
+                        requestTo(BACKEND_BASE + "/artists/" + VALID_ARTIST + "/albums?albumGenre=rock&page=0&size=1&sort=releaseDate,desc"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(mapper.writeValueAsString(List.of(album)), MediaType.APPLICATION_JSON)
+                        .header(PagedList.TOTAL_COUNT_HEADER, "3"));
+
+        webClient.get()
+                .uri(GATEWAY_ALBUMS + "?albumGenre=rock&page=0&size=1&sort=releaseDate,desc", VALID_ARTIST)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(PagedList.TOTAL_COUNT_HEADER, "3")
+                .expectBody(String.class)
+                .value(body -> assertTrue(body.contains("/api/v1/artists/" + VALID_ARTIST + "/albums\""), body));
+
+        mockServer.verify();
+    }
+
+    @Test
+    void whenSearchAlbums_thenForwardQueryAndLinkEachAlbumToItsArtist() throws Exception {
+        var album = new AlbumResponseModel(VALID_ALBUM, VALID_ARTIST, "The Beatles", "United Kingdom", "Abbey Road", 1969, "47:03", null, null);
+        var result = AlbumSearchResponseModel.builder().albums(List.of(album)).totalElements(1).build();
+
+        mockServer.expect(ExpectedCount.once(),
+                        requestTo(BACKEND_BASE + "/albums/search?q=beat%20ro&albumGenre=rock&page=0&size=5"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(mapper.writeValueAsString(result), MediaType.APPLICATION_JSON));
+
+        webClient.get()
+                .uri("/api/v1/albums/search?q={q}&albumGenre=rock&page=0&size=5", "beat ro")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(body -> {
+                    assertTrue(body.contains("\"totalElements\":1"), body);
+                    assertTrue(body.contains("\"artistName\":\"The Beatles\""), body);
+                    assertTrue(body.contains("/api/v1/artists/" + VALID_ARTIST + "/albums/" + VALID_ALBUM + "\""), body);
+                });
+
+        mockServer.verify();
+    }
+
+    @Test
+    void whenSearchAlbumsWithUnknownGenre_thenReturn422() throws Exception {
+        mockServer.expect(ExpectedCount.once(),
+                        requestTo(BACKEND_BASE + "/albums/search?albumGenre=polka"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"message\":\"Invalid albumGenre provided: polka\"}"));
+
+        webClient.get()
+                .uri("/api/v1/albums/search?albumGenre=polka")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("Invalid albumGenre provided: polka");
+
+        mockServer.verify();
+    }
+
     // ----- NEW: HTTP error handling for Albums -----
 
     @Test
@@ -4,12 +4,15 @@ import com.musicstore.apigateway.musiccatalog.businesslayer.album.AlbumsService;
 import com.musicstore.apigateway.musiccatalog.businesslayer.artist.ArtistsService;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumRequestModel;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumResponseModel;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumSearchResponseModel;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumsController;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistRequestModel;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistResponseModel;
 import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistsController;
 import com.musicstore.apigateway.utils.exceptions.InvalidInputException;
 import com.musicstore.apigateway.utils.exceptions.NotFoundException;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -64,13 +67,14 @@ public class MusicCatalogControllerUnitTest {
                 .debutYear(0)
                 .biography(null)
                 .build();
-        when(artistsService.getAllArtists()).thenReturn(List.of(a1, a2));
+        when(artistsService.getAllArtists(PageParams.NONE)).thenReturn(new PagedList<>(List.of(a1, a2), null));
 
-        ResponseEntity<List<ArtistResponseModel>> resp = artistsController.getAllArtists();
+        ResponseEntity<List<ArtistResponseModel>> resp = artistsController.getAllArtists(PageParams.NONE);
 
         assertEquals(HttpStatus.OK, resp.getStatusCode());
         assertEquals(2, resp.getBody().size());
-        verify(artistsService, times(1)).getAllArtists();
+        assertFalse(resp.getHeaders().containsKey(PagedList.TOTAL_COUNT_HEADER));
+        verify(artistsService, times(1)).getAllArtists(PageParams.NONE);
     }
 
     @Test
@@ -210,38 +214,52 @@ public class MusicCatalogControllerUnitTest {
 
     @Test
     void whenGetAllAlbumsValid_thenReturnList() {
-        var al = new AlbumResponseModel("al1", VALID_ARTIST, "T", 2020, "00:10", null, null);
-        when(albumsService.getAllAlbums(VALID_ARTIST)).thenReturn(List.of(al));
+        var al = new AlbumResponseModel("al1", VALID_ARTIST, null, null, "T", 2020, "00:10", null, null);
+        when(albumsService.getAllAlbums(VALID_ARTIST, null, PageParams.NONE)).thenReturn(new PagedList<>(List.of(al), "1"));
 
         ResponseEntity<List<AlbumResponseModel>> resp =
-                albumsController.getAllAlbums(VALID_ARTIST);
+                albumsController.getAllAlbums(VALID_ARTIST, null, PageParams.NONE);
 
         assertEquals(HttpStatus.OK, resp.getStatusCode());
         assertEquals(1, resp.getBody().size());
-        verify(albumsService).getAllAlbums(VALID_ARTIST);
+        verify(albumsService).getAllAlbums(VALID_ARTIST, null, PageParams.NONE);
     }
 
     @Test
     void whenGetAllAlbumsInvalid_thenThrowInvalidInput() {
-        when(albumsService.getAllAlbums(INVALID_ARTIST))
+        when(albumsService.getAllAlbums(INVALID_ARTIST, null, PageParams.NONE))
                 .thenThrow(new InvalidInputException("Invalid"));
 
         assertThrows(InvalidInputException.class,
-                () -> albumsController.getAllAlbums(INVALID_ARTIST));
+                () -> albumsController.getAllAlbums(INVALID_ARTIST, null, PageParams.NONE));
     }
 
     @Test
     void whenGetAllAlbumsNotFound_thenThrowNotFound() {
-        when(albumsService.getAllAlbums(NOT_FOUND_ARTIST))
+        when(albumsService.getAllAlbums(NOT_FOUND_ARTIST, null, PageParams.NONE))
                 .thenThrow(new NotFoundException("Not found"));
 
         assertThrows(NotFoundException.class,
-                () -> albumsController.getAllAlbums(NOT_FOUND_ARTIST));
+                () -> albumsController.getAllAlbums(NOT_FOUND_ARTIST, null, PageParams.NONE));
+    }
+
+    @Test
+    void whenSearchAlbums_thenReturnServiceResult() {
+        var al = new AlbumResponseModel("al1", VALID_ARTIST, null, null, "Abbey Road", 1969, "47:03", null, null);
+        var result = AlbumSearchResponseModel.builder().albums(List.of(al)).totalElements(1).build();
+        when(albumsService.searchAlbums("abbey", "rock", null, "1960", null, PageParams.NONE)).thenReturn(result);
+
+        ResponseEntity<AlbumSearchResponseModel> resp =
+                albumsController.searchAlbums("abbey", "rock", null, "1960", null, PageParams.NONE);
+
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        assertEquals(1, resp.getBody().getTotalElements());
+        verify(albumsService).searchAlbums("abbey", "rock", null, "1960", null, PageParams.NONE);
     }
 
     @Test
     void whenGetAlbumByValid_thenReturnAlbum() {
-        var al = new AlbumResponseModel(VALID_ALBUM, VALID_ARTIST, "T", 2020, "00:10", null, null);
+        var al = new AlbumResponseModel(VALID_ALBUM, VALID_ARTIST, null, null, "T", 2020, "00:10", null, null);
         when(albumsService.getAlbumByAlbumId(VALID_ARTIST, VALID_ALBUM)).thenReturn(al);
 
         ResponseEntity<AlbumResponseModel> resp =
@@ -273,7 +291,7 @@ public class MusicCatalogControllerUnitTest {
     @Test
     void whenAddAlbumValid_thenReturnCreated() {
         var req = new AlbumRequestModel(null, "Title", 2025, "00:10", null, null);
-        var created = new AlbumResponseModel("alNew", VALID_ARTIST, "Title", 2025, "00:10", null, null);
+        var created = new AlbumResponseModel("alNew", VALID_ARTIST, null, null, "Title", 2025, "00:10", null, null);
         when(albumsService.addAlbum(req, VALID_ARTIST)).thenReturn(created);
 
         ResponseEntity<AlbumResponseModel> resp =
@@ -307,7 +325,7 @@ public class MusicCatalogControllerUnitTest {
     @Test
     void whenUpdateAlbumValid_thenReturnOk() {
         var req = new AlbumRequestModel(null, "Up", 2021, null, null, null);
-        var updated = new AlbumResponseModel(VALID_ALBUM, VALID_ARTIST, "Up", 2021, null, null, null);
+        var updated = new AlbumResponseModel(VALID_ALBUM, VALID_ARTIST, null, null, "Up", 2021, null, null, null);
         when(albumsService.updateAlbum(req, VALID_ARTIST, VALID_ALBUM)).thenReturn(updated);
 
         ResponseEntity<AlbumResponseModel> resp =
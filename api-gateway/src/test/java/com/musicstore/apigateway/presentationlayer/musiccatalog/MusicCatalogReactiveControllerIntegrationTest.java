@@ -0,0 +1,206 @@
+package com.musicstore.apigateway.presentationlayer.musiccatalog;
+
+import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumsController;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumsReactiveController;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistsController;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistsReactiveController;
+import com.musicstore.apigateway.utils.PagedList;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class MusicCatalogReactiveControllerIntegrationTest {
+
+    private static final String VALID_ARTIST_ID = "e5913a79-9b1e-4516-9ffd-06578e7af261";
+    private static final String NOT_FOUND_ARTIST_ID = "e5913a79-9b1e-4516-9ffd-06578e7af262";
+    private static final String VALID_ALBUM_ID = "84c5f33e-8e5d-4eb5-b35d-79272355fa72";
+    private static final String NOT_FOUND_ALBUM_ID = "84c5f33e-8e5d-4eb5-b35d-79272355fa73";
+
+    private static final AtomicReference<String> lastListQuery = new AtomicReference<>();
+    private static final AtomicReference<String> lastDeletePath = new AtomicReference<>();
+    private static final HttpServer musicCatalogService = startMusicCatalogService();
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @DynamicPropertySource
+    static void musicCatalogServiceProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.musiccatalog-service.port", () -> musicCatalogService.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopMusicCatalogService() {
+        musicCatalogService.stop(0);
+    }
+
+    @Test
+    void whenReactiveProfile_thenOnlyReactiveControllersAreRegistered() {
+        assertEquals(1, context.getBeanNamesForType(ArtistsReactiveController.class).length);
+        assertEquals(1, context.getBeanNamesForType(AlbumsReactiveController.class).length);
+        assertEquals(0, context.getBeanNamesForType(ArtistsController.class).length);
+        assertEquals(0, context.getBeanNamesForType(AlbumsController.class).length);
+    }
+
+    @Test
+    void whenGetAllArtistsWithPageParams_thenForwardThemAndTotalCount() {
+        webClient.get().uri("/api/v1/artists?page=0&size=2&sort=artistName")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(PagedList.TOTAL_COUNT_HEADER, "7")
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].artistName").isEqualTo("The Beatles");
+        assertEquals("page=0&size=2&sort=artistName", lastListQuery.get());
+    }
+
+    @Test
+    void whenGetArtistByArtistId_thenReturnArtistWithLinks() {
+        webClient.get().uri("/api/v1/artists/" + VALID_ARTIST_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(body -> {
+                    assertTrue(body.contains("\"artistName\":\"The Beatles\""));
+                    assertTrue(body.contains("/api/v1/artists/" + VALID_ARTIST_ID));
+                });
+    }
+
+    @Test
+    void whenArtistNotFound_thenReturn404WithDownstreamMessage() {
+        webClient.get().uri("/api/v1/artists/" + NOT_FOUND_ARTIST_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Unknown artistId: " + NOT_FOUND_ARTIST_ID);
+    }
+
+    @Test
+    void whenGetAllAlbumsWithGenre_thenForwardFilterAndReturnAlbumsWithLinks() {
+        webClient.get().uri("/api/v1/artists/" + VALID_ARTIST_ID + "/albums?albumGenre=ROCK")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(body -> {
+                    assertTrue(body.contains("\"albumTitle\":\"Abbey Road\""));
+                    assertTrue(body.contains("/api/v1/artists/" + VALID_ARTIST_ID + "/albums/" + VALID_ALBUM_ID));
+                });
+        assertEquals("albumGenre=ROCK", lastListQuery.get());
+    }
+
+    @Test
+    void whenGetAlbumByAlbumId_thenReturnAlbum() {
+        webClient.get().uri("/api/v1/artists/" + VALID_ARTIST_ID + "/albums/" + VALID_ALBUM_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.albumId").isEqualTo(VALID_ALBUM_ID)
+                .jsonPath("$.artistName").isEqualTo("The Beatles");
+    }
+
+    @Test
+    void whenAlbumNotFound_thenReturn404WithDownstreamMessage() {
+        webClient.get().uri("/api/v1/artists/" + VALID_ARTIST_ID + "/albums/" + NOT_FOUND_ALBUM_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Unknown albumId: " + NOT_FOUND_ALBUM_ID);
+    }
+
+    @Test
+    void whenAddAlbumRejectedDownstream_thenReturn422WithDownstreamMessage() {
+        webClient.post().uri("/api/v1/artists/" + VALID_ARTIST_ID + "/albums")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"albumTitle\":\"Abbey Road\",\"releaseDate\":-1}")
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid releaseDate: -1");
+    }
+
+    @Test
+    void whenDeleteAlbum_thenForwardAndReturnNoContent() {
+        webClient.delete().uri("/api/v1/artists/" + VALID_ARTIST_ID + "/albums/" + VALID_ALBUM_ID)
+                .exchange()
+                .expectStatus().isNoContent();
+        assertEquals("/api/v1/artists/" + VALID_ARTIST_ID + "/albums/" + VALID_ALBUM_ID, lastDeletePath.get());
+    }
+
+    private static HttpServer startMusicCatalogService() {
+        String artist = "{\"artistId\":\"" + VALID_ARTIST_ID + "\",\"artistName\":\"The Beatles\",\"country\":\"UK\"}";
+        String album = "{\"albumId\":\"" + VALID_ALBUM_ID + "\",\"artistId\":\"" + VALID_ARTIST_ID + "\","
+                + "\"artistName\":\"The Beatles\",\"albumTitle\":\"Abbey Road\",\"albumGenre\":\"ROCK\"}";
+        String albums = "/api/v1/artists/" + VALID_ARTIST_ID + "/albums";
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/v1/artists", exchange -> {
+                String method = exchange.getRequestMethod();
+                String path = exchange.getRequestURI().getPath();
+                if (path.equals("/api/v1/artists")) {
+                    lastListQuery.set(exchange.getRequestURI().getRawQuery());
+                    exchange.getResponseHeaders().add(PagedList.TOTAL_COUNT_HEADER, "7");
+                    respond(exchange, 200, "[" + artist + "]");
+                } else if (path.equals("/api/v1/artists/" + VALID_ARTIST_ID)) {
+                    respond(exchange, 200, artist);
+                } else if (path.equals("/api/v1/artists/" + NOT_FOUND_ARTIST_ID)) {
+                    respond(exchange, 404, "{\"message\":\"Unknown artistId: " + NOT_FOUND_ARTIST_ID + "\"}");
+                } else if (path.equals(albums) && method.equals("POST")) {
+                    respond(exchange, 422, "{\"message\":\"Invalid releaseDate: -1\"}");
+                } else if (path.equals(albums)) {
+                    lastListQuery.set(exchange.getRequestURI().getRawQuery());
+                    exchange.getResponseHeaders().add(PagedList.TOTAL_COUNT_HEADER, "1");
+                    respond(exchange, 200, "[" + album + "]");
+                } else if (path.equals(albums + "/" + VALID_ALBUM_ID) && method.equals("DELETE")) {
+                    lastDeletePath.set(path);
+                    exchange.sendResponseHeaders(204, -1);
+                    exchange.close();
+                } else if (path.equals(albums + "/" + VALID_ALBUM_ID)) {
+                    respond(exchange, 200, album);
+                } else {
+                    respond(exchange, 404, "{\"message\":\"Unknown albumId: " + NOT_FOUND_ALBUM_ID + "\"}");
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -88,6 +88,25 @@ public class OrdersControllerIntegrationTest {
         mockServer.verify();
     }
 
+    @Test
+    void whenPageRequested_thenForwardParamsAndNextCursor() throws Exception {
+        mockServer.expect(ExpectedCount.once(),
+                        requestTo(ORDERS_SERVICE_BASE + "/" + VALID_CUSTOMER + "/orders?cursor=abc&limit=1&sort=orderDate,asc"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(mapper.writeValueAsString(List.of(sampleOrder)), MediaType.APPLICATION_JSON)
+                        .header("X-Next-Cursor", "def"));
+
+        webClient.get()
+                .uri(GATEWAY_BASE + "/" + VALID_CUSTOMER + "/orders?cursor=abc&limit=1&sort=orderDate,asc")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", "def")
+                .expectBodyList(OrdersResponseModel.class)
+                .hasSize(1);
+
+        mockServer.verify();
+    }
+
     @Test
     void whenCustomerNotFound_then404() {
         mockServer.expect(requestTo(ORDERS_SERVICE_BASE + "/" + NOT_FOUND_CUSTOMER + "/orders"))
@@ -2,6 +2,7 @@ package com.musicstore.apigateway.presentationlayer.orders;
 
 import com.musicstore.apigateway.orders.businesslayer.OrdersService;
 import com.musicstore.apigateway.orders.presentationlayer.OrdersController;
+import com.musicstore.apigateway.orders.presentationlayer.OrdersPage;
 import com.musicstore.apigateway.orders.presentationlayer.OrdersRequestModel;
 import com.musicstore.apigateway.orders.presentationlayer.OrdersResponseModel;
 import com.musicstore.apigateway.utils.exceptions.InvalidInputException;
@@ -38,26 +39,39 @@ public class OrdersControllerUnitTest {
 
     @Test
     void whenNoOrders_thenReturnEmptyList() {
-        when(ordersService.getAllOrdersByCustomerId(FOUND_CUSTOMER))
-                .thenReturn(List.of());
+        when(ordersService.getAllOrdersByCustomerId(FOUND_CUSTOMER, null, null, null))
+                .thenReturn(new OrdersPage(List.of(), null));
 
         ResponseEntity<List<OrdersResponseModel>> response =
-                ordersController.getAllOrdersByCustomerId(FOUND_CUSTOMER);
+                ordersController.getAllOrdersByCustomerId(FOUND_CUSTOMER, null, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertTrue(response.getBody().isEmpty());
-        verify(ordersService, times(1)).getAllOrdersByCustomerId(FOUND_CUSTOMER);
+        assertFalse(response.getHeaders().containsKey("X-Next-Cursor"));
+        verify(ordersService, times(1)).getAllOrdersByCustomerId(FOUND_CUSTOMER, null, null, null);
+    }
+
+    @Test
+    void whenMoreOrders_thenReturnNextCursorHeader() {
+        when(ordersService.getAllOrdersByCustomerId(FOUND_CUSTOMER, "c1", 1, "orderDate,asc"))
+                .thenReturn(new OrdersPage(List.of(new OrdersResponseModel()), "c2"));
+
+        ResponseEntity<List<OrdersResponseModel>> response =
+                ordersController.getAllOrdersByCustomerId(FOUND_CUSTOMER, "c1", 1, "orderDate,asc");
+
+        assertEquals(1, response.getBody().size());
+        assertEquals("c2", response.getHeaders().getFirst("X-Next-Cursor"));
     }
 
     @Test
     void whenInvalidCustomerIdOnGetAll_thenThrowInvalidInput() {
         doThrow(new InvalidInputException("Bad id"))
-                .when(ordersService).getAllOrdersByCustomerId(INVALID_CUSTOMER);
+                .when(ordersService).getAllOrdersByCustomerId(INVALID_CUSTOMER, null, null, null);
 
         assertThrows(InvalidInputException.class,
-                () -> ordersController.getAllOrdersByCustomerId(INVALID_CUSTOMER));
-        verify(ordersService, never()).getAllOrdersByCustomerId(NOT_FOUND_CUSTOMER);
+                () -> ordersController.getAllOrdersByCustomerId(INVALID_CUSTOMER, null, null, null));
+        verify(ordersService, never()).getAllOrdersByCustomerId(eq(NOT_FOUND_CUSTOMER), any(), any(), any());
     }
 
     @Test
@@ -0,0 +1,157 @@
+package com.musicstore.apigateway.presentationlayer.orders;
+
+import com.musicstore.apigateway.orders.domainclientlayer.OrdersServiceClient;
+import com.musicstore.apigateway.orders.presentationlayer.OrdersController;
+import com.musicstore.apigateway.orders.presentationlayer.OrdersReactiveController;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class OrdersReactiveControllerIntegrationTest {
+
+    private static final String CUSTOMER_ID = "c3540a89-cb47-4c96-888e-ff96708db4d8";
+    private static final String VALID_ORDER_ID = "6a8b1c3e-2f4d-4c5b-9e7a-1b2c3d4e5f60";
+    private static final String NOT_FOUND_ORDER_ID = "6a8b1c3e-2f4d-4c5b-9e7a-1b2c3d4e5f61";
+    private static final String ORDERS_PATH = "/api/v1/customers/" + CUSTOMER_ID + "/orders";
+
+    private static final AtomicReference<String> lastListQuery = new AtomicReference<>();
+    private static final AtomicReference<String> lastDeletePath = new AtomicReference<>();
+    private static final HttpServer ordersService = startOrdersService();
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @DynamicPropertySource
+    static void ordersServiceProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.orders-service.port", () -> ordersService.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopOrdersService() {
+        ordersService.stop(0);
+    }
+
+    @Test
+    void whenReactiveProfile_thenOnlyReactiveControllersAreRegistered() {
+        assertEquals(1, context.getBeanNamesForType(OrdersReactiveController.class).length);
+        assertEquals(0, context.getBeanNamesForType(OrdersController.class).length);
+    }
+
+    @Test
+    void whenGetOrdersWithCursor_thenForwardItAndReturnNextCursor() {
+        webClient.get().uri(ORDERS_PATH + "?cursor=abc&limit=1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(OrdersServiceClient.NEXT_CURSOR_HEADER, "def")
+                .expectBody(String.class)
+                .value(body -> {
+                    assertTrue(body.contains("\"orderId\":\"" + VALID_ORDER_ID + "\""));
+                    assertTrue(body.contains(ORDERS_PATH + "/" + VALID_ORDER_ID));
+                });
+        assertEquals("cursor=abc&limit=1", lastListQuery.get());
+    }
+
+    @Test
+    void whenGetOrderByOrderId_thenReturnOrder() {
+        webClient.get().uri(ORDERS_PATH + "/" + VALID_ORDER_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.orderId").isEqualTo(VALID_ORDER_ID)
+                .jsonPath("$.albumTitle").isEqualTo("Abbey Road");
+    }
+
+    @Test
+    void whenOrderNotFound_thenReturn404WithDownstreamMessage() {
+        webClient.get().uri(ORDERS_PATH + "/" + NOT_FOUND_ORDER_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Unknown orderId: " + NOT_FOUND_ORDER_ID);
+    }
+
+    @Test
+    void whenCreateOrderRejectedDownstream_thenReturn422WithDownstreamMessage() {
+        webClient.post().uri(ORDERS_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"albumId\":\"x\",\"orderPrice\":-1}")
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid orderPrice: -1");
+    }
+
+    @Test
+    void whenDeleteOrder_thenForwardAndReturnNoContent() {
+        webClient.delete().uri(ORDERS_PATH + "/" + VALID_ORDER_ID)
+                .exchange()
+                .expectStatus().isNoContent();
+        assertEquals(ORDERS_PATH + "/" + VALID_ORDER_ID, lastDeletePath.get());
+    }
+
+    private static HttpServer startOrdersService() {
+        String order = "{\"orderId\":\"" + VALID_ORDER_ID + "\",\"customerId\":\"" + CUSTOMER_ID + "\","
+                + "\"albumTitle\":\"Abbey Road\",\"orderPrice\":42.0}";
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/v1/customers", exchange -> {
+                String method = exchange.getRequestMethod();
+                String path = exchange.getRequestURI().getPath();
+                if (path.equals(ORDERS_PATH) && method.equals("POST")) {
+                    respond(exchange, 422, "{\"message\":\"Invalid orderPrice: -1\"}");
+                } else if (path.equals(ORDERS_PATH)) {
+                    lastListQuery.set(exchange.getRequestURI().getRawQuery());
+                    exchange.getResponseHeaders().add(OrdersServiceClient.NEXT_CURSOR_HEADER, "def");
+                    respond(exchange, 200, "[" + order + "]");
+                } else if (path.equals(ORDERS_PATH + "/" + VALID_ORDER_ID) && method.equals("DELETE")) {
+                    lastDeletePath.set(path);
+                    exchange.sendResponseHeaders(204, -1);
+                    exchange.close();
+                } else if (path.equals(ORDERS_PATH + "/" + VALID_ORDER_ID)) {
+                    respond(exchange, 200, order);
+                } else {
+                    respond(exchange, 404, "{\"message\":\"Unknown orderId: " + NOT_FOUND_ORDER_ID + "\"}");
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -6,6 +6,8 @@ import com.musicstore.apigateway.storelocation.presentationlayer.StoresControlle
 import com.musicstore.apigateway.storelocation.businesslayer.StoresService;
 import com.musicstore.apigateway.utils.exceptions.InvalidInputException;
 import com.musicstore.apigateway.utils.exceptions.NotFoundException;
+import com.musicstore.apigateway.utils.PageParams;
+import com.musicstore.apigateway.utils.PagedList;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -71,13 +73,14 @@ public class StoresControllerUnitTest {
                 sampleResponse("id1"),
                 sampleResponse("id2")
         );
-        when(storesService.getAllStores()).thenReturn(respList);
+        when(storesService.getAllStores(PageParams.NONE)).thenReturn(new PagedList<>(respList, "2"));
 
-        ResponseEntity<List<StoreResponseModel>> resp = storesController.getAllStores();
+        ResponseEntity<List<StoreResponseModel>> resp = storesController.getAllStores(PageParams.NONE);
 
         assertEquals(200, resp.getStatusCodeValue());
         assertEquals(2, resp.getBody().size());
-        verify(storesService, times(1)).getAllStores();
+        assertEquals("2", resp.getHeaders().getFirst(PagedList.TOTAL_COUNT_HEADER));
+        verify(storesService, times(1)).getAllStores(PageParams.NONE);
     }
 
     @Test
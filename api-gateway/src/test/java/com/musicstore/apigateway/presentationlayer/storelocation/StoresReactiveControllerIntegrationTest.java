@@ -0,0 +1,141 @@
+package com.musicstore.apigateway.presentationlayer.storelocation;
+
+import com.musicstore.apigateway.storelocation.presentationlayer.StoresController;
+import com.musicstore.apigateway.storelocation.presentationlayer.StoresReactiveController;
+import com.musicstore.apigateway.utils.PagedList;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class StoresReactiveControllerIntegrationTest {
+
+    private static final String VALID_ID = "b1f7c0a2-3d4e-4f5a-8b9c-0d1e2f3a4b5c";
+    private static final String NOT_FOUND_ID = "b1f7c0a2-3d4e-4f5a-8b9c-0d1e2f3a4b5d";
+
+    private static final AtomicReference<String> lastListQuery = new AtomicReference<>();
+    private static final HttpServer storesService = startStoresService();
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @DynamicPropertySource
+    static void storesServiceProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.storelocation-service.port", () -> storesService.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStoresService() {
+        storesService.stop(0);
+    }
+
+    @Test
+    void whenReactiveProfile_thenOnlyReactiveControllersAreRegistered() {
+        assertEquals(1, context.getBeanNamesForType(StoresReactiveController.class).length);
+        assertEquals(0, context.getBeanNamesForType(StoresController.class).length);
+    }
+
+    @Test
+    void whenGetAllStoresWithPageParams_thenForwardThemAndTotalCount() {
+        webClient.get().uri("/api/v1/stores?page=1&size=1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(PagedList.TOTAL_COUNT_HEADER, "3")
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].ownerName").isEqualTo("Owner");
+        assertEquals("page=1&size=1", lastListQuery.get());
+    }
+
+    @Test
+    void whenGetStoreByStoreId_thenReturnStoreWithLinks() {
+        webClient.get().uri("/api/v1/stores/" + VALID_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(body -> {
+                    assertTrue(body.contains("\"storeId\":\"" + VALID_ID + "\""));
+                    assertTrue(body.contains("/api/v1/stores/" + VALID_ID));
+                });
+    }
+
+    @Test
+    void whenStoreNotFound_thenReturn404WithDownstreamMessage() {
+        webClient.get().uri("/api/v1/stores/" + NOT_FOUND_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Unknown storeId: " + NOT_FOUND_ID);
+    }
+
+    @Test
+    void whenUpdateStoreRejectedDownstream_thenReturn422WithDownstreamMessage() {
+        webClient.put().uri("/api/v1/stores/" + VALID_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"ownerName\":\"Owner\",\"storeRating\":9.5}")
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid storeRating: 9.5");
+    }
+
+    private static HttpServer startStoresService() {
+        String store = "{\"storeId\":\"" + VALID_ID + "\",\"ownerName\":\"Owner\",\"managerName\":\"Manager\"}";
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/v1/stores", exchange -> {
+                String method = exchange.getRequestMethod();
+                String path = exchange.getRequestURI().getPath();
+                if (path.equals("/api/v1/stores")) {
+                    lastListQuery.set(exchange.getRequestURI().getRawQuery());
+                    exchange.getResponseHeaders().add(PagedList.TOTAL_COUNT_HEADER, "3");
+                    respond(exchange, 200, "[" + store + "]");
+                } else if (path.endsWith("/" + VALID_ID) && method.equals("PUT")) {
+                    respond(exchange, 422, "{\"message\":\"Invalid storeRating: 9.5\"}");
+                } else if (path.endsWith("/" + VALID_ID)) {
+                    respond(exchange, 200, store);
+                } else {
+                    respond(exchange, 404, "{\"message\":\"Unknown storeId: " + NOT_FOUND_ID + "\"}");
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.musicstore.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicstore.orders.domainclientlayer.musiccatalog.AlbumModel;
+import com.musicstore.orders.domainclientlayer.musiccatalog.MusicCatalogServiceClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of a single album response in the orders service, through the tree model
+ * ({@code readTree}) and field-by-field ACL translation the client uses on every
+ * album lookup and album patch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AlbumJsonBenchmark {
+
+    // an album as the music catalog returns it, links included
+    private static final String ALBUM_JSON = "{\"albumId\":\"84c5f33e-8e5d-4eb5-b35d-79272355fa72\","
+            + "\"artistId\":\"e5913a79-9b1e-4516-9ffd-06578e7af261\",\"artistName\":\"The Beatles\","
+            + "\"albumTitle\":\"Abbey Road\",\"releaseDate\":\"1969-09-26\",\"albumLength\":\"47:03\","
+            + "\"albumGenre\":\"ROCK\",\"conditionType\":\"USED\",\"links\":["
+            + "{\"rel\":\"self\",\"href\":\"http://localhost:7002/api/v1/artists/e5913a79-9b1e-4516-9ffd-06578e7af261/albums/84c5f33e-8e5d-4eb5-b35d-79272355fa72\"},"
+            + "{\"rel\":\"albums\",\"href\":\"http://localhost:7002/api/v1/artists/e5913a79-9b1e-4516-9ffd-06578e7af261/albums\"}]}";
+
+    private MethodHandle fromJsonString;
+
+    @Setup
+    public void createClient() throws ReflectiveOperationException {
+        MusicCatalogServiceClient client = new MusicCatalogServiceClient(null, new ObjectMapper(),
+                "localhost", "7002", null, null, null, null);
+        // the ACL translation is private to the client
+        fromJsonString = MethodHandles.privateLookupIn(MusicCatalogServiceClient.class, MethodHandles.lookup())
+                .findVirtual(MusicCatalogServiceClient.class, "ACLAlbumModelFromJsonString",
+                        MethodType.methodType(AlbumModel.class, String.class))
+                .bindTo(client);
+    }
+
+    @Benchmark
+    public AlbumModel aclAlbumModelFromJsonString() throws Throwable {
+        return (AlbumModel) fromJsonString.invokeExact(ALBUM_JSON);
+    }
+}
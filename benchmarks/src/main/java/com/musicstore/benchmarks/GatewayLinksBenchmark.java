@@ -0,0 +1,110 @@
+package com.musicstore.benchmarks;
+
+import com.musicstore.apigateway.customers.businesslayer.CustomersServiceImpl;
+import com.musicstore.apigateway.customers.presentationlayer.CustomerResponseModel;
+import com.musicstore.apigateway.musiccatalog.businesslayer.album.AlbumsServiceImpl;
+import com.musicstore.apigateway.musiccatalog.businesslayer.artist.ArtistsServiceImpl;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.AlbumResponseModel;
+import com.musicstore.apigateway.musiccatalog.presentationlayer.ArtistResponseModel;
+import com.musicstore.apigateway.orders.businesslayer.OrdersServiceImpl;
+import com.musicstore.apigateway.orders.presentationlayer.OrdersResponseModel;
+import com.musicstore.apigateway.storelocation.businesslayer.StoresServiceImpl;
+import com.musicstore.apigateway.storelocation.presentationlayer.StoreResponseModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The private {@code addLinks} of each servlet gateway service, applied to one element
+ * of a listing. The services are built without clients since only the decoration runs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GatewayLinksBenchmark {
+
+    private static final String CUSTOMER_ID = "c3540a89-cb47-4c96-888e-ff96708db4d8";
+    private static final String ARTIST_ID = "e5913a79-9b1e-4516-9ffd-06578e7af261";
+    private static final String ALBUM_ID = "84c5f33e-8e5d-4eb5-b35d-79272355fa72";
+    private static final String STORE_ID = "b2d3a4e7-f29b-4f5e-bf1c-8a77a7319a1e";
+    private static final String ORDER_ID = "a1b2c3d4-e5f6-7890-abcd-ef1234567890";
+
+    private MethodHandle customerLinks;
+    private MethodHandle artistLinks;
+    private MethodHandle albumLinks;
+    private MethodHandle storeLinks;
+    private MethodHandle orderLinks;
+
+    @Setup
+    public void bindAddLinks() throws ReflectiveOperationException {
+        ServletRequests.bind("/api/v1/customers");
+        customerLinks = addLinks(new CustomersServiceImpl(null),
+                MethodType.methodType(CustomerResponseModel.class, CustomerResponseModel.class));
+        artistLinks = addLinks(new ArtistsServiceImpl(null),
+                MethodType.methodType(ArtistResponseModel.class, ArtistResponseModel.class));
+        albumLinks = addLinks(new AlbumsServiceImpl(null),
+                MethodType.methodType(AlbumResponseModel.class, AlbumResponseModel.class, String.class));
+        storeLinks = addLinks(new StoresServiceImpl(null),
+                MethodType.methodType(StoreResponseModel.class, StoreResponseModel.class));
+        orderLinks = addLinks(new OrdersServiceImpl(null),
+                MethodType.methodType(void.class, String.class, OrdersResponseModel.class));
+    }
+
+    @TearDown
+    public void resetRequest() {
+        ServletRequests.reset();
+    }
+
+    @Benchmark
+    public CustomerResponseModel customer() throws Throwable {
+        return (CustomerResponseModel) customerLinks.invokeExact(
+                CustomerResponseModel.builder().customerId(CUSTOMER_ID).build());
+    }
+
+    @Benchmark
+    public ArtistResponseModel artist() throws Throwable {
+        return (ArtistResponseModel) artistLinks.invokeExact(
+                ArtistResponseModel.builder().artistId(ARTIST_ID).build());
+    }
+
+    @Benchmark
+    public AlbumResponseModel album() throws Throwable {
+        return (AlbumResponseModel) albumLinks.invokeExact(
+                AlbumResponseModel.builder().artistId(ARTIST_ID).albumId(ALBUM_ID).build(), ARTIST_ID);
+    }
+
+    @Benchmark
+    public StoreResponseModel store() throws Throwable {
+        return (StoreResponseModel) storeLinks.invokeExact(
+                StoreResponseModel.builder().storeId(STORE_ID).build());
+    }
+
+    @Benchmark
+    public OrdersResponseModel order() throws Throwable {
+        OrdersResponseModel order = OrdersResponseModel.builder().orderId(ORDER_ID).build();
+        orderLinks.invokeExact(CUSTOMER_ID, order);
+        return order;
+    }
+
+    private static MethodHandle addLinks(Object service, MethodType type) throws ReflectiveOperationException {
+        return MethodHandles.privateLookupIn(service.getClass(), MethodHandles.lookup())
+                .findVirtual(service.getClass(), "addLinks", type)
+                .bindTo(service);
+    }
+}
@@ -0,0 +1,85 @@
+package com.musicstore.benchmarks;
+
+import com.musicstore.apigateway.customers.presentationlayer.CustomerResponseModel;
+import com.musicstore.apigateway.customers.presentationlayer.CustomersController;
+import com.musicstore.apigateway.orders.presentationlayer.OrdersController;
+import com.musicstore.apigateway.orders.presentationlayer.OrdersResponseModel;
+import com.musicstore.apigateway.utils.LinkTemplates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.IanaLinkRelations;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Cost of decorating one list element with its links, through {@code linkTo(methodOn(...))}
+ * as the gateway used to and through the precompiled {@link LinkTemplates}. Each
+ * invocation builds the links of a single element inside a bound servlet request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkBuildingBenchmark {
+
+    private static final String CUSTOMER_ID = "c3540a89-cb47-4c96-888e-ff96708db4d8";
+    private static final String ORDER_ID = "a1b2c3d4-e5f6-7890-abcd-ef1234567890";
+
+    @Setup
+    public void bindRequest() {
+        ServletRequests.bind("/api/v1/customers");
+    }
+
+    @TearDown
+    public void resetRequest() {
+        ServletRequests.reset();
+    }
+
+    @Benchmark
+    public CustomerResponseModel customerMethodOn() {
+        CustomerResponseModel customer = CustomerResponseModel.builder().customerId(CUSTOMER_ID).build();
+        customer.add(linkTo(methodOn(CustomersController.class).getCustomerByCustomerId(CUSTOMER_ID)).withSelfRel());
+        customer.add(linkTo(methodOn(CustomersController.class).getAllCustomers(null)).withRel("customers"));
+        return customer;
+    }
+
+    @Benchmark
+    public CustomerResponseModel customerTemplate() {
+        CustomerResponseModel customer = CustomerResponseModel.builder().customerId(CUSTOMER_ID).build();
+        String baseUri = LinkTemplates.baseUri();
+        customer.add(LinkTemplates.CUSTOMER.toLink(baseUri, IanaLinkRelations.SELF_VALUE, CUSTOMER_ID));
+        customer.add(LinkTemplates.CUSTOMERS.toLink(baseUri, "customers"));
+        return customer;
+    }
+
+    @Benchmark
+    public OrdersResponseModel orderMethodOn() {
+        OrdersResponseModel order = OrdersResponseModel.builder().orderId(ORDER_ID).build();
+        order.add(linkTo(methodOn(OrdersController.class).findOrderBydOrderId(CUSTOMER_ID, ORDER_ID)).withSelfRel());
+        order.add(linkTo(OrdersController.class, CUSTOMER_ID).withRel("customerOrders"));
+        return order;
+    }
+
+    @Benchmark
+    public OrdersResponseModel orderTemplate() {
+        OrdersResponseModel order = OrdersResponseModel.builder().orderId(ORDER_ID).build();
+        String baseUri = LinkTemplates.baseUri();
+        order.add(LinkTemplates.ORDER.toLink(baseUri, IanaLinkRelations.SELF_VALUE, CUSTOMER_ID, ORDER_ID));
+        order.add(LinkTemplates.CUSTOMER_ORDERS.toLink(baseUri, "customerOrders", CUSTOMER_ID));
+        return order;
+    }
+}
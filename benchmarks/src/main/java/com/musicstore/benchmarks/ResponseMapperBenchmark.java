@@ -0,0 +1,103 @@
+package com.musicstore.benchmarks;
+
+import com.musicstore.customers.dataaccesslayer.ContactMethodPreference;
+import com.musicstore.customers.dataaccesslayer.Customer;
+import com.musicstore.customers.dataaccesslayer.CustomerAddress;
+import com.musicstore.customers.dataaccesslayer.PhoneNumber;
+import com.musicstore.customers.dataaccesslayer.PhoneType;
+import com.musicstore.customers.mappinglayer.CustomerResponseMapper;
+import com.musicstore.customers.presentationlayer.CustomerResponseModel;
+import com.musicstore.orders.dataaccesslayer.Order;
+import com.musicstore.orders.dataaccesslayer.OrderIdentifier;
+import com.musicstore.orders.dataaccesslayer.OrderStatus;
+import com.musicstore.orders.dataaccesslayer.PaymentMethod;
+import com.musicstore.orders.domainclientlayer.customer.CustomerModel;
+import com.musicstore.orders.domainclientlayer.musiccatalog.AlbumModel;
+import com.musicstore.orders.domainclientlayer.musiccatalog.Status;
+import com.musicstore.orders.domainclientlayer.storelocation.StoreLocationModel;
+import com.musicstore.orders.mappinglayer.OrderResponseMapper;
+import com.musicstore.orders.presentationlayer.OrderResponseModel;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response model mapping of a listing page, links included, for the
+ * orders and customers services.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMapperBenchmark {
+
+    @Param({"1", "20", "100"})
+    public int size;
+
+    private final OrderResponseMapper orderResponseMapper = Mappers.getMapper(OrderResponseMapper.class);
+    private final CustomerResponseMapper customerResponseMapper = Mappers.getMapper(CustomerResponseMapper.class);
+
+    private List<Order> orders;
+    private List<Customer> customers;
+
+    @Setup
+    public void createEntities() {
+        ServletRequests.bind("/api/v1/customers");
+        CustomerModel customerModel = CustomerModel.builder()
+                .customerId(UUID.randomUUID().toString()).firstName("Alick").lastName("Ucceli").build();
+        orders = new ArrayList<>(size);
+        customers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            orders.add(Order.builder()
+                    .orderIdentifier(new OrderIdentifier())
+                    .customerModel(customerModel)
+                    .albumModel(AlbumModel.builder()
+                            .artistId(UUID.randomUUID().toString()).artistName("The Beatles")
+                            .albumId(UUID.randomUUID().toString()).albumTitle("Abbey Road")
+                            .status(Status.NEW).build())
+                    .storeLocationModel(StoreLocationModel.builder()
+                            .storeId(UUID.randomUUID().toString()).ownerName("John Doe").managerName("Jane Smith").build())
+                    .orderDate(LocalDate.of(2024, 1, 1).plusDays(i))
+                    .orderStatus(OrderStatus.PENDING)
+                    .orderPrice(19.99 + i)
+                    .paymentMethod(PaymentMethod.CREDIT_CARD)
+                    .build());
+            customers.add(new Customer("Alick", "Ucceli", "alick" + i + "@example.com", ContactMethodPreference.EMAIL,
+                    new CustomerAddress("99 Main St", "Montreal", "Quebec", "Canada", "H3A 1A1"),
+                    List.of(new PhoneNumber(PhoneType.HOME, "515-555-1234"), new PhoneNumber(PhoneType.WORK, "416-555-1234"))));
+        }
+    }
+
+    @TearDown
+    public void resetRequest() {
+        ServletRequests.reset();
+    }
+
+    @Benchmark
+    public List<OrderResponseModel> orderList() {
+        return orderResponseMapper.entityListToResponseModelList(orders);
+    }
+
+    @Benchmark
+    public List<CustomerResponseModel> customerList() {
+        return customerResponseMapper.entityListToResponseModelList(customers);
+    }
+}
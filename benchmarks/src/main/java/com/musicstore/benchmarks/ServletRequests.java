@@ -0,0 +1,22 @@
+package com.musicstore.benchmarks;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+// binds a request to the benchmark thread so link building sees the same base URI as in production
+final class ServletRequests {
+
+    private ServletRequests() {
+    }
+
+    static void bind(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    static void reset() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+}
@@ -0,0 +1,9 @@
+package com.musicstore.customers.businesslayer;
+
+import com.musicstore.customers.presentationlayer.ChangeEventResponseModel;
+
+import java.util.List;
+
+public interface ChangeEventService {
+    List<ChangeEventResponseModel> getEventsSince(long since, int limit);
+}
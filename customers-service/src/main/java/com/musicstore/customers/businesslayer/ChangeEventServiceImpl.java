@@ -0,0 +1,27 @@
+package com.musicstore.customers.businesslayer;
+
+import com.musicstore.customers.dataaccesslayer.OutboxEventRepository;
+import com.musicstore.customers.mappinglayer.ChangeEventResponseMapper;
+import com.musicstore.customers.presentationlayer.ChangeEventResponseModel;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class ChangeEventServiceImpl implements ChangeEventService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ChangeEventResponseMapper changeEventResponseMapper;
+
+    public ChangeEventServiceImpl(OutboxEventRepository outboxEventRepository, ChangeEventResponseMapper changeEventResponseMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.changeEventResponseMapper = changeEventResponseMapper;
+    }
+
+    @Override
+    public List<ChangeEventResponseModel> getEventsSince(long since, int limit) {
+        return changeEventResponseMapper.entityListToResponseModelList(
+                outboxEventRepository.findByPositionGreaterThanOrderByPositionAsc(since, Limit.of(limit)));
+    }
+}
@@ -3,13 +3,19 @@ package com.musicstore.customers.businesslayer;
 
 import com.musicstore.customers.presentationlayer.CustomerRequestModel;
 import com.musicstore.customers.presentationlayer.CustomerResponseModel;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface CustomerService {
 
-    List<CustomerResponseModel> getCustomers();
+    Page<CustomerResponseModel> getCustomers(Pageable pageable);
     CustomerResponseModel getCustomerByCustomerId(String customerId);
+    List<CustomerResponseModel> getCustomersByCustomerIds(Set<String> customerIds);
+    void exportCustomers(Consumer<CustomerResponseModel> sink);
     CustomerResponseModel addCustomer(CustomerRequestModel customerRequestModel);
     CustomerResponseModel updateCustomer(CustomerRequestModel updatedCustomer, String customerId);
     void removeCustomer(String customerId);
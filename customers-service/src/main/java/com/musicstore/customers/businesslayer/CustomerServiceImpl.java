@@ -2,20 +2,29 @@ package com.musicstore.customers.businesslayer;
 
 
 
+import com.musicstore.customers.dataaccesslayer.ChangeEventType;
 import com.musicstore.customers.dataaccesslayer.Customer;
 import com.musicstore.customers.dataaccesslayer.CustomerAddress;
 import com.musicstore.customers.dataaccesslayer.CustomerIdentifier;
 import com.musicstore.customers.dataaccesslayer.CustomerRepository;
+import com.musicstore.customers.mappinglayer.CustomerExportMapper;
 import com.musicstore.customers.mappinglayer.CustomerRequestMapper;
 import com.musicstore.customers.mappinglayer.CustomerResponseMapper;
 import com.musicstore.customers.presentationlayer.CustomerRequestModel;
 import com.musicstore.customers.presentationlayer.CustomerResponseModel;
 import com.musicstore.customers.utils.exceptions.DuplicateEmailException;
 import com.musicstore.customers.utils.exceptions.NotFoundException;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -24,18 +33,25 @@ public class CustomerServiceImpl implements CustomerService {
     private final CustomerRepository customerRepository;
     private final CustomerResponseMapper customerResponseMapper;
     private final CustomerRequestMapper customerRequestMapper;
+    private final CustomerExportMapper customerExportMapper;
+    private final EntityManager entityManager;
+    private final ChangeEventOutbox changeEventOutbox;
+    private static final String AGGREGATE_TYPE = "customer";
 
 
-    public CustomerServiceImpl(CustomerRepository customerRepository, CustomerResponseMapper customerResponseMapper, CustomerRequestMapper customerRequestMapper) {
+    public CustomerServiceImpl(CustomerRepository customerRepository, CustomerResponseMapper customerResponseMapper, CustomerRequestMapper customerRequestMapper,
+                               CustomerExportMapper customerExportMapper, EntityManager entityManager, ChangeEventOutbox changeEventOutbox) {
         this.customerRepository = customerRepository;
         this.customerResponseMapper = customerResponseMapper;
         this.customerRequestMapper = customerRequestMapper;
+        this.customerExportMapper = customerExportMapper;
+        this.entityManager = entityManager;
+        this.changeEventOutbox = changeEventOutbox;
     }
 
     @Override
-    public List<CustomerResponseModel> getCustomers() {
-        List<Customer> customers = customerRepository.findAll();
-        return customerResponseMapper.entityListToResponseModelList(customers);
+    public Page<CustomerResponseModel> getCustomers(Pageable pageable) {
+        return customerRepository.findAll(pageable).map(customerResponseMapper::entityToResponseModel);
     }
 
     @Override
@@ -49,6 +65,27 @@ public class CustomerServiceImpl implements CustomerService {
     }
 
     @Override
+    public List<CustomerResponseModel> getCustomersByCustomerIds(Set<String> customerIds) {
+        if (customerIds.isEmpty()) {
+            return List.of();
+        }
+        return customerResponseMapper.entityListToResponseModelList(customerRepository.findAllByCustomerIdentifier_CustomerIdIn(customerIds));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCustomers(Consumer<CustomerResponseModel> sink) {
+        try (Stream<Customer> customers = customerRepository.streamAll()) {
+            customers.forEach(customer -> {
+                sink.accept(customerExportMapper.entityToResponseModel(customer));
+                // keep the persistence context from growing with the table
+                entityManager.detach(customer);
+            });
+        }
+    }
+
+    @Override
+    @Transactional
     public CustomerResponseModel addCustomer(CustomerRequestModel customerRequestModel) {
         if (customerRepository.existsByEmailAddress(customerRequestModel.getEmailAddress())) {
             throw new DuplicateEmailException("Customer with the same email address already exists.");
@@ -60,10 +97,13 @@ public class CustomerServiceImpl implements CustomerService {
         Customer customer = customerRequestMapper.requestModelToEntity(customerRequestModel, new CustomerIdentifier(), address);
 
         customer.setCustomerAddress(address);
-        return customerResponseMapper.entityToResponseModel(customerRepository.save(customer));
+        Customer saved = customerRepository.save(customer);
+        recordChange(saved, ChangeEventType.CREATED);
+        return customerResponseMapper.entityToResponseModel(saved);
     }
 
     @Override
+    @Transactional
     public CustomerResponseModel updateCustomer(CustomerRequestModel customerRequestModel, String customerId) {
 
         Customer existingCustomer = customerRepository.findByCustomerIdentifier_CustomerId(customerId);
@@ -84,10 +124,12 @@ public class CustomerServiceImpl implements CustomerService {
         updatedCustomer.setId(existingCustomer.getId());
 
         Customer response = customerRepository.save(updatedCustomer);
+        recordChange(response, ChangeEventType.UPDATED);
         return customerResponseMapper.entityToResponseModel(response);
     }
 
     @Override
+    @Transactional
     public void removeCustomer(String customerId) {
         Customer existingCustomer = customerRepository.findByCustomerIdentifier_CustomerId(customerId);
 
@@ -95,6 +137,12 @@ public class CustomerServiceImpl implements CustomerService {
             throw new NotFoundException("Provided customerId not found: " + customerId);
         }
 
+        recordChange(existingCustomer, ChangeEventType.DELETED);
         customerRepository.delete(existingCustomer);
     }
+
+    private void recordChange(Customer customer, ChangeEventType eventType) {
+        changeEventOutbox.record(AGGREGATE_TYPE, customer.getCustomerIdentifier().getCustomerId(), eventType,
+                customerExportMapper.entityToResponseModel(customer));
+    }
 }
@@ -0,0 +1,8 @@
+package com.musicstore.customers.dataaccesslayer;
+
+public enum ChangeEventType {
+
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -1,10 +1,27 @@
 package com.musicstore.customers.dataaccesslayer;
 
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface CustomerRepository extends JpaRepository<Customer, Integer> {
 
     Customer findByCustomerIdentifier_CustomerId(String customerId);
+    @EntityGraph(attributePaths = "phoneNumbers")
+    List<Customer> findAllByCustomerIdentifier_CustomerIdIn(Collection<String> customerIds);
     boolean existsByEmailAddress(String emailAddress);
+
+    // forward-only cursor for the NDJSON export; must be consumed inside a transaction
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select distinct c from Customer c left join fetch c.phoneNumbers order by c.id")
+    Stream<Customer> streamAll();
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.musicstore.customers.dataaccesslayer;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "outbox_events")
+@Data
+@NoArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // position in the change feed, assigned by the relay; null until the event is published
+    @Column(name = "feed_position", unique = true)
+    private Long position;
+
+    private String aggregateType;
+    private String aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    private ChangeEventType eventType;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload; // JSON of the aggregate after the change, or before a delete
+
+    private Instant occurredAt;
+    private Instant publishedAt;
+
+    public OutboxEvent(String aggregateType, String aggregateId, ChangeEventType eventType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.occurredAt = Instant.now();
+    }
+}
@@ -0,0 +1,19 @@
+package com.musicstore.customers.dataaccesslayer;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // oldest first, so the feed keeps the commit order as far as the relay can see it
+    List<OutboxEvent> findByPositionIsNullOrderByIdAsc(Limit limit);
+
+    List<OutboxEvent> findByPositionGreaterThanOrderByPositionAsc(long since, Limit limit);
+
+    @Query("select max(e.position) from OutboxEvent e")
+    Optional<Long> findLastPosition();
+}
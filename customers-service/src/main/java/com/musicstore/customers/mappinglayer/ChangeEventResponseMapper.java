@@ -0,0 +1,15 @@
+package com.musicstore.customers.mappinglayer;
+
+import com.musicstore.customers.dataaccesslayer.OutboxEvent;
+import com.musicstore.customers.presentationlayer.ChangeEventResponseModel;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface ChangeEventResponseMapper {
+
+    ChangeEventResponseModel entityToResponseModel(OutboxEvent outboxEvent);
+
+    List<ChangeEventResponseModel> entityListToResponseModelList(List<OutboxEvent> outboxEvents);
+}
@@ -0,0 +1,20 @@
+package com.musicstore.customers.mappinglayer;
+
+
+import com.musicstore.customers.dataaccesslayer.Customer;
+import com.musicstore.customers.presentationlayer.CustomerResponseModel;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+// same fields as CustomerResponseMapper, without the HATEOAS links
+@Mapper(componentModel = "spring")
+public interface CustomerExportMapper {
+
+    @Mapping(expression = "java(customer.getCustomerIdentifier().getCustomerId())", target = "customerId")
+    @Mapping(expression = "java(customer.getCustomerAddress().getStreetAddress())", target = "streetAddress")
+    @Mapping(expression = "java(customer.getCustomerAddress().getCity())", target = "city")
+    @Mapping(expression = "java(customer.getCustomerAddress().getProvince())", target = "province")
+    @Mapping(expression = "java(customer.getCustomerAddress().getCountry())", target = "country")
+    @Mapping(expression = "java(customer.getCustomerAddress().getPostalCode())", target = "postalCode")
+    CustomerResponseModel entityToResponseModel(Customer customer);
+}
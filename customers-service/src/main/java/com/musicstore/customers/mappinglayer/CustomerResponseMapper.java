@@ -1,20 +1,16 @@
 package com.musicstore.customers.mappinglayer;
 
-
 import com.musicstore.customers.dataaccesslayer.Customer;
-import com.musicstore.customers.presentationlayer.CustomerController;
 import com.musicstore.customers.presentationlayer.CustomerResponseModel;
+import com.musicstore.customers.utils.LinkTemplates;
 import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
-import org.springframework.hateoas.Link;
+import org.springframework.hateoas.IanaLinkRelations;
 
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Mapper(componentModel = "spring")
 public interface CustomerResponseMapper {
 
@@ -30,15 +26,12 @@ public interface CustomerResponseMapper {
 
     @AfterMapping
     default void addLinks(@MappingTarget CustomerResponseModel customerResponseModel) {
-        Link selfLink = linkTo(methodOn(CustomerController.class)
-                .getCustomerByCustomerId(customerResponseModel.getCustomerId()))
-
-                .withSelfRel();
-        customerResponseModel.add(selfLink);
-
-        Link AllCustomersLink = linkTo(methodOn(CustomerController.class)
-                .getCustomers())
-                .withRel("customers");
-        customerResponseModel.add(AllCustomersLink);
+        if (!LinkTemplates.enabled()) {
+            return;
+        }
+        String baseUri = LinkTemplates.baseUri();
+        customerResponseModel.add(LinkTemplates.CUSTOMER.toLink(baseUri, IanaLinkRelations.SELF_VALUE,
+                customerResponseModel.getCustomerId()));
+        customerResponseModel.add(LinkTemplates.CUSTOMERS.toLink(baseUri, "customers"));
     }
 }
@@ -2,32 +2,53 @@ package com.musicstore.customers.presentationlayer;
 
 
 import com.musicstore.customers.businesslayer.CustomerService;
+import com.musicstore.customers.utils.NdjsonWriter;
+import com.musicstore.customers.utils.Pageables;
 import com.musicstore.customers.utils.exceptions.InvalidInputException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @RestController
-@RequestMapping("api/v1/customers")
+@RequestMapping("api/v1")
 public class CustomerController {
 
     private final CustomerService customerService;
+    private final NdjsonWriter ndjsonWriter;
     private static final int UUID_LENGTH = 36;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "firstName", "firstName",
+            "lastName", "lastName",
+            "emailAddress", "emailAddress",
+            "city", "customerAddress.city",
+            "province", "customerAddress.province",
+            "country", "customerAddress.country");
 
-    public CustomerController(CustomerService customerService) {
+    public CustomerController(CustomerService customerService, NdjsonWriter ndjsonWriter) {
         this.customerService = customerService;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
-    @GetMapping()
-    public ResponseEntity<List<CustomerResponseModel>> getCustomers() {
-        return ResponseEntity.ok().body(customerService.getCustomers());
+    @GetMapping("customers")
+    public ResponseEntity<List<CustomerResponseModel>> getCustomers(Pageable pageable) {
+        Page<CustomerResponseModel> page = customerService.getCustomers(Pageables.withSortProperties(pageable, SORTABLE_PROPERTIES));
+        return ResponseEntity.ok()
+                .header(Pageables.TOTAL_COUNT_HEADER, String.valueOf(page.getTotalElements()))
+                .body(page.getContent());
     }
 
-    @GetMapping("/{customerId}")
+    @GetMapping("customers/{customerId}")
     public ResponseEntity<CustomerResponseModel> getCustomerByCustomerId(@PathVariable String customerId) {
         if (customerId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid customerId provided: " + customerId);
@@ -35,12 +56,32 @@ public class CustomerController {
         return ResponseEntity.ok().body(customerService.getCustomerByCustomerId(customerId));
     }
 
-    @PostMapping()
+    @PostMapping("customers:batchGet")
+    public ResponseEntity<List<CustomerResponseModel>> getCustomersByCustomerIds(@RequestBody Set<String> customerIds) {
+        if (customerIds.size() > MAX_BATCH_SIZE) {
+            throw new InvalidInputException("At most " + MAX_BATCH_SIZE + " customerIds can be requested at once, got: " + customerIds.size());
+        }
+        customerIds.forEach(customerId -> {
+            if (customerId == null || customerId.length() != UUID_LENGTH) {
+                throw new InvalidInputException("Invalid customerId provided: " + customerId);
+            }
+        });
+        return ResponseEntity.ok().body(customerService.getCustomersByCustomerIds(customerIds));
+    }
+
+    @GetMapping(value = "customers:export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportCustomers() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> customerService.exportCustomers(ndjsonWriter.to(out)));
+    }
+
+    @PostMapping("customers")
     public ResponseEntity<CustomerResponseModel> addCustomer(@RequestBody CustomerRequestModel customerRequestModel) {
         return ResponseEntity.status(HttpStatus.CREATED).body(customerService.addCustomer(customerRequestModel));
     }
 
-    @PutMapping("/{customerId}")
+    @PutMapping("customers/{customerId}")
     public ResponseEntity<CustomerResponseModel> updateCustomer(@RequestBody CustomerRequestModel customerRequestModel, @PathVariable String customerId) {
         if (customerId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid customerId provided: " + customerId);
@@ -48,7 +89,7 @@ public class CustomerController {
         return ResponseEntity.ok().body(customerService.updateCustomer(customerRequestModel, customerId));
     }
 
-    @DeleteMapping("/{customerId}")
+    @DeleteMapping("customers/{customerId}")
     public ResponseEntity<String> deleteCustomer(@PathVariable String customerId) {
         if (customerId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid customerId provided: " + customerId);
@@ -0,0 +1,51 @@
+package com.musicstore.customers.utils;
+
+import org.springframework.hateoas.Link;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A link path such as {@code /api/v1/customers/{customerId}} split once into its literal
+ * parts. Expanding it only concatenates the base URI, the literals and the encoded
+ * variables, instead of proxying the controller through {@code methodOn} and running
+ * the URI templating again for every link.
+ */
+public final class LinkTemplate {
+
+    private final String[] literals;
+
+    private LinkTemplate(String[] literals) {
+        this.literals = literals;
+    }
+
+    public static LinkTemplate of(String path) {
+        List<String> literals = new ArrayList<>();
+        int start = 0;
+        int open;
+        while ((open = path.indexOf('{', start)) >= 0) {
+            int close = path.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed variable in link template: " + path);
+            }
+            literals.add(path.substring(start, open));
+            start = close + 1;
+        }
+        literals.add(path.substring(start));
+        return new LinkTemplate(literals.toArray(String[]::new));
+    }
+
+    public Link toLink(String baseUri, String rel, String... variables) {
+        if (variables.length != literals.length - 1) {
+            throw new IllegalArgumentException("Expected " + (literals.length - 1)
+                    + " link variables but got " + variables.length);
+        }
+        StringBuilder href = new StringBuilder(baseUri.length() + 96).append(baseUri).append(literals[0]);
+        for (int i = 0; i < variables.length; i++) {
+            href.append(UriUtils.encodePathSegment(variables[i], StandardCharsets.UTF_8)).append(literals[i + 1]);
+        }
+        return Link.of(href.toString(), rel);
+    }
+}
@@ -0,0 +1,47 @@
+package com.musicstore.customers.utils;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes export rows as newline-delimited JSON. Hypermedia links are left out and the
+ * output is not flushed per row, so the servlet buffer decides the chunk size.
+ */
+@Component
+public class NdjsonWriter {
+
+    private final ObjectWriter writer;
+
+    public NdjsonWriter(ObjectMapper objectMapper) {
+        this.writer = objectMapper.copy()
+                .addMixIn(RepresentationModel.class, WithoutLinks.class)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .writer();
+    }
+
+    public <T> Consumer<T> to(OutputStream out) {
+        return row -> {
+            try {
+                writer.writeValue(out, row);
+                out.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        };
+    }
+
+    @JsonIgnoreProperties("links")
+    private abstract static class WithoutLinks {
+    }
+}
@@ -1,5 +1,6 @@
-USE `customers-db`;
+--liquibase formatted sql
 
+--changeset musicstore:001-baseline-schema dbms:mysql,h2
 create table if not exists customer_phonenumbers
 (
     customer_id INTEGER,
@@ -21,3 +22,18 @@ create table if not exists customers
     country                   VARCHAR(50),
     postal_code               VARCHAR(9)
     );
+
+create table if not exists outbox_events
+(
+    id             BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    feed_position  BIGINT UNIQUE,
+    aggregate_type VARCHAR(25) NOT NULL,
+    aggregate_id   VARCHAR(36) NOT NULL,
+    event_type     VARCHAR(10) NOT NULL,
+    payload        TEXT NOT NULL,
+    occurred_at    TIMESTAMP(6) NOT NULL,
+    published_at   TIMESTAMP(6)
+    );
+--rollback drop table outbox_events;
+--rollback drop table customers;
+--rollback drop table customer_phonenumbers;
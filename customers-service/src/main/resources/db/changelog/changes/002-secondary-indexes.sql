@@ -0,0 +1,11 @@
+--liquibase formatted sql
+
+-- existsByEmailAddress, checked on every add and update
+--changeset musicstore:002-customers-email-address
+create index idx_customers_email_address on customers (email_address);
+--rollback drop index idx_customers_email_address on customers;
+
+-- loading the phone numbers of a customer
+--changeset musicstore:002-customer-phonenumbers-customer-id
+create index idx_customer_phonenumbers_customer_id on customer_phonenumbers (customer_id);
+--rollback drop index idx_customer_phonenumbers_customer_id on customer_phonenumbers;
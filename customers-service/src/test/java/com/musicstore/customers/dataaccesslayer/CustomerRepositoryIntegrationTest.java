@@ -54,6 +54,23 @@ public class CustomerRepositoryIntegrationTest {
         assertEquals(afterSizeDB, customerList.size());
     }
 
+    @Test
+    public void whenFindByCustomerIdIn_thenReturnOnlyMatchingCustomers() {
+        Customer customer1 = customerRepository.save(new Customer("John", "Pork", "john.pork@gmail.com", ContactMethodPreference.EMAIL,
+                new CustomerAddress("123 Main", "St. Johns", "Newfoundland", "Canada", "H1H1H1"),
+                new ArrayList<>(List.of(new PhoneNumber(PhoneType.MOBILE, "555-555-5555")))));
+        Customer customer2 = customerRepository.save(new Customer("Tim", "Cheese", "tim.cheese@gmail.com", ContactMethodPreference.EMAIL,
+                new CustomerAddress("123 Main", "St. Johns", "Newfoundland", "Canada", "H1H1H1"),
+                new ArrayList<>(List.of(new PhoneNumber(PhoneType.HOME, "111-555-5555")))));
+
+        List<Customer> found = customerRepository.findAllByCustomerIdentifier_CustomerIdIn(List.of(
+                customer1.getCustomerIdentifier().getCustomerId(),
+                customer2.getCustomerIdentifier().getCustomerId(),
+                "no-such-id"));
+
+        assertEquals(2, found.size());
+    }
+
     @Test
     public void whenCustomerDoesNotExist_thenReturnCustomerByCustomerId() {
         // arrange
@@ -0,0 +1,92 @@
+package com.musicstore.customers.dataaccesslayer;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// runs on the embedded H2 database; MySqlQueryPlanIntegrationTest repeats it on the MySQL the docker profile uses
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.musicstore.customers.dataaccesslayer.QueryPlanIntegrationTest$SqlCapture")
+public class QueryPlanIntegrationTest {
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String customerId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 50; i++) {
+            Customer customer = customerRepository.save(new Customer("First" + i, "Last" + i, "plan" + i + "@example.com",
+                    ContactMethodPreference.EMAIL,
+                    new CustomerAddress("123 Main", "St. Johns", "Newfoundland", "Canada", "H1H1H1"),
+                    new ArrayList<>(List.of(new PhoneNumber(PhoneType.MOBILE, "555-555-00" + i),
+                            new PhoneNumber(PhoneType.HOME, "444-555-00" + i)))));
+            customerId = customer.getCustomerIdentifier().getCustomerId();
+        }
+        customerRepository.flush();
+        entityManager.clear();
+        SqlCapture.statements.clear();
+    }
+
+    @Test
+    public void whenEmailExistsCheck_thenPlanUsesEmailAddressIndex() {
+        String sql = capture(() -> customerRepository.existsByEmailAddress("plan7@example.com"));
+
+        assertPlanUsesIndex("idx_customers_email_address", sql, "plan7@example.com", 1);
+    }
+
+    @Test
+    public void whenPhoneNumbersLoaded_thenPlanUsesCustomerIdIndex() {
+        Customer customer = customerRepository.findByCustomerIdentifier_CustomerId(customerId);
+        SqlCapture.statements.clear();
+
+        String sql = capture(() -> customer.getPhoneNumbers().size());
+
+        assertPlanUsesIndex("idx_customer_phonenumbers_customer_id", sql, customer.getId());
+    }
+
+    private String capture(Runnable query) {
+        query.run();
+        assertEquals(1, SqlCapture.statements.size(), "expected a single statement: " + SqlCapture.statements);
+        return SqlCapture.statements.get(0);
+    }
+
+    private void assertPlanUsesIndex(String index, String sql, Object... args) {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+        // MySQL names the chosen index in the key column, H2 inlines it into the rewritten statement
+        String plan = database.equals("MySQL")
+                ? rows.stream().map(row -> String.valueOf(row.get("key"))).collect(Collectors.joining(" "))
+                : rows.stream().map(row -> row.values().toString()).collect(Collectors.joining(" "));
+        assertTrue(plan.toLowerCase().contains(index), "expected " + index + " in the plan of " + sql + ": " + plan);
+    }
+
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
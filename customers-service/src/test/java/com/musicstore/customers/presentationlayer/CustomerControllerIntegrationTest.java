@@ -1,9 +1,11 @@
 package com.musicstore.customers.presentationlayer;
 
+import com.musicstore.customers.businesslayer.OutboxRelay;
 import com.musicstore.customers.dataaccesslayer.*;
 import com.musicstore.customers.utils.exceptions.DuplicateEmailException;
 import com.musicstore.customers.utils.exceptions.InvalidInputException;
 import com.musicstore.customers.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -17,6 +19,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
@@ -31,6 +36,12 @@ public class CustomerControllerIntegrationTest {
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
     private final String BASE_URL_CUSTOMERS = "/api/v1/customers";
     private final String VALID_CUSTOMER_ID = "c3540a89-cb47-4c96-888e-ff96708db4d8";
     private final String NOT_FOUND_CUSTOMER_ID = "c3540a89-cb47-4c96-888e-ff96708db4d7";
@@ -51,6 +62,99 @@ public class CustomerControllerIntegrationTest {
                 });
     }
 
+    @Test
+    public void whenPageRequested_thenReturnSortedPageAndTotalCount() {
+        long sizeDb = customerRepository.count();
+
+        webTestClient.get().uri(BASE_URL_CUSTOMERS + "?page=0&size=2&sort=lastName,desc").accept(MediaType.APPLICATION_JSON)
+                .exchange().expectStatus().isOk()
+                .expectHeader().valueEquals("X-Total-Count", String.valueOf(sizeDb))
+                .expectBodyList(CustomerResponseModel.class)
+                .value((list) -> {
+                    assertEquals(2, list.size());
+                    assertTrue(list.get(0).getLastName().compareTo(list.get(1).getLastName()) >= 0);
+                    assertTrue(list.get(0).getLinks().stream().anyMatch(link -> link.getHref().endsWith(BASE_URL_CUSTOMERS)));
+                });
+    }
+
+    @Test
+    public void whenGetCustomer_thenSelfLinkIsAbsolute() {
+        webTestClient.get().uri(BASE_URL_CUSTOMERS + "/" + VALID_CUSTOMER_ID).accept(MediaType.APPLICATION_JSON)
+                .exchange().expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$._links.self.href")
+                .value(allOf(startsWith("http://localhost:"), endsWith(BASE_URL_CUSTOMERS + "/" + VALID_CUSTOMER_ID)));
+    }
+
+    @Test
+    public void whenGetCustomer_thenRepositoryInvocationIsTimed() {
+        webTestClient.get().uri(BASE_URL_CUSTOMERS + "/" + VALID_CUSTOMER_ID).accept(MediaType.APPLICATION_JSON)
+                .exchange().expectStatus().isOk();
+
+        assertEquals(1, meterRegistry.get("spring.data.repository.invocations")
+                .tags("repository", "CustomerRepository", "method", "findByCustomerIdentifier_CustomerId", "state", "SUCCESS")
+                .timer().count());
+    }
+
+    @Test
+    public void whenLinksFalse_thenReturnCustomersWithoutLinks() {
+        webTestClient.get().uri(BASE_URL_CUSTOMERS + "?links=false").accept(MediaType.APPLICATION_JSON)
+                .exchange().expectStatus().isOk()
+                .expectBodyList(CustomerResponseModel.class)
+                .value(list -> {
+                    assertNotEquals(0, list.size());
+                    assertTrue(list.stream().allMatch(customer -> customer.getLinks().isEmpty()));
+                });
+    }
+
+    @Test
+    public void whenExportCustomers_thenStreamOneLinePerCustomerWithoutLinks() {
+        long sizeDb = customerRepository.count();
+
+        String body = webTestClient.get().uri(BASE_URL_CUSTOMERS + ":export").accept(MediaType.APPLICATION_NDJSON)
+                .exchange().expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class).returnResult().getResponseBody();
+
+        assertNotNull(body);
+        List<String> lines = body.lines().toList();
+        assertEquals(sizeDb, lines.size());
+        assertEquals(sizeDb, lines.stream().map(line -> line.substring(0, line.indexOf(','))).distinct().count());
+        assertTrue(lines.stream().noneMatch(line -> line.contains("\"links\"")));
+        assertTrue(lines.get(0).contains(VALID_CUSTOMER_ID));
+        assertTrue(lines.get(0).contains("515-555-1234") && lines.get(0).contains("416-555-1234"));
+    }
+
+    @Test
+    public void whenSortPropertyUnsupported_thenReturnUnprocessableEntity() {
+        webTestClient.get().uri(BASE_URL_CUSTOMERS + "?sort=id").accept(MediaType.APPLICATION_JSON)
+                .exchange().expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    public void whenBatchGetCustomers_thenReturnOnlyExistingCustomers() {
+        webTestClient.post().uri(BASE_URL_CUSTOMERS + ":batchGet")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(VALID_CUSTOMER_ID, NOT_FOUND_CUSTOMER_ID))
+                .exchange().expectStatus().isOk()
+                .expectBodyList(CustomerResponseModel.class)
+                .value((list) -> {
+                    assertEquals(1, list.size());
+                    assertEquals(VALID_CUSTOMER_ID, list.get(0).getCustomerId());
+                    assertFalse(list.get(0).getPhoneNumbers().isEmpty());
+                });
+    }
+
+    @Test
+    public void whenBatchGetCustomersWithInvalidId_thenReturnUnprocessableEntity() {
+        webTestClient.post().uri(BASE_URL_CUSTOMERS + ":batchGet")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(INVALID_CUSTOMER_ID))
+                .exchange().expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid customerId provided: " + INVALID_CUSTOMER_ID);
+    }
+
     @Test
     public void whenCustomerRequestIsValid_thenReturnNewCustomer() {
         //arrange
@@ -212,6 +316,48 @@ public class CustomerControllerIntegrationTest {
                 });
     }
 
+    @Test
+    public void whenCustomerUpdated_thenChangeEventIsPublishedToFeed() {
+        // Arrange
+        CustomerRequestModel updateRequest = CustomerRequestModel.builder()
+                .firstName("UpdatedName")
+                .lastName("UpdatedLastName")
+                .emailAddress("updated.email@example.com")
+                .streetAddress("456 Updated Street")
+                .city("Updated City")
+                .province("Updated Province")
+                .country("Updated Country")
+                .postalCode("67890")
+                .build();
+        webTestClient.put().uri(BASE_URL_CUSTOMERS + "/" + VALID_CUSTOMER_ID)
+                .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON)
+                .bodyValue(updateRequest).exchange().expectStatus().isOk();
+
+        // Act
+        outboxRelay.publishPending();
+
+        // Assert
+        webTestClient.get().uri("/api/v1/events?since=0").accept(MediaType.APPLICATION_JSON)
+                .exchange().expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].position").isEqualTo(1)
+                .jsonPath("$[0].aggregateType").isEqualTo("customer")
+                .jsonPath("$[0].aggregateId").isEqualTo(VALID_CUSTOMER_ID)
+                .jsonPath("$[0].eventType").isEqualTo("UPDATED")
+                .jsonPath("$[0].payload.firstName").isEqualTo("UpdatedName")
+                .jsonPath("$[0].payload.links").doesNotExist();
+        webTestClient.get().uri("/api/v1/events?since=1").accept(MediaType.APPLICATION_JSON)
+                .exchange().expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(0);
+    }
+
+    @Test
+    public void whenEventsLimitOutOfRange_thenReturnUnprocessableEntity() {
+        webTestClient.get().uri("/api/v1/events?since=0&limit=501").accept(MediaType.APPLICATION_JSON)
+                .exchange().expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
     @Test
     public void whenCustomerDoesNotExistOnUpdate_thenReturnNotFound() {
         // Arrange
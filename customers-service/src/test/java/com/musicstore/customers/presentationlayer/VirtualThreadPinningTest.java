@@ -0,0 +1,70 @@
+package com.musicstore.customers.presentationlayer;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(webEnvironment = RANDOM_PORT, properties = "spring.threads.virtual.enabled=true")
+@Sql({"/data-h2.sql"})
+public class VirtualThreadPinningTest {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    private final String BASE_URL_CUSTOMERS = "/api/v1/customers";
+    private final String VALID_CUSTOMER_ID = "c3540a89-cb47-4c96-888e-ff96708db4d8";
+    private final List<String> OWN_PACKAGES = List.of("com.musicstore.", "lombok.", "org.hibernate.");
+
+    @Test
+    public void whenServingConcurrentRequestsOnVirtualThreads_thenApplicationCodeDoesNotPin() throws Exception {
+        List<String> pinnedFrames = new CopyOnWriteArrayList<>();
+        ExecutorService clients = Executors.newFixedThreadPool(16);
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinnedFrames.addAll(ownFrames(event)));
+            recording.startAsync();
+
+            CompletableFuture.allOf(IntStream.range(0, 200)
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                        String uri = i % 2 == 0 ? BASE_URL_CUSTOMERS : BASE_URL_CUSTOMERS + "/" + VALID_CUSTOMER_ID;
+                        webTestClient.get().uri(uri).accept(MediaType.APPLICATION_JSON)
+                                .exchange().expectStatus().isOk();
+                    }, clients))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            clients.shutdown();
+        }
+
+        assertTrue(pinnedFrames.isEmpty(), () -> "virtual threads pinned in " + pinnedFrames);
+    }
+
+    private List<String> ownFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return List.of();
+        }
+        return event.getStackTrace().getFrames().stream()
+                .map(RecordedFrame::getMethod)
+                .map(method -> method.getType().getName() + "." + method.getName())
+                .filter(frame -> OWN_PACKAGES.stream().anyMatch(frame::startsWith))
+                .toList();
+    }
+}
@@ -0,0 +1,176 @@
+package com.musicstore.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Stub customers, music catalog and store location services serving a fixed, deterministic
+ * data set, so the same ids can be used for seeding orders and driving traffic.
+ */
+final class DownstreamStubs implements AutoCloseable {
+
+    private static final String[] GENRES = {"ROCK", "POP", "JAZZ", "INDIE_FOLK", "GRUNGE"};
+    private static final String ID = "([0-9a-fA-F-]{36})";
+
+    private final ObjectMapper mapper;
+    private final Map<String, Map<String, Object>> customers = new LinkedHashMap<>();
+    private final Map<String, Map<String, Object>> artists = new LinkedHashMap<>();
+    private final Map<String, Map<String, Object>> albums = new LinkedHashMap<>();
+    private final Map<String, List<Map<String, Object>>> albumsByArtist = new LinkedHashMap<>();
+    private final Map<String, Map<String, Object>> stores = new LinkedHashMap<>();
+
+    final StubServer customersService;
+    final StubServer musicCatalogService;
+    final StubServer storeLocationService;
+
+    DownstreamStubs(LoadTestConfig config, ObjectMapper mapper) throws IOException {
+        this.mapper = mapper;
+        seed(config);
+        customersService = new StubServer("customers-service", config.stub("customers"))
+                .route("GET", "/api/v1/customers/" + ID, (m, body) -> one(customers, m.group(1), "customer"))
+                .route("POST", "/api/v1/customers:batchGet", (m, body) -> many(customers, body))
+                .route("GET", "/api/v1/events", (m, body) -> StubServer.Response.ok("[]"))
+                .start();
+        musicCatalogService = new StubServer("musiccatalog-service", config.stub("musiccatalog"))
+                .route("GET", "/api/v1/artists/" + ID, (m, body) -> one(artists, m.group(1), "artist"))
+                .route("GET", "/api/v1/artists/" + ID + "/albums", (m, body) -> albumsOf(m.group(1)))
+                .route("GET", "/api/v1/artists/" + ID + "/albums/" + ID, (m, body) -> album(m.group(1), m.group(2), null))
+                .route("PATCH", "/api/v1/artists/" + ID + "/albums/" + ID + "/condition",
+                        (m, body) -> album(m.group(1), m.group(2), body.replace("\"", "").trim()))
+                .route("GET", "/api/v1/albums:export", (m, body) -> StubServer.Response.ok(ndjson(albums.values())))
+                .route("POST", "/api/v1/albums:batchGet", (m, body) -> many(albums, body))
+                .route("POST", "/api/v1/artists:batchGet", (m, body) -> many(artists, body))
+                .route("GET", "/api/v1/events", (m, body) -> StubServer.Response.ok("[]"))
+                .start();
+        storeLocationService = new StubServer("storelocation-service", config.stub("storelocation"))
+                .route("GET", "/api/v1/stores/" + ID, (m, body) -> one(stores, m.group(1), "store"))
+                .route("POST", "/api/v1/stores:batchGet", (m, body) -> many(stores, body))
+                .route("GET", "/api/v1/events", (m, body) -> StubServer.Response.ok("[]"))
+                .start();
+    }
+
+    List<String> customerIds() {
+        return List.copyOf(customers.keySet());
+    }
+
+    List<String> artistIds() {
+        return List.copyOf(artists.keySet());
+    }
+
+    List<String> storeIds() {
+        return List.copyOf(stores.keySet());
+    }
+
+    List<Map<String, Object>> albums() {
+        return List.copyOf(albums.values());
+    }
+
+    List<StubServer> servers() {
+        return List.of(customersService, musicCatalogService, storeLocationService);
+    }
+
+    @Override
+    public void close() {
+        servers().forEach(StubServer::close);
+    }
+
+    private void seed(LoadTestConfig config) {
+        for (int i = 0; i < config.customers; i++) {
+            String id = id("customer", i);
+            customers.put(id, Map.of("customerId", id, "firstName", "Customer" + i, "lastName", "LoadTest",
+                    "emailAddress", "customer" + i + "@example.com"));
+        }
+        for (int i = 0; i < config.artists; i++) {
+            String artistId = id("artist", i);
+            String artistName = "Artist " + i;
+            artists.put(artistId, Map.of("artistId", artistId, "artistName", artistName, "country", "Canada"));
+            List<Map<String, Object>> artistAlbums = new ArrayList<>();
+            for (int j = 0; j < config.albumsPerArtist; j++) {
+                String albumId = id("album-" + i, j);
+                Map<String, Object> album = new LinkedHashMap<>();
+                album.put("albumId", albumId);
+                album.put("artistId", artistId);
+                album.put("artistName", artistName);
+                album.put("country", "Canada");
+                album.put("albumTitle", "Album " + i + "-" + j);
+                album.put("releaseDate", 1990 + j % 30);
+                album.put("albumLength", "45:00");
+                album.put("albumGenre", GENRES[j % GENRES.length]);
+                album.put("status", "NEW");
+                album.put("conditionType", "NEW");
+                albums.put(albumId, album);
+                artistAlbums.add(album);
+            }
+            albumsByArtist.put(artistId, artistAlbums);
+        }
+        for (int i = 0; i < config.stores; i++) {
+            String id = id("store", i);
+            stores.put(id, Map.of("storeId", id, "ownerName", "Owner " + i, "managerName", "Manager " + i));
+        }
+    }
+
+    private StubServer.Response one(Map<String, Map<String, Object>> source, String id, String kind) {
+        Map<String, Object> value = source.get(id);
+        return value == null
+                ? StubServer.Response.error(404, "Unknown " + kind + " id: " + id)
+                : StubServer.Response.ok(json(value));
+    }
+
+    private StubServer.Response many(Map<String, Map<String, Object>> source, String body) {
+        try {
+            List<String> ids = mapper.readValue(body, new TypeReference<>() {});
+            return StubServer.Response.ok(json(ids.stream().map(source::get).filter(Objects::nonNull).toList()));
+        } catch (JsonProcessingException e) {
+            return StubServer.Response.error(422, "Invalid id list");
+        }
+    }
+
+    private StubServer.Response albumsOf(String artistId) {
+        List<Map<String, Object>> artistAlbums = albumsByArtist.get(artistId);
+        return artistAlbums == null
+                ? StubServer.Response.error(404, "Unknown artist id: " + artistId)
+                : StubServer.Response.page(json(artistAlbums), artistAlbums.size());
+    }
+
+    private StubServer.Response album(String artistId, String albumId, String condition) {
+        Map<String, Object> album = albums.get(albumId);
+        if (album == null || !artistId.equals(album.get("artistId"))) {
+            return StubServer.Response.error(404, "Unknown album id: " + albumId);
+        }
+        if (condition == null || condition.isEmpty()) {
+            return StubServer.Response.ok(json(album));
+        }
+        // patched copies are returned but never stored, so the data set stays fixed for the whole run
+        Map<String, Object> patched = new LinkedHashMap<>(album);
+        patched.put("status", condition);
+        patched.put("conditionType", condition);
+        return StubServer.Response.ok(json(patched));
+    }
+
+    private String ndjson(Iterable<Map<String, Object>> values) {
+        StringBuilder lines = new StringBuilder();
+        values.forEach(value -> lines.append(json(value)).append('\n'));
+        return lines.toString();
+    }
+
+    private String json(Object value) {
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String id(String kind, int index) {
+        return UUID.nameUUIDFromBytes((kind + "-" + index).getBytes()).toString();
+    }
+}
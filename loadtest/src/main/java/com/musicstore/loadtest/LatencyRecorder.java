@@ -0,0 +1,96 @@
+package com.musicstore.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects per-endpoint latencies (in nanoseconds, measured from the intended send time)
+ * and response status counts. Thread-safe; summarised once the run is over.
+ */
+final class LatencyRecorder {
+
+    static final int TRANSPORT_ERROR = -1;
+
+    private final Map<String, Series> series = new LinkedHashMap<>();
+
+    LatencyRecorder(Iterable<String> endpoints) {
+        endpoints.forEach(endpoint -> series.put(endpoint, new Series()));
+    }
+
+    void record(String endpoint, long latencyNanos, int status) {
+        series.get(endpoint).add(latencyNanos, status);
+    }
+
+    List<Summary> summarise() {
+        List<Summary> summaries = new ArrayList<>();
+        Series total = new Series();
+        series.forEach((endpoint, values) -> {
+            summaries.add(values.summary(endpoint));
+            total.addAll(values);
+        });
+        summaries.add(total.summary("all"));
+        return summaries;
+    }
+
+    record Summary(String endpoint, int count, int errors, Map<Integer, Integer> statuses,
+                   double meanMillis, double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+    }
+
+    private static final class Series {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private int errors;
+        private final Map<Integer, Integer> statuses = new TreeMap<>();
+
+        synchronized void add(long latencyNanos, int status) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            statuses.merge(status, 1, Integer::sum);
+            if (status < 200 || status >= 400) {
+                errors++;
+            }
+        }
+
+        synchronized void addAll(Series other) {
+            synchronized (other) {
+                for (int i = 0; i < other.size; i++) {
+                    if (size == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, size * 2);
+                    }
+                    latencies[size++] = other.latencies[i];
+                }
+                errors += other.errors;
+                other.statuses.forEach((status, count) -> statuses.merge(status, count, Integer::sum));
+            }
+        }
+
+        synchronized Summary summary(String endpoint) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            double mean = size == 0 ? 0 : Arrays.stream(sorted).average().orElse(0);
+            return new Summary(endpoint, size, errors, new TreeMap<>(statuses),
+                    millis(mean), millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)),
+                    millis(percentile(sorted, 0.999)), millis(size == 0 ? 0 : sorted[size - 1]));
+        }
+
+        // nearest-rank percentile
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(rank, 1) - 1];
+        }
+
+        private static double millis(double nanos) {
+            return Math.round(nanos / 1_000.0) / 1_000.0;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.musicstore.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Open-model load generator: requests are scheduled at a fixed rate regardless of how fast
+ * responses come back, and latency is measured from each request's scheduled start. A slow
+ * system under test therefore shows up as queueing delay instead of silently lowering the
+ * offered load (coordinated omission).
+ */
+final class LoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final Map<String, Function<Random, URI>> endpoints = new LinkedHashMap<>();
+    private final Map<String, Integer> weights = new LinkedHashMap<>();
+    private final Random random = new Random(42);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private int totalWeight;
+
+    LoadGenerator(HttpClient client) {
+        this.client = client;
+    }
+
+    LoadGenerator endpoint(String name, int weight, Function<Random, URI> uris) {
+        if (weight <= 0) {
+            return this;
+        }
+        endpoints.put(name, uris);
+        weights.put(name, weight);
+        totalWeight += weight;
+        return this;
+    }
+
+    Iterable<String> endpointNames() {
+        return endpoints.keySet();
+    }
+
+    /**
+     * Offers {@code rate} requests per second for {@code warmup + duration}; only requests
+     * scheduled after the warmup are recorded. Waits for in-flight requests before returning.
+     */
+    void run(int rate, Duration warmup, Duration duration, LatencyRecorder recorder) throws InterruptedException {
+        if (endpoints.isEmpty()) {
+            throw new IllegalStateException("No endpoints with a positive weight in loadtest.mix");
+        }
+        long period = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        for (long i = 0; ; i++) {
+            long intended = start + i * period;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            String endpoint = pick();
+            boolean measured = intended >= measureFrom;
+            HttpRequest request = HttpRequest.newBuilder(endpoints.get(endpoint).apply(random))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Accept", "application/json")
+                    .GET()
+                    .build();
+            inFlight.incrementAndGet();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        inFlight.decrementAndGet();
+                        if (measured) {
+                            recorder.record(endpoint, System.nanoTime() - intended,
+                                    error == null ? response.statusCode() : LatencyRecorder.TRANSPORT_ERROR);
+                        }
+                    });
+        }
+        long drainDeadline = System.nanoTime() + REQUEST_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    private String pick() {
+        int ticket = random.nextInt(totalWeight);
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+}
@@ -0,0 +1,104 @@
+package com.musicstore.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties (the Gradle task
+ * forwards {@code -Ploadtest.*}). Stub settings can be overridden per downstream service,
+ * e.g. {@code loadtest.stub.musiccatalog.latency=80}.
+ */
+final class LoadTestConfig {
+
+    final int rate;
+    final Duration warmup;
+    final Duration duration;
+    final Map<String, Integer> mix;
+    final int customers;
+    final int artists;
+    final int stores;
+    final int ordersPerCustomer;
+    final int albumsPerArtist;
+    final String gatewayProfiles;
+    final String ordersProfiles;
+    final String ordersJar;
+    final String gatewayJar;
+    final String workDir;
+    final String report;
+    final boolean traces;
+    final String traceFile;
+
+    private LoadTestConfig() {
+        rate = intProperty("loadtest.rate", 200);
+        warmup = Duration.ofSeconds(intProperty("loadtest.warmup", 10));
+        duration = Duration.ofSeconds(intProperty("loadtest.duration", 30));
+        mix = parseMix(System.getProperty("loadtest.mix", "orders=40,order=20,albums=30,album=10"));
+        customers = intProperty("loadtest.customers", 5);
+        artists = intProperty("loadtest.artists", 5);
+        stores = intProperty("loadtest.stores", 3);
+        ordersPerCustomer = intProperty("loadtest.ordersPerCustomer", 10);
+        albumsPerArtist = intProperty("loadtest.albumsPerArtist", 20);
+        gatewayProfiles = System.getProperty("loadtest.gatewayProfiles", "");
+        ordersProfiles = System.getProperty("loadtest.ordersProfiles", "");
+        ordersJar = required("loadtest.ordersJar");
+        gatewayJar = required("loadtest.gatewayJar");
+        workDir = System.getProperty("loadtest.workDir", "build/loadtest");
+        report = System.getProperty("loadtest.report", "build/reports/loadtest/results.json");
+        traces = Boolean.parseBoolean(System.getProperty("loadtest.traces", "false"));
+        traceFile = System.getProperty("loadtest.traceFile", "build/traces/spans.jsonl");
+        if (rate <= 0) {
+            throw new IllegalArgumentException("loadtest.rate must be positive: " + rate);
+        }
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig();
+    }
+
+    StubSettings stub(String service) {
+        String prefix = "loadtest.stub." + service + ".";
+        return new StubSettings(
+                intProperty(prefix + "latency", intProperty("loadtest.stub.latency", 20)),
+                intProperty(prefix + "jitter", intProperty("loadtest.stub.jitter", 10)),
+                doubleProperty(prefix + "errorRate", doubleProperty("loadtest.stub.errorRate", 0.0)));
+    }
+
+    record StubSettings(long latencyMillis, long jitterMillis, double errorRate) {
+        StubSettings {
+            if (errorRate < 0.0 || errorRate > 1.0) {
+                throw new IllegalArgumentException("Stub error rate must be between 0 and 1: " + errorRate);
+            }
+        }
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private static String required(String key) {
+        String value = System.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing system property " + key);
+        }
+        return value;
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        String value = System.getProperty(key);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value == null ? defaultValue : Double.parseDouble(value.trim());
+    }
+}
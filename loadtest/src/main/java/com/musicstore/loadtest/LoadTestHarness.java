@@ -0,0 +1,221 @@
+package com.musicstore.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import de.flapdoodle.embed.mongo.commands.ServerAddress;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * End-to-end load test: starts an embedded MongoDB, stub customers/catalog/store services,
+ * orders-service and the api-gateway, seeds orders through orders-service, then drives a
+ * fixed-rate mix of gateway order and album reads and reports latency percentiles.
+ * Run it with {@code gradle :loadtest:loadtest}.
+ */
+public final class LoadTestHarness {
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) {
+        int status = 0;
+        try {
+            run(LoadTestConfig.fromSystemProperties());
+        } catch (Exception e) {
+            e.printStackTrace();
+            status = 1;
+        }
+        // the HTTP client and stub executors are non-daemon
+        System.exit(status);
+    }
+
+    private static void run(LoadTestConfig config) throws Exception {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(32))
+                .build();
+
+        try (TransitionWalker.ReachedState<RunningMongodProcess> mongo = Mongod.instance().start(Version.V5_0_5);
+             DownstreamStubs stubs = new DownstreamStubs(config, mapper)) {
+            ServerAddress mongoAddress = mongo.current().getServerAddress();
+            log("mongod on " + mongoAddress + ", stubs: " + describe(stubs.servers()));
+
+            List<String> tracing = tracingArguments(config);
+            try (ServiceProcess orders = ServiceProcess.start("orders-service", config.ordersJar, config.workDir,
+                    config.ordersProfiles, tracing, List.of(
+                            "--spring.data.mongodb.uri=mongodb://" + mongoAddress.getHost() + ":" + mongoAddress.getPort() + "/orders-db",
+                            // readiness only needs the HTTP stack; some embedded mongod builds reject the ping behind the health check
+                            "--management.health.mongo.enabled=false",
+                            "--app.customers-service.host=localhost",
+                            "--app.customers-service.port=" + stubs.customersService.port(),
+                            "--app.musiccatalog-service.host=localhost",
+                            "--app.musiccatalog-service.port=" + stubs.musicCatalogService.port(),
+                            "--app.storelocation-service.host=localhost",
+                            "--app.storelocation-service.port=" + stubs.storeLocationService.port()))) {
+                log("starting " + orders);
+                orders.awaitHealthy(client);
+
+                try (ServiceProcess gateway = ServiceProcess.start("api-gateway", config.gatewayJar, config.workDir,
+                        config.gatewayProfiles, tracing, List.of(
+                                "--app.orders-service.host=localhost",
+                                "--app.orders-service.port=" + orders.port(),
+                                "--app.musiccatalog-service.host=localhost",
+                                "--app.musiccatalog-service.port=" + stubs.musicCatalogService.port(),
+                                "--app.customers-service.host=localhost",
+                                "--app.customers-service.port=" + stubs.customersService.port(),
+                                "--app.storelocation-service.host=localhost",
+                                "--app.storelocation-service.port=" + stubs.storeLocationService.port()))) {
+                    log("starting " + gateway);
+                    gateway.awaitHealthy(client);
+
+                    List<String[]> orderIds = seedOrders(config, stubs, orders, client, mapper);
+                    log("seeded " + orderIds.size() + " orders");
+                    stubs.servers().forEach(StubServer::enableFaults);
+
+                    LoadGenerator generator = traffic(config, stubs, gateway, orderIds, new LoadGenerator(client));
+                    LatencyRecorder recorder = new LatencyRecorder(generator.endpointNames());
+                    log("offering " + config.rate + " req/s for " + config.duration.toSeconds() + "s after a "
+                            + config.warmup.toSeconds() + "s warmup, mix " + config.mix);
+                    generator.run(config.rate, config.warmup, config.duration, recorder);
+
+                    report(config, stubs, recorder.summarise(), mapper);
+                }
+            }
+        }
+    }
+
+    // both services append to one span file, which TraceReport reads
+    private static List<String> tracingArguments(LoadTestConfig config) throws IOException {
+        if (!config.traces) {
+            return List.of();
+        }
+        Path traceFile = Paths.get(config.traceFile);
+        Files.createDirectories(traceFile.toAbsolutePath().getParent());
+        Files.deleteIfExists(traceFile);
+        log("writing spans to " + traceFile.toAbsolutePath());
+        return List.of("--app.tracing.file=" + traceFile.toAbsolutePath());
+    }
+
+    private static List<String[]> seedOrders(LoadTestConfig config, DownstreamStubs stubs, ServiceProcess orders,
+                                             HttpClient client, ObjectMapper mapper) throws IOException, InterruptedException {
+        List<Map<String, Object>> albums = stubs.albums();
+        List<String> storeIds = stubs.storeIds();
+        List<String[]> orderIds = new ArrayList<>();
+        int n = 0;
+        for (String customerId : stubs.customerIds()) {
+            for (int i = 0; i < config.ordersPerCustomer; i++, n++) {
+                Map<String, Object> album = albums.get(n % albums.size());
+                Map<String, Object> order = new LinkedHashMap<>();
+                order.put("artistId", album.get("artistId"));
+                order.put("albumId", album.get("albumId"));
+                order.put("storeId", storeIds.get(n % storeIds.size()));
+                order.put("orderDate", LocalDate.now().minusDays(n % 365));
+                order.put("orderStatus", "PENDING");
+                // prices of 10 or more skip the album condition update, keeping the stub catalog unchanged
+                order.put("orderPrice", 19.99 + n % 10);
+                order.put("paymentMethod", "CREDIT_CARD");
+                HttpRequest request = HttpRequest.newBuilder(
+                                URI.create(orders.baseUrl() + "/api/v1/customers/" + customerId + "/orders"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(order)))
+                        .build();
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 201 && response.statusCode() != 200) {
+                    throw new IllegalStateException("Seeding order failed with " + response.statusCode() + ": " + response.body());
+                }
+                orderIds.add(new String[]{customerId, mapper.readTree(response.body()).path("orderId").asText()});
+            }
+        }
+        return orderIds;
+    }
+
+    private static LoadGenerator traffic(LoadTestConfig config, DownstreamStubs stubs, ServiceProcess gateway,
+                                         List<String[]> orderIds, LoadGenerator generator) {
+        String base = gateway.baseUrl() + "/api/v1";
+        List<String> customerIds = stubs.customerIds();
+        List<String> artistIds = stubs.artistIds();
+        List<Map<String, Object>> albums = stubs.albums();
+        for (Map.Entry<String, Integer> entry : config.mix.entrySet()) {
+            switch (entry.getKey()) {
+                case "orders" -> generator.endpoint("orders", entry.getValue(), random ->
+                        URI.create(base + "/customers/" + customerIds.get(random.nextInt(customerIds.size())) + "/orders"));
+                case "order" -> generator.endpoint("order", entry.getValue(), random -> {
+                    String[] ids = orderIds.get(random.nextInt(orderIds.size()));
+                    return URI.create(base + "/customers/" + ids[0] + "/orders/" + ids[1]);
+                });
+                case "albums" -> generator.endpoint("albums", entry.getValue(), random ->
+                        URI.create(base + "/artists/" + artistIds.get(random.nextInt(artistIds.size())) + "/albums"));
+                case "album" -> generator.endpoint("album", entry.getValue(), random -> {
+                    Map<String, Object> album = albums.get(random.nextInt(albums.size()));
+                    return URI.create(base + "/artists/" + album.get("artistId") + "/albums/" + album.get("albumId"));
+                });
+                default -> throw new IllegalArgumentException(
+                        "Unknown loadtest.mix endpoint '" + entry.getKey() + "', expected orders, order, albums or album");
+            }
+        }
+        return generator;
+    }
+
+    private static void report(LoadTestConfig config, DownstreamStubs stubs, List<LatencyRecorder.Summary> summaries,
+                               ObjectMapper mapper) throws IOException {
+        double seconds = config.duration.toMillis() / 1000.0;
+        System.out.printf("%n%-8s %8s %8s %10s %10s %10s %10s %10s %10s%n",
+                "endpoint", "count", "errors", "req/s", "mean ms", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (LatencyRecorder.Summary s : summaries) {
+            System.out.printf("%-8s %8d %8d %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                    s.endpoint(), s.count(), s.errors(), (s.count() - s.errors()) / seconds,
+                    s.meanMillis(), s.p50Millis(), s.p99Millis(), s.p999Millis(), s.maxMillis());
+        }
+        for (StubServer stub : stubs.servers()) {
+            System.out.printf("%s: %d requests, %d injected errors%n", stub.name(), stub.requests(), stub.injectedErrors());
+        }
+
+        ObjectNode results = mapper.createObjectNode();
+        results.put("offeredRate", config.rate);
+        results.put("durationSeconds", config.duration.toSeconds());
+        results.put("warmupSeconds", config.warmup.toSeconds());
+        results.put("gatewayProfiles", config.gatewayProfiles);
+        results.putPOJO("mix", config.mix);
+        ObjectNode stubResults = results.putObject("stubs");
+        for (String service : List.of("customers", "musiccatalog", "storelocation")) {
+            stubResults.putPOJO(service, config.stub(service));
+        }
+        results.putPOJO("endpoints", summaries);
+        File file = new File(config.report);
+        file.getParentFile().mkdirs();
+        mapper.writerWithDefaultPrettyPrinter().writeValue(file, results);
+        log("wrote " + file.getAbsolutePath());
+    }
+
+    private static String describe(List<StubServer> servers) {
+        return servers.stream().map(s -> s.name() + ":" + s.port()).toList().toString();
+    }
+
+    private static void log(String message) {
+        System.out.println("[loadtest] " + message);
+    }
+}
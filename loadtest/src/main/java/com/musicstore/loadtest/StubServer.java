@@ -0,0 +1,154 @@
+package com.musicstore.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process stand-in for a downstream service. Every request waits for the configured
+ * latency plus uniform jitter; once faults are enabled it also fails with a 503 at the
+ * configured error rate before it reaches its route.
+ */
+final class StubServer implements AutoCloseable {
+
+    private final String name;
+    private final LoadTestConfig.StubSettings settings;
+    private final List<Route> routes = new ArrayList<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private volatile boolean faultsEnabled;
+    private final ExecutorService executor;
+    private final HttpServer server;
+
+    StubServer(String name, LoadTestConfig.StubSettings settings) throws IOException {
+        this.name = name;
+        this.settings = settings;
+        this.executor = Executors.newFixedThreadPool(256);
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+    }
+
+    StubServer route(String method, String pathRegex, BiFunction<Matcher, String, Response> handler) {
+        routes.add(new Route(method, Pattern.compile(pathRegex), handler));
+        return this;
+    }
+
+    StubServer start() {
+        server.start();
+        return this;
+    }
+
+    void enableFaults() {
+        faultsEnabled = true;
+    }
+
+    String name() {
+        return name;
+    }
+
+    int port() {
+        return server.getAddress().getPort();
+    }
+
+    long requests() {
+        return requests.get();
+    }
+
+    long injectedErrors() {
+        return injectedErrors.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            String body = readBody(exchange.getRequestBody());
+            delay();
+            if (faultsEnabled && settings.errorRate() > 0 && ThreadLocalRandom.current().nextDouble() < settings.errorRate()) {
+                injectedErrors.incrementAndGet();
+                send(exchange, Response.error(503, "Injected failure from " + name));
+                return;
+            }
+            String path = exchange.getRequestURI().getPath();
+            for (Route route : routes) {
+                Matcher matcher = route.path().matcher(path);
+                if (route.method().equals(exchange.getRequestMethod()) && matcher.matches()) {
+                    send(exchange, route.handler().apply(matcher, body));
+                    return;
+                }
+            }
+            send(exchange, Response.error(404, "No stub route for " + exchange.getRequestMethod() + " " + path));
+        } catch (RuntimeException ex) {
+            send(exchange, Response.error(500, ex.getMessage()));
+        }
+    }
+
+    private void delay() {
+        long jitter = settings.jitterMillis();
+        long millis = settings.latencyMillis() + (jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter + 1) : 0);
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String readBody(InputStream in) throws IOException {
+        return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        if (response.totalCount() != null) {
+            exchange.getResponseHeaders().set("X-Total-Count", String.valueOf(response.totalCount()));
+        }
+        exchange.sendResponseHeaders(response.status(), bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private record Route(String method, Pattern path, BiFunction<Matcher, String, Response> handler) {
+    }
+
+    record Response(int status, String body, Long totalCount) {
+
+        static Response ok(String body) {
+            return new Response(200, body, null);
+        }
+
+        static Response page(String body, long totalCount) {
+            return new Response(200, body, totalCount);
+        }
+
+        static Response error(int status, String message) {
+            String text = message == null ? "" : message.replace("\"", "'");
+            return new Response(status, "{\"httpStatus\":" + status + ",\"message\":\"" + text + "\"}", null);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.musicstore.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prints the slowest traces from a span file written by the services' {@code app.tracing.file}
+ * exporter as indented span trees. Within each span, the child that finishes last is
+ * marked with {@code *}; following the marks from the root gives the critical path.
+ * Run it with {@code gradle :loadtest:traces -Ptraces.file=... [-Ptraces.top=5]}.
+ */
+public final class TraceReport {
+
+    private TraceReport() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(System.getProperty("traces.file", "build/traces/spans.jsonl"));
+        int top = Integer.parseInt(System.getProperty("traces.top", "5"));
+
+        Map<String, List<SpanRecord>> traces = new LinkedHashMap<>();
+        ObjectMapper mapper = new ObjectMapper();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    SpanRecord span = SpanRecord.of(mapper.readTree(line));
+                    traces.computeIfAbsent(span.traceId(), id -> new ArrayList<>()).add(span);
+                }
+            }
+        }
+
+        List<SpanRecord> roots = new ArrayList<>();
+        Map<String, List<SpanRecord>> children = new HashMap<>();
+        for (List<SpanRecord> spans : traces.values()) {
+            Map<String, SpanRecord> byId = new HashMap<>();
+            spans.forEach(span -> byId.put(span.spanId(), span));
+            for (SpanRecord span : spans) {
+                if (span.parentSpanId() == null || !byId.containsKey(span.parentSpanId())) {
+                    roots.add(span);
+                } else {
+                    children.computeIfAbsent(span.parentSpanId(), id -> new ArrayList<>()).add(span);
+                }
+            }
+        }
+        children.values().forEach(list -> list.sort(Comparator.comparingLong(SpanRecord::startMicros)));
+        roots.sort(Comparator.comparingLong(SpanRecord::durationMicros).reversed());
+
+        System.out.printf("%d traces, %d spans in %s%n", traces.size(),
+                traces.values().stream().mapToInt(List::size).sum(), file.toAbsolutePath());
+        for (SpanRecord root : roots.subList(0, Math.min(top, roots.size()))) {
+            System.out.printf("%ntrace %s%n", root.traceId());
+            print(root, root.startMicros(), "", true, children);
+        }
+    }
+
+    private static void print(SpanRecord span, long traceStart, String indent, boolean critical,
+                              Map<String, List<SpanRecord>> children) {
+        System.out.printf("%8.2f ms  +%8.2f ms %s%s%s [%s]%s%n",
+                span.durationMicros() / 1000.0, (span.startMicros() - traceStart) / 1000.0,
+                critical ? "*" : " ", indent, span.name(), span.service(),
+                "ERROR".equals(span.status()) ? " ERROR" : "");
+        List<SpanRecord> spanChildren = children.getOrDefault(span.spanId(), List.of());
+        SpanRecord lastToFinish = spanChildren.stream()
+                .max(Comparator.comparingLong(child -> child.startMicros() + child.durationMicros()))
+                .orElse(null);
+        for (SpanRecord child : spanChildren) {
+            print(child, traceStart, indent + "  ", critical && child == lastToFinish, children);
+        }
+    }
+
+    private record SpanRecord(String traceId, String spanId, String parentSpanId, String service, String name,
+                              long startMicros, long durationMicros, String status) {
+
+        static SpanRecord of(JsonNode node) {
+            JsonNode parent = node.path("parentSpanId");
+            return new SpanRecord(node.path("traceId").asText(), node.path("spanId").asText(),
+                    parent.isNull() || parent.isMissingNode() ? null : parent.asText(),
+                    node.path("service").asText(), node.path("name").asText(),
+                    node.path("startMicros").asLong(), node.path("durationMicros").asLong(),
+                    node.path("status").asText());
+        }
+    }
+}
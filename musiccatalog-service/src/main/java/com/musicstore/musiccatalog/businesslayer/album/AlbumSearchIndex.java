@@ -0,0 +1,305 @@
+package com.musicstore.musiccatalog.businesslayer.album;
+
+import com.musicstore.musiccatalog.dataaccesslayer.album.Album;
+import com.musicstore.musiccatalog.dataaccesslayer.album.AlbumGenreEnum;
+import com.musicstore.musiccatalog.dataaccesslayer.album.AlbumRepository;
+import com.musicstore.musiccatalog.dataaccesslayer.album.Status;
+import com.musicstore.musiccatalog.dataaccesslayer.artist.Artist;
+import com.musicstore.musiccatalog.dataaccesslayer.artist.ArtistRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over album titles and artist names, backing the album search.
+ * Every word of the query must match a title word or an artist-name word, either exactly
+ * or as a prefix; exact and title matches rank higher. The index is loaded from the
+ * database on the first search and afterwards follows the album and artist writes of
+ * this service, each applied once its transaction has committed.
+ */
+@Slf4j
+@Component
+public class AlbumSearchIndex {
+    private static final int EXACT_TITLE_SCORE = 4;
+    private static final int PREFIX_TITLE_SCORE = 2;
+    private static final int EXACT_ARTIST_SCORE = 3;
+    private static final int PREFIX_ARTIST_SCORE = 1;
+
+    private final AlbumRepository albumRepository;
+    private final ArtistRepository artistRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, AlbumEntry> albums = new HashMap<>();
+    private final Map<String, ArtistEntry> artists = new HashMap<>();
+    private final NavigableMap<String, Set<String>> titleTerms = new TreeMap<>();   // term -> albumIds
+    private final NavigableMap<String, Set<String>> artistTerms = new TreeMap<>();  // term -> artistIds
+    private volatile boolean loaded;
+
+    public AlbumSearchIndex(AlbumRepository albumRepository, ArtistRepository artistRepository,
+                            PlatformTransactionManager transactionManager) {
+        this.albumRepository = albumRepository;
+        this.artistRepository = artistRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public record Filters(Integer releasedFrom, Integer releasedTo, Set<Status> statuses, Set<AlbumGenreEnum> genres) {
+    }
+
+    // facet counts ignore their own filter, so a client can offer the other values of a facet it already narrowed
+    public record Result(List<String> albumIds, long totalElements, Map<AlbumGenreEnum, Long> genres,
+                         Map<Status, Long> statuses, Map<Integer, Long> releaseYears) {
+    }
+
+    public Result search(String query, Filters filters, Pageable pageable) {
+        ensureLoaded();
+        List<String> queryTerms = tokenize(query);
+        lock.readLock().lock();
+        try {
+            Map<String, Integer> scores = queryTerms.isEmpty() ? allAlbums() : match(queryTerms);
+
+            Map<AlbumGenreEnum, Long> genres = new EnumMap<>(AlbumGenreEnum.class);
+            Map<Status, Long> statuses = new EnumMap<>(Status.class);
+            Map<Integer, Long> releaseYears = new TreeMap<>();
+            List<AlbumEntry> hits = new ArrayList<>();
+            for (String albumId : scores.keySet()) {
+                AlbumEntry album = albums.get(albumId);
+                boolean years = inYears(album, filters);
+                boolean status = filters.statuses().isEmpty() || filters.statuses().contains(album.status());
+                boolean genre = filters.genres().isEmpty() || filters.genres().contains(album.genre());
+                if (years && status && album.genre() != null) {
+                    genres.merge(album.genre(), 1L, Long::sum);
+                }
+                if (years && genre && album.status() != null) {
+                    statuses.merge(album.status(), 1L, Long::sum);
+                }
+                if (status && genre && album.releaseDate() != null) {
+                    releaseYears.merge(album.releaseDate(), 1L, Long::sum);
+                }
+                if (years && status && genre) {
+                    hits.add(album);
+                }
+            }
+
+            Stream<String> ranked = hits.stream()
+                    .sorted(Comparator.comparing((AlbumEntry album) -> scores.get(album.albumId())).reversed()
+                            .thenComparing(AlbumEntry::sortTitle)
+                            .thenComparing(AlbumEntry::albumId))
+                    .map(AlbumEntry::albumId);
+            if (pageable.isPaged()) {
+                ranked = ranked.skip(pageable.getOffset()).limit(pageable.getPageSize());
+            }
+            return new Result(ranked.toList(), hits.size(), genres, statuses, releaseYears);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void albumSaved(Album album) {
+        AlbumEntry entry = new AlbumEntry(album.getAlbumIdentifier().getAlbumId(), album.getArtistIdentifier().getArtistId(),
+                album.getAlbumInformation().getAlbumTitle(), album.getAlbumInformation().getReleaseDate(),
+                album.getAlbumGenre(), album.getStatus());
+        afterCommit(() -> putAlbum(entry));
+    }
+
+    public void albumDeleted(String albumId) {
+        afterCommit(() -> removeAlbum(albumId));
+    }
+
+    public void artistSaved(Artist artist) {
+        String artistId = artist.getArtistIdentifier().getArtistId();
+        String artistName = artist.getArtistInformation().getArtistName();
+        afterCommit(() -> putArtist(artistId, artistName));
+    }
+
+    public void artistDeleted(String artistId) {
+        afterCommit(() -> removeArtist(artistId));
+    }
+
+    private void afterCommit(Runnable change) {
+        Runnable guarded = () -> {
+            lock.writeLock().lock();
+            try {
+                // before the first load the change is already in the database the load will read
+                if (loaded) {
+                    change.run();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guarded.run();
+                }
+            });
+        } else {
+            guarded.run();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Artist> all = artistRepository.streamAll()) {
+                    all.forEach(artist -> putArtist(artist.getArtistIdentifier().getArtistId(),
+                            artist.getArtistInformation().getArtistName()));
+                }
+                try (Stream<Album> all = albumRepository.streamAll()) {
+                    all.forEach(album -> putAlbum(new AlbumEntry(album.getAlbumIdentifier().getAlbumId(),
+                            album.getArtistIdentifier().getArtistId(), album.getAlbumInformation().getAlbumTitle(),
+                            album.getAlbumInformation().getReleaseDate(), album.getAlbumGenre(), album.getStatus())));
+                }
+            });
+            loaded = true;
+            log.debug("Album search index loaded with {} albums and {} artists", albums.size(), artists.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Map<String, Integer> allAlbums() {
+        Map<String, Integer> scores = new HashMap<>();
+        albums.keySet().forEach(albumId -> scores.put(albumId, 0));
+        return scores;
+    }
+
+    private Map<String, Integer> match(List<String> queryTerms) {
+        Map<String, Integer> scores = null;
+        for (String queryTerm : queryTerms) {
+            Map<String, Integer> termScores = lookup(titleTerms, queryTerm, EXACT_TITLE_SCORE, PREFIX_TITLE_SCORE);
+            lookup(artistTerms, queryTerm, EXACT_ARTIST_SCORE, PREFIX_ARTIST_SCORE).forEach((artistId, score) ->
+                    artists.get(artistId).albumIds().forEach(albumId -> termScores.merge(albumId, score, Math::max)));
+
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((albumId, score) -> score + termScores.get(albumId));
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        return scores;
+    }
+
+    // best score per id among the terms starting with the query term
+    private static Map<String, Integer> lookup(NavigableMap<String, Set<String>> terms, String queryTerm,
+                                               int exactScore, int prefixScore) {
+        Map<String, Integer> scores = new HashMap<>();
+        for (Map.Entry<String, Set<String>> term : terms.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false).entrySet()) {
+            int score = term.getKey().equals(queryTerm) ? exactScore : prefixScore;
+            term.getValue().forEach(id -> scores.merge(id, score, Math::max));
+        }
+        return scores;
+    }
+
+    private static boolean inYears(AlbumEntry album, Filters filters) {
+        if (filters.releasedFrom() == null && filters.releasedTo() == null) {
+            return true;
+        }
+        Integer year = album.releaseDate();
+        return year != null
+                && (filters.releasedFrom() == null || year >= filters.releasedFrom())
+                && (filters.releasedTo() == null || year <= filters.releasedTo());
+    }
+
+    private void putAlbum(AlbumEntry album) {
+        removeAlbum(album.albumId());
+        albums.put(album.albumId(), album);
+        tokenize(album.title()).forEach(term -> titleTerms.computeIfAbsent(term, key -> new HashSet<>()).add(album.albumId()));
+        artists.computeIfAbsent(album.artistId(), artistId -> new ArtistEntry(null, new HashSet<>()))
+                .albumIds().add(album.albumId());
+    }
+
+    private void removeAlbum(String albumId) {
+        AlbumEntry album = albums.remove(albumId);
+        if (album == null) {
+            return;
+        }
+        tokenize(album.title()).forEach(term -> removePosting(titleTerms, term, albumId));
+        ArtistEntry artist = artists.get(album.artistId());
+        if (artist != null) {
+            artist.albumIds().remove(albumId);
+            if (artist.name() == null && artist.albumIds().isEmpty()) {
+                artists.remove(album.artistId());
+            }
+        }
+    }
+
+    private void putArtist(String artistId, String name) {
+        ArtistEntry previous = artists.get(artistId);
+        Set<String> albumIds = previous == null ? new HashSet<>() : previous.albumIds();
+        if (previous != null) {
+            tokenize(previous.name()).forEach(term -> removePosting(artistTerms, term, artistId));
+        }
+        artists.put(artistId, new ArtistEntry(name, albumIds));
+        tokenize(name).forEach(term -> artistTerms.computeIfAbsent(term, key -> new HashSet<>()).add(artistId));
+    }
+
+    // albums of a deleted artist stay in the catalog, so they stay searchable by title
+    private void removeArtist(String artistId) {
+        ArtistEntry artist = artists.get(artistId);
+        if (artist == null) {
+            return;
+        }
+        tokenize(artist.name()).forEach(term -> removePosting(artistTerms, term, artistId));
+        if (artist.albumIds().isEmpty()) {
+            artists.remove(artistId);
+        } else {
+            artists.put(artistId, new ArtistEntry(null, artist.albumIds()));
+        }
+    }
+
+    private static void removePosting(Map<String, Set<String>> terms, String term, String id) {
+        Set<String> ids = terms.get(term);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            terms.remove(term);
+        }
+    }
+
+    // lower-cased words without accents, so "Beyoncé" is found by "beyonce"
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+        return Arrays.stream(folded.split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private record AlbumEntry(String albumId, String artistId, String title, Integer releaseDate,
+                              AlbumGenreEnum genre, Status status) {
+        String sortTitle() {
+            return title == null ? "" : title.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private record ArtistEntry(String name, Set<String> albumIds) {
+    }
+}
@@ -3,13 +3,22 @@ package com.musicstore.musiccatalog.businesslayer.album;
 import com.musicstore.musiccatalog.dataaccesslayer.album.Status;
 import com.musicstore.musiccatalog.presentationlayer.album.AlbumRequestModel;
 import com.musicstore.musiccatalog.presentationlayer.album.AlbumResponseModel;
+import com.musicstore.musiccatalog.presentationlayer.album.AlbumSearchResponseModel;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface AlbumService {
-    List<AlbumResponseModel> getAllAlbums(String artistId, Map<String, String> queryParams);
+    Page<AlbumResponseModel> getAllAlbums(String artistId, Map<String, String> queryParams, Pageable pageable);
+    AlbumSearchResponseModel searchAlbums(Map<String, String> queryParams, Pageable pageable);
     AlbumResponseModel getAlbumByAlbumId(String albumId);
+    List<AlbumResponseModel> getAlbumsByAlbumIds(Set<String> albumIds);
+    void exportAlbums(Consumer<AlbumResponseModel> sink);
     AlbumResponseModel addAlbum(AlbumRequestModel albumRequestModel, String artistId);
     AlbumResponseModel updateAlbum(AlbumRequestModel albumRequestModel, String artistId, String albumId);
     void deleteAlbum(String artistId, String albumId);
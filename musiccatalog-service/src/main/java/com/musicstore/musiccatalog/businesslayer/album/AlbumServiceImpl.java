@@ -1,19 +1,36 @@
 package com.musicstore.musiccatalog.businesslayer.album;
 
+import com.musicstore.musiccatalog.businesslayer.event.ChangeEventOutbox;
 import com.musicstore.musiccatalog.dataaccesslayer.album.*;
 import com.musicstore.musiccatalog.dataaccesslayer.artist.Artist;
 import com.musicstore.musiccatalog.dataaccesslayer.artist.ArtistRepository;
+import com.musicstore.musiccatalog.dataaccesslayer.event.ChangeEventType;
+import com.musicstore.musiccatalog.mappinglayer.AlbumExportMapper;
 import com.musicstore.musiccatalog.mappinglayer.AlbumRequestMapper;
 import com.musicstore.musiccatalog.mappinglayer.AlbumResponseMapper;
 import com.musicstore.musiccatalog.presentationlayer.album.AlbumRequestModel;
 import com.musicstore.musiccatalog.presentationlayer.album.AlbumResponseModel;
+import com.musicstore.musiccatalog.presentationlayer.album.AlbumSearchResponseModel;
 import com.musicstore.musiccatalog.utils.exceptions.InvalidInputException;
 import com.musicstore.musiccatalog.utils.exceptions.NotFoundException;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class AlbumServiceImpl implements AlbumService {
@@ -21,53 +38,83 @@ public class AlbumServiceImpl implements AlbumService {
     private final AlbumRequestMapper albumRequestMapper;
     private final AlbumResponseMapper albumResponseMapper;
     private final ArtistRepository artistRepository;
+    private final AlbumExportMapper albumExportMapper;
+    private final EntityManager entityManager;
+    private final ChangeEventOutbox changeEventOutbox;
+    private final AlbumSearchIndex albumSearchIndex;
+    private static final String AGGREGATE_TYPE = "album";
 
-    public AlbumServiceImpl(AlbumRepository albumRepository, AlbumRequestMapper albumRequestMapper, AlbumResponseMapper albumResponseMapper, ArtistRepository artistRepository) {
+    public AlbumServiceImpl(AlbumRepository albumRepository, AlbumRequestMapper albumRequestMapper, AlbumResponseMapper albumResponseMapper, ArtistRepository artistRepository,
+                            AlbumExportMapper albumExportMapper, EntityManager entityManager, ChangeEventOutbox changeEventOutbox,
+                            AlbumSearchIndex albumSearchIndex) {
         this.albumRepository = albumRepository;
         this.albumRequestMapper = albumRequestMapper;
         this.albumResponseMapper = albumResponseMapper;
         this.artistRepository = artistRepository;
+        this.albumExportMapper = albumExportMapper;
+        this.entityManager = entityManager;
+        this.changeEventOutbox = changeEventOutbox;
+        this.albumSearchIndex = albumSearchIndex;
     }
 
     @Override
-    public List<AlbumResponseModel> getAllAlbums(String artistId, Map<String, String> queryParams) {
-        //looking for the album's artist
-        Artist foundArtist = artistRepository.findByArtistIdentifier_ArtistId(artistId);
-        if (foundArtist == null) {
+    public Page<AlbumResponseModel> getAllAlbums(String artistId, Map<String, String> queryParams, Pageable pageable) {
+        Integer releasedFrom = parseYear(queryParams, "releasedFrom");
+        Integer releasedTo = parseYear(queryParams, "releasedTo");
+        Set<Status> statuses = parseSet(queryParams.get("status"), "status", AlbumServiceImpl::parseStatus);
+        Set<AlbumGenreEnum> genres = parseSet(queryParams.get("albumGenre"), "albumGenre", AlbumGenreEnum::fromName);
+
+        // the IN lists must not be empty even when their filter is off
+        boolean anyStatus = statuses.isEmpty();
+        boolean anyGenre = genres.isEmpty();
+        Set<Status> statusParam = anyStatus ? EnumSet.allOf(Status.class) : statuses;
+        Set<AlbumGenreEnum> genreParam = anyGenre ? EnumSet.allOf(AlbumGenreEnum.class) : genres;
+
+        List<AlbumListingRow> rows = albumRepository.findAlbumListing(artistId, releasedFrom, releasedTo,
+                anyStatus, statusParam, anyGenre, genreParam, pageable);
+        // no row at all means no artist, unless the page starts past the last album
+        if (rows.isEmpty() && (pageable.isUnpaged() || pageable.getOffset() == 0
+                || !artistRepository.existsByArtistIdentifier_ArtistId(artistId))) {
             throw new NotFoundException("Artist not found");
         }
+        List<AlbumResponseModel> albums = rows.stream()
+                .filter(row -> row.album() != null)
+                .map(row -> new AlbumWithArtist(row.album(), row.artistName(), row.country()))
+                .map(albumResponseMapper::entityToResponseModel)
+                .toList();
+        return PageableExecutionUtils.getPage(albums, pageable, () -> albumRepository.countAlbumListing(artistId,
+                releasedFrom, releasedTo, anyStatus, statusParam, anyGenre, genreParam));
+    }
+
+    @Override
+    public AlbumSearchResponseModel searchAlbums(Map<String, String> queryParams, Pageable pageable) {
+        AlbumSearchIndex.Filters filters = new AlbumSearchIndex.Filters(
+                parseYear(queryParams, "releasedFrom"),
+                parseYear(queryParams, "releasedTo"),
+                parseSet(queryParams.get("status"), "status", AlbumServiceImpl::parseStatus),
+                parseSet(queryParams.get("albumGenre"), "albumGenre", AlbumGenreEnum::fromName));
+        AlbumSearchIndex.Result result = albumSearchIndex.search(queryParams.get("q"), filters, pageable);
 
-        //extract the query params
-        String albumGenre = queryParams.get("albumGenre");
-
-        //convert to enums
-        Map<String, AlbumGenreEnum> albumGenreEnumMap = new HashMap<>();
-        albumGenreEnumMap.put("rock", AlbumGenreEnum.ROCK);
-        albumGenreEnumMap.put("pop", AlbumGenreEnum.POP);
-        albumGenreEnumMap.put("jazz", AlbumGenreEnum.JAZZ);
-        albumGenreEnumMap.put("classical", AlbumGenreEnum.CLASSICAL);
-        albumGenreEnumMap.put("hip_hop", AlbumGenreEnum.HIP_HOP);
-        albumGenreEnumMap.put("electronic", AlbumGenreEnum.ELECTRONIC);
-        albumGenreEnumMap.put("indie_folk", AlbumGenreEnum.INDIE_FOLK);
-        albumGenreEnumMap.put("experimental_pop", AlbumGenreEnum.EXPERIMENTAL_POP);
-        albumGenreEnumMap.put("grunge", AlbumGenreEnum.GRUNGE);
-        albumGenreEnumMap.put("reggae", AlbumGenreEnum.REGGAE);
-        albumGenreEnumMap.put("alternative_rock", AlbumGenreEnum.ALTERNATIVE_ROCK);
-        albumGenreEnumMap.put("pop_rock", AlbumGenreEnum.POP_ROCK);
-        albumGenreEnumMap.put("glam_rock", AlbumGenreEnum.GLAM_ROCK);
-
-        if(albumGenre != null) {
-            return albumResponseMapper.entityListToResponseModelList
-                    (albumRepository.findAlbumByArtistIdentifier_ArtistIdAndAlbumGenre(artistId, albumGenreEnumMap.get(albumGenre.toLowerCase())));
-        }
-
-        List<Album> albums = albumRepository.findAllByArtistIdentifier_ArtistId(artistId);
-        return albumResponseMapper.entityListToResponseModelList(albums);
+        // only the requested page is read from the database, in the ranked order of the index
+        Map<String, AlbumWithArtist> found = albumRepository.findAllWithArtistByAlbumIdIn(result.albumIds()).stream()
+                .collect(Collectors.toMap(row -> row.album().getAlbumIdentifier().getAlbumId(), Function.identity()));
+        List<AlbumResponseModel> albums = result.albumIds().stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(albumResponseMapper::entityToResponseModel)
+                .toList();
+        return AlbumSearchResponseModel.builder()
+                .albums(albums)
+                .totalElements(result.totalElements())
+                .genres(result.genres())
+                .statuses(result.statuses())
+                .releaseYears(result.releaseYears())
+                .build();
     }
 
     @Override
     public AlbumResponseModel getAlbumByAlbumId(String albumId) {
-        Album album = albumRepository.findByAlbumIdentifier_AlbumId(albumId);
+        AlbumWithArtist album = albumRepository.findWithArtistByAlbumId(albumId);
         if (album == null) {
             throw new NotFoundException("Provided album does not exist" + albumId);
         }
@@ -75,6 +122,27 @@ public class AlbumServiceImpl implements AlbumService {
     }
 
     @Override
+    public List<AlbumResponseModel> getAlbumsByAlbumIds(Set<String> albumIds) {
+        if (albumIds.isEmpty()) {
+            return List.of();
+        }
+        return albumResponseMapper.entityListToResponseModelList(albumRepository.findAllWithArtistByAlbumIdIn(albumIds));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAlbums(Consumer<AlbumResponseModel> sink) {
+        try (Stream<AlbumWithArtist> albums = albumRepository.streamAllWithArtist()) {
+            albums.forEach(album -> {
+                sink.accept(albumExportMapper.entityToResponseModel(album));
+                // keep the persistence context from growing with the table
+                entityManager.detach(album.album());
+            });
+        }
+    }
+
+    @Override
+    @Transactional
     public AlbumResponseModel addAlbum(AlbumRequestModel albumRequestModel, String artistId) {
         Artist foundArtist = artistRepository.findByArtistIdentifier_ArtistId(artistId);
         if (foundArtist == null) {
@@ -91,10 +159,14 @@ public class AlbumServiceImpl implements AlbumService {
         Album album = albumRequestMapper.requestModelToEntity(albumRequestModel, new AlbumIdentifier(), albumInformation);
         album.setArtistIdentifier(foundArtist.getArtistIdentifier());
         album.setAlbumGenre(albumRequestModel.getAlbumGenre());
-        return albumResponseMapper.entityToResponseModel(albumRepository.save(album));
+        AlbumWithArtist saved = withArtist(albumRepository.save(album), foundArtist);
+        recordChange(saved, ChangeEventType.CREATED);
+        albumSearchIndex.albumSaved(saved.album());
+        return albumResponseMapper.entityToResponseModel(saved);
     }
 
     @Override
+    @Transactional
     public AlbumResponseModel updateAlbum(AlbumRequestModel albumRequestModel, String artistId, String albumId) {
         Artist foundArtist = artistRepository.findByArtistIdentifier_ArtistId(artistId);
         if (foundArtist == null) {
@@ -111,12 +183,15 @@ public class AlbumServiceImpl implements AlbumService {
         toBeSaved.setId(foundAlbum.getId());
         toBeSaved.setArtistIdentifier(foundArtist.getArtistIdentifier());
 
-        Album savedAlbum = albumRepository.save(toBeSaved);
+        AlbumWithArtist savedAlbum = withArtist(albumRepository.save(toBeSaved), foundArtist);
+        recordChange(savedAlbum, ChangeEventType.UPDATED);
+        albumSearchIndex.albumSaved(savedAlbum.album());
 
         return albumResponseMapper.entityToResponseModel(savedAlbum);
     }
 
     @Override
+    @Transactional
     public void deleteAlbum(String artistId, String albumId) {
         Artist foundArtist = artistRepository.findByArtistIdentifier_ArtistId(artistId);
         if (foundArtist == null) {
@@ -126,17 +201,68 @@ public class AlbumServiceImpl implements AlbumService {
         if (foundAlbum == null) {
             throw new NotFoundException("Provided album does not exist" + albumId);
         }
+        recordChange(withArtist(foundAlbum, foundArtist), ChangeEventType.DELETED);
         albumRepository.delete(foundAlbum);
+        albumSearchIndex.albumDeleted(albumId);
     }
 
     @Override
+    @Transactional
     public AlbumResponseModel updateCondition(String artistId, String albumId, Status newCondition) {
-        Album foundAlbum = albumRepository.findAlbumByArtistIdentifier_ArtistIdAndAlbumIdentifier_AlbumId(artistId, albumId);
+        AlbumWithArtist foundAlbum = albumRepository.findWithArtistByArtistIdAndAlbumId(artistId, albumId);
         if (foundAlbum == null) {
             throw new NotFoundException("Provided album does not exist" + albumId);
         }
-        foundAlbum.setStatus(newCondition);
-        Album savedAlbum = albumRepository.save(foundAlbum);
+        foundAlbum.album().setStatus(newCondition);
+        AlbumWithArtist savedAlbum = new AlbumWithArtist(albumRepository.save(foundAlbum.album()),
+                foundAlbum.artistName(), foundAlbum.country());
+        recordChange(savedAlbum, ChangeEventType.UPDATED);
+        albumSearchIndex.albumSaved(savedAlbum.album());
         return albumResponseMapper.entityToResponseModel(savedAlbum);
     }
+
+    private static Integer parseYear(Map<String, String> queryParams, String name) {
+        String value = queryParams.get(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new InvalidInputException("Invalid " + name + " provided: " + value);
+        }
+    }
+
+    // comma-separated values, e.g. albumGenre=rock,pop
+    private static <T> Set<T> parseSet(String value, String name, Function<String, T> parser) {
+        Set<T> parsed = new HashSet<>();
+        if (value == null || value.isBlank()) {
+            return parsed;
+        }
+        for (String item : value.split(",")) {
+            T element = parser.apply(item);
+            if (element == null) {
+                throw new InvalidInputException("Invalid " + name + " provided: " + item);
+            }
+            parsed.add(element);
+        }
+        return parsed;
+    }
+
+    private static Status parseStatus(String name) {
+        try {
+            return Status.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static AlbumWithArtist withArtist(Album album, Artist artist) {
+        return new AlbumWithArtist(album, artist.getArtistInformation().getArtistName(), artist.getArtistInformation().getCountry());
+    }
+
+    private void recordChange(AlbumWithArtist album, ChangeEventType eventType) {
+        changeEventOutbox.record(AGGREGATE_TYPE, album.album().getAlbumIdentifier().getAlbumId(), eventType,
+                albumExportMapper.entityToResponseModel(album));
+    }
 }
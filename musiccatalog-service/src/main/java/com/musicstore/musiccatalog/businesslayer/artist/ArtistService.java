@@ -4,11 +4,18 @@ package com.musicstore.musiccatalog.businesslayer.artist;
 import com.musicstore.musiccatalog.presentationlayer.artist.ArtistRequestModel;
 import com.musicstore.musiccatalog.presentationlayer.artist.ArtistResponseModel;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface ArtistService {
-    List <ArtistResponseModel> getAllArtists();
+    Page<ArtistResponseModel> getAllArtists(Pageable pageable);
     ArtistResponseModel getArtistByArtistId(String artistId);
+    List<ArtistResponseModel> getArtistsByArtistIds(Set<String> artistIds);
+    void exportArtists(Consumer<ArtistResponseModel> sink);
     ArtistResponseModel addArtist(ArtistRequestModel artistRequestModel);
     ArtistResponseModel updateArtist(ArtistRequestModel artistRequestModel, String artistId);
     void deleteArtist(String artistId);
@@ -1,19 +1,30 @@
 package com.musicstore.musiccatalog.businesslayer.artist;
 
+import com.musicstore.musiccatalog.businesslayer.album.AlbumSearchIndex;
+import com.musicstore.musiccatalog.businesslayer.event.ChangeEventOutbox;
 import com.musicstore.musiccatalog.dataaccesslayer.artist.Artist;
 import com.musicstore.musiccatalog.dataaccesslayer.artist.ArtistIdentifier;
 import com.musicstore.musiccatalog.dataaccesslayer.artist.ArtistInformation;
 import com.musicstore.musiccatalog.dataaccesslayer.artist.ArtistRepository;
+import com.musicstore.musiccatalog.dataaccesslayer.event.ChangeEventType;
+import com.musicstore.musiccatalog.mappinglayer.ArtistExportMapper;
 import com.musicstore.musiccatalog.mappinglayer.ArtistRequestMapper;
 import com.musicstore.musiccatalog.mappinglayer.ArtistResponseMapper;
 import com.musicstore.musiccatalog.presentationlayer.artist.ArtistRequestModel;
 import com.musicstore.musiccatalog.presentationlayer.artist.ArtistResponseModel;
 import com.musicstore.musiccatalog.utils.exceptions.NotFoundException;
 import com.musicstore.musiccatalog.utils.exceptions.DuplicateArtistNameException;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -21,18 +32,28 @@ public class ArtistServiceImpl implements ArtistService {
     private final ArtistRepository artistRepository;
     private final ArtistResponseMapper artistResponseMapper;
     private final ArtistRequestMapper artistRequestMapper;
-
-    public ArtistServiceImpl(ArtistRepository artistRepository, ArtistResponseMapper artistResponseMapper, ArtistRequestMapper artistRequestMapper) {
+    private final ArtistExportMapper artistExportMapper;
+    private final EntityManager entityManager;
+    private final ChangeEventOutbox changeEventOutbox;
+    private final AlbumSearchIndex albumSearchIndex;
+    private static final String AGGREGATE_TYPE = "artist";
+
+    public ArtistServiceImpl(ArtistRepository artistRepository, ArtistResponseMapper artistResponseMapper, ArtistRequestMapper artistRequestMapper,
+                             ArtistExportMapper artistExportMapper, EntityManager entityManager, ChangeEventOutbox changeEventOutbox,
+                             AlbumSearchIndex albumSearchIndex) {
         this.artistRepository = artistRepository;
         this.artistResponseMapper = artistResponseMapper;
         this.artistRequestMapper = artistRequestMapper;
+        this.artistExportMapper = artistExportMapper;
+        this.entityManager = entityManager;
+        this.changeEventOutbox = changeEventOutbox;
+        this.albumSearchIndex = albumSearchIndex;
     }
 
 
     @Override
-    public List<ArtistResponseModel> getAllArtists() {
-        List<Artist> artists = artistRepository.findAll();
-        return artistResponseMapper.entityListToResponseModelList(artists);
+    public Page<ArtistResponseModel> getAllArtists(Pageable pageable) {
+        return artistRepository.findAll(pageable).map(artistResponseMapper::entityToResponseModel);
     }
 
     @Override
@@ -46,6 +67,27 @@ public class ArtistServiceImpl implements ArtistService {
     }
 
     @Override
+    public List<ArtistResponseModel> getArtistsByArtistIds(Set<String> artistIds) {
+        if (artistIds.isEmpty()) {
+            return List.of();
+        }
+        return artistResponseMapper.entityListToResponseModelList(artistRepository.findAllByArtistIdentifier_ArtistIdIn(artistIds));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportArtists(Consumer<ArtistResponseModel> sink) {
+        try (Stream<Artist> artists = artistRepository.streamAll()) {
+            artists.forEach(artist -> {
+                sink.accept(artistExportMapper.entityToResponseModel(artist));
+                // keep the persistence context from growing with the table
+                entityManager.detach(artist);
+            });
+        }
+    }
+
+    @Override
+    @Transactional
     public ArtistResponseModel addArtist(ArtistRequestModel artistRequestModel) {
         if (artistRepository.existsByArtistInformation_ArtistName(artistRequestModel.getArtistName())) {
             throw new DuplicateArtistNameException("Artist with name '" + artistRequestModel.getArtistName() + "' already exists.");
@@ -56,10 +98,14 @@ public class ArtistServiceImpl implements ArtistService {
 
         Artist artist = artistRequestMapper.requestModelToEntity(artistRequestModel, new ArtistIdentifier(), information);
         artist.setArtistInformation(information);
-        return artistResponseMapper.entityToResponseModel(artistRepository.save(artist));
+        Artist saved = artistRepository.save(artist);
+        recordChange(saved, ChangeEventType.CREATED);
+        albumSearchIndex.artistSaved(saved);
+        return artistResponseMapper.entityToResponseModel(saved);
     }
 
     @Override
+    @Transactional
     public ArtistResponseModel updateArtist(ArtistRequestModel artistRequestModel, String artistId) {
         if (artistRepository.existsByArtistInformation_ArtistName(artistRequestModel.getArtistName())) {
             throw new DuplicateArtistNameException("Artist with name '" + artistRequestModel.getArtistName() + "' already exists.");
@@ -77,16 +123,26 @@ public class ArtistServiceImpl implements ArtistService {
         updatedArtist.setId(existingArtist.getId());
 
         Artist response = artistRepository.save(updatedArtist);
+        recordChange(response, ChangeEventType.UPDATED);
+        albumSearchIndex.artistSaved(response);
         return artistResponseMapper.entityToResponseModel(response);
     }
 
     @Override
+    @Transactional
     public void deleteArtist(String artistId) {
         Artist existingArtist = artistRepository.findByArtistIdentifier_ArtistId(artistId);
 
         if(existingArtist == null){
             throw new NotFoundException("Provided artist does not exist" + artistId);
         }
+        recordChange(existingArtist, ChangeEventType.DELETED);
         artistRepository.delete(existingArtist);
+        albumSearchIndex.artistDeleted(artistId);
+    }
+
+    private void recordChange(Artist artist, ChangeEventType eventType) {
+        changeEventOutbox.record(AGGREGATE_TYPE, artist.getArtistIdentifier().getArtistId(), eventType,
+                artistExportMapper.entityToResponseModel(artist));
     }
 }
@@ -0,0 +1,47 @@
+package com.musicstore.musiccatalog.businesslayer.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.musicstore.musiccatalog.dataaccesslayer.event.ChangeEventType;
+import com.musicstore.musiccatalog.dataaccesslayer.event.OutboxEvent;
+import com.musicstore.musiccatalog.dataaccesslayer.event.OutboxEventRepository;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+
+/**
+ * Records a change event in the outbox table. It must join the transaction that
+ * writes the change itself, so an event exists exactly when its change was committed.
+ * {@link OutboxRelay} later publishes the event to the change feed.
+ */
+@Component
+public class ChangeEventOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectWriter payloadWriter;
+
+    public ChangeEventOutbox(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.payloadWriter = objectMapper.copy()
+                .addMixIn(RepresentationModel.class, WithoutLinks.class)
+                .writer();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String aggregateType, String aggregateId, ChangeEventType eventType, Object payload) {
+        try {
+            outboxEventRepository.save(new OutboxEvent(aggregateType, aggregateId, eventType, payloadWriter.writeValueAsString(payload)));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @JsonIgnoreProperties("links")
+    private abstract static class WithoutLinks {
+    }
+}
@@ -0,0 +1,11 @@
+package com.musicstore.musiccatalog.businesslayer.event;
+
+import com.musicstore.musiccatalog.presentationlayer.event.ChangeEventResponseModel;
+
+import java.util.List;
+
+public interface ChangeEventService {
+    List<ChangeEventResponseModel> getEventsSince(long since, int limit);
+
+    long getLastPosition();
+}
@@ -0,0 +1,32 @@
+package com.musicstore.musiccatalog.businesslayer.event;
+
+import com.musicstore.musiccatalog.dataaccesslayer.event.OutboxEventRepository;
+import com.musicstore.musiccatalog.mappinglayer.ChangeEventResponseMapper;
+import com.musicstore.musiccatalog.presentationlayer.event.ChangeEventResponseModel;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class ChangeEventServiceImpl implements ChangeEventService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ChangeEventResponseMapper changeEventResponseMapper;
+
+    public ChangeEventServiceImpl(OutboxEventRepository outboxEventRepository, ChangeEventResponseMapper changeEventResponseMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.changeEventResponseMapper = changeEventResponseMapper;
+    }
+
+    @Override
+    public List<ChangeEventResponseModel> getEventsSince(long since, int limit) {
+        return changeEventResponseMapper.entityListToResponseModelList(
+                outboxEventRepository.findByPositionGreaterThanOrderByPositionAsc(since, Limit.of(limit)));
+    }
+
+    @Override
+    public long getLastPosition() {
+        return outboxEventRepository.findLastPosition().orElse(0L);
+    }
+}
@@ -1,5 +1,11 @@
 package com.musicstore.musiccatalog.dataaccesslayer.album;
 
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public enum AlbumGenreEnum {
     ROCK,
     POP,
@@ -13,5 +19,13 @@ public enum AlbumGenreEnum {
     REGGAE,
     ALTERNATIVE_ROCK,
     POP_ROCK,
-    GLAM_ROCK
+    GLAM_ROCK;
+
+    private static final Map<String, AlbumGenreEnum> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(genre -> genre.name().toLowerCase(Locale.ROOT), Function.identity()));
+
+    // case-insensitive lookup by name, null when no genre has that name
+    public static AlbumGenreEnum fromName(String name) {
+        return name == null ? null : BY_NAME.get(name.trim().toLowerCase(Locale.ROOT));
+    }
 }
@@ -0,0 +1,5 @@
+package com.musicstore.musiccatalog.dataaccesslayer.album;
+
+// a row of an artist's album listing; an artist without matching albums still yields one row, with a null album
+public record AlbumListingRow(Integer artistKey, Album album, String artistName, String country) {
+}
@@ -1,12 +1,63 @@
 package com.musicstore.musiccatalog.dataaccesslayer.album;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface AlbumRepository extends JpaRepository<Album, String> {
+    String LISTING_FILTERS = " and (:releasedFrom is null or al.albumInformation.releaseDate >= :releasedFrom)"
+            + " and (:releasedTo is null or al.albumInformation.releaseDate <= :releasedTo)"
+            + " and (:anyStatus = true or al.status in :statuses)"
+            + " and (:anyGenre = true or al.albumGenre in :genres)";
+    // albums with their artist's name and country in the same statement
+    String WITH_ARTIST = "select new com.musicstore.musiccatalog.dataaccesslayer.album.AlbumWithArtist("
+            + "al, ar.artistInformation.artistName, ar.artistInformation.country)"
+            + " from Album al left join Artist ar on ar.artistIdentifier.artistId = al.artistIdentifier.artistId";
+
     List<Album> findAllByArtistIdentifier_ArtistId(String artistId);
     Album findByAlbumIdentifier_AlbumId(String albumId);
+    List<Album> findAllByAlbumIdentifier_AlbumIdIn(Collection<String> albumIds);
     Album findAlbumByArtistIdentifier_ArtistIdAndAlbumIdentifier_AlbumId(String artistId, String albumId);
     List<Album> findAlbumByArtistIdentifier_ArtistIdAndAlbumGenre(String artistId, AlbumGenreEnum albumGenre);
+
+    @Query(WITH_ARTIST + " where al.albumIdentifier.albumId = :albumId")
+    AlbumWithArtist findWithArtistByAlbumId(String albumId);
+
+    @Query(WITH_ARTIST + " where al.artistIdentifier.artistId = :artistId and al.albumIdentifier.albumId = :albumId")
+    AlbumWithArtist findWithArtistByArtistIdAndAlbumId(String artistId, String albumId);
+
+    @Query(WITH_ARTIST + " where al.albumIdentifier.albumId in :albumIds")
+    List<AlbumWithArtist> findAllWithArtistByAlbumIdIn(Collection<String> albumIds);
+
+    // the artist's existence and a page of its albums in one round trip: the right join keeps a row for the artist
+    @Query("select new com.musicstore.musiccatalog.dataaccesslayer.album.AlbumListingRow(ar.id, al,"
+            + " ar.artistInformation.artistName, ar.artistInformation.country)"
+            + " from Album al right join Artist ar on al.artistIdentifier.artistId = ar.artistIdentifier.artistId" + LISTING_FILTERS
+            + " where ar.artistIdentifier.artistId = :artistId")
+    List<AlbumListingRow> findAlbumListing(String artistId, Integer releasedFrom, Integer releasedTo,
+                                           boolean anyStatus, Collection<Status> statuses,
+                                           boolean anyGenre, Collection<AlbumGenreEnum> genres, Pageable pageable);
+
+    @Query("select count(al) from Album al where al.artistIdentifier.artistId = :artistId" + LISTING_FILTERS)
+    long countAlbumListing(String artistId, Integer releasedFrom, Integer releasedTo,
+                           boolean anyStatus, Collection<Status> statuses,
+                           boolean anyGenre, Collection<AlbumGenreEnum> genres);
+
+    // forward-only cursor for the NDJSON export; must be consumed inside a transaction
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select a from Album a order by a.id")
+    Stream<Album> streamAll();
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(WITH_ARTIST + " order by al.id")
+    Stream<AlbumWithArtist> streamAllWithArtist();
 }
@@ -0,0 +1,5 @@
+package com.musicstore.musiccatalog.dataaccesslayer.album;
+
+// an album read together with its artist's name and country; both are null when the artist no longer exists
+public record AlbumWithArtist(Album album, String artistName, String country) {
+}
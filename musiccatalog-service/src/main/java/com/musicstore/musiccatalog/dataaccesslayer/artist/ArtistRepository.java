@@ -1,8 +1,24 @@
 package com.musicstore.musiccatalog.dataaccesslayer.artist;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface ArtistRepository extends JpaRepository<Artist, String> {
     Artist findByArtistIdentifier_ArtistId(String artistId);
+    List<Artist> findAllByArtistIdentifier_ArtistIdIn(Collection<String> artistIds);
+    boolean existsByArtistIdentifier_ArtistId(String artistId);
     boolean existsByArtistInformation_ArtistName(String artistName);
+
+    // forward-only cursor for the NDJSON export; must be consumed inside a transaction
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select a from Artist a order by a.id")
+    Stream<Artist> streamAll();
 }
@@ -0,0 +1,8 @@
+package com.musicstore.musiccatalog.dataaccesslayer.event;
+
+public enum ChangeEventType {
+
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,23 @@
+package com.musicstore.musiccatalog.mappinglayer;
+
+import com.musicstore.musiccatalog.dataaccesslayer.album.AlbumWithArtist;
+import com.musicstore.musiccatalog.presentationlayer.album.AlbumResponseModel;
+import org.mapstruct.*;
+
+// same fields as AlbumResponseMapper, without the HATEOAS links
+@Mapper(componentModel = "spring")
+public interface AlbumExportMapper {
+
+    @Mappings({
+            @Mapping(expression = "java(albumWithArtist.album().getAlbumIdentifier().getAlbumId())", target = "albumId"),
+            @Mapping(expression = "java(albumWithArtist.album().getArtistIdentifier().getArtistId())", target = "artistId"),
+            @Mapping(expression = "java(albumWithArtist.artistName())", target = "artistName"),
+            @Mapping(expression = "java(albumWithArtist.country())", target = "country"),
+            @Mapping(expression = "java(albumWithArtist.album().getAlbumInformation().getAlbumTitle())", target = "albumTitle"),
+            @Mapping(expression = "java(albumWithArtist.album().getAlbumInformation().getReleaseDate())", target = "releaseDate"),
+            @Mapping(expression = "java(albumWithArtist.album().getAlbumInformation().getAlbumLength())", target = "albumLength"),
+            @Mapping(expression = "java(albumWithArtist.album().getAlbumGenre())", target = "albumGenre"),
+            @Mapping(expression = "java(albumWithArtist.album().getStatus())", target = "status")
+    })
+    AlbumResponseModel entityToResponseModel(AlbumWithArtist albumWithArtist);
+}
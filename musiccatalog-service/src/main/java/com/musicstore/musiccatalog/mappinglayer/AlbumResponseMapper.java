@@ -1,42 +1,39 @@
 package com.musicstore.musiccatalog.mappinglayer;
 
-import com.musicstore.musiccatalog.dataaccesslayer.album.Album;
-import com.musicstore.musiccatalog.presentationlayer.album.AlbumController;
+import com.musicstore.musiccatalog.dataaccesslayer.album.AlbumWithArtist;
 import com.musicstore.musiccatalog.presentationlayer.album.AlbumResponseModel;
+import com.musicstore.musiccatalog.utils.LinkTemplates;
 import org.mapstruct.*;
-import org.springframework.hateoas.Link;
+import org.springframework.hateoas.IanaLinkRelations;
 
-import java.util.HashMap;
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Mapper(componentModel = "spring")
 public interface AlbumResponseMapper {
 
     @Mappings({
-            @Mapping(expression = "java(album.getAlbumIdentifier().getAlbumId())", target = "albumId"), // Mapping album ID from albumIdentifier
-            @Mapping(expression = "java(album.getArtistIdentifier().getArtistId())", target = "artistId"),
-            @Mapping(expression = "java(album.getAlbumInformation().getAlbumTitle())", target = "albumTitle"), // Mapping album title from albumInformation
-            @Mapping(expression = "java(album.getAlbumInformation().getReleaseDate())", target = "releaseDate"), // Mapping release date from albumInformation
-            @Mapping(expression = "java(album.getAlbumInformation().getAlbumLength())", target = "albumLength"),
-            @Mapping(expression = "java(album.getAlbumGenre())", target = "albumGenre"),
-            @Mapping(expression = "java(album.getStatus())", target = "status") // Mapping album genre
+            @Mapping(expression = "java(albumWithArtist.album().getAlbumIdentifier().getAlbumId())", target = "albumId"), // Mapping album ID from albumIdentifier
+            @Mapping(expression = "java(albumWithArtist.album().getArtistIdentifier().getArtistId())", target = "artistId"),
+            @Mapping(expression = "java(albumWithArtist.artistName())", target = "artistName"), // joined from the artists table
+            @Mapping(expression = "java(albumWithArtist.country())", target = "country"),
+            @Mapping(expression = "java(albumWithArtist.album().getAlbumInformation().getAlbumTitle())", target = "albumTitle"), // Mapping album title from albumInformation
+            @Mapping(expression = "java(albumWithArtist.album().getAlbumInformation().getReleaseDate())", target = "releaseDate"), // Mapping release date from albumInformation
+            @Mapping(expression = "java(albumWithArtist.album().getAlbumInformation().getAlbumLength())", target = "albumLength"),
+            @Mapping(expression = "java(albumWithArtist.album().getAlbumGenre())", target = "albumGenre"),
+            @Mapping(expression = "java(albumWithArtist.album().getStatus())", target = "status") // Mapping album genre
     })
-    AlbumResponseModel entityToResponseModel(Album album);
+    AlbumResponseModel entityToResponseModel(AlbumWithArtist albumWithArtist);
 
-    List<AlbumResponseModel> entityListToResponseModelList(List<Album> albums);
+    List<AlbumResponseModel> entityListToResponseModelList(List<AlbumWithArtist> albums);
 
     @AfterMapping
     default void addLinks(@MappingTarget AlbumResponseModel albumResponseModel) {
-        //self link
-        Link selfLink = linkTo(methodOn(AlbumController.class)
-                .getAlbumByAlbumId(albumResponseModel.getAlbumId()))
-                .withSelfRel();
-        albumResponseModel.add(selfLink);
-
-        Link allAlbumsLink = linkTo(methodOn(AlbumController.class).getAllAlbums(albumResponseModel.getArtistId(), new HashMap<>())).withRel("albums");
-        albumResponseModel.add(allAlbumsLink);
+        if (!LinkTemplates.enabled()) {
+            return;
+        }
+        String baseUri = LinkTemplates.baseUri();
+        albumResponseModel.add(LinkTemplates.ALBUM.toLink(baseUri, IanaLinkRelations.SELF_VALUE,
+                albumResponseModel.getArtistId(), albumResponseModel.getAlbumId()));
+        albumResponseModel.add(LinkTemplates.ALBUMS.toLink(baseUri, "albums", albumResponseModel.getArtistId()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+package com.musicstore.musiccatalog.mappinglayer;
+
+import com.musicstore.musiccatalog.dataaccesslayer.artist.Artist;
+import com.musicstore.musiccatalog.presentationlayer.artist.ArtistResponseModel;
+import org.mapstruct.*;
+
+// same fields as ArtistResponseMapper, without the HATEOAS links
+@Mapper(componentModel = "spring")
+public interface ArtistExportMapper {
+    @Mappings({
+            @Mapping(expression = "java(artist.getArtistIdentifier().getArtistId())", target = "artistId"),
+            @Mapping(expression = "java(artist.getArtistInformation().getArtistName())", target = "artistName"),
+            @Mapping(expression = "java(artist.getArtistInformation().getCountry())", target = "country"),
+            @Mapping(expression = "java(artist.getArtistInformation().getDebutYear())", target = "debutYear"),
+            @Mapping(expression = "java(artist.getArtistInformation().getBiography())", target = "biography")
+    })
+    ArtistResponseModel entityToResponseModel(Artist artist);
+}
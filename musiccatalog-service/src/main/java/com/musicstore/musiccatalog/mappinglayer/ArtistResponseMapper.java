@@ -1,16 +1,13 @@
 package com.musicstore.musiccatalog.mappinglayer;
 
 import com.musicstore.musiccatalog.dataaccesslayer.artist.Artist;
-import com.musicstore.musiccatalog.presentationlayer.artist.ArtistController;
 import com.musicstore.musiccatalog.presentationlayer.artist.ArtistResponseModel;
+import com.musicstore.musiccatalog.utils.LinkTemplates;
 import org.mapstruct.*;
-import org.springframework.hateoas.Link;
+import org.springframework.hateoas.IanaLinkRelations;
 
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Mapper(componentModel = "spring")
 public interface ArtistResponseMapper {
     @Mappings({
@@ -26,16 +23,12 @@ public interface ArtistResponseMapper {
 
     @AfterMapping
     default void addLinks(@MappingTarget ArtistResponseModel artistResponseModel) {
-        //self link
-        Link selfLink = linkTo(methodOn(ArtistController.class).getArtistByArtistId
-                (artistResponseModel.getArtistId()))
-                .withSelfRel();
-        artistResponseModel.add(selfLink);
-
-        //link to all
-        Link allArtistsLink = linkTo(methodOn(ArtistController.class)
-                .getAllArtists())
-                .withRel("artists");
-        artistResponseModel.add(allArtistsLink);
+        if (!LinkTemplates.enabled()) {
+            return;
+        }
+        String baseUri = LinkTemplates.baseUri();
+        artistResponseModel.add(LinkTemplates.ARTIST.toLink(baseUri, IanaLinkRelations.SELF_VALUE,
+                artistResponseModel.getArtistId()));
+        artistResponseModel.add(LinkTemplates.ARTISTS.toLink(baseUri, "artists"));
     }
 }
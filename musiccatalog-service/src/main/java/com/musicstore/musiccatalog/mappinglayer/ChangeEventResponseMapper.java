@@ -0,0 +1,15 @@
+package com.musicstore.musiccatalog.mappinglayer;
+
+import com.musicstore.musiccatalog.dataaccesslayer.event.OutboxEvent;
+import com.musicstore.musiccatalog.presentationlayer.event.ChangeEventResponseModel;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface ChangeEventResponseMapper {
+
+    ChangeEventResponseModel entityToResponseModel(OutboxEvent outboxEvent);
+
+    List<ChangeEventResponseModel> entityListToResponseModelList(List<OutboxEvent> outboxEvents);
+}
@@ -0,0 +1,35 @@
+package com.musicstore.musiccatalog.presentationlayer.album;
+
+import com.musicstore.musiccatalog.businesslayer.album.AlbumService;
+import com.musicstore.musiccatalog.utils.exceptions.InvalidInputException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@RestController
+public class AlbumBatchController {
+    private final AlbumService albumService;
+    private static final int UUID_LENGTH = 36;
+    private static final int MAX_BATCH_SIZE = 500;
+
+    public AlbumBatchController(AlbumService albumService) {
+        this.albumService = albumService;
+    }
+
+    @PostMapping("api/v1/albums:batchGet")
+    public ResponseEntity<List<AlbumResponseModel>> getAlbumsByAlbumIds(@RequestBody Set<String> albumIds) {
+        if (albumIds.size() > MAX_BATCH_SIZE) {
+            throw new InvalidInputException("At most " + MAX_BATCH_SIZE + " albumIds can be requested at once, got: " + albumIds.size());
+        }
+        albumIds.forEach(albumId -> {
+            if (albumId == null || albumId.length() != UUID_LENGTH) {
+                throw new InvalidInputException("Invalid albumId provided: " + albumId);
+            }
+        });
+        return ResponseEntity.ok(albumService.getAlbumsByAlbumIds(albumIds));
+    }
+}
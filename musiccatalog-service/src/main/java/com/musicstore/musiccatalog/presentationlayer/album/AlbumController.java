@@ -2,8 +2,11 @@ package com.musicstore.musiccatalog.presentationlayer.album;
 
 import com.musicstore.musiccatalog.businesslayer.album.AlbumService;
 import com.musicstore.musiccatalog.dataaccesslayer.album.Status;
+import com.musicstore.musiccatalog.utils.Pageables;
 import com.musicstore.musiccatalog.utils.exceptions.InvalidInputException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,17 +20,27 @@ import java.util.Map;
 public class AlbumController {
     private final AlbumService albumService;
     private static final int UUID_LENGTH = 36;
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "albumTitle", "albumInformation.albumTitle",
+            "releaseDate", "albumInformation.releaseDate",
+            "albumGenre", "albumGenre",
+            "status", "status");
 
     public AlbumController(AlbumService albumService) {
         this.albumService = albumService;
     }
 
     @GetMapping
-    public ResponseEntity<List<AlbumResponseModel>> getAllAlbums(@PathVariable String artistId, @RequestParam(required = false) Map<String, String> queryParams ){
+    public ResponseEntity<List<AlbumResponseModel>> getAllAlbums(@PathVariable String artistId, @RequestParam(required = false) Map<String, String> queryParams,
+                                                                 Pageable pageable){
         if (artistId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid artistId provided: " + artistId);
         }
-        return ResponseEntity.ok(albumService.getAllAlbums(artistId, queryParams));
+        Page<AlbumResponseModel> albums = albumService.getAllAlbums(artistId, queryParams,
+                Pageables.withSortProperties(pageable, SORTABLE_PROPERTIES));
+        return ResponseEntity.ok()
+                .header(Pageables.TOTAL_COUNT_HEADER, String.valueOf(albums.getTotalElements()))
+                .body(albums.getContent());
     }
 
     @GetMapping("/{albumId}")
@@ -0,0 +1,38 @@
+package com.musicstore.musiccatalog.presentationlayer.album;
+
+import com.musicstore.musiccatalog.businesslayer.album.AlbumService;
+import com.musicstore.musiccatalog.businesslayer.event.ChangeEventService;
+import com.musicstore.musiccatalog.utils.NdjsonWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Slf4j
+@RestController
+public class AlbumExportController {
+    static final String CHANGE_FEED_POSITION_HEADER = "X-Change-Feed-Position";
+
+    private final AlbumService albumService;
+    private final ChangeEventService changeEventService;
+    private final NdjsonWriter ndjsonWriter;
+
+    public AlbumExportController(AlbumService albumService, ChangeEventService changeEventService, NdjsonWriter ndjsonWriter) {
+        this.albumService = albumService;
+        this.changeEventService = changeEventService;
+        this.ndjsonWriter = ndjsonWriter;
+    }
+
+    @GetMapping(value = "api/v1/albums:export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAlbums() {
+        // read before the albums, so replaying the feed from here covers anything the export misses
+        long position = changeEventService.getLastPosition();
+        log.debug("Streaming album export from change feed position {}", position);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(CHANGE_FEED_POSITION_HEADER, String.valueOf(position))
+                .body(out -> albumService.exportAlbums(ndjsonWriter.to(out)));
+    }
+}
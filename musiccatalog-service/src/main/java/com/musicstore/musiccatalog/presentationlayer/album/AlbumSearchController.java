@@ -0,0 +1,29 @@
+package com.musicstore.musiccatalog.presentationlayer.album;
+
+import com.musicstore.musiccatalog.businesslayer.album.AlbumService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@Slf4j
+@RestController
+public class AlbumSearchController {
+    private final AlbumService albumService;
+
+    public AlbumSearchController(AlbumService albumService) {
+        this.albumService = albumService;
+    }
+
+    // every word of q must start a word of the album title or of the artist name
+    @GetMapping("api/v1/albums/search")
+    public ResponseEntity<AlbumSearchResponseModel> searchAlbums(@RequestParam(required = false) Map<String, String> queryParams,
+                                                                 Pageable pageable) {
+        log.debug("Searching albums with {}", queryParams);
+        return ResponseEntity.ok(albumService.searchAlbums(queryParams, pageable));
+    }
+}
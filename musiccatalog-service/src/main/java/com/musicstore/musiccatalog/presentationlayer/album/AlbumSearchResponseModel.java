@@ -0,0 +1,24 @@
+package com.musicstore.musiccatalog.presentationlayer.album;
+
+import com.musicstore.musiccatalog.dataaccesslayer.album.AlbumGenreEnum;
+import com.musicstore.musiccatalog.dataaccesslayer.album.Status;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AlbumSearchResponseModel {
+    List<AlbumResponseModel> albums;   // one page, best matches first
+    long totalElements;
+    // facet counts over all matches, each ignoring its own filter
+    Map<AlbumGenreEnum, Long> genres;
+    Map<Status, Long> statuses;
+    Map<Integer, Long> releaseYears;
+}
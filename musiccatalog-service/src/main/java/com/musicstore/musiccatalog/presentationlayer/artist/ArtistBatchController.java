@@ -0,0 +1,35 @@
+package com.musicstore.musiccatalog.presentationlayer.artist;
+
+import com.musicstore.musiccatalog.businesslayer.artist.ArtistService;
+import com.musicstore.musiccatalog.utils.exceptions.InvalidInputException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@RestController
+public class ArtistBatchController {
+    private final ArtistService artistService;
+    private static final int UUID_LENGTH = 36;
+    private static final int MAX_BATCH_SIZE = 500;
+
+    public ArtistBatchController(ArtistService artistService) {
+        this.artistService = artistService;
+    }
+
+    @PostMapping("api/v1/artists:batchGet")
+    public ResponseEntity<List<ArtistResponseModel>> getArtistsByArtistIds(@RequestBody Set<String> artistIds) {
+        if (artistIds.size() > MAX_BATCH_SIZE) {
+            throw new InvalidInputException("At most " + MAX_BATCH_SIZE + " artistIds can be requested at once, got: " + artistIds.size());
+        }
+        artistIds.forEach(artistId -> {
+            if (artistId == null || artistId.length() != UUID_LENGTH) {
+                throw new InvalidInputException("Invalid artistId provided: " + artistId);
+            }
+        });
+        return ResponseEntity.ok(artistService.getArtistsByArtistIds(artistIds));
+    }
+}
@@ -1,13 +1,17 @@
 package com.musicstore.musiccatalog.presentationlayer.artist;
 
 import com.musicstore.musiccatalog.businesslayer.artist.ArtistService;
+import com.musicstore.musiccatalog.utils.Pageables;
 import com.musicstore.musiccatalog.utils.exceptions.InvalidInputException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -16,14 +20,21 @@ public class ArtistController {
 
     private final ArtistService artistService;
     private static final int UUID_LENGTH = 36;
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "artistName", "artistInformation.artistName",
+            "country", "artistInformation.country",
+            "debutYear", "artistInformation.debutYear");
 
     public ArtistController(ArtistService artistService) {
         this.artistService = artistService;
     }
 
     @GetMapping()
-    public ResponseEntity<List<ArtistResponseModel>> getAllArtists() {
-        return ResponseEntity.ok(artistService.getAllArtists());
+    public ResponseEntity<List<ArtistResponseModel>> getAllArtists(Pageable pageable) {
+        Page<ArtistResponseModel> artists = artistService.getAllArtists(Pageables.withSortProperties(pageable, SORTABLE_PROPERTIES));
+        return ResponseEntity.ok()
+                .header(Pageables.TOTAL_COUNT_HEADER, String.valueOf(artists.getTotalElements()))
+                .body(artists.getContent());
     }
 
     @GetMapping("/{artistId}")
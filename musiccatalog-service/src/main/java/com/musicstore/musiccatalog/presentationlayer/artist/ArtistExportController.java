@@ -0,0 +1,30 @@
+package com.musicstore.musiccatalog.presentationlayer.artist;
+
+import com.musicstore.musiccatalog.businesslayer.artist.ArtistService;
+import com.musicstore.musiccatalog.utils.NdjsonWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Slf4j
+@RestController
+public class ArtistExportController {
+    private final ArtistService artistService;
+    private final NdjsonWriter ndjsonWriter;
+
+    public ArtistExportController(ArtistService artistService, NdjsonWriter ndjsonWriter) {
+        this.artistService = artistService;
+        this.ndjsonWriter = ndjsonWriter;
+    }
+
+    @GetMapping(value = "api/v1/artists:export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportArtists() {
+        log.debug("Streaming artist export");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> artistService.exportArtists(ndjsonWriter.to(out)));
+    }
+}
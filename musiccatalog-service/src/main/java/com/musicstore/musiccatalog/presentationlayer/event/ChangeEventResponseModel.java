@@ -0,0 +1,24 @@
+package com.musicstore.musiccatalog.presentationlayer.event;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.musicstore.musiccatalog.dataaccesslayer.event.ChangeEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChangeEventResponseModel {
+    Long position;
+    String aggregateType;
+    String aggregateId;
+    ChangeEventType eventType;
+    Instant occurredAt;
+    @JsonRawValue
+    String payload;
+}
@@ -0,0 +1,38 @@
+package com.musicstore.musiccatalog.utils;
+
+import com.musicstore.musiccatalog.utils.exceptions.InvalidInputException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Maps the sort properties of a page request from the names used in the
+ * response models to entity paths and rejects any other property. The private
+ * id is always the last sort key so pages stay stable.
+ */
+public final class Pageables {
+
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    private Pageables() {
+    }
+
+    public static Pageable withSortProperties(Pageable pageable, Map<String, String> sortableProperties) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Sort.Order order : pageable.getSort()) {
+            String path = sortableProperties.get(order.getProperty());
+            if (path == null) {
+                throw new InvalidInputException("Unsupported sort property: " + order.getProperty()
+                        + ", expected one of " + new TreeSet<>(sortableProperties.keySet()));
+            }
+            orders.add(order.withProperty(path));
+        }
+        orders.add(Sort.Order.asc("id"));
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(orders));
+    }
+}
@@ -0,0 +1,64 @@
+package com.musicstore.musiccatalog.utils;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Wraps every Spring Data repository method and every MapStruct mapper method (beans in a
+ * {@code mappinglayer} package) in a span named {@code <Type>.<method>}, so the storage and
+ * mapping stages of a request show up in its trace.
+ */
+public class TracedComponentsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<Tracer> tracer;
+
+    public TracedComponentsPostProcessor(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactory) {
+            repositoryFactory.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, metadata) -> proxyFactory.addAdvice(
+                            spanning("repository", metadata.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!bean.getClass().getPackageName().endsWith(".mappinglayer")) {
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addAdvice(spanning("mapping", bean.getClass().getSimpleName().replaceFirst("Impl$", "")));
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+
+    private MethodInterceptor spanning(String component, String type) {
+        return invocation -> {
+            Tracer current = tracer.getIfAvailable(() -> Tracer.NOOP);
+            if (current.currentSpan() == null) {
+                // only trace storage and mapping work that is part of a traced request
+                return invocation.proceed();
+            }
+            Span span = current.nextSpan().name(type + "." + invocation.getMethod().getName())
+                    .tag("component", component)
+                    .start();
+            try (Tracer.SpanInScope ignored = current.withSpan(span)) {
+                return invocation.proceed();
+            } catch (Throwable ex) {
+                span.error(ex);
+                throw ex;
+            } finally {
+                span.end();
+            }
+        };
+    }
+}
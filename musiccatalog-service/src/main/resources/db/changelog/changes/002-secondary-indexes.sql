@@ -0,0 +1,12 @@
+--liquibase formatted sql
+
+-- findAllByArtistIdentifier_ArtistId uses the artist_id prefix,
+-- findAlbumByArtistIdentifier_ArtistIdAndAlbumGenre the whole key
+--changeset musicstore:002-albums-artist-id-album-genre
+create index idx_albums_artist_id_album_genre on albums (artist_id, album_genre);
+--rollback drop index idx_albums_artist_id_album_genre on albums;
+
+-- existsByArtistInformation_ArtistName
+--changeset musicstore:002-artists-artist-name
+create index idx_artists_artist_name on artists (artist_name);
+--rollback drop index idx_artists_artist_name on artists;
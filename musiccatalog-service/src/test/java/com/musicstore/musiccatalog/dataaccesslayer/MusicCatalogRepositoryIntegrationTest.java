@@ -1,23 +1,32 @@
 package com.musicstore.musiccatalog.dataaccesslayer;
 
+import com.musicstore.musiccatalog.businesslayer.album.AlbumSearchIndex;
 import com.musicstore.musiccatalog.businesslayer.album.AlbumService;
 import com.musicstore.musiccatalog.businesslayer.album.AlbumServiceImpl;
+import com.musicstore.musiccatalog.businesslayer.event.ChangeEventOutbox;
 import com.musicstore.musiccatalog.dataaccesslayer.album.*;
 import com.musicstore.musiccatalog.dataaccesslayer.artist.Artist;
 import com.musicstore.musiccatalog.dataaccesslayer.artist.ArtistIdentifier;
 import com.musicstore.musiccatalog.dataaccesslayer.artist.ArtistInformation;
 import com.musicstore.musiccatalog.dataaccesslayer.artist.ArtistRepository;
+import com.musicstore.musiccatalog.dataaccesslayer.event.ChangeEventType;
+import com.musicstore.musiccatalog.dataaccesslayer.event.OutboxEvent;
+import com.musicstore.musiccatalog.dataaccesslayer.event.OutboxEventRepository;
+import com.musicstore.musiccatalog.mappinglayer.AlbumExportMapper;
 import com.musicstore.musiccatalog.mappinglayer.AlbumRequestMapper;
 import com.musicstore.musiccatalog.mappinglayer.AlbumResponseMapper;
 import com.musicstore.musiccatalog.presentationlayer.album.AlbumRequestModel;
 import com.musicstore.musiccatalog.presentationlayer.album.AlbumResponseModel;
 import com.musicstore.musiccatalog.utils.exceptions.InvalidInputException;
 import com.musicstore.musiccatalog.utils.exceptions.NotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
 
@@ -31,6 +40,15 @@ public class MusicCatalogRepositoryIntegrationTest {
     @Autowired
     private AlbumRepository albumRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
 
     @Test
     public void whenArtistExists_thenReturnAllArtists() {
@@ -72,6 +90,23 @@ public class MusicCatalogRepositoryIntegrationTest {
         assertEquals("test-artist-1", found.getArtistIdentifier().getArtistId());
     }
 
+    @Test
+    public void whenFindByArtistIdIn_thenReturnOnlyMatchingArtists() {
+        Artist a1 = new Artist();
+        a1.setArtistIdentifier(new ArtistIdentifier("batch-artist-1"));
+        a1.setArtistInformation(new ArtistInformation("Batch1", "C1", 2001, "Bio1"));
+        Artist a2 = new Artist();
+        a2.setArtistIdentifier(new ArtistIdentifier("batch-artist-2"));
+        a2.setArtistInformation(new ArtistInformation("Batch2", "C2", 2002, "Bio2"));
+        artistRepository.save(a1);
+        artistRepository.save(a2);
+
+        List<Artist> found = artistRepository.findAllByArtistIdentifier_ArtistIdIn(
+                List.of("batch-artist-1", "batch-artist-2", "no-such-id"));
+
+        assertEquals(2, found.size());
+    }
+
     @Test
     public void whenFindByUnknownArtistId_thenReturnNull() {
         Artist found = artistRepository.findByArtistIdentifier_ArtistId("no-such-id");
@@ -248,6 +283,27 @@ public class MusicCatalogRepositoryIntegrationTest {
         assertEquals("alb-2", found.getAlbumIdentifier().getAlbumId());
     }
 
+    @Test
+    public void whenFindByAlbumIdIn_thenReturnOnlyMatchingAlbums() {
+        Album alb1 = new Album();
+        alb1.setAlbumIdentifier(new AlbumIdentifier("batch-alb-1"));
+        alb1.setArtistIdentifier(new ArtistIdentifier("artist-1"));
+        alb1.setAlbumGenre(AlbumGenreEnum.ROCK);
+        alb1.setAlbumInformation(new AlbumInformation("T1", 2022, "3:00"));
+        Album alb2 = new Album();
+        alb2.setAlbumIdentifier(new AlbumIdentifier("batch-alb-2"));
+        alb2.setArtistIdentifier(new ArtistIdentifier("artist-2"));
+        alb2.setAlbumGenre(AlbumGenreEnum.POP);
+        alb2.setAlbumInformation(new AlbumInformation("T2", 2021, "4:00"));
+        albumRepository.save(alb1);
+        albumRepository.save(alb2);
+
+        List<Album> found = albumRepository.findAllByAlbumIdentifier_AlbumIdIn(
+                List.of("batch-alb-1", "batch-alb-2", "no-alb"));
+
+        assertEquals(2, found.size());
+    }
+
     @Test
     public void whenFindByUnknownAlbumId_thenReturnNull() {
         Album found = albumRepository.findByAlbumIdentifier_AlbumId("no-alb");
@@ -384,7 +440,10 @@ public class MusicCatalogRepositoryIntegrationTest {
         // pull in both mappers
         var reqMapper  = Mappers.getMapper(AlbumRequestMapper.class);
         var respMapper = Mappers.getMapper(AlbumResponseMapper.class);
-        return new AlbumServiceImpl(albumRepository, reqMapper, respMapper, artistRepository);
+        return new AlbumServiceImpl(albumRepository, reqMapper, respMapper, artistRepository,
+                Mappers.getMapper(AlbumExportMapper.class), entityManager,
+                new ChangeEventOutbox(outboxEventRepository, new ObjectMapper()),
+                new AlbumSearchIndex(albumRepository, artistRepository, transactionManager));
     }
 
     @Test
@@ -408,6 +467,12 @@ public class MusicCatalogRepositoryIntegrationTest {
         Album fromDb = albumRepository
                 .findAlbumByArtistIdentifier_ArtistIdAndAlbumIdentifier_AlbumId(artistId, albumId);
         assertEquals(Status.USED, fromDb.getStatus());
+        // and the change waits in the outbox, not yet published
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertEquals(1, events.size());
+        assertEquals(albumId, events.get(0).getAggregateId());
+        assertEquals(ChangeEventType.UPDATED, events.get(0).getEventType());
+        assertNull(events.get(0).getPosition());
     }
 
     @Test
@@ -0,0 +1,134 @@
+package com.musicstore.musiccatalog.dataaccesslayer;
+
+import com.musicstore.musiccatalog.dataaccesslayer.album.*;
+import com.musicstore.musiccatalog.dataaccesslayer.artist.Artist;
+import com.musicstore.musiccatalog.dataaccesslayer.artist.ArtistIdentifier;
+import com.musicstore.musiccatalog.dataaccesslayer.artist.ArtistInformation;
+import com.musicstore.musiccatalog.dataaccesslayer.artist.ArtistRepository;
+import com.musicstore.musiccatalog.businesslayer.album.AlbumServiceImpl;
+import com.musicstore.musiccatalog.mappinglayer.AlbumExportMapper;
+import com.musicstore.musiccatalog.mappinglayer.AlbumRequestMapper;
+import com.musicstore.musiccatalog.mappinglayer.AlbumResponseMapper;
+import com.musicstore.musiccatalog.utils.exceptions.NotFoundException;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.mapstruct.factory.Mappers;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// runs on the embedded H2 database; MySqlQueryPlanIntegrationTest repeats it on the MySQL the docker profile uses
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.musicstore.musiccatalog.dataaccesslayer.QueryPlanIntegrationTest$SqlCapture")
+public class QueryPlanIntegrationTest {
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String ARTIST_ID = "plan-artist-3";
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 10; i++) {
+            Artist artist = new Artist();
+            artist.setArtistIdentifier(new ArtistIdentifier("plan-artist-" + i));
+            artist.setArtistInformation(new ArtistInformation("Plan Artist " + i, "Canada", 2000, "Bio"));
+            artistRepository.save(artist);
+            for (int j = 0; j < 10; j++) {
+                albumRepository.save(new Album(new AlbumIdentifier("plan-album-" + i + "-" + j),
+                        new AlbumInformation("Plan Album " + j, 2000 + j, "40:00"),
+                        new ArtistIdentifier("plan-artist-" + i), AlbumGenreEnum.values()[j], Status.NEW));
+            }
+        }
+        albumRepository.flush();
+        SqlCapture.statements.clear();
+    }
+
+    @Test
+    public void whenFindAlbumsByArtistId_thenPlanUsesArtistIdIndex() {
+        String sql = capture(() -> albumRepository.findAllByArtistIdentifier_ArtistId(ARTIST_ID));
+
+        assertPlanUsesIndex("idx_albums_artist_id_album_genre", sql, ARTIST_ID);
+    }
+
+    @Test
+    public void whenFindAlbumsByArtistIdAndGenre_thenPlanUsesArtistIdIndex() {
+        String sql = capture(() -> albumRepository.findAlbumByArtistIdentifier_ArtistIdAndAlbumGenre(ARTIST_ID, AlbumGenreEnum.JAZZ));
+
+        assertPlanUsesIndex("idx_albums_artist_id_album_genre", sql, ARTIST_ID, AlbumGenreEnum.JAZZ.name());
+    }
+
+    @Test
+    public void whenArtistNameExistsCheck_thenPlanUsesArtistNameIndex() {
+        String sql = capture(() -> artistRepository.existsByArtistInformation_ArtistName("Plan Artist 3"));
+
+        assertPlanUsesIndex("idx_artists_artist_name", sql, "Plan Artist 3", 1);
+    }
+
+    @Test
+    public void whenListingAlbumsOfArtist_thenArtistCheckAndAlbumsShareOneStatement() {
+        // the listing used to load the artist first, a second statement on every request
+        String sql = capture(() -> albumService().getAllAlbums(ARTIST_ID, Map.of("albumGenre", "jazz,rock"),
+                PageRequest.of(0, 20, Sort.by("id"))));
+
+        assertTrue(sql.contains("artists") && sql.contains("albums"), sql);
+        assertThrows(NotFoundException.class, () -> albumService().getAllAlbums("no-such-artist", Map.of(),
+                PageRequest.of(0, 20, Sort.by("id"))));
+    }
+
+    @Test
+    public void whenGetAlbumById_thenArtistNameComesFromTheSameStatement() {
+        String sql = capture(() -> assertEquals("Plan Artist 3",
+                albumService().getAlbumByAlbumId("plan-album-3-4").getArtistName()));
+
+        assertTrue(sql.contains("artists") && sql.contains("albums"), sql);
+    }
+
+    private String capture(Runnable query) {
+        query.run();
+        assertEquals(1, SqlCapture.statements.size(), "expected a single statement: " + SqlCapture.statements);
+        return SqlCapture.statements.get(0);
+    }
+
+    private void assertPlanUsesIndex(String index, String sql, Object... args) {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+        // MySQL names the chosen index in the key column, H2 inlines it into the rewritten statement
+        String plan = database.equals("MySQL")
+                ? rows.stream().map(row -> String.valueOf(row.get("key"))).collect(Collectors.joining(" "))
+                : rows.stream().map(row -> row.values().toString()).collect(Collectors.joining(" "));
+        assertTrue(plan.toLowerCase().contains(index), "expected " + index + " in the plan of " + sql + ": " + plan);
+    }
+
+    private AlbumServiceImpl albumService() {
+        return new AlbumServiceImpl(albumRepository, Mappers.getMapper(AlbumRequestMapper.class),
+                Mappers.getMapper(AlbumResponseMapper.class), artistRepository, Mappers.getMapper(AlbumExportMapper.class),
+                null, null, null);
+    }
+
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
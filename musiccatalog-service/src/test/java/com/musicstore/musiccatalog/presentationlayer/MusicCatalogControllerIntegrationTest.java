@@ -1,10 +1,12 @@
 package com.musicstore.musiccatalog.presentationlayer;
 
+import com.musicstore.musiccatalog.businesslayer.event.OutboxRelay;
 import com.musicstore.musiccatalog.dataaccesslayer.album.AlbumGenreEnum;
 import com.musicstore.musiccatalog.dataaccesslayer.album.AlbumRepository;
 import com.musicstore.musiccatalog.dataaccesslayer.artist.ArtistRepository;
 import com.musicstore.musiccatalog.presentationlayer.album.AlbumRequestModel;
 import com.musicstore.musiccatalog.presentationlayer.album.AlbumResponseModel;
+import com.musicstore.musiccatalog.presentationlayer.album.AlbumSearchResponseModel;
 import com.musicstore.musiccatalog.presentationlayer.artist.ArtistRequestModel;
 import com.musicstore.musiccatalog.presentationlayer.artist.ArtistResponseModel;
 import com.musicstore.musiccatalog.utils.exceptions.DuplicateArtistNameException;
@@ -21,7 +23,9 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.util.List;
+import java.util.Set;
 
+import static org.hamcrest.Matchers.endsWith;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
 
@@ -38,6 +42,9 @@ public class MusicCatalogControllerIntegrationTest {
     @Autowired
     private WebTestClient webTestClient;
 
+    @Autowired
+    private OutboxRelay outboxRelay;
+
     private final String BASE_URL_ARTISTS = "/api/v1/artists";
     private final String VALID_ARTIST_ID = "e5913a79-9b1e-4516-9ffd-06578e7af261";
     private final String NOT_FOUND_ARTIST_ID = "e5913a79-9b1e-4516-9ffd-06578e7af262";
@@ -48,6 +55,8 @@ public class MusicCatalogControllerIntegrationTest {
     private final String NOT_FOUND_ALBUM_ID = "84c5f33e-8e5d-4eb5-b35d-79272355fa73";
     private final String INVALID_ALBUM_ID = "c3540a89-cb47-4c96-888e-ff96708d";
 
+    private final String BASE_URL_ALBUM_SEARCH = "/api/v1/albums/search";
+
     @Test
     public void whenGetAllArtists_thenReturnList() {
         List<ArtistResponseModel> list = webTestClient.get()
@@ -63,6 +72,32 @@ public class MusicCatalogControllerIntegrationTest {
         assertEquals(artistRepository.count(), list.size());
     }
 
+    @Test
+    public void whenGetArtistsPage_thenReturnSortedPageAndTotalCount() {
+        List<ArtistResponseModel> list = webTestClient.get()
+                .uri(BASE_URL_ARTISTS + "?page=1&size=3&sort=artistName")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Total-Count", String.valueOf(artistRepository.count()))
+                .expectBodyList(ArtistResponseModel.class)
+                .returnResult().getResponseBody();
+
+        assertNotNull(list);
+        assertEquals(3, list.size());
+        assertTrue(list.get(0).getArtistName().compareTo(list.get(1).getArtistName()) <= 0);
+        assertTrue(list.get(1).getArtistName().compareTo(list.get(2).getArtistName()) <= 0);
+    }
+
+    @Test
+    public void whenGetArtistsSortedByUnsupportedProperty_thenReturnUnprocessableEntity() {
+        webTestClient.get()
+                .uri(BASE_URL_ARTISTS + "?sort=biography")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
     @Test
     public void whenGetArtistByValidId_thenReturnArtist() {
         webTestClient.get()
@@ -230,6 +265,54 @@ public class MusicCatalogControllerIntegrationTest {
                 .isEqualTo("Provided artist does not exist" + NOT_FOUND_ARTIST_ID);
     }
 
+    @Test
+    public void whenBatchGetArtists_thenReturnOnlyExistingArtists() {
+        webTestClient.post()
+                .uri("/api/v1/artists:batchGet")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Set.of(VALID_ARTIST_ID, NOT_FOUND_ARTIST_ID))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ArtistResponseModel.class)
+                .value(list -> {
+                    assertEquals(1, list.size());
+                    assertEquals(VALID_ARTIST_ID, list.get(0).getArtistId());
+                });
+    }
+
+    @Test
+    public void whenBatchGetArtistsWithInvalidId_thenReturnUnprocessableEntity() {
+        webTestClient.post()
+                .uri("/api/v1/artists:batchGet")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Set.of(INVALID_ARTIST_ID))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("Invalid artistId provided: " + INVALID_ARTIST_ID);
+    }
+
+    @Test
+    public void whenExportArtists_thenStreamOneLinePerArtistWithoutLinks() {
+        long sizeDb = artistRepository.count();
+
+        String body = webTestClient.get()
+                .uri("/api/v1/artists:export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        assertNotNull(body);
+        List<String> lines = body.lines().toList();
+        assertEquals(sizeDb, lines.size());
+        assertTrue(lines.stream().noneMatch(line -> line.contains("\"links\"")));
+        assertTrue(body.contains("\"artistId\":\"" + VALID_ARTIST_ID + "\""));
+    }
+
     // -------------------- ALBUM TESTS --------------------
 
     @Test
@@ -245,6 +328,159 @@ public class MusicCatalogControllerIntegrationTest {
                 .value(list -> assertEquals(sizeDb, list.size()));
     }
 
+    @Test
+    public void whenGetAlbumsPage_thenReturnPageAndTotalCount() {
+        long sizeDb = albumRepository.findAllByArtistIdentifier_ArtistId(VALID_ARTIST_ID).size();
+
+        webTestClient.get()
+                .uri(BASE_URL_ALBUM.replace("{artistId}", VALID_ARTIST_ID) + "?size=1&sort=releaseDate,desc")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Total-Count", String.valueOf(sizeDb))
+                .expectBodyList(AlbumResponseModel.class)
+                .value(list -> assertEquals(1, list.size()));
+    }
+
+    @Test
+    public void whenGetAlbumsWithinYearRangeAndGenres_thenReturnMatchingAlbums() {
+        webTestClient.get()
+                .uri(BASE_URL_ALBUM.replace("{artistId}", VALID_ARTIST_ID) + "?albumGenre=Rock,pop&releasedFrom=1960&releasedTo=1969")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Total-Count", "1")
+                .expectBodyList(AlbumResponseModel.class)
+                .value(list -> assertEquals(VALID_ALBUM_ID, list.get(0).getAlbumId()));
+    }
+
+    @Test
+    public void whenNoAlbumMatchesFilters_thenReturnEmptyListForExistingArtist() {
+        webTestClient.get()
+                .uri(BASE_URL_ALBUM.replace("{artistId}", VALID_ARTIST_ID) + "?releasedFrom=1970&status=new,used")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Total-Count", "0")
+                .expectBodyList(AlbumResponseModel.class)
+                .value(list -> assertTrue(list.isEmpty()));
+    }
+
+    @Test
+    public void whenGetAlbumsWithUnknownGenre_thenReturnUnprocessableEntity() {
+        webTestClient.get()
+                .uri(BASE_URL_ALBUM.replace("{artistId}", VALID_ARTIST_ID) + "?albumGenre=rock,polka")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("Invalid albumGenre provided: polka");
+    }
+
+    @Test
+    public void whenSearchAlbumsByWord_thenTitleMatchesRankBeforeArtistMatches() {
+        AlbumSearchResponseModel result = webTestClient.get()
+                .uri(BASE_URL_ALBUM_SEARCH + "?q=the")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(AlbumSearchResponseModel.class)
+                .returnResult().getResponseBody();
+
+        assertNotNull(result);
+        assertEquals(4, result.getTotalElements());
+        assertEquals(List.of("The College Dropout", "The Rise and Fall of Ziggy Stardust and the Spiders from Mars",
+                        "Abbey Road", "Sticky Fingers"),
+                result.getAlbums().stream().map(AlbumResponseModel::getAlbumTitle).toList());
+    }
+
+    @Test
+    public void whenSearchAlbumsByPrefixesOfArtistAndTitle_thenReturnAlbumMatchingBoth() {
+        AlbumSearchResponseModel result = webTestClient.get()
+                .uri(BASE_URL_ALBUM_SEARCH + "?q=Beat Ro")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(AlbumSearchResponseModel.class)
+                .returnResult().getResponseBody();
+
+        assertNotNull(result);
+        assertEquals(1, result.getTotalElements());
+        assertEquals(VALID_ALBUM_ID, result.getAlbums().get(0).getAlbumId());
+    }
+
+    @Test
+    public void whenSearchAlbumsWithFilters_thenReturnPageAndFacetsIgnoringOwnFilter() {
+        AlbumSearchResponseModel result = webTestClient.get()
+                .uri(BASE_URL_ALBUM_SEARCH + "?albumGenre=rock&releasedFrom=1970&size=1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(AlbumSearchResponseModel.class)
+                .returnResult().getResponseBody();
+
+        assertNotNull(result);
+        assertEquals(1, result.getTotalElements());
+        assertEquals("Sticky Fingers", result.getAlbums().get(0).getAlbumTitle());
+        assertEquals(2L, result.getGenres().get(AlbumGenreEnum.HIP_HOP));
+        assertEquals(1L, result.getGenres().get(AlbumGenreEnum.ROCK));
+        assertEquals(1L, result.getReleaseYears().get(1969));
+        assertFalse(result.getReleaseYears().containsKey(2004));
+    }
+
+    @Test
+    public void whenAlbumAddedAndDeleted_thenSearchFollowsTheWrites() {
+        String searchUri = BASE_URL_ALBUM_SEARCH + "?q=yellow sub";
+        webTestClient.get().uri(searchUri).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.totalElements").isEqualTo(0);
+
+        AlbumRequestModel req = AlbumRequestModel.builder()
+                .artistId(VALID_ARTIST_ID)
+                .albumTitle("Yellow Submarine")
+                .releaseDate(1969)
+                .albumLength("39:16")
+                .albumGenre(AlbumGenreEnum.ROCK)
+                .build();
+        AlbumResponseModel created = webTestClient.post()
+                .uri(BASE_URL_ALBUM.replace("{artistId}", VALID_ARTIST_ID))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(req)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(AlbumResponseModel.class)
+                .returnResult().getResponseBody();
+        assertNotNull(created);
+
+        webTestClient.get().uri(searchUri).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(1)
+                .jsonPath("$.albums[0].albumId").isEqualTo(created.getAlbumId());
+
+        webTestClient.delete()
+                .uri(BASE_URL_ALBUM.replace("{artistId}", VALID_ARTIST_ID) + "/" + created.getAlbumId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri(searchUri).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.totalElements").isEqualTo(0);
+    }
+
+    @Test
+    public void whenSearchAlbumsWithUnknownStatus_thenReturnUnprocessableEntity() {
+        webTestClient.get()
+                .uri(BASE_URL_ALBUM_SEARCH + "?q=road&status=lost")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("Invalid status provided: lost");
+    }
+
     @Test
     public void whenGetAllAlbumsForInvalidArtist_thenReturnUnprocessableEntity() {
         webTestClient.get()
@@ -280,6 +516,124 @@ public class MusicCatalogControllerIntegrationTest {
                 .value(album -> assertEquals(VALID_ALBUM_ID, album.getAlbumId()));
     }
 
+    @Test
+    public void whenGetAlbumByValidId_thenIncludeArtistNameAndCountry() {
+        webTestClient.get()
+                .uri(BASE_URL_ALBUM.replace("{artistId}", VALID_ARTIST_ID) + "/" + VALID_ALBUM_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.artistName").isEqualTo("The Beatles")
+                .jsonPath("$.country").isEqualTo("United Kingdom");
+    }
+
+    @Test
+    public void whenGetAlbumByValidId_thenLinksIncludeTheArtist() {
+        String albumsUrl = BASE_URL_ALBUM.replace("{artistId}", VALID_ARTIST_ID);
+
+        webTestClient.get()
+                .uri(albumsUrl + "/" + VALID_ALBUM_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$._links.self.href").value(endsWith(albumsUrl + "/" + VALID_ALBUM_ID))
+                .jsonPath("$._links.albums.href").value(endsWith(albumsUrl));
+    }
+
+    @Test
+    public void whenGetAllAlbumsWithLinksFalse_thenReturnAlbumsWithoutLinks() {
+        webTestClient.get()
+                .uri(BASE_URL_ALBUM.replace("{artistId}", VALID_ARTIST_ID) + "?links=false")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(AlbumResponseModel.class)
+                .value(list -> {
+                    assertFalse(list.isEmpty());
+                    assertTrue(list.stream().allMatch(album -> album.getLinks().isEmpty()));
+                });
+    }
+
+    @Test
+    public void whenExportAlbums_thenStreamEveryAlbumAcrossArtists() {
+        long sizeDb = albumRepository.count();
+
+        String body = webTestClient.get()
+                .uri("/api/v1/albums:export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        assertNotNull(body);
+        List<String> lines = body.lines().toList();
+        assertEquals(sizeDb, lines.size());
+        assertTrue(lines.stream().noneMatch(line -> line.contains("\"links\"")));
+        assertTrue(body.contains("\"albumId\":\"" + VALID_ALBUM_ID + "\""));
+    }
+
+    @Test
+    public void whenExportAlbumsAfterChange_thenHeaderCarriesChangeFeedPosition() {
+        webTestClient.get()
+                .uri("/api/v1/albums:export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Change-Feed-Position", "0");
+
+        webTestClient.patch()
+                .uri(BASE_URL_ALBUM.replace("{artistId}", VALID_ARTIST_ID) + "/" + VALID_ALBUM_ID + "/condition")
+                .contentType(MediaType.TEXT_PLAIN)
+                .bodyValue("BARGAIN")
+                .exchange()
+                .expectStatus().isOk();
+        outboxRelay.publishPending();
+
+        String body = webTestClient.get()
+                .uri("/api/v1/albums:export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Change-Feed-Position", "1")
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        assertNotNull(body);
+        assertTrue(body.lines().anyMatch(line -> line.contains(VALID_ALBUM_ID) && line.contains("\"status\":\"BARGAIN\"")));
+    }
+
+    @Test
+    public void whenBatchGetAlbums_thenReturnOnlyExistingAlbums() {
+        webTestClient.post()
+                .uri("/api/v1/albums:batchGet")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Set.of(VALID_ALBUM_ID, NOT_FOUND_ALBUM_ID))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(AlbumResponseModel.class)
+                .value(list -> {
+                    assertEquals(1, list.size());
+                    assertEquals(VALID_ALBUM_ID, list.get(0).getAlbumId());
+                    assertEquals("The Beatles", list.get(0).getArtistName());
+                });
+    }
+
+    @Test
+    public void whenBatchGetAlbumsWithInvalidId_thenReturnUnprocessableEntity() {
+        webTestClient.post()
+                .uri("/api/v1/albums:batchGet")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Set.of(INVALID_ALBUM_ID))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("Invalid albumId provided: " + INVALID_ALBUM_ID);
+    }
+
     @Test
     public void whenGetAlbumByInvalidId_thenReturnUnprocessableEntity() {
         webTestClient.get()
@@ -389,6 +743,33 @@ public class MusicCatalogControllerIntegrationTest {
                 .value(album -> assertEquals("Updated Title", album.getAlbumTitle()));
     }
 
+    @Test
+    public void whenAlbumConditionUpdated_thenChangeEventIsPublishedToFeed() {
+        webTestClient.patch()
+                .uri(BASE_URL_ALBUM.replace("{artistId}", VALID_ARTIST_ID) + "/" + VALID_ALBUM_ID + "/condition")
+                .contentType(MediaType.TEXT_PLAIN)
+                .bodyValue("BARGAIN")
+                .exchange()
+                .expectStatus().isOk();
+
+        outboxRelay.publishPending();
+
+        webTestClient.get()
+                .uri("/api/v1/events?since=0")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].position").isEqualTo(1)
+                .jsonPath("$[0].aggregateType").isEqualTo("album")
+                .jsonPath("$[0].aggregateId").isEqualTo(VALID_ALBUM_ID)
+                .jsonPath("$[0].eventType").isEqualTo("UPDATED")
+                .jsonPath("$[0].payload.artistId").isEqualTo(VALID_ARTIST_ID)
+                .jsonPath("$[0].payload.artistName").isEqualTo("The Beatles")
+                .jsonPath("$[0].payload.status").isEqualTo("BARGAIN");
+    }
+
     @Test
     public void whenUpdateAlbumInvalidIds_thenReturnUnprocessableEntity() {
         AlbumRequestModel update = AlbumRequestModel.builder()
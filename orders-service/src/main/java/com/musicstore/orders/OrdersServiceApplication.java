@@ -1,21 +1,41 @@
 package com.musicstore.orders;
 
-import org.apache.hc.client5.http.classic.HttpClient;
-import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @SpringBootApplication
+@EnableScheduling
 public class OrdersServiceApplication {
 
-	@Bean
-	RestTemplate restTemplate() {
-		HttpClient httpClient = HttpClientBuilder.create().build();
-		HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
-		return new RestTemplate(requestFactory);
+	// lookups carry the request's trace context onto the enrichment threads
+	@Bean("enrichmentExecutor")
+	@ConditionalOnThreading(Threading.PLATFORM)
+	ThreadPoolTaskExecutor platformEnrichmentExecutor(@Value("${app.enrichment.parallelism:16}") int parallelism) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(parallelism);
+		executor.setMaxPoolSize(parallelism);
+		executor.setThreadNamePrefix("order-enrichment-");
+		executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+		return executor;
+	}
+
+	// one virtual thread per lookup; the limit keeps the fan-out within the downstream connection pools
+	@Bean("enrichmentExecutor")
+	@ConditionalOnThreading(Threading.VIRTUAL)
+	SimpleAsyncTaskExecutor virtualEnrichmentExecutor(@Value("${app.enrichment.parallelism:16}") int parallelism) {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("order-enrichment-");
+		executor.setVirtualThreads(true);
+		executor.setConcurrencyLimit(parallelism);
+		executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+		return executor;
 	}
 
 	public static void main(String[] args) {
@@ -0,0 +1,190 @@
+package com.musicstore.orders.businesslayer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicstore.orders.dataaccesslayer.ChangeFeedPosition;
+import com.musicstore.orders.dataaccesslayer.ChangeFeedPositionRepository;
+import com.musicstore.orders.domainclientlayer.ChangeEventModel;
+import com.musicstore.orders.domainclientlayer.DownstreamGuard;
+import com.musicstore.orders.domainclientlayer.ReferenceDataCache;
+import com.musicstore.orders.domainclientlayer.customer.CustomerModel;
+import com.musicstore.orders.domainclientlayer.customer.CustomersServiceClient;
+import com.musicstore.orders.domainclientlayer.musiccatalog.AlbumModel;
+import com.musicstore.orders.domainclientlayer.musiccatalog.MusicCatalogServiceClient;
+import com.musicstore.orders.domainclientlayer.storelocation.StoreLocationModel;
+import com.musicstore.orders.domainclientlayer.storelocation.StoresServiceClient;
+import com.musicstore.orders.presentationlayer.SnapshotChangesRequestModel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Follows the change feeds of the customers, music catalog and store location services.
+ * Every event evicts its entity from the reference data cache, and updates are written
+ * into the snapshots embedded in orders through {@link OrderSnapshotUpdater}, so reads
+ * catch up with downstream changes without waiting for a cache to expire. The position
+ * reached in each feed is kept in {@code change_feed_positions} and only advances once
+ * a batch has been applied, so a restart resumes where the last batch ended. A feed
+ * whose service is unavailable is skipped until the next poll. Applied events are
+ * counted as {@code orders.change.events}, tagged with their {@code feed}. An event whose
+ * payload cannot be read is logged, counted as {@code orders.change.events.skipped} and
+ * passed over, so it cannot hold the feed back.
+ */
+@Slf4j
+@Component
+public class ChangeFeedPoller {
+
+    interface ChangeFeed {
+        List<ChangeEventModel> read(long since, int limit);
+    }
+
+    private final Map<String, ChangeFeed> feeds = new LinkedHashMap<>();
+    private final ChangeFeedPositionRepository changeFeedPositionRepository;
+    private final OrderSnapshotUpdater orderSnapshotUpdater;
+    private final ReferenceDataCache<CustomerModel> customerCache;
+    private final ReferenceDataCache<AlbumModel> albumCache;
+    private final ReferenceDataCache<AlbumModel> artistCache;
+    private final ReferenceDataCache<StoreLocationModel> storeCache;
+    private final ObjectMapper mapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public ChangeFeedPoller(CustomersServiceClient customersServiceClient,
+                            MusicCatalogServiceClient musicCatalogServiceClient,
+                            StoresServiceClient storesServiceClient,
+                            ChangeFeedPositionRepository changeFeedPositionRepository,
+                            OrderSnapshotUpdater orderSnapshotUpdater,
+                            @Qualifier("customerCache") ReferenceDataCache<CustomerModel> customerCache,
+                            @Qualifier("albumCache") ReferenceDataCache<AlbumModel> albumCache,
+                            @Qualifier("artistCache") ReferenceDataCache<AlbumModel> artistCache,
+                            @Qualifier("storeCache") ReferenceDataCache<StoreLocationModel> storeCache,
+                            ObjectMapper mapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.change-feed.enabled:true}") boolean enabled,
+                            @Value("${app.change-feed.batch-size:500}") int batchSize) {
+        feeds.put("customers", customersServiceClient::getChangeEvents);
+        feeds.put("musiccatalog", musicCatalogServiceClient::getChangeEvents);
+        feeds.put("stores", storesServiceClient::getChangeEvents);
+        this.changeFeedPositionRepository = changeFeedPositionRepository;
+        this.orderSnapshotUpdater = orderSnapshotUpdater;
+        this.customerCache = customerCache;
+        this.albumCache = albumCache;
+        this.artistCache = artistCache;
+        this.storeCache = storeCache;
+        this.mapper = mapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.change-feed.poll-interval:2s}")
+    public void scheduledPoll() {
+        if (enabled) {
+            pollAll();
+        }
+    }
+
+    public void pollAll() {
+        feeds.forEach((feed, changeFeed) -> {
+            try {
+                poll(feed, changeFeed);
+            } catch (RuntimeException ex) {
+                if (DownstreamGuard.isUnavailable(ex)) {
+                    log.debug("Change feed {} is unavailable, will retry on the next poll: {}", feed, ex.getMessage());
+                } else {
+                    log.warn("Could not apply the change feed {}, will retry on the next poll", feed, ex);
+                }
+            }
+        });
+    }
+
+    private void poll(String feed, ChangeFeed changeFeed) {
+        long position = changeFeedPositionRepository.findById(feed)
+                .map(ChangeFeedPosition::getPosition)
+                .orElse(0L);
+        List<ChangeEventModel> events;
+        do {
+            events = changeFeed.read(position, batchSize);
+            if (events.isEmpty()) {
+                return;
+            }
+            SnapshotChangesRequestModel changes = new SnapshotChangesRequestModel();
+            for (ChangeEventModel event : events) {
+                try {
+                    collect(event, changes);
+                } catch (UnreadablePayloadException ex) {
+                    log.error("Skipping change event {} from {}: {}", event.getPosition(), feed, ex.getMessage());
+                    Counter.builder("orders.change.events.skipped")
+                            .description("Change events passed over because their payload could not be read")
+                            .tag("feed", feed)
+                            .register(meterRegistry)
+                            .increment();
+                }
+            }
+            orderSnapshotUpdater.apply(changes);
+
+            position = events.get(events.size() - 1).getPosition();
+            changeFeedPositionRepository.save(new ChangeFeedPosition(feed, position));
+            Counter.builder("orders.change.events")
+                    .description("Change events applied from the feeds of downstream services")
+                    .tag("feed", feed)
+                    .register(meterRegistry)
+                    .increment(events.size());
+            log.debug("Applied {} change events from {}, now at position {}", events.size(), feed, position);
+        } while (events.size() == batchSize);
+    }
+
+    private void collect(ChangeEventModel event, SnapshotChangesRequestModel changes) {
+        boolean updated = "UPDATED".equals(event.getEventType()) && event.getPayload() != null;
+        switch (event.getAggregateType()) {
+            case "customer" -> {
+                customerCache.invalidate(event.getAggregateId());
+                if (updated) {
+                    changes.getCustomers().add(payload(event, CustomerModel.class));
+                }
+            }
+            case "album" -> {
+                albumCache.invalidate(event.getAggregateId());
+                if (updated) {
+                    changes.getAlbums().add(payload(event, AlbumModel.class));
+                }
+            }
+            case "artist" -> {
+                artistCache.invalidate(event.getAggregateId());
+                if (updated) {
+                    changes.getArtists().add(payload(event, AlbumModel.class));
+                }
+            }
+            case "store" -> {
+                storeCache.invalidate(event.getAggregateId());
+                if (updated) {
+                    changes.getStores().add(payload(event, StoreLocationModel.class));
+                }
+            }
+            default -> log.debug("Ignoring change event for unknown aggregate type {}", event.getAggregateType());
+        }
+    }
+
+    private <T> T payload(ChangeEventModel event, Class<T> type) {
+        try {
+            return mapper.treeToValue(event.getPayload(), type);
+        } catch (JsonProcessingException ex) {
+            throw new UnreadablePayloadException(ex);
+        }
+    }
+
+    private static class UnreadablePayloadException extends RuntimeException {
+        UnreadablePayloadException(JsonProcessingException cause) {
+            super(cause.getOriginalMessage(), cause);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.musicstore.orders.businesslayer;
+
+import com.musicstore.orders.domainclientlayer.ChangeEventModel;
+import com.musicstore.orders.domainclientlayer.DownstreamGuard;
+import com.musicstore.orders.domainclientlayer.musiccatalog.AlbumModel;
+import com.musicstore.orders.domainclientlayer.musiccatalog.MusicCatalogReplica;
+import com.musicstore.orders.domainclientlayer.musiccatalog.MusicCatalogServiceClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the {@link MusicCatalogReplica} current. The first sync loads the catalog's album
+ * export, which carries the change feed position it was taken at, and every sync after
+ * that applies the feed from the replica's position up to its end. Replaying events the
+ * export already contains is harmless, since each one overwrites or removes a whole entry.
+ * While the catalog is unavailable the replica keeps its contents and goes stale until
+ * the next sync gets through.
+ */
+@Slf4j
+@Component
+public class MusicCatalogReplicaSync {
+
+    private final MusicCatalogServiceClient musicCatalogServiceClient;
+    private final MusicCatalogReplica replica;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public MusicCatalogReplicaSync(MusicCatalogServiceClient musicCatalogServiceClient,
+                                   MusicCatalogReplica replica,
+                                   @Value("${app.catalog-replica.enabled:true}") boolean enabled,
+                                   @Value("${app.catalog-replica.batch-size:500}") int batchSize) {
+        this.musicCatalogServiceClient = musicCatalogServiceClient;
+        this.replica = replica;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.catalog-replica.sync-interval:2s}")
+    public void scheduledSync() {
+        if (enabled) {
+            try {
+                sync();
+            } catch (RuntimeException ex) {
+                if (DownstreamGuard.isUnavailable(ex)) {
+                    log.debug("Music catalog is unavailable, the replica will sync on the next run: {}", ex.getMessage());
+                } else {
+                    log.warn("Could not sync the music catalog replica, will retry on the next run", ex);
+                }
+            }
+        }
+    }
+
+    public void sync() {
+        if (!replica.isReady()) {
+            bootstrap();
+        }
+        List<ChangeEventModel> events;
+        do {
+            events = musicCatalogServiceClient.getChangeEvents(replica.getPosition(), batchSize);
+            events.forEach(this::apply);
+            if (!events.isEmpty()) {
+                replica.advanceTo(events.get(events.size() - 1).getPosition());
+            }
+        } while (events.size() == batchSize);
+        replica.caughtUp();
+    }
+
+    private void bootstrap() {
+        List<AlbumModel> albums = new ArrayList<>();
+        long position = musicCatalogServiceClient.getAlbumSnapshot(albums::add);
+        replica.load(albums, position);
+        log.info("Loaded {} albums into the music catalog replica at change feed position {}", albums.size(), position);
+    }
+
+    private void apply(ChangeEventModel event) {
+        boolean deleted = "DELETED".equals(event.getEventType());
+        switch (event.getAggregateType()) {
+            case "album" -> {
+                if (deleted) {
+                    replica.removeAlbum(event.getAggregateId());
+                } else if (event.getPayload() != null) {
+                    replica.putAlbum(musicCatalogServiceClient.albumFromChangePayload(event.getPayload()));
+                }
+            }
+            case "artist" -> {
+                if (deleted) {
+                    replica.removeArtist(event.getAggregateId());
+                } else if (event.getPayload() != null) {
+                    replica.putArtistName(event.getAggregateId(), event.getPayload().path("artistName").asText());
+                }
+            }
+            default -> log.debug("Ignoring change event for unknown aggregate type {}", event.getAggregateType());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.musicstore.orders.businesslayer;
+
+import com.musicstore.orders.dataaccesslayer.Order;
+import com.musicstore.orders.utils.exceptions.InvalidInputException;
+import lombok.Value;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position after the last order of a page: its (orderDate, orderId) key and the
+ * sort direction, serialized as an opaque url-safe token.
+ */
+@Value
+class OrderCursor {
+    Sort.Direction direction;
+    LocalDate orderDate;
+    String orderId;
+
+    static OrderCursor after(Order order, Sort.Direction direction) {
+        return new OrderCursor(direction, order.getOrderDate(), order.getOrderIdentifier().getOrderId());
+    }
+
+    String encode() {
+        String raw = direction.name() + "|" + orderDate + "|" + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static OrderCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3) {
+                throw new InvalidInputException("Invalid cursor provided: " + token);
+            }
+            return new OrderCursor(Sort.Direction.valueOf(parts[0]), LocalDate.parse(parts[1]), parts[2]);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidInputException("Invalid cursor provided: " + token);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.musicstore.orders.businesslayer;
+
+import com.musicstore.orders.dataaccesslayer.Order;
+import com.musicstore.orders.domainclientlayer.DownstreamGuard;
+import com.musicstore.orders.domainclientlayer.customer.CustomerModel;
+import com.musicstore.orders.domainclientlayer.customer.CustomersServiceClient;
+import com.musicstore.orders.domainclientlayer.musiccatalog.AlbumModel;
+import com.musicstore.orders.domainclientlayer.musiccatalog.MusicCatalogServiceClient;
+import com.musicstore.orders.domainclientlayer.storelocation.StoreLocationModel;
+import com.musicstore.orders.domainclientlayer.storelocation.StoresServiceClient;
+import com.musicstore.orders.utils.DownstreamCallMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the customer, album, artist and store snapshots of a batch of orders when
+ * a customer's snapshots are refreshed; order reads serve the stored snapshots.
+ * Distinct album, artist and store keys are fetched through the batch endpoints
+ * of the downstream services and the lookups run concurrently on the bounded
+ * enrichment executor, so the cost of a listing is the slowest call rather than
+ * the sum of all calls. Orders whose album or store is no longer returned keep
+ * their stored snapshot, and so do all orders when a service is unavailable and its
+ * cache holds nothing stale. The number of remote calls each enrichment makes, after
+ * cache hits, is published as {@code orders.enrichment.remote.calls}.
+ */
+@Slf4j
+@Component
+public class OrderEnrichmentEngine {
+
+    private final CustomersServiceClient customersServiceClient;
+    private final MusicCatalogServiceClient musicCatalogServiceClient;
+    private final StoresServiceClient storesServiceClient;
+    private final Executor enrichmentExecutor;
+    private final DownstreamCallMetrics downstreamCallMetrics;
+    private final DistributionSummary remoteCallsPerEnrichment;
+
+    public OrderEnrichmentEngine(CustomersServiceClient customersServiceClient,
+                                 MusicCatalogServiceClient musicCatalogServiceClient,
+                                 StoresServiceClient storesServiceClient,
+                                 @Qualifier("enrichmentExecutor") Executor enrichmentExecutor,
+                                 DownstreamCallMetrics downstreamCallMetrics,
+                                 MeterRegistry meterRegistry) {
+        this.customersServiceClient = customersServiceClient;
+        this.musicCatalogServiceClient = musicCatalogServiceClient;
+        this.storesServiceClient = storesServiceClient;
+        this.enrichmentExecutor = enrichmentExecutor;
+        this.downstreamCallMetrics = downstreamCallMetrics;
+        this.remoteCallsPerEnrichment = DistributionSummary.builder("orders.enrichment.remote.calls")
+                .description("Downstream calls made to enrich one batch of orders")
+                .register(meterRegistry);
+    }
+
+    public void enrich(String customerId, List<Order> orders) {
+        AtomicInteger remoteCalls = new AtomicInteger();
+        CompletableFuture<CustomerModel> customer =
+                async(remoteCalls, () -> customersServiceClient.getCustomerByCustomerId(customerId), null);
+
+        Set<String> albumIds = orders.stream()
+                .map(order -> order.getAlbumModel().getAlbumId())
+                .collect(Collectors.toSet());
+        CompletableFuture<Map<String, AlbumModel>> albums =
+                async(remoteCalls, () -> musicCatalogServiceClient.getAlbumsByAlbumIds(albumIds), Map.<String, AlbumModel>of())
+                        .thenCompose(found -> withArtistNames(remoteCalls, found));
+
+        Set<String> storeIds = orders.stream()
+                .map(order -> order.getStoreLocationModel().getStoreId())
+                .collect(Collectors.toSet());
+        CompletableFuture<Map<String, StoreLocationModel>> stores =
+                async(remoteCalls, () -> storesServiceClient.getStoresByStoreIds(storeIds), Map.of());
+
+        log.debug("Enriching {} orders for customer {} with {} albums and {} stores",
+                orders.size(), customerId, albumIds.size(), storeIds.size());
+
+        CustomerModel customerModel = await(customer);
+        Map<String, AlbumModel> albumModels = await(albums);
+        Map<String, StoreLocationModel> storeModels = await(stores);
+        remoteCallsPerEnrichment.record(remoteCalls.get());
+
+        orders.forEach(order -> {
+            if (customerModel != null) {
+                order.setCustomerModel(customerModel);
+            }
+            order.setAlbumModel(albumModels.getOrDefault(order.getAlbumModel().getAlbumId(), order.getAlbumModel()));
+            order.setStoreLocationModel(storeModels.getOrDefault(order.getStoreLocationModel().getStoreId(), order.getStoreLocationModel()));
+        });
+    }
+
+    private CompletableFuture<Map<String, AlbumModel>> withArtistNames(AtomicInteger remoteCalls,
+                                                                       Map<String, AlbumModel> albums) {
+        Set<String> artistIds = albums.values().stream()
+                .filter(album -> album.getArtistName() == null || album.getArtistName().isEmpty())
+                .map(AlbumModel::getArtistId)
+                .collect(Collectors.toSet());
+        if (artistIds.isEmpty()) {
+            return CompletableFuture.completedFuture(albums);
+        }
+        return async(remoteCalls, () -> musicCatalogServiceClient.getArtistsByArtistIds(artistIds), Map.<String, AlbumModel>of())
+                .thenApply(artists -> {
+                    // the albums are shared with the album cache, so named copies replace them
+                    Map<String, AlbumModel> named = new HashMap<>(albums);
+                    named.replaceAll((albumId, album) -> {
+                        AlbumModel artist = artists.get(album.getArtistId());
+                        if (artist == null || (album.getArtistName() != null && !album.getArtistName().isEmpty())) {
+                            return album;
+                        }
+                        return album.toBuilder().artistName(artist.getArtistName()).build();
+                    });
+                    return named;
+                });
+    }
+
+    private <T> CompletableFuture<T> async(AtomicInteger remoteCalls, Supplier<T> lookup, T whenUnavailable) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return downstreamCallMetrics.countingInto(remoteCalls, lookup);
+            } catch (RuntimeException ex) {
+                if (!DownstreamGuard.isUnavailable(ex)) {
+                    throw ex;
+                }
+                log.warn("Keeping stored order snapshots, lookup failed: {}", ex.getMessage());
+                return whenUnavailable;
+            }
+        }, enrichmentExecutor);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -2,17 +2,23 @@ package com.musicstore.orders.businesslayer;
 
 
 
+import com.musicstore.orders.presentationlayer.OrderPage;
 import com.musicstore.orders.presentationlayer.OrderRequestModel;
 import com.musicstore.orders.presentationlayer.OrderResponseModel;
+import com.musicstore.orders.presentationlayer.SnapshotChangesRequestModel;
+import com.musicstore.orders.presentationlayer.SnapshotChangesResponseModel;
 
-import java.util.List;
+import java.util.function.Consumer;
 
 public interface OrderService {
-    List<OrderResponseModel> getAllOrdersByCustomerId(String customerId);
+    OrderPage getOrdersPageByCustomerId(String customerId, String cursor, int limit, String sort);
+    void exportOrders(Consumer<OrderResponseModel> sink);
     OrderResponseModel findOrderBydOrderId(String customerId, String orderId);
     OrderResponseModel createOrder(OrderRequestModel orderRequestModel, String customerId);
     OrderResponseModel updateOrder(OrderRequestModel orderRequestModel, String customerId,String orderId);
     void deleteOrder(String customerId, String orderId);
+    SnapshotChangesResponseModel applySnapshotChanges(SnapshotChangesRequestModel changes);
+    SnapshotChangesResponseModel refreshSnapshots(String customerId);
 }
 
 
@@ -4,6 +4,7 @@ package com.musicstore.orders.businesslayer;
 import com.musicstore.orders.dataaccesslayer.Order;
 import com.musicstore.orders.dataaccesslayer.OrderIdentifier;
 import com.musicstore.orders.dataaccesslayer.OrderRepository;
+import com.musicstore.orders.domainclientlayer.DownstreamGuard;
 import com.musicstore.orders.domainclientlayer.customer.CustomerModel;
 import com.musicstore.orders.domainclientlayer.customer.CustomersServiceClient;
 import com.musicstore.orders.domainclientlayer.musiccatalog.AlbumModel;
@@ -11,16 +12,28 @@ import com.musicstore.orders.domainclientlayer.musiccatalog.Status;
 import com.musicstore.orders.domainclientlayer.musiccatalog.MusicCatalogServiceClient;
 import com.musicstore.orders.domainclientlayer.storelocation.StoreLocationModel;
 import com.musicstore.orders.domainclientlayer.storelocation.StoresServiceClient;
+import com.musicstore.orders.mappinglayer.OrderExportMapper;
 import com.musicstore.orders.mappinglayer.OrderRequestMapper;
 import com.musicstore.orders.mappinglayer.OrderResponseMapper;
 
+import com.musicstore.orders.presentationlayer.OrderPage;
 import com.musicstore.orders.presentationlayer.OrderRequestModel;
 import com.musicstore.orders.presentationlayer.OrderResponseModel;
+import com.musicstore.orders.presentationlayer.SnapshotChangesRequestModel;
+import com.musicstore.orders.presentationlayer.SnapshotChangesResponseModel;
 import com.musicstore.orders.utils.exceptions.InvalidInputException;
 import com.musicstore.orders.utils.exceptions.InvalidOrderPriceException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class OrderServiceImpl implements OrderService{
@@ -30,41 +43,74 @@ public class OrderServiceImpl implements OrderService{
     private final OrderRequestMapper orderRequestMapper;
     private final OrderResponseMapper orderResponseMapper;
     private final OrderRepository orderRepository;
+    private final OrderEnrichmentEngine orderEnrichmentEngine;
+    private final OrderExportMapper orderExportMapper;
+    private final OrderSnapshotUpdater orderSnapshotUpdater;
 
-    public OrderServiceImpl(CustomersServiceClient customersServiceClient, MusicCatalogServiceClient musicCatalogServiceClient, StoresServiceClient storesServiceClient, OrderRequestMapper orderRequestMapper, OrderResponseMapper orderResponseMapper, OrderRepository orderRepository) {
+    public OrderServiceImpl(CustomersServiceClient customersServiceClient, MusicCatalogServiceClient musicCatalogServiceClient, StoresServiceClient storesServiceClient, OrderRequestMapper orderRequestMapper, OrderResponseMapper orderResponseMapper, OrderRepository orderRepository, OrderEnrichmentEngine orderEnrichmentEngine,
+                            OrderExportMapper orderExportMapper, OrderSnapshotUpdater orderSnapshotUpdater) {
         this.customersServiceClient = customersServiceClient;
         this.musicCatalogServiceClient = musicCatalogServiceClient;
         this.storesServiceClient = storesServiceClient;
         this.orderRequestMapper = orderRequestMapper;
         this.orderResponseMapper = orderResponseMapper;
         this.orderRepository = orderRepository;
+        this.orderEnrichmentEngine = orderEnrichmentEngine;
+        this.orderExportMapper = orderExportMapper;
+        this.orderSnapshotUpdater = orderSnapshotUpdater;
     }
 
     @Override
-    public List<OrderResponseModel> getAllOrdersByCustomerId(String customerId) {
-        List<Order> orders = orderRepository.findAllByCustomerModel_CustomerId(customerId);
+    public OrderPage getOrdersPageByCustomerId(String customerId, String cursor, int limit, String sort) {
+        OrderCursor position = cursor == null ? null : OrderCursor.decode(cursor);
+        Sort.Direction direction = sort != null ? parseSortDirection(sort)
+                : position != null ? position.getDirection() : Sort.Direction.DESC;
+        if (position != null && position.getDirection() != direction) {
+            throw new InvalidInputException("Cursor was issued for a different sort order: " + sort);
+        }
 
-        CustomerModel customer = customersServiceClient.getCustomerByCustomerId(customerId);
+        Sort orderBy = Sort.by(direction, "orderDate", "orderIdentifier.orderId");
+        // one extra order tells whether another page follows
+        Limit fetch = Limit.of(limit + 1);
+        List<Order> orders;
+        if (position == null) {
+            orders = orderRepository.findByCustomerModel_CustomerId(customerId, orderBy, fetch);
+        } else if (direction == Sort.Direction.DESC) {
+            orders = orderRepository.findPageBefore(customerId, position.getOrderDate(), position.getOrderId(), orderBy, fetch);
+        } else {
+            orders = orderRepository.findPageAfter(customerId, position.getOrderDate(), position.getOrderId(), orderBy, fetch);
+        }
 
-        orders.forEach(order -> {
-            order.setCustomerModel(customer);
-            AlbumModel album = musicCatalogServiceClient.getAlbumByAlbumId(
-                    order.getAlbumModel().getArtistId(),
-                    order.getAlbumModel().getAlbumId());
-
-            if (album.getArtistName() == null || album.getArtistName().isEmpty()) {
-                AlbumModel artistOnly =
-                        musicCatalogServiceClient.getArtistByArtistId(album.getArtistId());
-                album.setArtistName(artistOnly.getArtistName());
-            }
-            order.setAlbumModel(album);
+        String nextCursor = null;
+        if (orders.size() > limit) {
+            orders = new ArrayList<>(orders.subList(0, limit));
+            nextCursor = OrderCursor.after(orders.get(limit - 1), direction).encode();
+        }
 
-            StoreLocationModel store = storesServiceClient.getStoreByStoreId(
-                    order.getStoreLocationModel().getStoreId());
-            order.setStoreLocationModel(store);
-        });
+        if (position == null && orders.isEmpty()) {
+            requireKnownCustomer(customerId);
+        }
 
-        return orderResponseMapper.entityListToResponseModelList(orders);
+        return new OrderPage(orderResponseMapper.entityListToResponseModelList(orders), nextCursor);
+    }
+
+    @Override
+    public void exportOrders(Consumer<OrderResponseModel> sink) {
+        try (Stream<Order> orders = orderRepository.streamAll()) {
+            orders.map(orderExportMapper::entityToResponseModel).forEach(sink);
+        }
+    }
+
+    private static Sort.Direction parseSortDirection(String sort) {
+        String[] parts = sort.split(",");
+        if (parts.length > 2 || !parts[0].equals("orderDate")) {
+            throw new InvalidInputException("Unsupported sort: " + sort + ", expected orderDate,asc or orderDate,desc");
+        }
+        try {
+            return parts.length == 2 ? Sort.Direction.fromString(parts[1]) : Sort.Direction.ASC;
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidInputException("Unsupported sort direction: " + parts[1]);
+        }
     }
 
     @Override
@@ -75,22 +121,46 @@ public class OrderServiceImpl implements OrderService{
             throw new InvalidInputException("Unknown orderId: " + orderId + " for customerId: " + customerId);
         }
 
-        order.setCustomerModel(customersServiceClient.getCustomerByCustomerId(customerId));
+        return orderResponseMapper.entityToResponseModel(order);
+    }
 
-        AlbumModel album = musicCatalogServiceClient.getAlbumByAlbumId(
-                order.getAlbumModel().getArtistId(),
-                order.getAlbumModel().getAlbumId());
+    // an empty listing is the only one that cannot tell a customer without orders from an unknown one
+    private void requireKnownCustomer(String customerId) {
+        try {
+            customersServiceClient.getCustomerByCustomerId(customerId);
+        } catch (RuntimeException ex) {
+            if (!DownstreamGuard.isUnavailable(ex)) {
+                throw ex;
+            }
+        }
+    }
 
-        if (album.getArtistName() == null || album.getArtistName().isEmpty()) {
-            AlbumModel artistOnly =
-                    musicCatalogServiceClient.getArtistByArtistId(album.getArtistId());
-            album.setArtistName(artistOnly.getArtistName());
+    @Override
+    public SnapshotChangesResponseModel applySnapshotChanges(SnapshotChangesRequestModel changes) {
+        return orderSnapshotUpdater.apply(changes);
+    }
+
+    @Override
+    public SnapshotChangesResponseModel refreshSnapshots(String customerId) {
+        List<Order> orders = orderRepository.findAllByCustomerModel_CustomerId(customerId);
+        if (orders.isEmpty()) {
+            requireKnownCustomer(customerId);
+            return new SnapshotChangesResponseModel(0, 0);
         }
-        order.setAlbumModel(album);
 
-        order.setStoreLocationModel(storesServiceClient.getStoreByStoreId(order.getStoreLocationModel().getStoreId()));
+        orderEnrichmentEngine.enrich(customerId, orders);
 
-        return orderResponseMapper.entityToResponseModel(order);
+        Map<String, AlbumModel> albums = new LinkedHashMap<>();
+        Map<String, StoreLocationModel> stores = new LinkedHashMap<>();
+        orders.forEach(order -> {
+            albums.putIfAbsent(order.getAlbumModel().getAlbumId(), order.getAlbumModel());
+            stores.putIfAbsent(order.getStoreLocationModel().getStoreId(), order.getStoreLocationModel());
+        });
+        return orderSnapshotUpdater.apply(SnapshotChangesRequestModel.builder()
+                .customers(List.of(orders.get(0).getCustomerModel()))
+                .albums(new ArrayList<>(albums.values()))
+                .stores(new ArrayList<>(stores.values()))
+                .build());
     }
 
     @Override
@@ -142,11 +212,14 @@ public class OrderServiceImpl implements OrderService{
         if (album.getArtistName() == null || album.getArtistName().isEmpty()) {
             AlbumModel artistOnly =
                     musicCatalogServiceClient.getArtistByArtistId(album.getArtistId());
-            album.setArtistName(artistOnly.getArtistName());
+            album = album.toBuilder().artistName(artistOnly.getArtistName()).build();
         }
 
         Order newOrder = orderRequestMapper
                 .requestModelToEntity(orderRequestModel, new OrderIdentifier(), album, customer, store);
+        if (newOrder.getOrderDate() == null) {
+            newOrder.setOrderDate(LocalDate.now());
+        }
 
         Order saved = orderRepository.save(newOrder);
         return orderResponseMapper.entityToResponseModel(saved);
@@ -194,12 +267,15 @@ public class OrderServiceImpl implements OrderService{
         if (album.getArtistName() == null || album.getArtistName().isEmpty()) {
             AlbumModel artistOnly =
                     musicCatalogServiceClient.getArtistByArtistId(album.getArtistId());
-            album.setArtistName(artistOnly.getArtistName());
+            album = album.toBuilder().artistName(artistOnly.getArtistName()).build();
         }
 
         Order newOrder = orderRequestMapper
                 .requestModelToEntity(orderRequestModel, existing.getOrderIdentifier(), album, customer, store);
         newOrder.setId(existing.getId());
+        if (newOrder.getOrderDate() == null) {
+            newOrder.setOrderDate(existing.getOrderDate() != null ? existing.getOrderDate() : LocalDate.now());
+        }
         Order saved = orderRepository.save(newOrder);
         return orderResponseMapper.entityToResponseModel(saved);
     }
@@ -0,0 +1,96 @@
+package com.musicstore.orders.businesslayer;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.musicstore.orders.dataaccesslayer.Order;
+import com.musicstore.orders.domainclientlayer.customer.CustomerModel;
+import com.musicstore.orders.domainclientlayer.musiccatalog.AlbumModel;
+import com.musicstore.orders.domainclientlayer.storelocation.StoreLocationModel;
+import com.musicstore.orders.presentationlayer.SnapshotChangesRequestModel;
+import com.musicstore.orders.presentationlayer.SnapshotChangesResponseModel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Writes changed customers, albums, artists and stores into the snapshots embedded
+ * in orders, which is what order reads serve. Every change becomes one multi-document
+ * update and a batch goes to mongod as a single ordered bulk write, so when an entity
+ * changes twice in a batch the later change wins. Only the fields present on a change
+ * are written. Applied changes are counted as {@code orders.snapshot.changes}, tagged
+ * with the {@code snapshot} they target.
+ */
+@Slf4j
+@Component
+public class OrderSnapshotUpdater {
+
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public OrderSnapshotUpdater(MongoTemplate mongoTemplate, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public SnapshotChangesResponseModel apply(SnapshotChangesRequestModel changes) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, Order.class);
+        int updates = 0;
+        for (CustomerModel customer : changes.getCustomers()) {
+            Update update = new Update();
+            setIfPresent(update, "customerModel.firstName", customer.getFirstName());
+            setIfPresent(update, "customerModel.lastName", customer.getLastName());
+            updates += add(bulk, "customer", "customerModel.customerId", customer.getCustomerId(), update);
+        }
+        for (AlbumModel album : changes.getAlbums()) {
+            Update update = new Update();
+            setIfPresent(update, "albumModel.albumTitle", album.getAlbumTitle());
+            setIfPresent(update, "albumModel.status", album.getStatus());
+            setIfPresent(update, "albumModel.artistName", album.getArtistName());
+            updates += add(bulk, "album", "albumModel.albumId", album.getAlbumId(), update);
+        }
+        for (AlbumModel artist : changes.getArtists()) {
+            Update update = new Update();
+            setIfPresent(update, "albumModel.artistName", artist.getArtistName());
+            updates += add(bulk, "artist", "albumModel.artistId", artist.getArtistId(), update);
+        }
+        for (StoreLocationModel store : changes.getStores()) {
+            Update update = new Update();
+            setIfPresent(update, "storeLocationModel.ownerName", store.getOwnerName());
+            setIfPresent(update, "storeLocationModel.managerName", store.getManagerName());
+            updates += add(bulk, "store", "storeLocationModel.storeId", store.getStoreId(), update);
+        }
+        if (updates == 0) {
+            return new SnapshotChangesResponseModel(0, 0);
+        }
+
+        BulkWriteResult result = bulk.execute();
+        log.debug("Applied {} snapshot changes, {} orders matched and {} modified",
+                updates, result.getMatchedCount(), result.getModifiedCount());
+        return new SnapshotChangesResponseModel(result.getMatchedCount(), result.getModifiedCount());
+    }
+
+    private int add(BulkOperations bulk, String snapshot, String key, String id, Update update) {
+        if (id == null || update.getUpdateObject().isEmpty()) {
+            return 0;
+        }
+        bulk.updateMulti(query(where(key).is(id)), update);
+        Counter.builder("orders.snapshot.changes")
+                .description("Changes applied to the snapshots embedded in orders")
+                .tag("snapshot", snapshot)
+                .register(meterRegistry)
+                .increment();
+        return 1;
+    }
+
+    private static void setIfPresent(Update update, String field, Object value) {
+        if (value != null) {
+            update.set(field, value);
+        }
+    }
+}
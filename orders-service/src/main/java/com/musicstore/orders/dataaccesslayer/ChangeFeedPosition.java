@@ -0,0 +1,19 @@
+package com.musicstore.orders.dataaccesslayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+// last change event applied from the feed of one downstream service
+@Document(collection = "change_feed_positions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedPosition {
+    @Id
+    private String feed;
+
+    private long position;
+}
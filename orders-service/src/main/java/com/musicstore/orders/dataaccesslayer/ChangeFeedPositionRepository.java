@@ -0,0 +1,6 @@
+package com.musicstore.orders.dataaccesslayer;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ChangeFeedPositionRepository extends MongoRepository<ChangeFeedPosition, String> {
+}
@@ -9,12 +9,20 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
 
 
 @Document(collection = "orders")
+@CompoundIndexes({
+        // lookups, updates and deletes of a single order of a customer
+        @CompoundIndex(name = "customer_order_idx", def = "{'customerModel.customerId': 1, 'orderIdentifier.orderId': 1}"),
+        // keyset pages of a customer's orders in either direction; its prefix also serves the unsorted listing
+        @CompoundIndex(name = "customer_order_date_idx", def = "{'customerModel.customerId': 1, 'orderDate': -1, 'orderIdentifier.orderId': -1}")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,61 @@
+package com.musicstore.orders.dataaccesslayer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Gives every order saved without an orderDate a date once the application is ready.
+ * Customer pages are keyed on (orderDate, orderId) and their $lt/$gt filters never
+ * match a missing date, so undated orders would only ever show up on a first page.
+ * The date is the creation time held in the order's ObjectId, or today when the id
+ * is not one.
+ */
+@Slf4j
+@Component
+public class OrderDateBackfill {
+
+    private final MongoTemplate mongoTemplate;
+
+    public OrderDateBackfill(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        int dated = backfill();
+        if (dated > 0) {
+            log.info("Backfilled the orderDate of {} orders saved without one", dated);
+        }
+    }
+
+    public int backfill() {
+        Criteria undated = Criteria.where("orderDate").is(null);
+        List<Order> orders = mongoTemplate.find(Query.query(undated), Order.class);
+        int dated = 0;
+        for (Order order : orders) {
+            // only fill it in if no request dated the order in the meantime
+            Query stillUndated = Query.query(Criteria.where("id").is(order.getId()).and("orderDate").is(null));
+            dated += (int) mongoTemplate.updateFirst(stillUndated, Update.update("orderDate", createdOn(order.getId())), Order.class)
+                    .getModifiedCount();
+        }
+        return dated;
+    }
+
+    private static LocalDate createdOn(String id) {
+        if (id == null || !ObjectId.isValid(id)) {
+            return LocalDate.now();
+        }
+        return new ObjectId(id).getDate().toInstant().atZone(ZoneOffset.UTC).toLocalDate();
+    }
+}
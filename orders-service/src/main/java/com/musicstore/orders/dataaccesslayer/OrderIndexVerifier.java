@@ -0,0 +1,79 @@
+package com.musicstore.orders.dataaccesslayer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the indexes declared on {@link Order} with the ones present on the
+ * orders collection once the application is ready, and logs a report. A
+ * missing index means the customer listings fall back to a collection scan.
+ */
+@Slf4j
+@Component
+public class OrderIndexVerifier {
+
+    private final MongoTemplate mongoTemplate;
+
+    public OrderIndexVerifier(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        List<Document> missing = findMissingIndexes();
+        if (missing.isEmpty()) {
+            log.info("All {} declared indexes are present on the orders collection", declaredIndexes().size());
+        } else {
+            missing.forEach(keys -> log.warn("Index {} is declared on Order but missing from the orders collection", keys));
+        }
+    }
+
+    public List<Document> findMissingIndexes() {
+        // compared as JSON so the key order of compound indexes counts
+        List<String> existing = mongoTemplate.indexOps(Order.class).getIndexInfo().stream()
+                .map(info -> keysOf(info).toJson())
+                .toList();
+        List<Document> missing = new ArrayList<>();
+        for (IndexDefinition index : declaredIndexes()) {
+            Document keys = normalized(index.getIndexKeys());
+            if (!existing.contains(keys.toJson())) {
+                missing.add(keys);
+            }
+        }
+        return missing;
+    }
+
+    private List<IndexDefinition> declaredIndexes() {
+        List<IndexDefinition> declared = new ArrayList<>();
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(Order.class)
+                .forEach(declared::add);
+        return declared;
+    }
+
+    private static Document keysOf(IndexInfo info) {
+        Document keys = new Document();
+        for (IndexField field : info.getIndexFields()) {
+            keys.append(field.getKey(), field.getDirection() == Sort.Direction.DESC ? -1 : 1);
+        }
+        return keys;
+    }
+
+    private static Document normalized(Document keys) {
+        Document normalized = new Document();
+        keys.forEach((key, direction) -> normalized.append(key, ((Number) direction).intValue() < 0 ? -1 : 1));
+        return normalized;
+    }
+}
@@ -1,15 +1,33 @@
 package com.musicstore.orders.dataaccesslayer;
 
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends MongoRepository<Order, String> {
     //Order findByOrderIdentifier_OrderId(String orderId);
     Order findOrderByCustomerModel_CustomerIdAndOrderIdentifier_OrderId(String customerId, String orderId);
     List<Order> findAllByCustomerModel_CustomerId(String customerId);
     void deleteByCustomerModel_CustomerIdAndOrderIdentifier_OrderId(String customerId, String orderId);
-}
 
+    // keyset pages on (orderDate, orderId), served by customer_order_date_idx
+    List<Order> findByCustomerModel_CustomerId(String customerId, Sort sort, Limit limit);
+
+    @Query("{ 'customerModel.customerId': ?0, '$or': [ { 'orderDate': { '$lt': ?1 } }, { 'orderDate': ?1, 'orderIdentifier.orderId': { '$lt': ?2 } } ] }")
+    List<Order> findPageBefore(String customerId, LocalDate orderDate, String orderId, Sort sort, Limit limit);
 
+    @Query("{ 'customerModel.customerId': ?0, '$or': [ { 'orderDate': { '$gt': ?1 } }, { 'orderDate': ?1, 'orderIdentifier.orderId': { '$gt': ?2 } } ] }")
+    List<Order> findPageAfter(String customerId, LocalDate orderDate, String orderId, Sort sort, Limit limit);
+
+    // server-side cursor for the NDJSON export, fetched from mongod 500 documents at a time
+    @Meta(cursorBatchSize = 500)
+    @Query(value = "{}", sort = "{ '_id': 1 }")
+    Stream<Order> streamAll();
+}
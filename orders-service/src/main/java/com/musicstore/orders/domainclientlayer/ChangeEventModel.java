@@ -0,0 +1,19 @@
+package com.musicstore.orders.domainclientlayer;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeEventModel {
+    Long position;
+    String aggregateType;
+    String aggregateId;
+    String eventType;
+    JsonNode payload;
+}
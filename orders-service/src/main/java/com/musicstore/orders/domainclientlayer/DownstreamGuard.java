@@ -0,0 +1,59 @@
+package com.musicstore.orders.domainclientlayer;
+
+import com.musicstore.orders.utils.RequestDeadline;
+import com.musicstore.orders.utils.exceptions.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker and bulkhead in front of one downstream service. A call is refused with
+ * {@link ServiceUnavailableException} while the breaker is open, while the service already
+ * has its limit of calls in flight, or once the request's deadline has passed, so a slow
+ * service ties up neither request threads nor the other services' connections.
+ * Connection failures, timeouts and 5xx answers count against the breaker; 4xx answers do not.
+ */
+public class DownstreamGuard {
+
+    private final String service;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public DownstreamGuard(String service, CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        this.service = service;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+    }
+
+    public <T> T call(Supplier<T> call) {
+        if (RequestDeadline.expired()) {
+            throw new ServiceUnavailableException("Request deadline passed before calling " + service);
+        }
+        try {
+            return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, call));
+        } catch (CallNotPermittedException ex) {
+            throw new ServiceUnavailableException(service + " is unavailable, its circuit breaker is open", ex);
+        } catch (BulkheadFullException ex) {
+            throw new ServiceUnavailableException(service + " is at its limit of concurrent calls", ex);
+        }
+    }
+
+    /**
+     * Whether {@code ex} means the downstream service could not answer, as opposed to
+     * answering that the request was wrong. Callers may fall back to stale data on these.
+     */
+    public static boolean isUnavailable(Throwable ex) {
+        return ex instanceof ServiceUnavailableException
+                || ex instanceof ResourceAccessException
+                || ex instanceof HttpServerErrorException;
+    }
+
+    static boolean countsAsFailure(Throwable ex) {
+        return isUnavailable(ex) || ex instanceof BulkheadFullException;
+    }
+}
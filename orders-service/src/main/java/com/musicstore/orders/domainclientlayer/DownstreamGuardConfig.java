@@ -0,0 +1,77 @@
+package com.musicstore.orders.domainclientlayer;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * One {@link DownstreamGuard} per downstream service, tuned from {@code app.<service>.*}.
+ * Breaker state and bulkhead usage are published as {@code resilience4j.*} metrics.
+ */
+@Configuration
+public class DownstreamGuardConfig {
+
+    @Bean
+    CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    BulkheadRegistry bulkheadRegistry(MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.ofDefaults();
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    DownstreamGuard customersServiceGuard(Environment environment, CircuitBreakerRegistry circuitBreakers,
+                                          BulkheadRegistry bulkheads) {
+        return guard("customers-service", environment, circuitBreakers, bulkheads);
+    }
+
+    @Bean
+    DownstreamGuard musicCatalogServiceGuard(Environment environment, CircuitBreakerRegistry circuitBreakers,
+                                             BulkheadRegistry bulkheads) {
+        return guard("musiccatalog-service", environment, circuitBreakers, bulkheads);
+    }
+
+    @Bean
+    DownstreamGuard storesServiceGuard(Environment environment, CircuitBreakerRegistry circuitBreakers,
+                                       BulkheadRegistry bulkheads) {
+        return guard("storelocation-service", environment, circuitBreakers, bulkheads);
+    }
+
+    private static DownstreamGuard guard(String service, Environment environment,
+                                         CircuitBreakerRegistry circuitBreakers, BulkheadRegistry bulkheads) {
+        String prefix = "app." + service + ".";
+        CircuitBreakerConfig breakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowSize(environment.getProperty(prefix + "breaker.window-size", Integer.class, 50))
+                .minimumNumberOfCalls(environment.getProperty(prefix + "breaker.minimum-calls", Integer.class, 20))
+                .failureRateThreshold(environment.getProperty(prefix + "breaker.failure-rate-threshold", Float.class, 50f))
+                .slowCallDurationThreshold(environment.getProperty(prefix + "breaker.slow-call-duration", Duration.class, Duration.ofSeconds(2)))
+                .slowCallRateThreshold(environment.getProperty(prefix + "breaker.slow-call-rate-threshold", Float.class, 80f))
+                .waitDurationInOpenState(environment.getProperty(prefix + "breaker.open-duration", Duration.class, Duration.ofSeconds(10)))
+                .permittedNumberOfCallsInHalfOpenState(5)
+                .recordException(DownstreamGuard::countsAsFailure)
+                .build();
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(environment.getProperty(prefix + "max-concurrent-calls", Integer.class,
+                        environment.getProperty(prefix + "max-connections", Integer.class, 20)))
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+        return new DownstreamGuard(service,
+                circuitBreakers.circuitBreaker(service, breakerConfig),
+                bulkheads.bulkhead(service, bulkheadConfig));
+    }
+}
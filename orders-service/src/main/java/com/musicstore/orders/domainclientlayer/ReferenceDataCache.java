@@ -0,0 +1,113 @@
+package com.musicstore.orders.domainclientlayer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded, expiring read-through cache for reference data owned by another service.
+ * Concurrent misses on the same key share a single load, and hit, miss and eviction
+ * counts are published as {@code cache.*} metrics tagged with the cache name.
+ * Lookups that fail or return nothing are not cached.
+ * <p>
+ * Loaded values are also kept for {@code staleTimeToLive} after they expire. While the
+ * owning service is unavailable (see {@link DownstreamGuard#isUnavailable}), lookups are
+ * answered from those stale values, counted as {@code cache.stale.served}.
+ */
+@Slf4j
+public class ReferenceDataCache<V> {
+
+    private final String name;
+    private final Cache<String, V> cache;
+    private final Cache<String, V> lastKnown;
+    private final Counter staleServed;
+
+    public ReferenceDataCache(String name, Duration timeToLive, Duration staleTimeToLive, long maximumSize,
+                              MeterRegistry meterRegistry) {
+        this.name = name;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(timeToLive)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.lastKnown = Caffeine.newBuilder()
+                .expireAfterWrite(staleTimeToLive)
+                .maximumSize(maximumSize)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        this.staleServed = Counter.builder("cache.stale.served")
+                .description("Entries served past their time to live because the owning service was unavailable")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    public V get(String key, Function<String, V> loader) {
+        try {
+            return cache.get(key, missing -> remember(missing, loader.apply(missing)));
+        } catch (RuntimeException ex) {
+            V stale = DownstreamGuard.isUnavailable(ex) ? lastKnown.getIfPresent(key) : null;
+            if (stale == null) {
+                throw ex;
+            }
+            log.warn("Serving stale {} entry {}: {}", name, key, ex.getMessage());
+            staleServed.increment();
+            return stale;
+        }
+    }
+
+    /**
+     * Returns the cached entries for {@code keys}, loading all missing keys with a single
+     * call to {@code loader}. Keys the loader does not return are left out of the result.
+     * If the loader fails because the service is unavailable, whatever is still cached or
+     * stale is returned, unless that is nothing at all.
+     */
+    public Map<String, V> getAll(Collection<String> keys, Function<Collection<String>, Map<String, V>> loader) {
+        try {
+            return cache.getAll(keys, missing -> rememberAll(loader.apply(List.copyOf(missing))));
+        } catch (RuntimeException ex) {
+            if (!DownstreamGuard.isUnavailable(ex)) {
+                throw ex;
+            }
+            Map<String, V> found = new HashMap<>(cache.getAllPresent(keys));
+            int fresh = found.size();
+            lastKnown.getAllPresent(keys).forEach(found::putIfAbsent);
+            if (found.isEmpty()) {
+                throw ex;
+            }
+            log.warn("Serving {} stale {} entries: {}", found.size() - fresh, name, ex.getMessage());
+            staleServed.increment(found.size() - fresh);
+            return found;
+        }
+    }
+
+    public void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        lastKnown.invalidateAll();
+    }
+
+    private V remember(String key, V value) {
+        if (value != null) {
+            lastKnown.put(key, value);
+        }
+        return value;
+    }
+
+    private Map<String, V> rememberAll(Map<String, V> values) {
+        lastKnown.putAll(values);
+        return values;
+    }
+}
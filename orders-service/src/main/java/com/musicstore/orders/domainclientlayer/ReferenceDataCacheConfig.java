@@ -0,0 +1,47 @@
+package com.musicstore.orders.domainclientlayer;
+
+import com.musicstore.orders.domainclientlayer.customer.CustomerModel;
+import com.musicstore.orders.domainclientlayer.musiccatalog.AlbumModel;
+import com.musicstore.orders.domainclientlayer.storelocation.StoreLocationModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ReferenceDataCacheConfig {
+
+    @Bean
+    ReferenceDataCache<CustomerModel> customerCache(@Value("${app.cache.customers.ttl:10m}") Duration ttl,
+                                                    @Value("${app.cache.customers.stale-ttl:24h}") Duration staleTtl,
+                                                    @Value("${app.cache.customers.maximum-size:10000}") long maximumSize,
+                                                    MeterRegistry meterRegistry) {
+        return new ReferenceDataCache<>("customers", ttl, staleTtl, maximumSize, meterRegistry);
+    }
+
+    @Bean
+    ReferenceDataCache<AlbumModel> albumCache(@Value("${app.cache.albums.ttl:1m}") Duration ttl,
+                                              @Value("${app.cache.albums.stale-ttl:24h}") Duration staleTtl,
+                                              @Value("${app.cache.albums.maximum-size:10000}") long maximumSize,
+                                              MeterRegistry meterRegistry) {
+        return new ReferenceDataCache<>("albums", ttl, staleTtl, maximumSize, meterRegistry);
+    }
+
+    @Bean
+    ReferenceDataCache<AlbumModel> artistCache(@Value("${app.cache.artists.ttl:1h}") Duration ttl,
+                                               @Value("${app.cache.artists.stale-ttl:24h}") Duration staleTtl,
+                                               @Value("${app.cache.artists.maximum-size:10000}") long maximumSize,
+                                               MeterRegistry meterRegistry) {
+        return new ReferenceDataCache<>("artists", ttl, staleTtl, maximumSize, meterRegistry);
+    }
+
+    @Bean
+    ReferenceDataCache<StoreLocationModel> storeCache(@Value("${app.cache.stores.ttl:1h}") Duration ttl,
+                                                      @Value("${app.cache.stores.stale-ttl:24h}") Duration staleTtl,
+                                                      @Value("${app.cache.stores.maximum-size:1000}") long maximumSize,
+                                                      MeterRegistry meterRegistry) {
+        return new ReferenceDataCache<>("stores", ttl, staleTtl, maximumSize, meterRegistry);
+    }
+}
@@ -3,16 +3,25 @@ package com.musicstore.orders.domainclientlayer.customer;
 
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicstore.orders.domainclientlayer.ChangeEventModel;
+import com.musicstore.orders.domainclientlayer.DownstreamGuard;
+import com.musicstore.orders.domainclientlayer.ReferenceDataCache;
+import com.musicstore.orders.utils.Batches;
 import com.musicstore.orders.utils.HttpErrorInfo;
 import com.musicstore.orders.utils.exceptions.InvalidInputException;
 import com.musicstore.orders.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
@@ -23,21 +32,38 @@ public class CustomersServiceClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
     private final String CUSTOMERS_SERVICE_BASE_URL;
+    private final ReferenceDataCache<CustomerModel> customerCache;
+    private final String CUSTOMERS_SERVICE_EVENTS_URL;
+    private final DownstreamGuard guard;
+    private static final int MAX_BATCH_SIZE = 500;
 
     public CustomersServiceClient(RestTemplate restTemplate,
                                   ObjectMapper mapper,
                                   @Value("${app.customers-service.host}") String customersServiceHost,
-                                  @Value("${app.customers-service.port}") String customersServicePort) {
+                                  @Value("${app.customers-service.port}") String customersServicePort,
+                                  ReferenceDataCache<CustomerModel> customerCache,
+                                  @Qualifier("customersServiceGuard") DownstreamGuard guard) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
+        this.customerCache = customerCache;
+        this.guard = guard;
         CUSTOMERS_SERVICE_BASE_URL = "http://" + customersServiceHost + ":" + customersServicePort + "/api/v1/customers";
+        CUSTOMERS_SERVICE_EVENTS_URL = "http://" + customersServiceHost + ":" + customersServicePort + "/api/v1/events";
     }
 
     public CustomerModel getCustomerByCustomerId(String customerId) {
+        return customerCache.get(customerId, this::fetchCustomerByCustomerId);
+    }
+
+    public Map<String, CustomerModel> getCustomersByCustomerIds(Collection<String> customerIds) {
+        return customerCache.getAll(customerIds, this::fetchCustomersByCustomerIds);
+    }
+
+    private CustomerModel fetchCustomerByCustomerId(String customerId) {
         try {
             String url = CUSTOMERS_SERVICE_BASE_URL + "/" + customerId;
             log.debug("Customers-Service GET by customerId URL: " + url);
-            CustomerModel customerResponseModel = restTemplate.getForObject(url, CustomerModel.class);
+            CustomerModel customerResponseModel = guard.call(() -> restTemplate.getForObject(url, CustomerModel.class));
             return customerResponseModel;
         }
         catch(HttpClientErrorException ex) {
@@ -45,6 +71,36 @@ public class CustomersServiceClient {
         }
     }
 
+    private Map<String, CustomerModel> fetchCustomersByCustomerIds(Collection<String> customerIds) {
+        String url = CUSTOMERS_SERVICE_BASE_URL + ":batchGet";
+        log.debug("Customers-Service POST batch URL: " + url);
+        Map<String, CustomerModel> customers = new HashMap<>();
+        try {
+            for (List<String> chunk : Batches.chunks(customerIds, MAX_BATCH_SIZE)) {
+                CustomerModel[] found = guard.call(() -> restTemplate.postForObject(url, chunk, CustomerModel[].class));
+                if (found != null) {
+                    for (CustomerModel customer : found) {
+                        customers.put(customer.getCustomerId(), customer);
+                    }
+                }
+            }
+            return customers;
+        }
+        catch(HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
+    public List<ChangeEventModel> getChangeEvents(long since, int limit) {
+        String url = CUSTOMERS_SERVICE_EVENTS_URL + "?since=" + since + "&limit=" + limit;
+        log.debug("Customers-Service GET change events URL: " + url);
+        try {
+            ChangeEventModel[] events = guard.call(() -> restTemplate.getForObject(url, ChangeEventModel[].class));
+            return events == null ? List.of() : List.of(events);
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
 
     private String getErrorMessage(HttpClientErrorException ex) {
         try {
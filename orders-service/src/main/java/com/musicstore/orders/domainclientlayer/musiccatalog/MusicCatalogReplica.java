@@ -0,0 +1,160 @@
+package com.musicstore.orders.domainclientlayer.musiccatalog;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of the music catalog, keyed by albumId. Each album keeps only the
+ * fields orders embed, and artist names are held once per artist, so a rename is a
+ * single write. It is filled from the catalog's album export and kept current from its
+ * change feed by {@code MusicCatalogReplicaSync}, which records the feed position
+ * reached and when it last caught up with the end of the feed.
+ * <p>
+ * Lookups are only answered while the replica has been bootstrapped and caught up
+ * within {@code max-staleness}; otherwise they miss and callers go to the catalog.
+ * An album whose artist has no known name also misses, so the caller fetches it with
+ * its name rather than looking the artist up separately.
+ * The time since the last catch-up is published as {@code orders.catalog.replica.staleness}
+ * and the number of albums held as {@code orders.catalog.replica.albums}.
+ */
+@Component
+public class MusicCatalogReplica {
+
+    private record Entry(String artistId, String albumTitle, Status status) {
+    }
+
+    private volatile Map<String, Entry> albums = new ConcurrentHashMap<>();
+    private volatile Map<String, String> artistNames = new ConcurrentHashMap<>();
+    private volatile long position;
+    private volatile long lastCaughtUpMillis;
+    private volatile boolean ready;
+    private final long maxStalenessMillis;
+
+    public MusicCatalogReplica(@Value("${app.catalog-replica.max-staleness:30s}") Duration maxStaleness,
+                               MeterRegistry meterRegistry) {
+        this.maxStalenessMillis = maxStaleness.toMillis();
+        Gauge.builder("orders.catalog.replica.staleness", this, MusicCatalogReplica::stalenessSeconds)
+                .description("Seconds since the catalog replica last caught up with the change feed")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("orders.catalog.replica.albums", this, replica -> replica.albums.size())
+                .description("Albums held in the catalog replica")
+                .register(meterRegistry);
+    }
+
+    public AlbumModel get(String albumId) {
+        if (!isFresh()) {
+            return null;
+        }
+        return toModel(albumId, albums.get(albumId));
+    }
+
+    public Map<String, AlbumModel> getAll(Collection<String> albumIds) {
+        Map<String, AlbumModel> found = new HashMap<>();
+        if (!isFresh()) {
+            return found;
+        }
+        for (String albumId : albumIds) {
+            AlbumModel album = toModel(albumId, albums.get(albumId));
+            if (album != null) {
+                found.put(albumId, album);
+            }
+        }
+        return found;
+    }
+
+    public boolean isFresh() {
+        return ready && System.currentTimeMillis() - lastCaughtUpMillis <= maxStalenessMillis;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Replaces the whole replica with a snapshot taken at change feed {@code position}.
+     */
+    public void load(Collection<AlbumModel> snapshot, long position) {
+        Map<String, Entry> loadedAlbums = new ConcurrentHashMap<>();
+        Map<String, String> loadedArtistNames = new ConcurrentHashMap<>();
+        for (AlbumModel album : snapshot) {
+            loadedAlbums.put(album.getAlbumId(), toEntry(album));
+            if (album.getArtistName() != null && !album.getArtistName().isEmpty()) {
+                loadedArtistNames.put(album.getArtistId(), album.getArtistName());
+            }
+        }
+        this.albums = loadedAlbums;
+        this.artistNames = loadedArtistNames;
+        this.position = position;
+        this.ready = true;
+    }
+
+    public void putAlbum(AlbumModel album) {
+        if (album.getArtistName() != null && !album.getArtistName().isEmpty()) {
+            artistNames.put(album.getArtistId(), album.getArtistName());
+        }
+        albums.put(album.getAlbumId(), toEntry(album));
+    }
+
+    public void removeAlbum(String albumId) {
+        albums.remove(albumId);
+    }
+
+    public void putArtistName(String artistId, String artistName) {
+        artistNames.put(artistId, artistName);
+    }
+
+    // albums of a deleted artist stay in the catalog, only the name is gone
+    public void removeArtist(String artistId) {
+        artistNames.remove(artistId);
+    }
+
+    public void advanceTo(long position) {
+        this.position = position;
+    }
+
+    public void caughtUp() {
+        this.lastCaughtUpMillis = System.currentTimeMillis();
+    }
+
+    public void clear() {
+        this.ready = false;
+        this.albums = new ConcurrentHashMap<>();
+        this.artistNames = new ConcurrentHashMap<>();
+        this.position = 0;
+    }
+
+    private double stalenessSeconds() {
+        return ready ? (System.currentTimeMillis() - lastCaughtUpMillis) / 1000.0 : Double.NaN;
+    }
+
+    private AlbumModel toModel(String albumId, Entry entry) {
+        String artistName = entry == null ? null : artistNames.get(entry.artistId());
+        if (artistName == null || artistName.isEmpty()) {
+            return null;
+        }
+        return AlbumModel.builder()
+                .artistId(entry.artistId())
+                .artistName(artistName)
+                .albumId(albumId)
+                .albumTitle(entry.albumTitle())
+                .status(entry.status())
+                .build();
+    }
+
+    private static Entry toEntry(AlbumModel album) {
+        return new Entry(album.getArtistId(), album.getAlbumTitle(), album.getStatus());
+    }
+}
@@ -4,17 +4,32 @@ package com.musicstore.orders.domainclientlayer.musiccatalog;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicstore.orders.domainclientlayer.ChangeEventModel;
+import com.musicstore.orders.domainclientlayer.DownstreamGuard;
+import com.musicstore.orders.domainclientlayer.ReferenceDataCache;
+import com.musicstore.orders.utils.Batches;
 import com.musicstore.orders.utils.HttpErrorInfo;
 import com.musicstore.orders.utils.exceptions.InvalidInputException;
 import com.musicstore.orders.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
@@ -23,34 +38,99 @@ public class MusicCatalogServiceClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
     private final String MUSIC_CATALOG_BASE_URL;
+    private final ReferenceDataCache<AlbumModel> albumCache;
+    private final ReferenceDataCache<AlbumModel> artistCache;
+    private final String MUSIC_CATALOG_EVENTS_URL;
+    private final DownstreamGuard guard;
+    private final MusicCatalogReplica replica;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final String CHANGE_FEED_POSITION_HEADER = "X-Change-Feed-Position";
 
     public MusicCatalogServiceClient(RestTemplate restTemplate,
                                      ObjectMapper mapper,
                                      @Value("${app.musiccatalog-service.host}") String musicCatalogHost,
-                                     @Value("${app.musiccatalog-service.port}") String musicCatalogPort) {
+                                     @Value("${app.musiccatalog-service.port}") String musicCatalogPort,
+                                     @Qualifier("albumCache") ReferenceDataCache<AlbumModel> albumCache,
+                                     @Qualifier("artistCache") ReferenceDataCache<AlbumModel> artistCache,
+                                     @Qualifier("musicCatalogServiceGuard") DownstreamGuard guard,
+                                     MusicCatalogReplica replica) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
+        this.albumCache = albumCache;
+        this.artistCache = artistCache;
+        this.guard = guard;
+        this.replica = replica;
         this.MUSIC_CATALOG_BASE_URL = "http://" + musicCatalogHost + ":" + musicCatalogPort + "/api/v1";
+        this.MUSIC_CATALOG_EVENTS_URL = MUSIC_CATALOG_BASE_URL + "/events";
     }
 
     // ==== ARTIST METHODS ====
     public AlbumModel getArtistByArtistId(String artistId) {
+        return artistCache.get(artistId, this::fetchArtistByArtistId);
+    }
+
+    public Map<String, AlbumModel> getArtistsByArtistIds(Collection<String> artistIds) {
+        return artistCache.getAll(artistIds, this::fetchArtistsByArtistIds);
+    }
+
+    private AlbumModel fetchArtistByArtistId(String artistId) {
         String url = MUSIC_CATALOG_BASE_URL + "/artists/" + artistId;
         log.debug("MusicCatalogService GET artist by ID URL: " + url);
         try {
-            return restTemplate.getForObject(url, AlbumModel.class);
+            return guard.call(() -> restTemplate.getForObject(url, AlbumModel.class));
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
     }
 
+    private Map<String, AlbumModel> fetchArtistsByArtistIds(Collection<String> artistIds) {
+        String url = MUSIC_CATALOG_BASE_URL + "/artists:batchGet";
+        log.debug("MusicCatalogService POST artists batch URL: " + url);
+        Map<String, AlbumModel> artists = new HashMap<>();
+        for (List<String> chunk : Batches.chunks(artistIds, MAX_BATCH_SIZE)) {
+            for (JsonNode node : postBatch(url, chunk)) {
+                AlbumModel artist = AlbumModel.builder()
+                        .artistId(node.path("artistId").asText())
+                        .artistName(node.path("artistName").asText())
+                        .build();
+                artists.put(artist.getArtistId(), artist);
+            }
+        }
+        return artists;
+    }
+
     // ==== ALBUM METHODS ====
     public AlbumModel getAlbumByAlbumId(String artistId, String albumId) {
+        if (artistId == null || artistId.isEmpty()) {
+            throw new InvalidInputException("An artistId is required to look up album: " + albumId);
+        }
+        AlbumModel replicated = replica.get(albumId);
+        if (replicated != null && artistId.equals(replicated.getArtistId())) {
+            return replicated;
+        }
+        AlbumModel album = albumCache.get(albumId, id -> fetchAlbumByAlbumId(artistId, id));
+        // albums are cached by albumId alone; let the catalog reject a mismatched artist
+        if (album != null && !artistId.equals(album.getArtistId())) {
+            return fetchAlbumByAlbumId(artistId, albumId);
+        }
+        return album;
+    }
+
+    public Map<String, AlbumModel> getAlbumsByAlbumIds(Collection<String> albumIds) {
+        Map<String, AlbumModel> albums = replica.getAll(albumIds);
+        if (albums.size() < albumIds.size()) {
+            List<String> missing = albumIds.stream().filter(albumId -> !albums.containsKey(albumId)).toList();
+            albums.putAll(albumCache.getAll(missing, this::fetchAlbumsByAlbumIds));
+        }
+        return albums;
+    }
+
+    private AlbumModel fetchAlbumByAlbumId(String artistId, String albumId) {
         try {
             String url = MUSIC_CATALOG_BASE_URL + "/artists/" + artistId + "/albums/" + albumId;
             log.debug("MusicCatalogService GET album by albumId URL: " + url);
 
-            String response = restTemplate.getForObject(url, String.class);
+            String response = guard.call(() -> restTemplate.getForObject(url, String.class));
 
             return ACLAlbumModelFromJsonString(response);
         } catch (HttpClientErrorException ex) {
@@ -59,6 +139,20 @@ public class MusicCatalogServiceClient {
             throw new RuntimeException(e);
         }
     }
+
+    private Map<String, AlbumModel> fetchAlbumsByAlbumIds(Collection<String> albumIds) {
+        String url = MUSIC_CATALOG_BASE_URL + "/albums:batchGet";
+        log.debug("MusicCatalogService POST albums batch URL: " + url);
+        Map<String, AlbumModel> albums = new HashMap<>();
+        for (List<String> chunk : Batches.chunks(albumIds, MAX_BATCH_SIZE)) {
+            for (JsonNode node : postBatch(url, chunk)) {
+                AlbumModel album = ACLAlbumModelFromJsonNode(node);
+                albums.put(album.getAlbumId(), album);
+            }
+        }
+        return albums;
+    }
+
     public AlbumModel patchAlbumConditionTypeByArtistAndAlbumId(
             String artistId,
             String albumId,
@@ -72,11 +166,16 @@ public class MusicCatalogServiceClient {
         log.debug("MusicCatalogService PATCH album condition URL: {}", url);
         try {
             // send just the enum name as the new payload
-            String response = restTemplate
-                    .patchForObject(url, newCondition.toString(), String.class);
+            String response = guard.call(() -> restTemplate
+                    .patchForObject(url, newCondition.toString(), String.class));
+            albumCache.invalidate(albumId);
 
             // parse that JSON back into our ACL AlbumModel
-            return ACLAlbumModelFromJsonString(response);
+            AlbumModel patched = ACLAlbumModelFromJsonString(response);
+            if (replica.isReady()) {
+                replica.putAlbum(patched);
+            }
+            return patched;
 
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
@@ -85,16 +184,29 @@ public class MusicCatalogServiceClient {
         }
     }
 
+    private JsonNode postBatch(String url, List<String> ids) {
+        try {
+            String response = guard.call(() -> restTemplate.postForObject(url, ids, String.class));
+            return response == null ? mapper.createArrayNode() : mapper.readTree(response);
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error parsing batch response JSON", e);
+        }
+    }
+
     private AlbumModel ACLAlbumModelFromJsonString(String response) throws JsonProcessingException {
-        JsonNode node = mapper.readTree(response);
+        return ACLAlbumModelFromJsonNode(mapper.readTree(response));
+    }
 
+    private AlbumModel ACLAlbumModelFromJsonNode(JsonNode node) {
         String artistId    = node.path("artistId").asText();
         String albumId     = node.path("albumId").asText();
         String artistName  = node.path("artistName").asText();
         String albumTitle  = node.path("albumTitle").asText();
 
-        // parse conditionType, default to NEW if missing or invalid
-        String cond = node.path("conditionType").asText();
+        // the catalog sends status; conditionType is the older name. Default to NEW if missing or invalid
+        String cond = node.hasNonNull("status") ? node.path("status").asText() : node.path("conditionType").asText();
         Status condition;
         try {
             condition = cond.isEmpty()
@@ -113,6 +225,52 @@ public class MusicCatalogServiceClient {
                 .build();
     }
 
+    /**
+     * Streams every album in the catalog to {@code sink} and returns the change feed
+     * position the export was taken at; replaying the feed from there catches up with
+     * anything written while it streamed.
+     */
+    public long getAlbumSnapshot(Consumer<AlbumModel> sink) {
+        String url = MUSIC_CATALOG_BASE_URL + "/albums:export";
+        log.debug("MusicCatalogService GET album export URL: " + url);
+        try {
+            Long position = guard.call(() -> restTemplate.execute(url, HttpMethod.GET,
+                    request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_NDJSON)),
+                    response -> {
+                        String header = response.getHeaders().getFirst(CHANGE_FEED_POSITION_HEADER);
+                        try (BufferedReader reader = new BufferedReader(
+                                new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                            String line;
+                            while ((line = reader.readLine()) != null) {
+                                if (!line.isBlank()) {
+                                    sink.accept(ACLAlbumModelFromJsonString(line));
+                                }
+                            }
+                        }
+                        return header == null ? 0L : Long.parseLong(header.trim());
+                    }));
+            return position == null ? 0L : position;
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
+    public AlbumModel albumFromChangePayload(JsonNode payload) {
+        return ACLAlbumModelFromJsonNode(payload);
+    }
+
+    // ==== CHANGE EVENT METHODS ====
+    public List<ChangeEventModel> getChangeEvents(long since, int limit) {
+        String url = MUSIC_CATALOG_EVENTS_URL + "?since=" + since + "&limit=" + limit;
+        log.debug("MusicCatalogService GET change events URL: " + url);
+        try {
+            ChangeEventModel[] events = guard.call(() -> restTemplate.getForObject(url, ChangeEventModel[].class));
+            return events == null ? List.of() : List.of(events);
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
     // ==== Error Handling Methods ====
 
     private String getErrorMessage(HttpClientErrorException ex) {
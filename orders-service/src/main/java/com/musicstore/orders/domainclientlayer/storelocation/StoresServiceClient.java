@@ -1,10 +1,15 @@
 package com.musicstore.orders.domainclientlayer.storelocation;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicstore.orders.domainclientlayer.ChangeEventModel;
+import com.musicstore.orders.domainclientlayer.DownstreamGuard;
+import com.musicstore.orders.domainclientlayer.ReferenceDataCache;
+import com.musicstore.orders.utils.Batches;
 import com.musicstore.orders.utils.HttpErrorInfo;
 import com.musicstore.orders.utils.exceptions.InvalidInputException;
 import com.musicstore.orders.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
@@ -15,7 +20,10 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
@@ -26,28 +34,73 @@ public class StoresServiceClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
     private final String STORES_SERVICE_BASE_URL;
+    private final ReferenceDataCache<StoreLocationModel> storeCache;
+    private final String STORES_SERVICE_EVENTS_URL;
+    private final DownstreamGuard guard;
+    private static final int MAX_BATCH_SIZE = 500;
 
     public StoresServiceClient(RestTemplate restTemplate,
                                ObjectMapper mapper,
                                @Value("${app.storelocation-service.host}") String storesServiceHost,
-                               @Value("${app.storelocation-service.port}") String storesServicePort) {
+                               @Value("${app.storelocation-service.port}") String storesServicePort,
+                               ReferenceDataCache<StoreLocationModel> storeCache,
+                               @Qualifier("storesServiceGuard") DownstreamGuard guard) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
+        this.storeCache = storeCache;
+        this.guard = guard;
         STORES_SERVICE_BASE_URL = "http://" + storesServiceHost + ":" + storesServicePort + "/api/v1/stores";
+        STORES_SERVICE_EVENTS_URL = "http://" + storesServiceHost + ":" + storesServicePort + "/api/v1/events";
     }
 
     public StoreLocationModel getStoreByStoreId(String storeId) {
+        return storeCache.get(storeId, this::fetchStoreByStoreId);
+    }
+
+    public Map<String, StoreLocationModel> getStoresByStoreIds(Collection<String> storeIds) {
+        return storeCache.getAll(storeIds, this::fetchStoresByStoreIds);
+    }
+
+    private StoreLocationModel fetchStoreByStoreId(String storeId) {
         try {
             String url = STORES_SERVICE_BASE_URL + "/" + storeId;
             log.debug("Stores-Service GET by storeId URL: " + url);
-            StoreLocationModel storeResponseModel = restTemplate.getForObject(url, StoreLocationModel.class);
+            StoreLocationModel storeResponseModel = guard.call(() -> restTemplate.getForObject(url, StoreLocationModel.class));
             return storeResponseModel;
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
     }
 
+    private Map<String, StoreLocationModel> fetchStoresByStoreIds(Collection<String> storeIds) {
+        String url = STORES_SERVICE_BASE_URL + ":batchGet";
+        log.debug("Stores-Service POST batch URL: " + url);
+        Map<String, StoreLocationModel> stores = new HashMap<>();
+        try {
+            for (List<String> chunk : Batches.chunks(storeIds, MAX_BATCH_SIZE)) {
+                StoreLocationModel[] found = guard.call(() -> restTemplate.postForObject(url, chunk, StoreLocationModel[].class));
+                if (found != null) {
+                    for (StoreLocationModel store : found) {
+                        stores.put(store.getStoreId(), store);
+                    }
+                }
+            }
+            return stores;
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
 
+    public List<ChangeEventModel> getChangeEvents(long since, int limit) {
+        String url = STORES_SERVICE_EVENTS_URL + "?since=" + since + "&limit=" + limit;
+        log.debug("Stores-Service GET change events URL: " + url);
+        try {
+            ChangeEventModel[] events = guard.call(() -> restTemplate.getForObject(url, ChangeEventModel[].class));
+            return events == null ? List.of() : List.of(events);
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
 
     private String getErrorMessage(HttpClientErrorException ex) {
         try {
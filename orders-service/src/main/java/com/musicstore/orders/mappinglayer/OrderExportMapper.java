@@ -0,0 +1,27 @@
+package com.musicstore.orders.mappinglayer;
+
+import com.musicstore.orders.dataaccesslayer.Order;
+import com.musicstore.orders.presentationlayer.OrderResponseModel;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+// same fields as OrderResponseMapper, without the HATEOAS links
+@Mapper(componentModel = "spring")
+public interface OrderExportMapper {
+    @Mapping(expression = "java(order.getOrderIdentifier().getOrderId())", target = "orderId")
+    @Mapping(expression = "java(order.getAlbumModel().getArtistId())", target = "artistId")
+    @Mapping(expression = "java(order.getAlbumModel().getArtistName())", target = "artistName")
+    @Mapping(expression = "java(order.getAlbumModel().getAlbumId())", target = "albumId")
+    @Mapping(expression = "java(order.getAlbumModel().getAlbumTitle())", target = "albumTitle")
+    @Mapping(expression = "java(order.getCustomerModel().getCustomerId())", target = "customerId")
+    @Mapping(expression = "java(order.getCustomerModel().getFirstName())", target = "customerFirstName")
+    @Mapping(expression = "java(order.getCustomerModel().getLastName())", target = "customerLastName")
+    @Mapping(expression = "java(order.getStoreLocationModel().getStoreId())", target = "storeId")
+    @Mapping(expression = "java(order.getStoreLocationModel().getOwnerName())", target = "ownerName")
+    @Mapping(expression = "java(order.getStoreLocationModel().getManagerName())", target = "managerName")
+    @Mapping(expression = "java(order.getOrderDate())", target = "orderDate")
+    @Mapping(expression = "java(order.getOrderStatus())", target = "orderStatus")
+    @Mapping(expression = "java(order.getOrderPrice())", target = "orderPrice")
+    @Mapping(expression = "java(order.getPaymentMethod())", target = "paymentMethod")
+    OrderResponseModel entityToResponseModel(Order order);
+}
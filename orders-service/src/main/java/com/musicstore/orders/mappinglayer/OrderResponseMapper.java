@@ -1,19 +1,16 @@
 package com.musicstore.orders.mappinglayer;
 
 import com.musicstore.orders.dataaccesslayer.Order;
-import com.musicstore.orders.presentationlayer.OrderController;
 import com.musicstore.orders.presentationlayer.OrderResponseModel;
+import com.musicstore.orders.utils.LinkTemplates;
 import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
-import org.springframework.hateoas.Link;
+import org.springframework.hateoas.IanaLinkRelations;
 
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Mapper(componentModel = "spring")
 public interface OrderResponseMapper {
     @Mapping(expression = "java(order.getOrderIdentifier().getOrderId())", target = "orderId")
@@ -37,26 +34,23 @@ public interface OrderResponseMapper {
 
     @AfterMapping
     default void addOrderLinks(@MappingTarget OrderResponseModel response) {
+        if (!LinkTemplates.enabled()) {
+            return;
+        }
+        String baseUri = LinkTemplates.baseUri();
+
         // Self link: GET /api/v1/customers/{customerId}/orders/{orderId}
-        Link selfLink = linkTo(methodOn(OrderController.class)
-                .findOrderBydOrderId(response.getCustomerId(), response.getOrderId()))
-                .withSelfRel();
-        response.add(selfLink);
+        response.add(LinkTemplates.ORDER.toLink(baseUri, IanaLinkRelations.SELF_VALUE,
+                response.getCustomerId(), response.getOrderId()));
 
         // All orders for this customer: GET /api/v1/customers/{customerId}/orders
-        Link allOrdersLink = linkTo(methodOn(OrderController.class)
-                .getAllOrdersByCustomerId(response.getCustomerId()))
-                .withRel("allOrdersInCustomer");
-        response.add(allOrdersLink);
+        response.add(LinkTemplates.CUSTOMER_ORDERS.toLink(baseUri, "allOrdersInCustomer", response.getCustomerId()));
 
         // Link to the customer: GET /api/v1/customers/{customerId}
-        Link customerLink = Link.of("http://localhost:8081/api/v1/customers/" + response.getCustomerId())
-                .withRel("customer");
-        response.add(customerLink);
+        response.add(LinkTemplates.CUSTOMER.toLink(LinkTemplates.CUSTOMERS_SERVICE_URI, "customer",
+                response.getCustomerId()));
 
         // Link to all customers: GET /api/v1/customers
-        Link allCustomersLink = Link.of("http://localhost:8081/api/v1/customers")
-                .withRel("allCustomers");
-        response.add(allCustomersLink);
+        response.add(LinkTemplates.CUSTOMERS.toLink(LinkTemplates.CUSTOMERS_SERVICE_URI, "allCustomers"));
     }
-}
\ No newline at end of file
+}
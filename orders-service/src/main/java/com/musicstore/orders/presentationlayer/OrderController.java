@@ -13,17 +13,30 @@ import java.util.List;
 public class OrderController {
     private final OrderService orderService;
     private static final int UUID_LENGTH = 36;
+    private static final int MAX_PAGE_SIZE = 100;
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
     public OrderController(OrderService orderService) {
         this.orderService = orderService;
     }
 
     @GetMapping
-    public ResponseEntity<List<OrderResponseModel>> getAllOrdersByCustomerId(@PathVariable String customerId) {
+    public ResponseEntity<List<OrderResponseModel>> getAllOrdersByCustomerId(@PathVariable String customerId,
+                                                                             @RequestParam(required = false) String cursor,
+                                                                             @RequestParam(defaultValue = "20") int limit,
+                                                                             @RequestParam(required = false) String sort) {
         if (customerId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid customerId provided: " + customerId);
         }
-        return ResponseEntity.ok(orderService.getAllOrdersByCustomerId(customerId));
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("limit must be between 1 and " + MAX_PAGE_SIZE + ", got: " + limit);
+        }
+        OrderPage page = orderService.getOrdersPageByCustomerId(customerId, cursor, limit, sort);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getOrders());
     }
 
     @GetMapping("/{orderId}")
@@ -0,0 +1,28 @@
+package com.musicstore.orders.presentationlayer;
+
+import com.musicstore.orders.businesslayer.OrderService;
+import com.musicstore.orders.utils.NdjsonWriter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+public class OrderExportController {
+    private final OrderService orderService;
+    private final NdjsonWriter ndjsonWriter;
+
+    public OrderExportController(OrderService orderService, NdjsonWriter ndjsonWriter) {
+        this.orderService = orderService;
+        this.ndjsonWriter = ndjsonWriter;
+    }
+
+    // every order with the customer, album and store snapshots stored on it; no downstream calls
+    @GetMapping(value = "api/v1/orders:export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> orderService.exportOrders(ndjsonWriter.to(out)));
+    }
+}
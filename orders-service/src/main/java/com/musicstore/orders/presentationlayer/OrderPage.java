@@ -0,0 +1,11 @@
+package com.musicstore.orders.presentationlayer;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class OrderPage {
+    List<OrderResponseModel> orders;
+    String nextCursor; // null on the last page
+}
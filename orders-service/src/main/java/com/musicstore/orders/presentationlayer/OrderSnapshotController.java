@@ -0,0 +1,34 @@
+package com.musicstore.orders.presentationlayer;
+
+import com.musicstore.orders.businesslayer.OrderService;
+import com.musicstore.orders.utils.exceptions.InvalidInputException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class OrderSnapshotController {
+    private final OrderService orderService;
+    private static final int UUID_LENGTH = 36;
+
+    public OrderSnapshotController(OrderService orderService) {
+        this.orderService = orderService;
+    }
+
+    // change events from the customers, catalog and stores services, applied to every order embedding them
+    @PostMapping("api/v1/orders/snapshots:apply")
+    public ResponseEntity<SnapshotChangesResponseModel> applySnapshotChanges(@RequestBody SnapshotChangesRequestModel changes) {
+        return ResponseEntity.ok(orderService.applySnapshotChanges(changes));
+    }
+
+    // re-reads a customer's snapshots from the downstream services, for changes whose events were missed
+    @PostMapping("api/v1/customers/{customerId}/orders:refreshSnapshots")
+    public ResponseEntity<SnapshotChangesResponseModel> refreshSnapshots(@PathVariable String customerId) {
+        if (customerId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid customerId provided: " + customerId);
+        }
+        return ResponseEntity.ok(orderService.refreshSnapshots(customerId));
+    }
+}
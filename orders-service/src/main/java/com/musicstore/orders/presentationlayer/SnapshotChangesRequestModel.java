@@ -0,0 +1,35 @@
+package com.musicstore.orders.presentationlayer;
+
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import com.musicstore.orders.domainclientlayer.customer.CustomerModel;
+import com.musicstore.orders.domainclientlayer.musiccatalog.AlbumModel;
+import com.musicstore.orders.domainclientlayer.storelocation.StoreLocationModel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// current state of customers, albums, artists and stores whose copies embedded in orders are stale;
+// a null list reads as empty and null entries are dropped
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SnapshotChangesRequestModel {
+    @Builder.Default
+    @JsonSetter(nulls = Nulls.AS_EMPTY, contentNulls = Nulls.SKIP)
+    List<CustomerModel> customers = new ArrayList<>();
+    @Builder.Default
+    @JsonSetter(nulls = Nulls.AS_EMPTY, contentNulls = Nulls.SKIP)
+    List<AlbumModel> albums = new ArrayList<>();
+    @Builder.Default
+    @JsonSetter(nulls = Nulls.AS_EMPTY, contentNulls = Nulls.SKIP)
+    List<AlbumModel> artists = new ArrayList<>(); // artistId and artistName only
+    @Builder.Default
+    @JsonSetter(nulls = Nulls.AS_EMPTY, contentNulls = Nulls.SKIP)
+    List<StoreLocationModel> stores = new ArrayList<>();
+}
@@ -0,0 +1,13 @@
+package com.musicstore.orders.presentationlayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SnapshotChangesResponseModel {
+    long matchedOrders;
+    long modifiedOrders;
+}
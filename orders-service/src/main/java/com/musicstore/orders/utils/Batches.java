@@ -0,0 +1,20 @@
+package com.musicstore.orders.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public final class Batches {
+
+    private Batches() {
+    }
+
+    public static <T> List<List<T>> chunks(Collection<T> items, int chunkSize) {
+        List<T> all = new ArrayList<>(items);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += chunkSize) {
+            chunks.add(all.subList(from, Math.min(from + chunkSize, all.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,159 @@
+package com.musicstore.orders.utils;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pooled outbound HTTP client for the downstream services. Each service gets its own
+ * connection limit, connect timeout and response timeout from {@code app.<service>.*},
+ * so a slow service exhausts only its own share of the pool instead of every request thread.
+ * Calls made while serving a request carry its {@link RequestDeadline} downstream and wait
+ * for an answer no longer than the time the request has left.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    private static final List<String> DOWNSTREAM_SERVICES =
+            List.of("customers-service", "musiccatalog-service", "storelocation-service");
+
+    @Bean
+    PoolingHttpClientConnectionManager connectionManager(
+            Environment environment,
+            @Value("${app.http-client.max-total:100}") int maxTotal,
+            @Value("${app.http-client.time-to-live:5m}") Duration timeToLive) {
+        ConnectionConfig defaultConfig = connectionConfig(Duration.ofSeconds(2), Duration.ofSeconds(5), timeToLive);
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setDefaultConnectionConfig(defaultConfig)
+                .build();
+
+        Map<HttpRoute, ConnectionConfig> routeConfigs = new HashMap<>();
+        downstreamRoutes(environment).forEach((service, route) -> {
+            String prefix = "app." + service + ".";
+            connectionManager.setMaxPerRoute(route,
+                    environment.getProperty(prefix + "max-connections", Integer.class, 20));
+            routeConfigs.put(route, connectionConfig(
+                    environment.getProperty(prefix + "connect-timeout", Duration.class, Duration.ofSeconds(2)),
+                    environment.getProperty(prefix + "response-timeout", Duration.class, Duration.ofSeconds(5)),
+                    timeToLive));
+        });
+        connectionManager.setConnectionConfigResolver(route -> routeConfigs.getOrDefault(route, defaultConfig));
+        return connectionManager;
+    }
+
+    @Bean
+    RestTemplate restTemplate(PoolingHttpClientConnectionManager connectionManager,
+                              ObservationRegistry observationRegistry,
+                              DownstreamCallMetrics downstreamCallMetrics,
+                              Environment environment,
+                              @Value("${app.http-client.connection-request-timeout:2s}") Duration connectionRequestTimeout,
+                              @Value("${app.http-client.idle-timeout:30s}") Duration idleTimeout) {
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                .build();
+        Map<String, Duration> responseTimeouts = new HashMap<>();
+        downstreamRoutes(environment).forEach((service, route) -> responseTimeouts.put(
+                route.getTargetHost().toHostString(),
+                environment.getProperty("app." + service + ".response-timeout", Duration.class, Duration.ofSeconds(5))));
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setHttpContextFactory((method, uri) -> deadlineContext(
+                responseTimeouts.getOrDefault(uri.getHost() + ":" + uri.getPort(), Duration.ofSeconds(5)),
+                connectionRequestTimeout));
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setClientHttpRequestInitializers(List.of(RequestDeadline::propagate));
+        restTemplate.setObservationRegistry(observationRegistry);
+        restTemplate.setObservationConvention(downstreamCallMetrics);
+        return restTemplate;
+    }
+
+    // null keeps the configured timeouts; a request close to its deadline gets shorter ones
+    private static HttpClientContext deadlineContext(Duration responseTimeout, Duration connectionRequestTimeout) {
+        return RequestDeadline.remaining()
+                .filter(remaining -> remaining.compareTo(responseTimeout) < 0)
+                .map(remaining -> {
+                    HttpClientContext context = HttpClientContext.create();
+                    context.setRequestConfig(RequestConfig.custom()
+                            .setConnectionRequestTimeout(Timeout.of(
+                                    remaining.compareTo(connectionRequestTimeout) < 0 ? remaining : connectionRequestTimeout))
+                            .setResponseTimeout(Timeout.of(remaining))
+                            .build());
+                    return context;
+                })
+                .orElse(null);
+    }
+
+    @Bean
+    MeterBinder connectionPoolMetrics(PoolingHttpClientConnectionManager connectionManager,
+                                      Environment environment) {
+        MeterBinder poolTotals = new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "downstream");
+        return registry -> {
+            poolTotals.bindTo(registry);
+            downstreamRoutes(environment).forEach((service, route) -> bindSaturation(registry, connectionManager, service, route));
+        };
+    }
+
+    private static void bindSaturation(MeterRegistry registry, PoolingHttpClientConnectionManager connectionManager,
+                                       String service, HttpRoute route) {
+        Gauge.builder("http.client.pool.saturation", connectionManager, cm -> {
+                    PoolStats stats = cm.getStats(route);
+                    return stats.getMax() == 0 ? 0 : (double) stats.getLeased() / stats.getMax();
+                })
+                .description("Share of the service's connections currently leased")
+                .tag("service", service)
+                .register(registry);
+    }
+
+    private static Map<String, HttpRoute> downstreamRoutes(Environment environment) {
+        Map<String, HttpRoute> routes = new LinkedHashMap<>();
+        for (String service : DOWNSTREAM_SERVICES) {
+            String host = environment.getProperty("app." + service + ".host");
+            Integer port = environment.getProperty("app." + service + ".port", Integer.class);
+            if (host != null && port != null) {
+                routes.put(service, new HttpRoute(new HttpHost("http", host, port)));
+            }
+        }
+        return routes;
+    }
+
+    private static ConnectionConfig connectionConfig(Duration connectTimeout, Duration responseTimeout, Duration timeToLive) {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(responseTimeout))
+                .setTimeToLive(TimeValue.of(timeToLive))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.musicstore.orders.utils;
+
+import io.micrometer.context.ContextRegistry;
+import org.springframework.http.HttpRequest;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Time budget of the request being handled on the current thread. Services pass the
+ * budget on in the {@value #HEADER} header as the milliseconds left, so every hop stops
+ * working on a request at the moment its caller gives up on it. The deadline follows the
+ * request onto executors that propagate the Micrometer context.
+ */
+public final class RequestDeadline {
+
+    public static final String HEADER = "X-Request-Timeout-Ms";
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    static {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(
+                HEADER, DEADLINE::get, DEADLINE::set, DEADLINE::remove);
+    }
+
+    private RequestDeadline() {
+    }
+
+    /**
+     * Deadline, in {@link System#nanoTime()} terms, for a request that arrived with the given
+     * header value. A caller may shorten {@code defaultBudget} but never extend it.
+     */
+    public static long deadlineFor(String header, Duration defaultBudget) {
+        long budgetMillis = defaultBudget.toMillis();
+        if (header != null) {
+            try {
+                budgetMillis = Math.min(budgetMillis, Math.max(0, Long.parseLong(header.trim())));
+            } catch (NumberFormatException ignored) {
+                // a malformed header leaves the default budget
+            }
+        }
+        return System.nanoTime() + Duration.ofMillis(budgetMillis).toNanos();
+    }
+
+    public static void set(long deadlineNanos) {
+        DEADLINE.set(deadlineNanos);
+    }
+
+    public static void clear() {
+        DEADLINE.remove();
+    }
+
+    /**
+     * Time left before the current request's deadline, at least one millisecond, or empty
+     * when the thread is not serving a request with a deadline.
+     */
+    public static Optional<Duration> remaining() {
+        Long deadline = DEADLINE.get();
+        if (deadline == null) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.ofNanos(Math.max(deadline - System.nanoTime(), 1_000_000)));
+    }
+
+    public static boolean expired() {
+        Long deadline = DEADLINE.get();
+        return deadline != null && deadline - System.nanoTime() <= 0;
+    }
+
+    /** Adds the remaining budget to an outbound request; usable as a {@code ClientHttpRequestInitializer}. */
+    public static void propagate(HttpRequest request) {
+        remaining().ifPresent(left -> request.getHeaders().set(HEADER, String.valueOf(left.toMillis())));
+    }
+}
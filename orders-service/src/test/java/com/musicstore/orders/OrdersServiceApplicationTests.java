@@ -1,5 +1,9 @@
 package com.musicstore.orders;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.SpringApplication;
@@ -7,16 +11,31 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mockStatic;
 
 @SpringBootTest
 @ActiveProfiles("test")
 class OrdersServiceApplicationTests {
 
+	@Autowired
+	PoolingHttpClientConnectionManager connectionManager;
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void connectionPoolIsSizedPerDownstreamService() {
+		assertEquals(20, connectionManager.getMaxPerRoute(new HttpRoute(new HttpHost("http", "localhost", 7001))));
+		assertEquals(40, connectionManager.getMaxPerRoute(new HttpRoute(new HttpHost("http", "localhost", 7002))));
+		assertEquals(0.0, meterRegistry.get("http.client.pool.saturation")
+				.tag("service", "musiccatalog-service").gauge().value());
+	}
+
 	@Test
 	void main_shouldStartApplication() {
 		try (var mockedSpringApplication = mockStatic(SpringApplication.class)) {
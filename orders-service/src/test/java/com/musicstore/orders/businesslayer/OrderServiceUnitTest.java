@@ -1,7 +1,10 @@
 package com.musicstore.orders.businesslayer;
 
+import com.musicstore.orders.dataaccesslayer.ChangeFeedPositionRepository;
 import com.musicstore.orders.dataaccesslayer.Order;
+import com.musicstore.orders.dataaccesslayer.OrderDateBackfill;
 import com.musicstore.orders.dataaccesslayer.OrderIdentifier;
+import com.musicstore.orders.dataaccesslayer.OrderIndexVerifier;
 import com.musicstore.orders.dataaccesslayer.OrderRepository;
 import com.musicstore.orders.dataaccesslayer.PaymentMethod;
 import com.musicstore.orders.domainclientlayer.customer.CustomerModel;
@@ -19,7 +22,10 @@ import com.musicstore.orders.utils.exceptions.InvalidInputException;
 import com.musicstore.orders.utils.exceptions.InvalidOrderPriceException;
 import com.musicstore.orders.utils.exceptions.NotFoundException;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -29,6 +35,8 @@ import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -44,6 +52,18 @@ public class OrderServiceUnitTest {
     @MockitoBean
     OrderRepository orderRepository;
 
+    @MockitoBean
+    OrderIndexVerifier orderIndexVerifier;
+
+    @MockitoBean
+    OrderDateBackfill orderDateBackfill;
+
+    @MockitoBean
+    OrderSnapshotUpdater orderSnapshotUpdater;
+
+    @MockitoBean
+    ChangeFeedPositionRepository changeFeedPositionRepository;
+
     @MockitoSpyBean
     OrderResponseMapper orderResponseMapper;
 
@@ -89,38 +109,120 @@ public class OrderServiceUnitTest {
                 .build();
     }
 
-    //Get all
+    //Get page
     @Test
-    public void whenValidCustomerId_thenGetAllOrders() {
+    public void whenValidCustomerId_thenGetOrdersPage() {
         var entity = buildOrderEntity();
         // stub repository & upstream
-        when(orderRepository.findAllByCustomerModel_CustomerId(CUST_ID))
+        when(orderRepository.findByCustomerModel_CustomerId(eq(CUST_ID), any(Sort.class), any(Limit.class)))
                 .thenReturn(List.of(entity));
-        when(customersServiceClient.getCustomerByCustomerId(CUST_ID))
-                .thenReturn(entity.getCustomerModel());
-        when(musicCatalogServiceClient.getAlbumByAlbumId("a1", "al1"))
-                .thenReturn(entity.getAlbumModel());
-        when(storesServiceClient.getStoreByStoreId("s1"))
-                .thenReturn(entity.getStoreLocationModel());
         // stub response mapper
         var dummyResp = new OrderResponseModel();
         when(orderResponseMapper.entityListToResponseModelList(any()))
                 .thenReturn(List.of(dummyResp));
 
-        var result = orderService.getAllOrdersByCustomerId(CUST_ID);
+        var result = orderService.getOrdersPageByCustomerId(CUST_ID, null, 20, null);
 
         assertNotNull(result);
-        assertEquals(1, result.size());
+        assertEquals(1, result.getOrders().size());
+        assertNull(result.getNextCursor());
         verify(orderResponseMapper, times(1))
                 .entityListToResponseModelList(List.of(entity));
+        verifyNoInteractions(customersServiceClient, musicCatalogServiceClient, storesServiceClient);
+    }
+
+    @Test
+    public void whenRefreshSnapshotsOfOrdersSharingAlbumAndStore_thenLookupEachKeyOnce() {
+        var first = buildOrderEntity();
+        var second = buildOrderEntity();
+        var artistOnly = AlbumModel.builder().artistId("a1").artistName("Artist").build();
+        var albumWithoutArtistName = AlbumModel.builder()
+                .artistId("a1").albumId("al1")
+                .albumTitle("Title")
+                .status(Status.NEW)
+                .build();
+        when(orderRepository.findAllByCustomerModel_CustomerId(CUST_ID))
+                .thenReturn(List.of(first, second));
+        when(customersServiceClient.getCustomerByCustomerId(CUST_ID))
+                .thenReturn(first.getCustomerModel());
+        when(musicCatalogServiceClient.getAlbumsByAlbumIds(Set.of("al1")))
+                .thenReturn(Map.of("al1", albumWithoutArtistName));
+        when(musicCatalogServiceClient.getArtistsByArtistIds(Set.of("a1")))
+                .thenReturn(Map.of("a1", artistOnly));
+        when(storesServiceClient.getStoresByStoreIds(Set.of("s1")))
+                .thenReturn(Map.of("s1", first.getStoreLocationModel()));
+
+        orderService.refreshSnapshots(CUST_ID);
+
+        assertEquals("Artist", second.getAlbumModel().getArtistName());
+        // the looked-up album may be the cached instance, so it is copied rather than named in place
+        assertNull(albumWithoutArtistName.getArtistName());
+        verify(orderSnapshotUpdater, times(1)).apply(argThat(changes ->
+                changes.getCustomers().size() == 1
+                        && changes.getAlbums().size() == 1
+                        && "Artist".equals(changes.getAlbums().get(0).getArtistName())
+                        && changes.getStores().size() == 1));
+        verify(customersServiceClient, times(1)).getCustomerByCustomerId(CUST_ID);
+        verify(musicCatalogServiceClient, times(1)).getAlbumsByAlbumIds(Set.of("al1"));
+        verify(musicCatalogServiceClient, times(1)).getArtistsByArtistIds(Set.of("a1"));
+        verify(musicCatalogServiceClient, never()).getAlbumByAlbumId(any(), any());
+        verify(storesServiceClient, times(1)).getStoresByStoreIds(Set.of("s1"));
+        verify(storesServiceClient, never()).getStoreByStoreId(any());
+    }
+
+    @Test
+    public void whenMoreOrdersThanLimit_thenReturnPageAndNextCursor() {
+        var first = buildOrderEntity();
+        var second = buildOrderEntity();
+        var third = buildOrderEntity();
+        Sort sort = Sort.by(Sort.Direction.DESC, "orderDate", "orderIdentifier.orderId");
+        when(orderRepository.findByCustomerModel_CustomerId(CUST_ID, sort, Limit.of(3)))
+                .thenReturn(List.of(first, second, third));
+
+        var page = orderService.getOrdersPageByCustomerId(CUST_ID, null, 2, null);
+
+        assertEquals(2, page.getOrders().size());
+        assertNotNull(page.getNextCursor());
+        verify(orderResponseMapper, times(1)).entityListToResponseModelList(List.of(first, second));
+
+        orderService.getOrdersPageByCustomerId(CUST_ID, page.getNextCursor(), 2, null);
+
+        verify(orderRepository, times(1)).findPageBefore(CUST_ID, second.getOrderDate(),
+                second.getOrderIdentifier().getOrderId(), sort, Limit.of(3));
+    }
+
+    @Test
+    public void whenLastPage_thenReturnNoNextCursor() {
+        var entity = buildOrderEntity();
+        Sort sort = Sort.by(Sort.Direction.ASC, "orderDate", "orderIdentifier.orderId");
+        when(orderRepository.findByCustomerModel_CustomerId(CUST_ID, sort, Limit.of(21)))
+                .thenReturn(List.of(entity));
+
+        var page = orderService.getOrdersPageByCustomerId(CUST_ID, null, 20, "orderDate,asc");
+
+        assertEquals(1, page.getOrders().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void whenInvalidCursorOrSort_thenThrowInvalidInputOnGetPage() {
+        String descCursor = new OrderCursor(Sort.Direction.DESC, LocalDate.now(), ORDER_ID).encode();
+
+        assertThrows(InvalidInputException.class,
+                () -> orderService.getOrdersPageByCustomerId(CUST_ID, "not-a-cursor", 20, null));
+        assertThrows(InvalidInputException.class,
+                () -> orderService.getOrdersPageByCustomerId(CUST_ID, null, 20, "orderPrice,desc"));
+        assertThrows(InvalidInputException.class,
+                () -> orderService.getOrdersPageByCustomerId(CUST_ID, descCursor, 20, "orderDate,asc"));
+        verifyNoInteractions(orderRepository);
     }
 
     @Test
-    public void whenCustomerNotFound_thenThrowNotFoundOnGetAll() {
+    public void whenEmptyFirstPage_thenConfirmCustomerExists() {
         when(customersServiceClient.getCustomerByCustomerId(CUST_ID))
                 .thenThrow(new NotFoundException("no cust"));
         assertThrows(NotFoundException.class,
-                () -> orderService.getAllOrdersByCustomerId(CUST_ID));
+                () -> orderService.getOrdersPageByCustomerId(CUST_ID, null, 20, null));
     }
 
     @Test
@@ -566,7 +668,12 @@ public class OrderServiceUnitTest {
         // assert
         verify(musicCatalogServiceClient, times(1))
                 .getArtistByArtistId("artist-id");
-        assertEquals("Fetched Artist", partialAlbum.getArtistName());
+        ArgumentCaptor<AlbumModel> embedded = ArgumentCaptor.forClass(AlbumModel.class);
+        verify(orderRequestMapper).requestModelToEntity(
+                eq(req), any(OrderIdentifier.class), embedded.capture(), any(CustomerModel.class), any(StoreLocationModel.class));
+        assertEquals("Fetched Artist", embedded.getValue().getArtistName());
+        // the looked-up album may be shared with the catalog cache, so it is copied rather than changed
+        assertEquals("", partialAlbum.getArtistName());
     }
 
     // helper to keep it DRY
@@ -3,24 +3,36 @@ package com.musicstore.orders.dataaccesslayer;
 import com.musicstore.orders.domainclientlayer.customer.CustomerModel;
 import com.musicstore.orders.domainclientlayer.musiccatalog.AlbumModel;
 import com.musicstore.orders.domainclientlayer.storelocation.StoreLocationModel;
+import com.mongodb.MongoCommandException;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @DataMongoTest
 @ActiveProfiles("test")
 public class OrderRepositoryIntegrationTest {
+    private static final int COMMAND_NOT_FOUND = 59;
+
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
     private Order order1;
     private Order order2;
 
@@ -265,5 +277,103 @@ public class OrderRepositoryIntegrationTest {
     public void whenExistsById_thenFalse() {
         assertFalse(orderRepository.existsById("no-such-id"));
     }
-}
 
+    @Test
+    public void whenPagingDescending_thenKeysetContinuesAfterLastOrder() {
+        saveOrderOfCustomer1(LocalDate.of(2025, 4, 11));
+        saveOrderOfCustomer1(LocalDate.of(2025, 4, 12));
+        saveOrderOfCustomer1(LocalDate.of(2025, 4, 12));
+        String customerId = order1.getCustomerModel().getCustomerId();
+        Sort sort = Sort.by(Sort.Direction.DESC, "orderDate", "orderIdentifier.orderId");
+
+        List<Order> first = orderRepository.findByCustomerModel_CustomerId(customerId, sort, Limit.of(2));
+        Order last = first.get(1);
+        List<Order> rest = orderRepository.findPageBefore(customerId, last.getOrderDate(),
+                last.getOrderIdentifier().getOrderId(), sort, Limit.of(10));
+
+        assertEquals(List.of(LocalDate.of(2025, 4, 12), LocalDate.of(2025, 4, 12)),
+                first.stream().map(Order::getOrderDate).toList());
+        assertTrue(first.get(0).getOrderIdentifier().getOrderId().compareTo(last.getOrderIdentifier().getOrderId()) > 0);
+        assertEquals(List.of(LocalDate.of(2025, 4, 11), LocalDate.of(2025, 4, 10)),
+                rest.stream().map(Order::getOrderDate).toList());
+    }
+
+    @Test
+    public void whenPagingAscending_thenKeysetContinuesAfterLastOrder() {
+        saveOrderOfCustomer1(LocalDate.of(2025, 4, 11));
+        saveOrderOfCustomer1(LocalDate.of(2025, 4, 11));
+        String customerId = order1.getCustomerModel().getCustomerId();
+        Sort sort = Sort.by(Sort.Direction.ASC, "orderDate", "orderIdentifier.orderId");
+
+        List<Order> first = orderRepository.findByCustomerModel_CustomerId(customerId, sort, Limit.of(2));
+        Order last = first.get(1);
+        List<Order> rest = orderRepository.findPageAfter(customerId, last.getOrderDate(),
+                last.getOrderIdentifier().getOrderId(), sort, Limit.of(10));
+
+        assertEquals(order1.getOrderIdentifier().getOrderId(), first.get(0).getOrderIdentifier().getOrderId());
+        assertEquals(1, rest.size());
+        assertEquals(LocalDate.of(2025, 4, 11), rest.get(0).getOrderDate());
+        assertTrue(rest.get(0).getOrderIdentifier().getOrderId().compareTo(last.getOrderIdentifier().getOrderId()) > 0);
+    }
+
+    @Test
+    public void whenIndexesVerified_thenAllDeclaredIndexesExist() {
+        List<Document> missing = new OrderIndexVerifier(mongoTemplate).findMissingIndexes();
+
+        assertTrue(missing.isEmpty(), () -> "missing indexes " + missing);
+    }
+
+    @Test
+    public void whenListingOrdersOfCustomer_thenPlanUsesIndex() {
+        assertIndexScan(new Document("customerModel.customerId", order1.getCustomerModel().getCustomerId()),
+                new Document("orderDate", -1));
+    }
+
+    @Test
+    public void whenFindingOrderOfCustomer_thenPlanUsesIndex() {
+        assertIndexScan(new Document("customerModel.customerId", order2.getCustomerModel().getCustomerId())
+                .append("orderIdentifier.orderId", order2.getOrderIdentifier().getOrderId()), new Document());
+    }
+
+    private void assertIndexScan(Document filter, Document sort) {
+        Document plan;
+        try {
+            plan = mongoTemplate.getDb().runCommand(new Document("explain",
+                    new Document("find", "orders").append("filter", filter).append("sort", sort))
+                    .append("verbosity", "queryPlanner"));
+        } catch (MongoCommandException ex) {
+            // the embedded mongod of the test profile (5.0.5) plans queries; only a stand-in
+            // server without the explain command may skip, anything else is a real failure
+            assumeTrue(ex.getErrorCode() != COMMAND_NOT_FOUND, "explain is not supported by this server");
+            throw ex;
+        }
+        assertTrue(plan.containsKey("queryPlanner"), () -> "explain returned no query plan: " + plan.toJson());
+
+        List<String> stages = new ArrayList<>();
+        collectStages(plan.get("queryPlanner", Document.class).get("winningPlan", Document.class), stages);
+        assertFalse(stages.contains("COLLSCAN"), () -> "collection scan in " + stages);
+        assertTrue(stages.contains("IXSCAN"), () -> "no index scan in " + stages);
+    }
+
+    private void collectStages(Document stage, List<String> stages) {
+        if (stage == null) {
+            return;
+        }
+        stages.add(stage.getString("stage"));
+        collectStages(stage.get("inputStage", Document.class), stages);
+        stage.getList("inputStages", Document.class, List.of()).forEach(input -> collectStages(input, stages));
+    }
+
+    private void saveOrderOfCustomer1(LocalDate orderDate) {
+        orderRepository.save(Order.builder()
+                .orderIdentifier(new OrderIdentifier())
+                .albumModel(order1.getAlbumModel())
+                .customerModel(order1.getCustomerModel())
+                .storeLocationModel(order1.getStoreLocationModel())
+                .orderDate(orderDate)
+                .orderStatus(OrderStatus.PENDING)
+                .orderPrice(19.99)
+                .paymentMethod(PaymentMethod.PAYPAL)
+                .build());
+    }
+}
@@ -5,19 +5,34 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.musicstore.orders.OrdersServiceApplication;
+import com.musicstore.orders.businesslayer.ChangeFeedPoller;
+import com.musicstore.orders.businesslayer.MusicCatalogReplicaSync;
+import com.musicstore.orders.dataaccesslayer.ChangeFeedPositionRepository;
 import com.musicstore.orders.dataaccesslayer.Order;
+import com.musicstore.orders.dataaccesslayer.OrderDateBackfill;
+import com.musicstore.orders.dataaccesslayer.OrderIdentifier;
 import com.musicstore.orders.dataaccesslayer.OrderRepository;
 import com.musicstore.orders.dataaccesslayer.PaymentMethod;
+import com.musicstore.orders.domainclientlayer.ReferenceDataCache;
 import com.musicstore.orders.domainclientlayer.customer.CustomerModel;
 import com.musicstore.orders.domainclientlayer.customer.CustomersServiceClient;
 import com.musicstore.orders.domainclientlayer.musiccatalog.AlbumModel;
+import com.musicstore.orders.domainclientlayer.musiccatalog.MusicCatalogReplica;
 import com.musicstore.orders.domainclientlayer.musiccatalog.MusicCatalogServiceClient;
 import com.musicstore.orders.domainclientlayer.musiccatalog.Status;
 import com.musicstore.orders.domainclientlayer.storelocation.StoreLocationModel;
 import com.musicstore.orders.domainclientlayer.storelocation.StoresServiceClient;
+import com.musicstore.orders.utils.DownstreamCallMetrics;
+import com.musicstore.orders.utils.RequestDeadline;
 import com.musicstore.orders.utils.exceptions.InvalidInputException;
 import com.musicstore.orders.utils.exceptions.InvalidOrderPriceException;
 import com.musicstore.orders.utils.exceptions.NotFoundException;
+import com.musicstore.orders.utils.exceptions.ServiceUnavailableException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,15 +44,20 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
 
@@ -67,6 +87,30 @@ class OrderControllerIntegrationTest {
     @Autowired
     StoresServiceClient storesServiceClient;
 
+    @Autowired
+    List<ReferenceDataCache<?>> referenceDataCaches;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    ChangeFeedPoller changeFeedPoller;
+
+    @Autowired
+    ChangeFeedPositionRepository changeFeedPositionRepository;
+
+    @Autowired
+    MusicCatalogReplica musicCatalogReplica;
+
+    @Autowired
+    MusicCatalogReplicaSync musicCatalogReplicaSync;
+
+    @Autowired
+    OrderDateBackfill orderDateBackfill;
+
     private MockRestServiceServer mockRestServiceServer;
 
     private ObjectMapper mapper = new ObjectMapper();
@@ -78,6 +122,10 @@ class OrderControllerIntegrationTest {
     private final String BASE_URI_CUSTOMERS = "http://localhost:7001/api/v1/customers";
     private final String BASE_URI_MUSICCATALOG = "http://localhost:7002/api/v1/artists";
     private final String BASE_URI_STORES = "http://localhost:7003/api/v1/stores";
+    private final String BATCH_URI_CUSTOMERS = "http://localhost:7001/api/v1/customers:batchGet";
+    private final String BATCH_URI_STORES = "http://localhost:7003/api/v1/stores:batchGet";
+    private final String BATCH_URI_ALBUMS = "http://localhost:7002/api/v1/albums:batchGet";
+    private final String BATCH_URI_ARTISTS = "http://localhost:7002/api/v1/artists:batchGet";
     private final String ARTIST_ID = "e5913a79-9b1e-4516-9ffd-06578e7af261";
     private final String ALBUM_ID = "84c5f33e-8e5d-4eb5-b35d-79272355fa72";
 
@@ -85,70 +133,361 @@ class OrderControllerIntegrationTest {
 
     @BeforeEach
     void init() {
-        mockRestServiceServer = MockRestServiceServer.createServer(restTemplate);
+        mockRestServiceServer = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+        referenceDataCaches.forEach(ReferenceDataCache::invalidateAll);
+        musicCatalogReplica.clear();
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(CircuitBreaker::reset);
         assertTrue(orderRepository.count() > 0, "Database should be pre-loaded with at least one order");
     }
 
     @Test
-    void whenValidCustomerId_thenReturnAllOrders() throws Exception {
+    void whenValidCustomerId_thenReturnAllOrdersFromStoredSnapshots() {
+        // Arrange
+        Order existing = orderRepository.findAllByCustomerModel_CustomerId(FOUND_CUSTOMER_ID).get(0);
+        long callsBefore = downstreamCalls();
+
+        // Act & Assert
+        webClient.get()
+                .uri(BASE_URI + "/" + FOUND_CUSTOMER_ID + "/orders")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(OrderResponseModel.class)
+                .value(list -> {
+                    assertNotNull(list);
+                    assertEquals(1, list.size());
+                    assertEquals(existing.getAlbumModel().getAlbumTitle(), list.get(0).getAlbumTitle());
+                    assertEquals(existing.getStoreLocationModel().getOwnerName(), list.get(0).getOwnerName());
+                    String self = list.get(0).getRequiredLink("self").getHref();
+                    assertTrue(self.startsWith("http://localhost:"), self);
+                    assertTrue(self.endsWith(BASE_URI + "/" + FOUND_CUSTOMER_ID + "/orders/" + existing.getOrderIdentifier().getOrderId()), self);
+                    assertEquals("http://localhost:8081/api/v1/customers/" + FOUND_CUSTOMER_ID,
+                            list.get(0).getRequiredLink("customer").getHref());
+                });
+
+        mockRestServiceServer.verify();
+        assertEquals(callsBefore, downstreamCalls());
+    }
+
+    @Test
+    void whenSnapshotChangesApplied_thenOrderReadsServeThem() {
         // Arrange
+        // the changes reach every order embedding the album, artist or store
+        List<Order> allOrders = orderRepository.findAll();
+        Order existing = orderRepository.findAllByCustomerModel_CustomerId(FOUND_CUSTOMER_ID).get(0);
+        AlbumModel stored = existing.getAlbumModel();
+        String orderId = existing.getOrderIdentifier().getOrderId();
+        SnapshotChangesRequestModel changes = SnapshotChangesRequestModel.builder()
+                .albums(List.of(AlbumModel.builder().albumId(stored.getAlbumId()).albumTitle("Abbey Road (Remastered)").build()))
+                .artists(List.of(AlbumModel.builder().artistId(stored.getArtistId()).artistName("The Beatles").build()))
+                .stores(List.of(StoreLocationModel.builder().storeId(existing.getStoreLocationModel().getStoreId()).managerName("Jane Smith").build()))
+                .build();
+
+        try {
+            // Act
+            webClient.post()
+                    .uri("/api/v1/orders/snapshots:apply")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(changes)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(SnapshotChangesResponseModel.class)
+                    .value(result -> {
+                        assertTrue(result.getMatchedOrders() >= 3);
+                        assertTrue(result.getModifiedOrders() >= 1);
+                    });
+
+            // Assert
+            webClient.get()
+                    .uri(BASE_URI + "/" + FOUND_CUSTOMER_ID + "/orders/" + orderId)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(OrderResponseModel.class)
+                    .value(response -> {
+                        assertEquals("Abbey Road (Remastered)", response.getAlbumTitle());
+                        assertEquals("The Beatles", response.getArtistName());
+                        assertEquals("Jane Smith", response.getManagerName());
+                        assertEquals(existing.getStoreLocationModel().getOwnerName(), response.getOwnerName());
+                    });
+            mockRestServiceServer.verify();
+        } finally {
+            orderRepository.saveAll(allOrders);
+        }
+    }
+
+    @Test
+    void whenSnapshotChangesHaveNullLists_thenTreatThemAsEmpty() {
+        // Arrange
+        List<Order> allOrders = orderRepository.findAll();
+        Order existing = orderRepository.findAllByCustomerModel_CustomerId(FOUND_CUSTOMER_ID).get(0);
+        String changes = "{\"customers\":null,\"albums\":null,\"artists\":[null],"
+                + "\"stores\":[{\"storeId\":\"" + existing.getStoreLocationModel().getStoreId() + "\",\"managerName\":\"Jane Smith\"}]}";
+
+        try {
+            // Act & Assert
+            webClient.post()
+                    .uri("/api/v1/orders/snapshots:apply")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(changes)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(SnapshotChangesResponseModel.class)
+                    .value(result -> assertTrue(result.getMatchedOrders() >= 1));
+            assertEquals("Jane Smith", orderRepository.findAllByCustomerModel_CustomerId(FOUND_CUSTOMER_ID).get(0)
+                    .getStoreLocationModel().getManagerName());
+        } finally {
+            orderRepository.saveAll(allOrders);
+        }
+    }
+
+    @Test
+    void whenChangeFeedsPolled_thenUpdatedCustomerReachesOrdersAndPositionAdvances() throws Exception {
+        // Arrange
+        List<Order> allOrders = orderRepository.findAll();
+        Order existing = orderRepository.findAllByCustomerModel_CustomerId(FOUND_CUSTOMER_ID).get(0);
+        String events = "[{\"position\":7,\"aggregateType\":\"customer\",\"aggregateId\":\"" + FOUND_CUSTOMER_ID + "\","
+                + "\"eventType\":\"UPDATED\",\"payload\":{\"customerId\":\"" + FOUND_CUSTOMER_ID + "\","
+                + "\"firstName\":\"Alicia\",\"lastName\":\"" + existing.getCustomerModel().getLastName() + "\"}}]";
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:7001/api/v1/events?since=0&limit=500")))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(events, MediaType.APPLICATION_JSON));
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:7002/api/v1/events?since=0&limit=500")))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:7003/api/v1/events?since=0&limit=500")))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        try {
+            // Act
+            changeFeedPoller.pollAll();
+
+            // Assert
+            mockRestServiceServer.verify();
+            assertTrue(orderRepository.findAllByCustomerModel_CustomerId(FOUND_CUSTOMER_ID).stream()
+                    .allMatch(order -> "Alicia".equals(order.getCustomerModel().getFirstName())));
+            assertEquals(7L, changeFeedPositionRepository.findById("customers").orElseThrow().getPosition());
+            assertTrue(changeFeedPositionRepository.findById("stores").isEmpty());
+        } finally {
+            orderRepository.saveAll(allOrders);
+            changeFeedPositionRepository.deleteAll();
+        }
+    }
+
+    @Test
+    void whenCatalogReplicaSynced_thenAlbumLookupsAreServedFromMemory() throws Exception {
+        // Arrange
+        String otherAlbumId = "84c5f33e-8e5d-4eb5-b35d-79272355fa99";
+        String export = "{\"albumId\":\"" + ALBUM_ID + "\",\"artistId\":\"" + ARTIST_ID + "\",\"artistName\":\"The Beatles\","
+                + "\"albumTitle\":\"Abbey Road\",\"status\":\"USED\"}\n"
+                + "{\"albumId\":\"" + otherAlbumId + "\",\"artistId\":\"" + ARTIST_ID + "\",\"artistName\":\"The Beatles\","
+                + "\"albumTitle\":\"Let It Be\",\"conditionType\":\"NEW\"}\n";
+        String events = "[{\"position\":4,\"aggregateType\":\"artist\",\"aggregateId\":\"" + ARTIST_ID + "\","
+                + "\"eventType\":\"UPDATED\",\"payload\":{\"artistId\":\"" + ARTIST_ID + "\",\"artistName\":\"Beatles\"}},"
+                + "{\"position\":5,\"aggregateType\":\"album\",\"aggregateId\":\"" + otherAlbumId + "\","
+                + "\"eventType\":\"DELETED\",\"payload\":null}]";
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:7002/api/v1/albums:export")))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header("Accept", MediaType.APPLICATION_NDJSON_VALUE))
+                .andRespond(withSuccess(export, MediaType.APPLICATION_NDJSON).header("X-Change-Feed-Position", "3"));
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:7002/api/v1/events?since=3&limit=500")))
+                .andRespond(withSuccess(events, MediaType.APPLICATION_JSON));
+
+        // Act
+        musicCatalogReplicaSync.sync();
+
+        // Assert: no further catalog calls are expected for the lookups below
+        AlbumModel album = musicCatalogServiceClient.getAlbumByAlbumId(ARTIST_ID, ALBUM_ID);
+        Map<String, AlbumModel> albums = musicCatalogServiceClient.getAlbumsByAlbumIds(List.of(ALBUM_ID));
+        mockRestServiceServer.verify();
+        assertEquals("Beatles", album.getArtistName());
+        assertEquals("Abbey Road", album.getAlbumTitle());
+        assertEquals(Status.USED, album.getStatus());
+        assertEquals(album, albums.get(ALBUM_ID));
+        assertNull(musicCatalogReplica.get(otherAlbumId));
+        assertEquals(5L, musicCatalogReplica.getPosition());
+        assertEquals(1.0, meterRegistry.get("orders.catalog.replica.albums").gauge().value());
+        assertTrue(meterRegistry.get("orders.catalog.replica.staleness").gauge().value() < 30.0);
+    }
+
+    @Test
+    void whenReplicatedAlbumIsUnavailable_thenCreateOrderIsRejected() throws Exception {
+        // Arrange: the catalog export carries the album's status under "status"
+        String export = "{\"albumId\":\"" + ALBUM_ID + "\",\"artistId\":\"" + ARTIST_ID + "\",\"artistName\":\"The Beatles\","
+                + "\"albumTitle\":\"Abbey Road\",\"status\":\"UNAVAILABLE\"}\n";
         CustomerModel customerModel = CustomerModel.builder()
                 .customerId(FOUND_CUSTOMER_ID)
                 .firstName("Alick")
                 .lastName("Ucceli")
                 .build();
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:7002/api/v1/albums:export")))
+                .andRespond(withSuccess(export, MediaType.APPLICATION_NDJSON).header("X-Change-Feed-Position", "0"));
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:7002/api/v1/events?since=0&limit=500")))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(new URI(BASE_URI_CUSTOMERS + "/" + FOUND_CUSTOMER_ID)))
+                .andRespond(withSuccess(mapper.writeValueAsString(customerModel), MediaType.APPLICATION_JSON));
+        long ordersBefore = orderRepository.count();
+        musicCatalogReplicaSync.sync();
+
+        // Act & Assert: the album comes from the replica, so no catalog lookup is expected
+        webClient.post()
+                .uri(BASE_URI + "/" + FOUND_CUSTOMER_ID + "/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(orderRequestModel)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message").value(message -> assertTrue(message.toString().contains("unavailable")));
+        mockRestServiceServer.verify();
+        assertEquals(Status.UNAVAILABLE, musicCatalogReplica.get(ALBUM_ID).getStatus());
+        assertEquals(ordersBefore, orderRepository.count());
+    }
 
-        mockRestServiceServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(BASE_URI_CUSTOMERS + "/" + FOUND_CUSTOMER_ID)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withStatus(HttpStatus.OK)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .body(mapper.writeValueAsString(customerModel)));
+    @Test
+    void whenReplicaArtistDeletedOrUnnamed_thenAlbumsStayButLookupsGoToCatalog() throws Exception {
+        // Arrange
+        String otherArtistId = "e5913a79-9b1e-4516-9ffd-06578e7af299";
+        String namelessAlbumId = "84c5f33e-8e5d-4eb5-b35d-79272355fa98";
+        String export = "{\"albumId\":\"" + ALBUM_ID + "\",\"artistId\":\"" + ARTIST_ID + "\",\"artistName\":\"The Beatles\","
+                + "\"albumTitle\":\"Abbey Road\",\"conditionType\":\"USED\"}\n"
+                + "{\"albumId\":\"" + namelessAlbumId + "\",\"artistId\":\"" + otherArtistId + "\","
+                + "\"albumTitle\":\"Untitled\",\"conditionType\":\"NEW\"}\n";
+        String events = "[{\"position\":1,\"aggregateType\":\"artist\",\"aggregateId\":\"" + ARTIST_ID + "\","
+                + "\"eventType\":\"DELETED\",\"payload\":{\"artistId\":\"" + ARTIST_ID + "\",\"artistName\":\"The Beatles\"}}]";
+        String album = "{\"albumId\":\"" + ALBUM_ID + "\",\"artistId\":\"" + ARTIST_ID + "\",\"artistName\":\"The Beatles\","
+                + "\"albumTitle\":\"Abbey Road\",\"conditionType\":\"USED\"}";
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:7002/api/v1/albums:export")))
+                .andRespond(withSuccess(export, MediaType.APPLICATION_NDJSON));
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:7002/api/v1/events?since=0&limit=500")))
+                .andRespond(withSuccess(events, MediaType.APPLICATION_JSON));
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(new URI(BASE_URI_MUSICCATALOG + "/" + ARTIST_ID + "/albums/" + ALBUM_ID)))
+                .andRespond(withSuccess(album, MediaType.APPLICATION_JSON));
 
-        List<Order> dbOrders = orderRepository.findAllByCustomerModel_CustomerId(FOUND_CUSTOMER_ID);
-        Order existing = dbOrders.get(0);
-        String artistId = existing.getAlbumModel().getArtistId();
-        String albumId = existing.getAlbumModel().getAlbumId();
-        String storeId = existing.getStoreLocationModel().getStoreId();
+        // Act
+        musicCatalogReplicaSync.sync();
+        AlbumModel fetched = musicCatalogServiceClient.getAlbumByAlbumId(ARTIST_ID, ALBUM_ID);
 
-        AlbumModel albumModel = AlbumModel.builder()
-                .artistId(artistId)
-                .albumId(albumId)
-                .artistName("The Beatles")
-                .albumTitle("Abbey Road")
-                .status(Status.NEW)
-                .build();
+        // Assert
+        mockRestServiceServer.verify();
+        assertEquals("The Beatles", fetched.getArtistName());
+        assertEquals(2.0, meterRegistry.get("orders.catalog.replica.albums").gauge().value());
+        assertNull(musicCatalogReplica.get(ALBUM_ID));
+        assertNull(musicCatalogReplica.get(namelessAlbumId));
+        assertTrue(musicCatalogReplica.getAll(List.of(ALBUM_ID, namelessAlbumId)).isEmpty());
+    }
 
-        mockRestServiceServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(BASE_URI_MUSICCATALOG + "/" + artistId + "/albums/" + albumId)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withStatus(HttpStatus.OK)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .body(mapper.writeValueAsString(albumModel)));
+    @Test
+    void whenChangeFeedHasUnreadablePayload_thenSkipItAndApplyTheRest() throws Exception {
+        // Arrange
+        List<Order> allOrders = orderRepository.findAll();
+        Order existing = orderRepository.findAllByCustomerModel_CustomerId(FOUND_CUSTOMER_ID).get(0);
+        String events = "[{\"position\":8,\"aggregateType\":\"customer\",\"aggregateId\":\"" + FOUND_CUSTOMER_ID + "\","
+                + "\"eventType\":\"UPDATED\",\"payload\":{\"customerId\":\"" + FOUND_CUSTOMER_ID + "\",\"firstName\":{\"broken\":true}}},"
+                + "{\"position\":9,\"aggregateType\":\"customer\",\"aggregateId\":\"" + FOUND_CUSTOMER_ID + "\","
+                + "\"eventType\":\"UPDATED\",\"payload\":{\"customerId\":\"" + FOUND_CUSTOMER_ID + "\","
+                + "\"firstName\":\"Alicia\",\"lastName\":\"" + existing.getCustomerModel().getLastName() + "\"}}]";
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:7001/api/v1/events?since=0&limit=500")))
+                .andRespond(withSuccess(events, MediaType.APPLICATION_JSON));
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:7002/api/v1/events?since=0&limit=500")))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:7003/api/v1/events?since=0&limit=500")))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        double skippedBefore = meterRegistry.counter("orders.change.events.skipped", "feed", "customers").count();
+
+        try {
+            // Act
+            changeFeedPoller.pollAll();
+
+            // Assert
+            mockRestServiceServer.verify();
+            assertEquals(9L, changeFeedPositionRepository.findById("customers").orElseThrow().getPosition());
+            assertTrue(orderRepository.findAllByCustomerModel_CustomerId(FOUND_CUSTOMER_ID).stream()
+                    .allMatch(order -> "Alicia".equals(order.getCustomerModel().getFirstName())));
+            assertEquals(skippedBefore + 1, meterRegistry.counter("orders.change.events.skipped", "feed", "customers").count());
+        } finally {
+            orderRepository.saveAll(allOrders);
+            changeFeedPositionRepository.deleteAll();
+        }
+    }
 
+    @Test
+    void whenRefreshSnapshotsWithMusicCatalogUnavailable_thenKeepStoredAlbums() throws Exception {
+        // Arrange
+        List<Order> allOrders = orderRepository.findAll();
+        Order existing = orderRepository.findAllByCustomerModel_CustomerId(FOUND_CUSTOMER_ID).get(0);
+        CustomerModel customerModel = CustomerModel.builder()
+                .customerId(FOUND_CUSTOMER_ID)
+                .firstName("Alick")
+                .lastName("Ucceli")
+                .build();
         StoreLocationModel storeModel = StoreLocationModel.builder()
-                .storeId(storeId)
-                .ownerName("John Doe")
-                .managerName("Jane Smith")
+                .storeId(existing.getStoreLocationModel().getStoreId())
+                .ownerName(existing.getStoreLocationModel().getOwnerName())
+                .managerName(existing.getStoreLocationModel().getManagerName())
                 .build();
+        DistributionSummary remoteCalls = meterRegistry.get("orders.enrichment.remote.calls").summary();
+        long enrichmentsBefore = remoteCalls.count();
+        double remoteCallsBefore = remoteCalls.totalAmount();
 
+        // lookups run on the enrichment executor and still carry the request's deadline
         mockRestServiceServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(BASE_URI_STORES + "/" + storeId)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withStatus(HttpStatus.OK)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .body(mapper.writeValueAsString(storeModel)));
+                        requestTo(new URI(BASE_URI_CUSTOMERS + "/" + FOUND_CUSTOMER_ID)))
+                .andExpect(header(RequestDeadline.HEADER, matchesPattern("\\d+")))
+                .andRespond(withSuccess(mapper.writeValueAsString(customerModel), MediaType.APPLICATION_JSON));
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(new URI(BATCH_URI_ALBUMS)))
+                .andExpect(content().json(mapper.writeValueAsString(List.of(existing.getAlbumModel().getAlbumId()))))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(new URI(BATCH_URI_STORES)))
+                .andRespond(withSuccess(mapper.writeValueAsString(List.of(storeModel)), MediaType.APPLICATION_JSON));
 
         // Act & Assert
-        webClient.get()
-                .uri(BASE_URI + "/" + FOUND_CUSTOMER_ID + "/orders")
+        webClient.post()
+                .uri(BASE_URI + "/" + FOUND_CUSTOMER_ID + "/orders:refreshSnapshots")
+                .header(RequestDeadline.HEADER, "5000")
                 .exchange()
                 .expectStatus().isOk()
-                .expectBodyList(OrderResponseModel.class)
-                .value(list -> {
-                    assertNotNull(list);
-                    assertEquals(1, list.size());
-                });
+                .expectBody(SnapshotChangesResponseModel.class)
+                .value(result -> assertTrue(result.getMatchedOrders() >= 1));
+        mockRestServiceServer.verify();
+
+        // customer, albums batch and stores batch
+        assertEquals(enrichmentsBefore + 1, remoteCalls.count());
+        assertEquals(remoteCallsBefore + 3, remoteCalls.totalAmount());
+        Order after = orderRepository.findAllByCustomerModel_CustomerId(FOUND_CUSTOMER_ID).get(0);
+        assertEquals(existing.getAlbumModel(), after.getAlbumModel());
+        assertEquals("Alick", after.getCustomerModel().getFirstName());
+        orderRepository.saveAll(allOrders);
+    }
+
+    @Test
+    void whenInvalidCustomerIdLength_thenReturnUnprocessableEntityForRefreshSnapshots() {
+        webClient.post()
+                .uri(BASE_URI + "/" + INVALID_CUSTOMER_ID + "/orders:refreshSnapshots")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    private long downstreamCalls(String... tags) {
+        return meterRegistry.find(DownstreamCallMetrics.CALLS).tags(tags).timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    @Test
+    void whenExportOrders_thenStreamStoredSnapshotsWithoutCallingDownstream() {
+        long sizeDb = orderRepository.count();
+
+        String body = webClient.get()
+                .uri("/api/v1/orders:export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class).returnResult().getResponseBody();
+
+        assertNotNull(body);
+        List<String> lines = body.lines().toList();
+        assertEquals(sizeDb, lines.size());
+        assertTrue(lines.stream().noneMatch(line -> line.contains("\"links\"")));
+        assertTrue(body.contains(FOUND_CUSTOMER_ID));
+        mockRestServiceServer.verify();
     }
 
     @Test
@@ -173,55 +512,65 @@ class OrderControllerIntegrationTest {
     }
 
     @Test
-    void whenValidCustomerAndOrderId_thenReturnOrder() throws Exception {
-        // Arrange
-        CustomerModel customerModel = CustomerModel.builder()
-                .customerId(FOUND_CUSTOMER_ID)
-                .firstName("Alick")
-                .lastName("Ucceli")
-                .build();
-
-        mockRestServiceServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(BASE_URI_CUSTOMERS + "/" + FOUND_CUSTOMER_ID)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withStatus(HttpStatus.OK)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .body(mapper.writeValueAsString(customerModel)));
+    void whenInvalidPageRequest_thenReturnUnprocessableEntityForGetAll() {
+        webClient.get()
+                .uri(BASE_URI + "/" + FOUND_CUSTOMER_ID + "/orders?limit=500")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
 
-        // Fetch existing order data
-        Order existing = orderRepository.findAllByCustomerModel_CustomerId(FOUND_CUSTOMER_ID).get(0);
-        String orderId = existing.getOrderIdentifier().getOrderId();
-        String artistId = existing.getAlbumModel().getArtistId();
-        String albumId = existing.getAlbumModel().getAlbumId();
-        String storeId = existing.getStoreLocationModel().getStoreId();
+        webClient.get()
+                .uri(BASE_URI + "/" + FOUND_CUSTOMER_ID + "/orders?cursor=bogus")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
 
-        AlbumModel albumModel = AlbumModel.builder()
-                .artistId(artistId)
-                .albumId(albumId)
-                .artistName("The Beatles")
-                .albumTitle("Abbey Road")
-                .status(Status.NEW)
-                .build();
+    @Test
+    void whenCustomerHasUndatedOrders_thenPagesReturnEveryOrderOnce() {
+        // Arrange: a customer whose older orders were saved without an orderDate
+        String customerId = "6f3b1b2e-0c1d-4f6a-9b7e-3a2d1c0b9e8f";
+        Order template = orderRepository.findAllByCustomerModel_CustomerId(FOUND_CUSTOMER_ID).get(0);
+        List<Order> saved = new ArrayList<>();
+        for (LocalDate orderDate : Arrays.asList(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 2, 1), null, null, null)) {
+            saved.add(orderRepository.save(Order.builder()
+                    .orderIdentifier(new OrderIdentifier())
+                    .albumModel(template.getAlbumModel())
+                    .customerModel(CustomerModel.builder().customerId(customerId).firstName("Undated").build())
+                    .storeLocationModel(template.getStoreLocationModel())
+                    .orderDate(orderDate)
+                    .orderPrice(19.99)
+                    .paymentMethod(PaymentMethod.PAYPAL)
+                    .build()));
+        }
 
-        mockRestServiceServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(BASE_URI_MUSICCATALOG + "/" + artistId + "/albums/" + albumId)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withStatus(HttpStatus.OK)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .body(mapper.writeValueAsString(albumModel)));
+        // Act
+        assertEquals(3, orderDateBackfill.backfill());
+        List<String> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            String uri = BASE_URI + "/" + customerId + "/orders?limit=2" + (cursor == null ? "" : "&cursor=" + cursor);
+            var page = webClient.get()
+                    .uri(uri)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .returnResult(OrderResponseModel.class);
+            page.getResponseBody().toStream().forEach(order -> paged.add(order.getOrderId()));
+            cursor = page.getResponseHeaders().getFirst("X-Next-Cursor");
+        } while (cursor != null);
 
-        StoreLocationModel storeModel = StoreLocationModel.builder()
-                .storeId(storeId)
-                .ownerName("John Doe")
-                .managerName("Jane Smith")
-                .build();
+        // Assert
+        List<String> expected = saved.stream().map(order -> order.getOrderIdentifier().getOrderId()).toList();
+        assertEquals(expected.size(), paged.size(), () -> "paged " + paged);
+        assertEquals(new HashSet<>(expected), new HashSet<>(paged));
+        assertTrue(orderRepository.findAllByCustomerModel_CustomerId(customerId).stream()
+                .allMatch(order -> order.getOrderDate() != null));
+        orderRepository.deleteAll(orderRepository.findAllByCustomerModel_CustomerId(customerId));
+    }
 
-        mockRestServiceServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(BASE_URI_STORES + "/" + storeId)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withStatus(HttpStatus.OK)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .body(mapper.writeValueAsString(storeModel)));
+    @Test
+    void whenValidCustomerAndOrderId_thenReturnOrder() {
+        // Arrange
+        Order existing = orderRepository.findAllByCustomerModel_CustomerId(FOUND_CUSTOMER_ID).get(0);
+        String orderId = existing.getOrderIdentifier().getOrderId();
 
         // Act & Assert
         webClient.get()
@@ -232,10 +581,11 @@ class OrderControllerIntegrationTest {
                 .value(response -> {
                     assertNotNull(response.getOrderId());
                     assertEquals(orderId, response.getOrderId());
-                    assertEquals("Abbey Road", response.getAlbumTitle());
-                    assertEquals("The Beatles", response.getArtistName());
+                    assertEquals(existing.getAlbumModel().getAlbumTitle(), response.getAlbumTitle());
+                    assertEquals(existing.getAlbumModel().getArtistName(), response.getArtistName());
                     assertEquals(PaymentMethod.CASH, response.getPaymentMethod());
                 });
+        mockRestServiceServer.verify();
     }
 
     @Test
@@ -462,6 +812,28 @@ class OrderControllerIntegrationTest {
                 .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
     }
 
+    @Test
+    void whenCreateOrderWithoutArtistId_thenReturnUnprocessableEntity() throws Exception {
+        CustomerModel customerModel = CustomerModel.builder()
+                .customerId(FOUND_CUSTOMER_ID)
+                .firstName("Alick")
+                .lastName("Ucceli")
+                .build();
+        mockRestServiceServer.expect(ExpectedCount.manyTimes(), requestTo(new URI(BASE_URI_CUSTOMERS + "/" + FOUND_CUSTOMER_ID)))
+                .andRespond(withSuccess(mapper.writeValueAsString(customerModel), MediaType.APPLICATION_JSON));
+        OrderRequestModel withoutArtist = createOrderRequestModel();
+        withoutArtist.setArtistId(null);
+
+        webClient.post()
+                .uri(BASE_URI + "/" + FOUND_CUSTOMER_ID + "/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(withoutArtist)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message").value(message -> assertTrue(message.toString().contains("artistId")));
+    }
+
     @Test
     void whenValidDelete_thenReturnOk() throws Exception {
         // Fetch existing order
@@ -769,6 +1141,59 @@ class OrderControllerIntegrationTest {
         assertTrue(album.getArtistName().isEmpty(), "artistName should be empty string when missing in payload");
     }
 
+    @Test
+    void getAlbumsByAlbumIds_parsesBatchKeyedByAlbumId() {
+        String json = """
+        [
+          {"artistId":"%s","albumId":"%s","albumTitle":"Ziggy Stardust","conditionType":"used"}
+        ]
+        """.formatted(ARTIST_ID, ALBUM_ID);
+
+        mockRestServiceServer.expect(requestTo(BATCH_URI_ALBUMS))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
+
+        Map<String, AlbumModel> albums = musicCatalogServiceClient.getAlbumsByAlbumIds(List.of(ALBUM_ID));
+
+        assertEquals(1, albums.size());
+        assertEquals("Ziggy Stardust", albums.get(ALBUM_ID).getAlbumTitle());
+        assertEquals(Status.USED, albums.get(ALBUM_ID).getStatus());
+    }
+
+    @Test
+    void getArtistsByArtistIds_parsesBatchKeyedByArtistId() {
+        mockRestServiceServer.expect(requestTo(BATCH_URI_ARTISTS))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess(
+                        "[{\"artistId\":\"" + ARTIST_ID + "\",\"artistName\":\"The Who\"}]",
+                        MediaType.APPLICATION_JSON));
+
+        Map<String, AlbumModel> artists = musicCatalogServiceClient.getArtistsByArtistIds(List.of(ARTIST_ID));
+
+        assertEquals("The Who", artists.get(ARTIST_ID).getArtistName());
+    }
+
+    @Test
+    void getAlbumsByAlbumIds_onlyFetchesAlbumsMissingFromCache() throws Exception {
+        String otherAlbumId = "a2b4c6d8-0000-4000-8000-000000000000";
+        AlbumModel cached = AlbumModel.builder().artistId(ARTIST_ID).albumId(ALBUM_ID).albumTitle("Cached").build();
+        AlbumModel fetched = AlbumModel.builder().artistId(ARTIST_ID).albumId(otherAlbumId).albumTitle("Fetched").build();
+
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(BATCH_URI_ALBUMS))
+                .andExpect(content().json(mapper.writeValueAsString(List.of(ALBUM_ID))))
+                .andRespond(withSuccess(mapper.writeValueAsString(List.of(cached)), MediaType.APPLICATION_JSON));
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(BATCH_URI_ALBUMS))
+                .andExpect(content().json(mapper.writeValueAsString(List.of(otherAlbumId))))
+                .andRespond(withSuccess(mapper.writeValueAsString(List.of(fetched)), MediaType.APPLICATION_JSON));
+
+        musicCatalogServiceClient.getAlbumsByAlbumIds(List.of(ALBUM_ID));
+        Map<String, AlbumModel> albums = musicCatalogServiceClient.getAlbumsByAlbumIds(List.of(ALBUM_ID, otherAlbumId));
+
+        mockRestServiceServer.verify();
+        assertEquals("Cached", albums.get(ALBUM_ID).getAlbumTitle());
+        assertEquals("Fetched", albums.get(otherAlbumId).getAlbumTitle());
+    }
+
     @Test
     void patchAlbumConditionType_updatesAndReparses() {
         // Arrange: stub the PATCH endpoint to echo back new JSON
@@ -821,6 +1246,28 @@ class OrderControllerIntegrationTest {
     }
 
     // ==== CUSTOMERS-SERVICE CLIENT TESTS ====
+    @Test
+    void getCustomerByCustomerId_repeatedLookupServedFromCache() throws Exception {
+        CustomerModel expected = CustomerModel.builder()
+                .customerId("cached-cust")
+                .firstName("First")
+                .lastName("Last")
+                .build();
+        double hitsBefore = meterRegistry.get("cache.gets")
+                .tags("cache", "customers", "result", "hit").functionCounter().count();
+
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(BASE_URI_CUSTOMERS + "/cached-cust"))
+                .andRespond(withSuccess(mapper.writeValueAsString(expected), MediaType.APPLICATION_JSON));
+
+        customersServiceClient.getCustomerByCustomerId("cached-cust");
+        CustomerModel actual = customersServiceClient.getCustomerByCustomerId("cached-cust");
+
+        mockRestServiceServer.verify();
+        assertEquals("First", actual.getFirstName());
+        assertEquals(hitsBefore + 1, meterRegistry.get("cache.gets")
+                .tags("cache", "customers", "result", "hit").functionCounter().count());
+    }
+
     @Test
     void getCustomerByCustomerId_success() throws Exception {
         // Arrange
@@ -901,7 +1348,44 @@ class OrderControllerIntegrationTest {
         assertNotNull(ex.getMessage());
     }
 
+    @Test
+    void getCustomersByCustomerIds_returnsCustomersKeyedByCustomerId() throws Exception {
+        CustomerModel expected = CustomerModel.builder()
+                .customerId("test-cust")
+                .firstName("First")
+                .lastName("Last")
+                .build();
+
+        mockRestServiceServer.expect(requestTo(BATCH_URI_CUSTOMERS))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(content().json(mapper.writeValueAsString(List.of("test-cust"))))
+                .andRespond(withSuccess(mapper.writeValueAsString(List.of(expected)), MediaType.APPLICATION_JSON));
+
+        Map<String, CustomerModel> customers = customersServiceClient.getCustomersByCustomerIds(List.of("test-cust"));
+
+        assertEquals(1, customers.size());
+        assertEquals("First", customers.get("test-cust").getFirstName());
+    }
+
     // ==== STORES-SERVICE CLIENT TESTS ====
+    @Test
+    void getStoresByStoreIds_returnsStoresKeyedByStoreId() throws Exception {
+        StoreLocationModel expected = StoreLocationModel.builder()
+                .storeId("s1")
+                .ownerName("Owner")
+                .managerName("Manager")
+                .build();
+
+        mockRestServiceServer.expect(requestTo(BATCH_URI_STORES))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess(mapper.writeValueAsString(List.of(expected)), MediaType.APPLICATION_JSON));
+
+        Map<String, StoreLocationModel> stores = storesServiceClient.getStoresByStoreIds(List.of("s1", "missing"));
+
+        assertEquals(1, stores.size());
+        assertEquals("Manager", stores.get("s1").getManagerName());
+    }
+
     @Test
     void getStoreByStoreId_success() throws Exception {
         // Arrange
@@ -981,4 +1465,48 @@ class OrderControllerIntegrationTest {
                 () -> storesServiceClient.getStoreByStoreId(storeId));
         assertNotNull(ex.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getStoreByStoreId_serviceUnavailable_returnsStaleStore() throws Exception {
+        // Arrange
+        String storeId = "s1";
+        StoreLocationModel expected = StoreLocationModel.builder()
+                .storeId(storeId)
+                .ownerName("Owner")
+                .managerName("Manager")
+                .build();
+
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(BASE_URI_STORES + "/" + storeId))
+                .andRespond(withSuccess(mapper.writeValueAsString(expected), MediaType.APPLICATION_JSON));
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(BASE_URI_STORES + "/" + storeId))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        storesServiceClient.getStoreByStoreId(storeId);
+        referenceDataCaches.forEach(cache -> cache.invalidate(storeId));
+
+        // Act
+        StoreLocationModel actual = storesServiceClient.getStoreByStoreId(storeId);
+
+        // Assert
+        assertEquals("Owner", actual.getOwnerName());
+        mockRestServiceServer.verify();
+    }
+
+    @Test
+    void getStoreByStoreId_serviceKeepsFailing_opensCircuitAndFailsFast() {
+        // Arrange: the test profile opens the stores breaker after four failed calls
+        String storeId = "failing-store";
+        mockRestServiceServer.expect(ExpectedCount.times(4), requestTo(BASE_URI_STORES + "/" + storeId))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(HttpServerErrorException.class, () -> storesServiceClient.getStoreByStoreId(storeId));
+        }
+
+        // Act & Assert: the fifth call is refused without reaching the stores service
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class,
+                () -> storesServiceClient.getStoreByStoreId(storeId));
+        assertTrue(ex.getMessage().contains("circuit breaker is open"), ex.getMessage());
+        mockRestServiceServer.verify();
+    }
+}
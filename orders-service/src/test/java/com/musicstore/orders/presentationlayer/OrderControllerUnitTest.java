@@ -34,25 +34,47 @@ class OrderControllerUnitTest {
 
     @Test
     void whenNoOrdersExist_thenReturnEmptyList() {
-        when(orderService.getAllOrdersByCustomerId(FOUND_CUSTOMER_ID))
-                .thenReturn(List.of());
+        when(orderService.getOrdersPageByCustomerId(FOUND_CUSTOMER_ID, null, 20, null))
+                .thenReturn(new OrderPage(List.of(), null));
 
         ResponseEntity<List<OrderResponseModel>> resp =
-                orderController.getAllOrdersByCustomerId(FOUND_CUSTOMER_ID);
+                orderController.getAllOrdersByCustomerId(FOUND_CUSTOMER_ID, null, 20, null);
 
         assertEquals(HttpStatus.OK, resp.getStatusCode());
         assertNotNull(resp.getBody());
         assertTrue(resp.getBody().isEmpty());
-        verify(orderService, times(1)).getAllOrdersByCustomerId(FOUND_CUSTOMER_ID);
+        assertFalse(resp.getHeaders().containsKey(OrderController.NEXT_CURSOR_HEADER));
+        verify(orderService, times(1)).getOrdersPageByCustomerId(FOUND_CUSTOMER_ID, null, 20, null);
+    }
+
+    @Test
+    void whenMoreOrdersExist_thenReturnNextCursorHeader() {
+        when(orderService.getOrdersPageByCustomerId(FOUND_CUSTOMER_ID, null, 1, "orderDate,asc"))
+                .thenReturn(new OrderPage(List.of(new OrderResponseModel()), "next-page"));
+
+        ResponseEntity<List<OrderResponseModel>> resp =
+                orderController.getAllOrdersByCustomerId(FOUND_CUSTOMER_ID, null, 1, "orderDate,asc");
+
+        assertEquals(1, resp.getBody().size());
+        assertEquals("next-page", resp.getHeaders().getFirst(OrderController.NEXT_CURSOR_HEADER));
     }
 
     @Test
     void whenCustomerIdInvalid_thenThrowInvalidInputExceptionOnGetAll() {
         assertThrows(
                 InvalidInputException.class,
-                () -> orderController.getAllOrdersByCustomerId(INVALID_CUSTOMER_ID)
+                () -> orderController.getAllOrdersByCustomerId(INVALID_CUSTOMER_ID, null, 20, null)
         );
-        verify(orderService, never()).getAllOrdersByCustomerId(any());
+        verify(orderService, never()).getOrdersPageByCustomerId(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void whenLimitOutOfRange_thenThrowInvalidInputExceptionOnGetAll() {
+        assertThrows(InvalidInputException.class,
+                () -> orderController.getAllOrdersByCustomerId(FOUND_CUSTOMER_ID, null, 0, null));
+        assertThrows(InvalidInputException.class,
+                () -> orderController.getAllOrdersByCustomerId(FOUND_CUSTOMER_ID, null, 101, null));
+        verify(orderService, never()).getOrdersPageByCustomerId(any(), any(), anyInt(), any());
     }
 
 
@@ -0,0 +1,234 @@
+package com.musicstore.orders.presentationlayer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicstore.orders.dataaccesslayer.Order;
+import com.musicstore.orders.dataaccesslayer.OrderRepository;
+import com.musicstore.orders.domainclientlayer.ReferenceDataCache;
+import com.musicstore.orders.domainclientlayer.customer.CustomerModel;
+import com.musicstore.orders.mappinglayer.OrderExportMapper;
+import com.musicstore.orders.mappinglayer.OrderRequestMapper;
+import com.musicstore.orders.mappinglayer.OrderResponseMapper;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@SpringBootTest(webEnvironment = RANDOM_PORT)
+@ActiveProfiles("test")
+@AutoConfigureObservability(metrics = false)
+class OrderTracingIntegrationTest {
+
+    private static final Path TRACE_FILE = createTraceFile();
+
+    // the context a caller such as the gateway sends along with its request
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String CALLER_SPAN_ID = "00f067aa0ba902b7";
+    private static final String TRACEPARENT = "00-" + TRACE_ID + "-" + CALLER_SPAN_ID + "-01";
+
+    private final String FOUND_CUSTOMER_ID = "c3540a89-cb47-4c96-888e-ff96708db4d8";
+
+    @DynamicPropertySource
+    static void tracingFile(DynamicPropertyRegistry registry) {
+        registry.add("app.tracing.file", TRACE_FILE::toString);
+    }
+
+    @Autowired
+    WebTestClient webClient;
+
+    @Autowired
+    RestTemplate restTemplate;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    List<ReferenceDataCache<?>> referenceDataCaches;
+
+    @Autowired
+    SdkTracerProvider tracerProvider;
+
+    @Autowired
+    OrderResponseMapper orderResponseMapper;
+
+    @Autowired
+    OrderRequestMapper orderRequestMapper;
+
+    @Autowired
+    OrderExportMapper orderExportMapper;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private MockRestServiceServer mockRestServiceServer;
+
+    @BeforeEach
+    void init() throws IOException {
+        mockRestServiceServer = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+        referenceDataCaches.forEach(ReferenceDataCache::invalidateAll);
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        Files.write(TRACE_FILE, new byte[0]);
+    }
+
+    @Test
+    void whenRefreshSnapshotsWithTraceContext_thenDownstreamCallsContinueTheCallersTrace() throws Exception {
+        // Arrange
+        List<Order> allOrders = orderRepository.findAll();
+        Order existing = orderRepository.findAllByCustomerModel_CustomerId(FOUND_CUSTOMER_ID).get(0);
+        CustomerModel customer = existing.getCustomerModel();
+        String propagated = "00-" + TRACE_ID + "-[0-9a-f]{16}-01";
+        mockRestServiceServer.expect(ExpectedCount.once(),
+                        requestTo(new URI("http://localhost:7001/api/v1/customers/" + FOUND_CUSTOMER_ID)))
+                .andExpect(header("traceparent", matchesPattern(propagated)))
+                .andRespond(withSuccess(mapper.writeValueAsString(customer), MediaType.APPLICATION_JSON));
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:7002/api/v1/albums:batchGet")))
+                .andExpect(header("traceparent", matchesPattern(propagated)))
+                .andRespond(withSuccess(mapper.writeValueAsString(List.of(existing.getAlbumModel())), MediaType.APPLICATION_JSON));
+        mockRestServiceServer.expect(ExpectedCount.once(), requestTo(new URI("http://localhost:7003/api/v1/stores:batchGet")))
+                .andExpect(header("traceparent", matchesPattern(propagated)))
+                .andRespond(withSuccess(mapper.writeValueAsString(List.of(existing.getStoreLocationModel())), MediaType.APPLICATION_JSON));
+
+        try {
+            // Act
+            webClient.post()
+                    .uri("/api/v1/customers/" + FOUND_CUSTOMER_ID + "/orders:refreshSnapshots")
+                    .header("traceparent", TRACEPARENT)
+                    .exchange()
+                    .expectStatus().isOk();
+
+            // Assert
+            mockRestServiceServer.verify();
+            List<JsonNode> spans = awaitSpans(all -> all.stream().filter(span -> "CLIENT".equals(span.path("kind").asText())).count() >= 3
+                    && all.stream().anyMatch(span -> "SERVER".equals(span.path("kind").asText())));
+            JsonNode server = single(spans, span -> "SERVER".equals(span.path("kind").asText()));
+            assertEquals(CALLER_SPAN_ID, server.path("parentSpanId").asText());
+            assertEquals("orders-service", server.path("service").asText());
+
+            // the lookups run on the enrichment executor and still hang off the request's span
+            List<JsonNode> clients = spans.stream().filter(span -> "CLIENT".equals(span.path("kind").asText())).toList();
+            assertEquals(3, clients.size());
+            clients.forEach(client -> assertTrue(descendsFrom(client, server, spans), client.toString()));
+
+            JsonNode repository = spans.stream()
+                    .filter(span -> span.path("name").asText().startsWith("OrderRepository."))
+                    .findFirst().orElseThrow();
+            assertEquals("repository", repository.path("attributes").path("component").asText());
+            assertTrue(descendsFrom(repository, server, spans));
+        } finally {
+            orderRepository.saveAll(allOrders);
+        }
+    }
+
+    @Test
+    void whenGetOrderWithTraceContext_thenMapperSpansAreWrittenOnePerLine() throws Exception {
+        // Arrange
+        Order existing = orderRepository.findAllByCustomerModel_CustomerId(FOUND_CUSTOMER_ID).get(0);
+
+        // Act
+        webClient.get()
+                .uri("/api/v1/customers/" + FOUND_CUSTOMER_ID + "/orders/" + existing.getOrderIdentifier().getOrderId())
+                .header("traceparent", TRACEPARENT)
+                .exchange()
+                .expectStatus().isOk();
+
+        // Assert
+        List<JsonNode> spans = awaitSpans(all -> all.stream().anyMatch(span -> "SERVER".equals(span.path("kind").asText())));
+        JsonNode server = single(spans, span -> "SERVER".equals(span.path("kind").asText()));
+        JsonNode mapping = spans.stream()
+                .filter(span -> span.path("name").asText().startsWith("OrderResponseMapper."))
+                .findFirst().orElseThrow();
+        assertEquals("mapping", mapping.path("attributes").path("component").asText());
+        assertTrue(descendsFrom(mapping, server, spans));
+        for (JsonNode span : spans) {
+            assertEquals(16, span.path("spanId").asText().length());
+            assertTrue(span.path("startMicros").isNumber());
+            assertTrue(span.path("durationMicros").asLong() >= 0);
+        }
+
+        // mappers are traced through interface proxies, which is how they are injected
+        assertTrue(AopUtils.isAopProxy(orderResponseMapper));
+        assertTrue(AopUtils.isAopProxy(orderRequestMapper));
+        assertTrue(AopUtils.isAopProxy(orderExportMapper));
+    }
+
+    // spans of this trace, each line of the file parsed on its own
+    private List<JsonNode> awaitSpans(Predicate<List<JsonNode>> complete) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        List<JsonNode> spans;
+        do {
+            tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+            spans = new ArrayList<>();
+            for (String line : Files.readAllLines(TRACE_FILE)) {
+                JsonNode span = mapper.readTree(line);
+                if (TRACE_ID.equals(span.path("traceId").asText())) {
+                    spans.add(span);
+                }
+            }
+            if (complete.test(spans)) {
+                return spans;
+            }
+            Thread.sleep(100);
+        } while (System.currentTimeMillis() < deadline);
+        fail("Expected spans were not exported: " + spans);
+        return spans;
+    }
+
+    private static JsonNode single(List<JsonNode> spans, Predicate<JsonNode> filter) {
+        List<JsonNode> matching = spans.stream().filter(filter).toList();
+        assertEquals(1, matching.size(), matching.toString());
+        return matching.get(0);
+    }
+
+    private static boolean descendsFrom(JsonNode span, JsonNode ancestor, List<JsonNode> spans) {
+        Map<String, JsonNode> byId = new HashMap<>();
+        spans.forEach(each -> byId.put(each.path("spanId").asText(), each));
+        JsonNode current = span;
+        while (current != null && !current.path("parentSpanId").isNull()) {
+            String parentId = current.path("parentSpanId").asText();
+            if (parentId.equals(ancestor.path("spanId").asText())) {
+                return true;
+            }
+            current = byId.get(parentId);
+        }
+        return false;
+    }
+
+    private static Path createTraceFile() {
+        try {
+            Path file = Files.createTempFile("orders-spans", ".ndjson");
+            file.toFile().deleteOnExit();
+            return file;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
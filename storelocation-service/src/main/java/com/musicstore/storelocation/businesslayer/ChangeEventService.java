@@ -0,0 +1,9 @@
+package com.musicstore.storelocation.businesslayer;
+
+import com.musicstore.storelocation.presentationlayer.ChangeEventResponseModel;
+
+import java.util.List;
+
+public interface ChangeEventService {
+    List<ChangeEventResponseModel> getEventsSince(long since, int limit);
+}
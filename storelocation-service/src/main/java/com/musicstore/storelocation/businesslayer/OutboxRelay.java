@@ -0,0 +1,69 @@
+package com.musicstore.storelocation.businesslayer;
+
+import com.musicstore.storelocation.dataaccesslayer.OutboxEvent;
+import com.musicstore.storelocation.dataaccesslayer.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Publishes committed outbox events to the change feed in batches, one transaction per
+ * batch, by giving them consecutive feed positions. Identity values are handed out before
+ * commit and so can become visible out of order; positions are only assigned to committed
+ * events, so a consumer polling with the last position it saw never skips one. Assumes a
+ * single relay per database. Published events are counted as {@code outbox.events.published}.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counter published;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${app.outbox.batch-size:500}") int batchSize,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.published = Counter.builder("outbox.events.published")
+                .description("Outbox events given a position in the change feed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay-interval:1s}")
+    public void publishPending() {
+        Integer count;
+        do {
+            count = transactionTemplate.execute(status -> publishBatch());
+        } while (count != null && count == batchSize);
+    }
+
+    private int publishBatch() {
+        List<OutboxEvent> pending = outboxEventRepository.findByPositionIsNullOrderByIdAsc(Limit.of(batchSize));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        long position = outboxEventRepository.findLastPosition().orElse(0L);
+        Instant now = Instant.now();
+        for (OutboxEvent event : pending) {
+            event.setPosition(++position);
+            event.setPublishedAt(now);
+        }
+        published.increment(pending.size());
+        log.debug("Published {} outbox events up to position {}", pending.size(), position);
+        return pending.size();
+    }
+}
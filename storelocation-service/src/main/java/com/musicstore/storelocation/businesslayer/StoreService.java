@@ -2,12 +2,18 @@ package com.musicstore.storelocation.businesslayer;
 
 import com.musicstore.storelocation.presentationlayer.StoreRequestModel;
 import com.musicstore.storelocation.presentationlayer.StoreResponseModel;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface StoreService {
-    List<StoreResponseModel> getAllStores();
+    Page<StoreResponseModel> getAllStores(Pageable pageable);
     StoreResponseModel getStoreByStoreId(String storeId);
+    List<StoreResponseModel> getStoresByStoreIds(Set<String> storeIds);
+    void exportStores(Consumer<StoreResponseModel> sink);
     StoreResponseModel addStore(StoreRequestModel storeRequestModel);
     StoreResponseModel updateStore(StoreRequestModel storeRequestModel, String storeId);
     void deleteStore(String storeId);
@@ -1,32 +1,47 @@
 package com.musicstore.storelocation.businesslayer;
 
 import com.musicstore.storelocation.dataaccesslayer.*;
+import com.musicstore.storelocation.mappinglayer.StoreExportMapper;
 import com.musicstore.storelocation.mappinglayer.StoreRequestMapper;
 import com.musicstore.storelocation.mappinglayer.StoreResponseMapper;
 import com.musicstore.storelocation.presentationlayer.StoreRequestModel;
 import com.musicstore.storelocation.presentationlayer.StoreResponseModel;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import com.musicstore.storelocation.utils.exceptions.DuplicateAddressException;
 import com.musicstore.storelocation.utils.exceptions.NotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class StoreServiceImpl implements StoreService {
     private final StoreRepository storeRepository;
     private final StoreRequestMapper storeRequestMapper;
     private final StoreResponseMapper storeResponseMapper;
+    private final StoreExportMapper storeExportMapper;
+    private final EntityManager entityManager;
+    private final ChangeEventOutbox changeEventOutbox;
+    private static final String AGGREGATE_TYPE = "store";
 
-    public StoreServiceImpl(StoreRepository storeRepository, StoreRequestMapper storeRequestMapper, StoreResponseMapper storeResponseMapper) {
+    public StoreServiceImpl(StoreRepository storeRepository, StoreRequestMapper storeRequestMapper, StoreResponseMapper storeResponseMapper,
+                            StoreExportMapper storeExportMapper, EntityManager entityManager, ChangeEventOutbox changeEventOutbox) {
         this.storeRepository = storeRepository;
         this.storeRequestMapper = storeRequestMapper;
         this.storeResponseMapper = storeResponseMapper;
+        this.storeExportMapper = storeExportMapper;
+        this.entityManager = entityManager;
+        this.changeEventOutbox = changeEventOutbox;
     }
 
     @Override
-    public List<StoreResponseModel> getAllStores() {
-        List<Store> stores = storeRepository.findAll();
-        return storeResponseMapper.entityListToResponseModelList(stores);
+    public Page<StoreResponseModel> getAllStores(Pageable pageable) {
+        return storeRepository.findAll(pageable).map(storeResponseMapper::entityToResponseModel);
     }
 
     @Override
@@ -40,6 +55,27 @@ public class StoreServiceImpl implements StoreService {
     }
 
     @Override
+    public List<StoreResponseModel> getStoresByStoreIds(Set<String> storeIds) {
+        if (storeIds.isEmpty()) {
+            return List.of();
+        }
+        return storeResponseMapper.entityListToResponseModelList(storeRepository.findAllByStoreIdentifier_StoreIdIn(storeIds));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportStores(Consumer<StoreResponseModel> sink) {
+        try (Stream<Store> stores = storeRepository.streamAll()) {
+            stores.forEach(store -> {
+                sink.accept(storeExportMapper.entityToResponseModel(store));
+                // keep the persistence context from growing with the table
+                entityManager.detach(store);
+            });
+        }
+    }
+
+    @Override
+    @Transactional
     public StoreResponseModel addStore(StoreRequestModel storeRequestModel) {
         StoreInformation storeInformation = new StoreInformation(storeRequestModel.getOwnerName(), storeRequestModel.getManagerName(),
                 storeRequestModel.getStoreRating(), storeRequestModel.getPhoneNumber(), storeRequestModel.getEmail(), storeRequestModel.getOpenHours());
@@ -55,10 +91,13 @@ public class StoreServiceImpl implements StoreService {
         store.setStoreInformation(storeInformation);
         store.setStoreAddress(storeAddress);
 
-        return storeResponseMapper.entityToResponseModel(storeRepository.save(store));
+        Store saved = storeRepository.save(store);
+        recordChange(saved, ChangeEventType.CREATED);
+        return storeResponseMapper.entityToResponseModel(saved);
     }
 
     @Override
+    @Transactional
     public StoreResponseModel updateStore(StoreRequestModel storeRequestModel, String storeId) {
         Store existingStore = storeRepository.findStoreByStoreIdentifier_StoreId(storeId);
 
@@ -82,15 +121,23 @@ public class StoreServiceImpl implements StoreService {
 
         updatedStore.setId(existingStore.getId());
         Store response = storeRepository.save(updatedStore);
+        recordChange(response, ChangeEventType.UPDATED);
         return storeResponseMapper.entityToResponseModel(response);
     }
 
     @Override
+    @Transactional
     public void deleteStore(String storeId) {
         Store existingStore = storeRepository.findStoreByStoreIdentifier_StoreId(storeId);
         if(existingStore == null) {
             throw new NotFoundException("Store not found" + storeId);
         }
+        recordChange(existingStore, ChangeEventType.DELETED);
         storeRepository.delete(existingStore);
     }
+
+    private void recordChange(Store store, ChangeEventType eventType) {
+        changeEventOutbox.record(AGGREGATE_TYPE, store.getStoreIdentifier().getStoreId(), eventType,
+                storeExportMapper.entityToResponseModel(store));
+    }
 }
@@ -0,0 +1,8 @@
+package com.musicstore.storelocation.dataaccesslayer;
+
+public enum ChangeEventType {
+
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -1,8 +1,23 @@
 package com.musicstore.storelocation.dataaccesslayer;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface StoreRepository extends JpaRepository<Store, Integer> {
     Store findStoreByStoreIdentifier_StoreId(String storeId);
+    List<Store> findAllByStoreIdentifier_StoreIdIn(Collection<String> storeIds);
     boolean existsByStoreAddress_StreetAddress(String streetAddress);
+
+    // forward-only cursor for the NDJSON export; must be consumed inside a transaction
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select s from Store s order by s.id")
+    Stream<Store> streamAll();
 }
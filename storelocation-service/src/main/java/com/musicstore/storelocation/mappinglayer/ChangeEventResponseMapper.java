@@ -0,0 +1,15 @@
+package com.musicstore.storelocation.mappinglayer;
+
+import com.musicstore.storelocation.dataaccesslayer.OutboxEvent;
+import com.musicstore.storelocation.presentationlayer.ChangeEventResponseModel;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface ChangeEventResponseMapper {
+
+    ChangeEventResponseModel entityToResponseModel(OutboxEvent outboxEvent);
+
+    List<ChangeEventResponseModel> entityListToResponseModelList(List<OutboxEvent> outboxEvents);
+}
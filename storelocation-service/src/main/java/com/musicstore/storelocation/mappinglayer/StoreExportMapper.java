@@ -0,0 +1,25 @@
+package com.musicstore.storelocation.mappinglayer;
+
+import com.musicstore.storelocation.dataaccesslayer.Store;
+import com.musicstore.storelocation.presentationlayer.StoreResponseModel;
+import org.mapstruct.*;
+
+// same fields as StoreResponseMapper, without the HATEOAS links
+@Mapper(componentModel = "spring")
+public interface StoreExportMapper {
+
+    @Mappings({
+            @Mapping(expression = "java(store.getStoreIdentifier().getStoreId())", target = "storeId"),
+            @Mapping(expression = "java(store.getStoreInformation().getOwnerName())", target = "ownerName"),
+            @Mapping(expression = "java(store.getStoreInformation().getManagerName())", target = "managerName"),
+            @Mapping(expression = "java(store.getStoreInformation().getStoreRating())", target = "storeRating"),
+            @Mapping(expression = "java(store.getStoreInformation().getPhoneNumber())", target = "phoneNumber"),
+            @Mapping(expression = "java(store.getStoreInformation().getEmail())", target = "email"),
+            @Mapping(expression = "java(store.getStoreInformation().getOpenHours())", target = "openHours"),
+            @Mapping(expression = "java(store.getStoreAddress().getStreetAddress())", target = "streetAddress"),
+            @Mapping(expression = "java(store.getStoreAddress().getCity())", target = "city"),
+            @Mapping(expression = "java(store.getStoreAddress().getProvince())", target = "province"),
+            @Mapping(expression = "java(store.getStoreAddress().getPostalCode())", target = "postalCode")
+    })
+    StoreResponseModel entityToResponseModel(Store store);
+}
@@ -1,16 +1,13 @@
 package com.musicstore.storelocation.mappinglayer;
 
 import com.musicstore.storelocation.dataaccesslayer.Store;
-import com.musicstore.storelocation.presentationlayer.StoreController;
 import com.musicstore.storelocation.presentationlayer.StoreResponseModel;
+import com.musicstore.storelocation.utils.LinkTemplates;
 import org.mapstruct.*;
-import org.springframework.hateoas.Link;
+import org.springframework.hateoas.IanaLinkRelations;
 
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Mapper(componentModel = "spring")
 public interface StoreResponseMapper {
 
@@ -33,12 +30,12 @@ public interface StoreResponseMapper {
 
     @AfterMapping
     default void addLinks(@MappingTarget StoreResponseModel storeResponseModel) {
-        Link selfLink = linkTo(methodOn(StoreController.class)
-                .getStoreByStoreId(storeResponseModel.getStoreId())).withSelfRel();
-        storeResponseModel.add(selfLink);
-
-        Link allStoresLink = linkTo(methodOn(StoreController.class)
-                .getAllStores()).withRel("stores");
-        storeResponseModel.add(allStoresLink);
+        if (!LinkTemplates.enabled()) {
+            return;
+        }
+        String baseUri = LinkTemplates.baseUri();
+        storeResponseModel.add(LinkTemplates.STORE.toLink(baseUri, IanaLinkRelations.SELF_VALUE,
+                storeResponseModel.getStoreId()));
+        storeResponseModel.add(LinkTemplates.STORES.toLink(baseUri, "stores"));
     }
 }
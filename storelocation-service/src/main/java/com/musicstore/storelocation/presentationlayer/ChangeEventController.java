@@ -0,0 +1,36 @@
+package com.musicstore.storelocation.presentationlayer;
+
+import com.musicstore.storelocation.businesslayer.ChangeEventService;
+import com.musicstore.storelocation.utils.exceptions.InvalidInputException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/v1")
+public class ChangeEventController {
+
+    private final ChangeEventService changeEventService;
+    private static final int MAX_LIMIT = 500;
+
+    public ChangeEventController(ChangeEventService changeEventService) {
+        this.changeEventService = changeEventService;
+    }
+
+    // published change events after position `since`, oldest first; poll again with the last position returned
+    @GetMapping("events")
+    public ResponseEntity<List<ChangeEventResponseModel>> getEvents(@RequestParam(defaultValue = "0") long since,
+                                                                    @RequestParam(defaultValue = "100") int limit) {
+        if (since < 0) {
+            throw new InvalidInputException("since must not be negative, got: " + since);
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidInputException("limit must be between 1 and " + MAX_LIMIT + ", got: " + limit);
+        }
+        return ResponseEntity.ok(changeEventService.getEventsSince(since, limit));
+    }
+}
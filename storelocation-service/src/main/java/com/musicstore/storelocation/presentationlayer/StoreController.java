@@ -1,33 +1,52 @@
 package com.musicstore.storelocation.presentationlayer;
 
 import com.musicstore.storelocation.businesslayer.StoreService;
+import com.musicstore.storelocation.utils.NdjsonWriter;
+import com.musicstore.storelocation.utils.Pageables;
 import com.musicstore.storelocation.utils.exceptions.InvalidInputException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
-@RequestMapping("api/v1/stores")
+@RequestMapping("api/v1")
 public class StoreController {
 
     private final StoreService storeService;
+    private final NdjsonWriter ndjsonWriter;
     private static final int UUID_LENGTH = 36;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "ownerName", "storeInformation.ownerName",
+            "managerName", "storeInformation.managerName",
+            "storeRating", "storeInformation.storeRating",
+            "city", "storeAddress.city",
+            "province", "storeAddress.province");
 
     @Autowired
-    public StoreController(StoreService storeService) {
+    public StoreController(StoreService storeService, NdjsonWriter ndjsonWriter) {
         this.storeService = storeService;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
-    @GetMapping
-    public ResponseEntity<List<StoreResponseModel>> getAllStores() {
-        List<StoreResponseModel> stores = storeService.getAllStores();
-        return ResponseEntity.ok(stores);
+    @GetMapping("stores")
+    public ResponseEntity<List<StoreResponseModel>> getAllStores(Pageable pageable) {
+        Page<StoreResponseModel> stores = storeService.getAllStores(Pageables.withSortProperties(pageable, SORTABLE_PROPERTIES));
+        return ResponseEntity.ok()
+                .header(Pageables.TOTAL_COUNT_HEADER, String.valueOf(stores.getTotalElements()))
+                .body(stores.getContent());
     }
 
-    @GetMapping("/{storeId}")
+    @GetMapping("stores/{storeId}")
     public ResponseEntity<StoreResponseModel> getStoreByStoreId(@PathVariable String storeId) {
         if (storeId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid storeId provided: " + storeId);
@@ -36,13 +55,34 @@ public class StoreController {
         return ResponseEntity.ok(store);
     }
 
-    @PostMapping
+    @PostMapping("stores:batchGet")
+    public ResponseEntity<List<StoreResponseModel>> getStoresByStoreIds(@RequestBody Set<String> storeIds) {
+        if (storeIds.size() > MAX_BATCH_SIZE) {
+            throw new InvalidInputException("At most " + MAX_BATCH_SIZE + " storeIds can be requested at once, got: " + storeIds.size());
+        }
+        storeIds.forEach(storeId -> {
+            if (storeId == null || storeId.length() != UUID_LENGTH) {
+                throw new InvalidInputException("Invalid storeId provided: " + storeId);
+            }
+        });
+        List<StoreResponseModel> stores = storeService.getStoresByStoreIds(storeIds);
+        return ResponseEntity.ok(stores);
+    }
+
+    @GetMapping(value = "stores:export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportStores() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> storeService.exportStores(ndjsonWriter.to(out)));
+    }
+
+    @PostMapping("stores")
     public ResponseEntity<StoreResponseModel> addStore(@RequestBody StoreRequestModel storeRequestModel) {
         StoreResponseModel createdStore = storeService.addStore(storeRequestModel);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdStore);
     }
 
-    @PutMapping("/{storeId}")
+    @PutMapping("stores/{storeId}")
     public ResponseEntity<StoreResponseModel> updateStore(@RequestBody StoreRequestModel storeRequestModel, @PathVariable String storeId) {
         if (storeId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid storeId provided: " + storeId);
@@ -51,7 +91,7 @@ public class StoreController {
         return ResponseEntity.ok(updatedStore);
     }
 
-    @DeleteMapping("/{storeId}")
+    @DeleteMapping("stores/{storeId}")
     public ResponseEntity<Void> deleteStore(@PathVariable String storeId) {
         if (storeId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid storeId provided: " + storeId);
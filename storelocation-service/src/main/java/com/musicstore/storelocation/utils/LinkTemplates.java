@@ -0,0 +1,49 @@
+package com.musicstore.storelocation.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * The link templates of this service's routes, compiled once at startup. The base URI
+ * they expand against is resolved once per request, and {@code ?links=false} lets a
+ * client skip the hypermedia links altogether.
+ */
+public final class LinkTemplates {
+
+    public static final String LINKS_PARAM = "links";
+
+    private static final String BASE_URI_ATTRIBUTE = LinkTemplates.class.getName() + ".baseUri";
+
+    public static final LinkTemplate STORE = LinkTemplate.of("/api/v1/stores/{storeId}");
+    public static final LinkTemplate STORES = LinkTemplate.of("/api/v1/stores");
+
+    private LinkTemplates() {
+    }
+
+    public static boolean enabled() {
+        HttpServletRequest request = currentRequest();
+        return request == null || !"false".equalsIgnoreCase(request.getParameter(LINKS_PARAM));
+    }
+
+    // empty outside a request, which renders relative links like linkTo does
+    public static String baseUri() {
+        HttpServletRequest request = currentRequest();
+        if (request == null) {
+            return "";
+        }
+        String baseUri = (String) request.getAttribute(BASE_URI_ATTRIBUTE);
+        if (baseUri == null) {
+            baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+            request.setAttribute(BASE_URI_ATTRIBUTE, baseUri);
+        }
+        return baseUri;
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
+    }
+}
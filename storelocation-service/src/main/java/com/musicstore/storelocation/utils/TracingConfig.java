@@ -0,0 +1,32 @@
+package com.musicstore.storelocation.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Local tracing: spans are written to {@code app.tracing.file} when it is set, and
+ * repository and mapper calls get their own spans. Incoming requests join the caller's
+ * trace through the propagated {@code traceparent} header.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty("app.tracing.file")
+    SpanExporter fileSpanExporter(@Value("${app.tracing.file}") Path file, ObjectMapper mapper) {
+        return new FileSpanExporter(file, mapper);
+    }
+
+    @Bean
+    static TracedComponentsPostProcessor tracedComponentsPostProcessor(ObjectProvider<Tracer> tracer) {
+        return new TracedComponentsPostProcessor(tracer);
+    }
+}
@@ -0,0 +1,64 @@
+--liquibase formatted sql
+
+--changeset musicstore:001-baseline-schema dbms:postgresql
+create table if not exists stores (
+    id SERIAL,
+    store_id VARCHAR(255) UNIQUE NOT NULL,
+    owner_name VARCHAR(255) NOT NULL,
+    manager_name VARCHAR(255),
+    store_rating DOUBLE PRECISION,
+    phone_number VARCHAR(50),
+    email VARCHAR(255),
+    open_hours VARCHAR(255),
+    street_address VARCHAR(255),
+    city VARCHAR(100),
+    province VARCHAR(100),
+    postal_code VARCHAR(20),
+    PRIMARY KEY(id)
+);
+
+create table if not exists outbox_events (
+    id BIGSERIAL,
+    feed_position BIGINT UNIQUE,
+    aggregate_type VARCHAR(25) NOT NULL,
+    aggregate_id VARCHAR(255) NOT NULL,
+    event_type VARCHAR(10) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_at TIMESTAMP(6) NOT NULL,
+    published_at TIMESTAMP(6),
+    PRIMARY KEY(id)
+);
+--rollback drop table outbox_events;
+--rollback drop table stores;
+
+-- H2 has no SERIAL outside its PostgreSQL mode
+--changeset musicstore:001-baseline-schema-h2 dbms:h2
+create table if not exists stores (
+    id INTEGER AUTO_INCREMENT,
+    store_id VARCHAR(255) UNIQUE NOT NULL,
+    owner_name VARCHAR(255) NOT NULL,
+    manager_name VARCHAR(255),
+    store_rating DOUBLE PRECISION,
+    phone_number VARCHAR(50),
+    email VARCHAR(255),
+    open_hours VARCHAR(255),
+    street_address VARCHAR(255),
+    city VARCHAR(100),
+    province VARCHAR(100),
+    postal_code VARCHAR(20),
+    PRIMARY KEY(id)
+);
+
+create table if not exists outbox_events (
+    id BIGINT AUTO_INCREMENT,
+    feed_position BIGINT UNIQUE,
+    aggregate_type VARCHAR(25) NOT NULL,
+    aggregate_id VARCHAR(255) NOT NULL,
+    event_type VARCHAR(10) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_at TIMESTAMP(6) NOT NULL,
+    published_at TIMESTAMP(6),
+    PRIMARY KEY(id)
+);
+--rollback drop table outbox_events;
+--rollback drop table stores;
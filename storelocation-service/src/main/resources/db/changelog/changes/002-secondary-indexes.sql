@@ -0,0 +1,6 @@
+--liquibase formatted sql
+
+-- existsByStoreAddress_StreetAddress, checked before a store is added
+--changeset musicstore:002-stores-street-address
+create index idx_stores_street_address on stores (street_address);
+--rollback drop index idx_stores_street_address;
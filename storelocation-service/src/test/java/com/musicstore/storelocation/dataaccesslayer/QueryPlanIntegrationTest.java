@@ -0,0 +1,72 @@
+package com.musicstore.storelocation.dataaccesslayer;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// runs on the embedded H2 database; PostgresQueryPlanIntegrationTest repeats it on the PostgreSQL the docker profile uses
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.musicstore.storelocation.dataaccesslayer.QueryPlanIntegrationTest$SqlCapture")
+public class QueryPlanIntegrationTest {
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 50; i++) {
+            storeRepository.save(new Store(
+                    new StoreInformation("Owner" + i, "Manager" + i, 4.5, "123-456-7890", "store" + i + "@example.com", "9-5"),
+                    new StoreAddress(i + " Plan Street", "CityA", "ProvinceA", "A1A1A1")));
+        }
+        storeRepository.flush();
+        SqlCapture.statements.clear();
+    }
+
+    @Test
+    public void whenStreetAddressExistsCheck_thenPlanUsesStreetAddressIndex() {
+        String sql = capture(() -> storeRepository.existsByStoreAddress_StreetAddress("7 Plan Street"));
+
+        assertPlanUsesIndex("idx_stores_street_address", sql, "7 Plan Street", 1);
+    }
+
+    private String capture(Runnable query) {
+        query.run();
+        assertEquals(1, SqlCapture.statements.size(), "expected a single statement: " + SqlCapture.statements);
+        return SqlCapture.statements.get(0);
+    }
+
+    private void assertPlanUsesIndex(String index, String sql, Object... args) {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        if (database.equals("PostgreSQL")) {
+            // a few rows are cheaper to scan, so only ask whether the index can serve the query
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        }
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+        String plan = rows.stream().map(row -> row.values().toString()).collect(Collectors.joining(" "));
+        assertTrue(plan.toLowerCase().contains(index), "expected " + index + " in the plan of " + sql + ": " + plan);
+    }
+
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
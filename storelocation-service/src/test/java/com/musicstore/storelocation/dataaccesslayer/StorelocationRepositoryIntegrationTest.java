@@ -54,6 +54,25 @@ public class StorelocationRepositoryIntegrationTest {
         assertEquals("Lookup Owner", foundStore.getStoreInformation().getOwnerName());
     }
 
+    @Test
+    public void whenFindByStoreIdIn_thenReturnOnlyMatchingStores() {
+        Store store1 = storeRepository.save(new Store(
+                new StoreInformation("Owner1", "Manager1", 4.5, "123-456-7890", "store1@example.com", "9-5"),
+                new StoreAddress("123 Street", "CityA", "ProvinceA", "A1A1A1")
+        ));
+        Store store2 = storeRepository.save(new Store(
+                new StoreInformation("Owner2", "Manager2", 4.0, "987-654-3210", "store2@example.com", "10-6"),
+                new StoreAddress("456 Avenue", "CityB", "ProvinceB", "B2B2B2")
+        ));
+
+        List<Store> stores = storeRepository.findAllByStoreIdentifier_StoreIdIn(List.of(
+                store1.getStoreIdentifier().getStoreId(),
+                store2.getStoreIdentifier().getStoreId(),
+                "nonexistent-id"));
+
+        assertEquals(2, stores.size());
+    }
+
     @Test
     public void whenStoreNotFound_thenReturnNull() {
         Store store = storeRepository.findStoreByStoreIdentifier_StoreId("nonexistent-id");
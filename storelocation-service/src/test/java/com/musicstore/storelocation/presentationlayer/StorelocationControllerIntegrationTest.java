@@ -1,5 +1,6 @@
 package com.musicstore.storelocation.presentationlayer;
 
+import com.musicstore.storelocation.businesslayer.OutboxRelay;
 import com.musicstore.storelocation.dataaccesslayer.StoreIdentifier;
 import com.musicstore.storelocation.dataaccesslayer.StoreRepository;
 import com.musicstore.storelocation.utils.exceptions.DuplicateAddressException;
@@ -19,6 +20,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
@@ -34,6 +38,9 @@ public class StorelocationControllerIntegrationTest {
     @Autowired
     private StoreRepository storeRepository;
 
+    @Autowired
+    private OutboxRelay outboxRelay;
+
     private final String BASE_URL_STORES = "api/v1/stores";
     private final String VALID_STORE_ID = "b2d3a4e7-f29b-4f5e-bf1c-8a77a7319a1e";
     private final String INVALID_STORE_ID = "invalid-store-id";
@@ -54,6 +61,80 @@ public class StorelocationControllerIntegrationTest {
                 .build();
     }
 
+    @Test
+    public void whenBatchGetStores_thenReturnOnlyExistingStores() {
+        webClient.post()
+                .uri("api/v1/stores:batchGet")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(VALID_STORE_ID, NOT_FOUND_STORE_ID))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(StoreResponseModel.class)
+                .value(list -> {
+                    assertEquals(1, list.size());
+                    assertEquals(VALID_STORE_ID, list.get(0).getStoreId());
+                });
+    }
+
+    @Test
+    public void whenGetStore_thenSelfLinkIsAbsolute() {
+        webClient.get()
+                .uri(BASE_URL_STORES + "/" + VALID_STORE_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$._links.self.href")
+                .value(allOf(startsWith("http://localhost:"), endsWith("/api/v1/stores/" + VALID_STORE_ID)));
+    }
+
+    @Test
+    public void whenLinksFalse_thenReturnStoresWithoutLinks() {
+        webClient.get()
+                .uri(BASE_URL_STORES + "?links=false")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(StoreResponseModel.class)
+                .value(list -> {
+                    assertFalse(list.isEmpty());
+                    assertTrue(list.stream().allMatch(store -> store.getLinks().isEmpty()));
+                });
+    }
+
+    @Test
+    public void whenExportStores_thenStreamOneLinePerStoreWithoutLinks() {
+        long sizeDb = storeRepository.count();
+
+        String body = webClient.get()
+                .uri("api/v1/stores:export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        assertNotNull(body);
+        List<String> lines = body.lines().toList();
+        assertEquals(sizeDb, lines.size());
+        assertTrue(lines.stream().noneMatch(line -> line.contains("\"links\"")));
+        assertTrue(body.contains("\"storeId\":\"" + VALID_STORE_ID + "\""));
+    }
+
+    @Test
+    public void whenBatchGetStoresWithInvalidId_thenReturnUnprocessableEntity() {
+        webClient.post()
+                .uri("api/v1/stores:batchGet")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(INVALID_STORE_ID))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("Invalid storeId provided: " + INVALID_STORE_ID);
+    }
+
     @Test
     public void whenStoreRequestIsValid_thenReturnCreatedStore() {
         StoreRequestModel req = sampleRequest();
@@ -114,6 +195,30 @@ public class StorelocationControllerIntegrationTest {
                 });
     }
 
+    @Test
+    public void whenPageRequested_thenReturnSortedPageAndTotalCount() {
+        long count = storeRepository.count();
+
+        webClient.get().uri("/" + BASE_URL_STORES + "?page=0&size=2&sort=storeRating,desc")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Total-Count", String.valueOf(count))
+                .expectBodyList(StoreResponseModel.class)
+                .value(list -> {
+                    assertEquals(2, list.size());
+                    assertTrue(list.get(0).getStoreRating() >= list.get(1).getStoreRating());
+                });
+    }
+
+    @Test
+    public void whenSortPropertyUnsupported_thenReturnUnprocessableEntity() {
+        webClient.get().uri("/" + BASE_URL_STORES + "?sort=storeAddress.city")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
     @Test
     public void whenGetByValidId_thenReturnStore() {
         webClient.get().uri("/" + BASE_URL_STORES + "/" + VALID_STORE_ID)
@@ -165,6 +270,31 @@ public class StorelocationControllerIntegrationTest {
                 });
     }
 
+    @Test
+    public void whenStoreUpdated_thenChangeEventIsPublishedToFeed() {
+        StoreRequestModel update = sampleRequest().builder()
+                .ownerName("AliceUpdated")
+                .streetAddress("7007 rue du Troubadour")
+                .build();
+        webClient.put().uri("/" + BASE_URL_STORES + "/" + VALID_STORE_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isOk();
+
+        outboxRelay.publishPending();
+
+        webClient.get().uri("/api/v1/events?since=0&limit=10")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].aggregateType").isEqualTo("store")
+                .jsonPath("$[0].aggregateId").isEqualTo(VALID_STORE_ID)
+                .jsonPath("$[0].eventType").isEqualTo("UPDATED")
+                .jsonPath("$[0].payload.ownerName").isEqualTo("AliceUpdated");
+    }
+
     @Test
     public void whenStoreIdIsInvalidOnUpdate_thenReturnUnprocessableEntity() {
         webClient.put().uri("/" + BASE_URL_STORES + "/" + INVALID_STORE_ID)